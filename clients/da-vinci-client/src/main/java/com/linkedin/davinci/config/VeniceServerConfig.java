@@ -10,6 +10,9 @@ import static com.linkedin.venice.ConfigKeys.ENABLE_SERVER_ALLOW_LIST;
 import static com.linkedin.venice.ConfigKeys.FAST_AVRO_FIELD_LIMIT_PER_METHOD;
 import static com.linkedin.venice.ConfigKeys.FREEZE_INGESTION_IF_READY_TO_SERVE_OR_LOCAL_DATA_EXISTS;
 import static com.linkedin.venice.ConfigKeys.GRPC_READ_SERVER_PORT;
+import static com.linkedin.venice.ConfigKeys.GRPC_SERVER_STREAMING_MAX_BUFFERED_BYTES;
+import static com.linkedin.venice.ConfigKeys.GRPC_SERVER_STREAMING_WRITE_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.GRPC_SERVER_VIRTUAL_THREADS_ENABLED;
 import static com.linkedin.venice.ConfigKeys.GRPC_SERVER_WORKER_THREAD_COUNT;
 import static com.linkedin.venice.ConfigKeys.HELIX_HYBRID_STORE_QUOTA_ENABLED;
 import static com.linkedin.venice.ConfigKeys.HYBRID_QUOTA_ENFORCEMENT_ENABLED;
@@ -88,6 +91,11 @@ import static com.linkedin.venice.ConfigKeys.SERVER_PARALLEL_BATCH_GET_CHUNK_SIZ
 import static com.linkedin.venice.ConfigKeys.SERVER_PARTITION_GRACEFUL_DROP_DELAY_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_VALUE_BYTES_PER_RCU;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_FAIR_QUEUING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_FAIR_QUEUING_MAX_QUEUE_LENGTH_PER_STORE;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_FAIR_QUEUING_QOS_RATIO;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_FAIR_QUEUING_QUEUE_TIME_SLO_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_EPOLL_ENABLED;
@@ -107,6 +115,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_STOP_CONSUMPTION_TIMEOUT_IN_
 import static com.linkedin.venice.ConfigKeys.SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP;
 import static com.linkedin.venice.ConfigKeys.SERVER_SYSTEM_STORE_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
+import static com.linkedin.venice.ConfigKeys.SERVER_VALUE_CACHE_MAX_VALUE_SIZE_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.SERVER_VALUE_CACHE_SIZE_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
@@ -269,6 +279,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final int nettyWorkerThreadCount;
   private final int grpcWorkerThreadCount;
+  private final boolean grpcVirtualThreadsEnabled;
+  private final long grpcStreamingMaxBufferedBytes;
+  private final long grpcStreamingWriteTimeoutMs;
 
   private final long databaseSyncBytesIntervalForTransactionalMode;
 
@@ -287,6 +300,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final long nodeCapacityInRcu;
 
+  private final long quotaEnforcementValueBytesPerRcu;
+
   private final int kafkaMaxPollRecords;
 
   private final int kafkaPollRetryTimes;
@@ -340,6 +355,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int databaseLookupQueueCapacity;
   private final int computeQueueCapacity;
   private final BlockingQueueType blockingQueueType;
+  private final boolean readFairQueuingEnabled;
+  private final String readFairQueuingQosRatio;
+  private final int readFairQueuingMaxQueueLengthPerStore;
+  private final long readFairQueuingQueueTimeSloMs;
+  private final long valueCacheSizeInBytes;
+  private final int valueCacheMaxValueSizeInBytes;
   private final boolean restServiceEpollEnabled;
   private final String kafkaAdminClass;
   private final String kafkaWriteOnlyClass;
@@ -485,6 +506,11 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     nettyWorkerThreadCount = serverProperties.getInt(SERVER_NETTY_WORKER_THREADS, 0);
     grpcWorkerThreadCount =
         serverProperties.getInt(GRPC_SERVER_WORKER_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
+    grpcVirtualThreadsEnabled = serverProperties.getBoolean(GRPC_SERVER_VIRTUAL_THREADS_ENABLED, false);
+    grpcStreamingMaxBufferedBytes =
+        serverProperties.getSizeInBytes(GRPC_SERVER_STREAMING_MAX_BUFFERED_BYTES, 32 * 1024 * 1024);
+    grpcStreamingWriteTimeoutMs =
+        serverProperties.getLong(GRPC_SERVER_STREAMING_WRITE_TIMEOUT_MS, TimeUnit.MINUTES.toMillis(1));
 
     remoteIngestionRepairSleepInterval = serverProperties.getInt(
         SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS,
@@ -506,6 +532,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getBoolean(SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED, true);
 
     nodeCapacityInRcu = serverProperties.getLong(SERVER_NODE_CAPACITY_RCU, 50000);
+    quotaEnforcementValueBytesPerRcu = serverProperties.getLong(SERVER_QUOTA_ENFORCEMENT_VALUE_BYTES_PER_RCU, 0);
     kafkaMaxPollRecords = serverProperties.getInt(SERVER_KAFKA_MAX_POLL_RECORDS, 100);
     kafkaPollRetryTimes = serverProperties.getInt(SERVER_KAFKA_POLL_RETRY_TIMES, 100);
     kafkaPollRetryBackoffMs = serverProperties.getInt(SERVER_KAFKA_POLL_RETRY_BACKOFF_MS, 0);
@@ -554,6 +581,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     } catch (IllegalArgumentException e) {
       throw new VeniceException("Valid blocking queue options: " + Arrays.toString(BlockingQueueType.values()));
     }
+    readFairQueuingEnabled = serverProperties.getBoolean(SERVER_READ_FAIR_QUEUING_ENABLED, false);
+    readFairQueuingQosRatio = serverProperties.getString(SERVER_READ_FAIR_QUEUING_QOS_RATIO, "5:15:80");
+    readFairQueuingMaxQueueLengthPerStore =
+        serverProperties.getInt(SERVER_READ_FAIR_QUEUING_MAX_QUEUE_LENGTH_PER_STORE, 0);
+    readFairQueuingQueueTimeSloMs = serverProperties.getLong(SERVER_READ_FAIR_QUEUING_QUEUE_TIME_SLO_MS, 0);
+    valueCacheSizeInBytes = serverProperties.getSizeInBytes(SERVER_VALUE_CACHE_SIZE_IN_BYTES, 0);
+    valueCacheMaxValueSizeInBytes =
+        (int) serverProperties.getSizeInBytes(SERVER_VALUE_CACHE_MAX_VALUE_SIZE_IN_BYTES, 4 * 1024);
 
     restServiceEpollEnabled = serverProperties.getBoolean(SERVER_REST_SERVICE_EPOLL_ENABLED, false);
     kafkaAdminClass = serverProperties.getString(KAFKA_ADMIN_CLASS, ApacheKafkaAdminAdapter.class.getName());
@@ -881,6 +916,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return grpcWorkerThreadCount;
   }
 
+  public boolean isGrpcVirtualThreadsEnabled() {
+    return grpcVirtualThreadsEnabled;
+  }
+
+  public long getGrpcStreamingMaxBufferedBytes() {
+    return grpcStreamingMaxBufferedBytes;
+  }
+
+  public long getGrpcStreamingWriteTimeoutMs() {
+    return grpcStreamingWriteTimeoutMs;
+  }
+
   public long getDatabaseSyncBytesIntervalForTransactionalMode() {
     return databaseSyncBytesIntervalForTransactionalMode;
   }
@@ -917,6 +964,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return nodeCapacityInRcu;
   }
 
+  public long getQuotaEnforcementValueBytesPerRcu() {
+    return quotaEnforcementValueBytesPerRcu;
+  }
+
   public int getKafkaMaxPollRecords() {
     return kafkaMaxPollRecords;
   }
@@ -945,6 +996,30 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return blockingQueueType;
   }
 
+  public boolean isReadFairQueuingEnabled() {
+    return readFairQueuingEnabled;
+  }
+
+  public String getReadFairQueuingQosRatio() {
+    return readFairQueuingQosRatio;
+  }
+
+  public int getReadFairQueuingMaxQueueLengthPerStore() {
+    return readFairQueuingMaxQueueLengthPerStore;
+  }
+
+  public long getReadFairQueuingQueueTimeSloMs() {
+    return readFairQueuingQueueTimeSloMs;
+  }
+
+  public long getValueCacheSizeInBytes() {
+    return valueCacheSizeInBytes;
+  }
+
+  public int getValueCacheMaxValueSizeInBytes() {
+    return valueCacheMaxValueSizeInBytes;
+  }
+
   public boolean isComputeFastAvroEnabled() {
     return computeFastAvroEnabled;
   }
@@ -0,0 +1,57 @@
+package com.linkedin.davinci.consumer;
+
+import com.linkedin.venice.annotation.Experimental;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * This interface is meant for users where local state must be built off of the entirety of a venice data set
+ * (i.e. Non-idempotent event ingestion), rather than dealing with an event at a time basis.
+ *
+ * The consumer materializes the state of the subscribed partitions locally, and checkpoints its progress along with
+ * the local state, so that after a restart it only has to catch up from the last checkpoint instead of re-consuming
+ * the whole data set. Once caught up, {@link #poll(long)} first returns every key of the local state, which is the
+ * full state of the store, and then the changes as they are consumed.
+ *
+ * @param <K> The Type for key
+ * @param <V> The Type for value
+ */
+@Experimental
+public interface BootstrappingVeniceChangelogConsumer<K, V> {
+  /**
+   * Starts the consumer by subscribing to the specified partitions. On restart, the client will resume from the last
+   * checkpoint of every partition in the local state. The returned future completes once the local state of all the
+   * partitions has caught up with the change capture topic, and {@link #poll(long)} returns nothing before that. It
+   * completes exceptionally if the partitions can't catch up in
+   * {@link ChangelogClientConfig#getBootstrapCatchUpTimeoutInMs()}.
+   *
+   * @param partitions which partition id's to catch up with
+   * @return a future that completes once catch up is complete for all passed in partitions.
+   */
+  CompletableFuture<Void> start(Set<Integer> partitions);
+
+  /**
+   * Starts the consumer with all the partitions of the store.
+   */
+  CompletableFuture<Void> start();
+
+  /**
+   * Checkpoints the local state of all the partitions and stops the consumer.
+   */
+  void stop() throws Exception;
+
+  /**
+   * Polls for the next batch of change events. The first records returned after the local state has caught up are
+   * read from the local state, and every key will be included in the first full scan. After that, the change events
+   * consumed from the change capture topic are returned.
+   *
+   * @param timeoutInMs
+   * @return a collection of Venice PubSubMessages
+   * @throws com.linkedin.venice.exceptions.VeniceException if the full scan of the local state failed, since the
+   *         returned state would be incomplete.
+   */
+  Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> poll(long timeoutInMs);
+}
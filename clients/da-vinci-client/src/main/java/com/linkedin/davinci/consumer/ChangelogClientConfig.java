@@ -18,6 +18,14 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
   private String controllerD2ServiceName;
   private int controllerRequestRetryCount;
 
+  private String bootstrapFileSystemPath;
+  private long databaseSyncBytesInterval = 32 * 1024 * 1024L;
+  private long rocksDBBlockCacheSizeInBytes = 64 * 1024 * 1024L;
+  private long bootstrapCatchUpTimeoutInMs = 60 * 60 * 1000L;
+
+  private int decodeThreadCount = 0;
+  private int decodeBufferCapacity = 1024;
+
   public ChangelogClientConfig(String storeName) {
     this.innerClientConfig = new ClientConfig<>(storeName);
   }
@@ -116,6 +124,79 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
     return this.controllerRequestRetryCount;
   }
 
+  /**
+   * The local directory where {@link LocalBootstrappingVeniceChangelogConsumer} materializes the state of the store.
+   */
+  public ChangelogClientConfig<T> setBootstrapFileSystemPath(String bootstrapFileSystemPath) {
+    this.bootstrapFileSystemPath = bootstrapFileSystemPath;
+    return this;
+  }
+
+  public String getBootstrapFileSystemPath() {
+    return this.bootstrapFileSystemPath;
+  }
+
+  /**
+   * How many bytes are applied to the local state of a partition between two checkpoints, which bounds how much has
+   * to be re-consumed after a restart.
+   */
+  public ChangelogClientConfig<T> setDatabaseSyncBytesInterval(long databaseSyncBytesInterval) {
+    this.databaseSyncBytesInterval = databaseSyncBytesInterval;
+    return this;
+  }
+
+  public long getDatabaseSyncBytesInterval() {
+    return this.databaseSyncBytesInterval;
+  }
+
+  public ChangelogClientConfig<T> setRocksDBBlockCacheSizeInBytes(long rocksDBBlockCacheSizeInBytes) {
+    this.rocksDBBlockCacheSizeInBytes = rocksDBBlockCacheSizeInBytes;
+    return this;
+  }
+
+  public long getRocksDBBlockCacheSizeInBytes() {
+    return this.rocksDBBlockCacheSizeInBytes;
+  }
+
+  /**
+   * How long {@link LocalBootstrappingVeniceChangelogConsumer} waits for the local state to catch up with the change
+   * capture topic before failing the start.
+   */
+  public ChangelogClientConfig<T> setBootstrapCatchUpTimeoutInMs(long bootstrapCatchUpTimeoutInMs) {
+    this.bootstrapCatchUpTimeoutInMs = bootstrapCatchUpTimeoutInMs;
+    return this;
+  }
+
+  public long getBootstrapCatchUpTimeoutInMs() {
+    return this.bootstrapCatchUpTimeoutInMs;
+  }
+
+  /**
+   * The number of threads to decode the polled records of different partitions in parallel, and the records are
+   * decoded by the polling thread when it's 0.
+   */
+  public ChangelogClientConfig<T> setDecodeThreadCount(int decodeThreadCount) {
+    this.decodeThreadCount = decodeThreadCount;
+    return this;
+  }
+
+  public int getDecodeThreadCount() {
+    return this.decodeThreadCount;
+  }
+
+  /**
+   * The max number of polled partition batches waiting for the decode threads, and the rest of the batches are decoded
+   * by the polling thread, which bounds the memory held between fetching and delivering the records.
+   */
+  public ChangelogClientConfig<T> setDecodeBufferCapacity(int decodeBufferCapacity) {
+    this.decodeBufferCapacity = decodeBufferCapacity;
+    return this;
+  }
+
+  public int getDecodeBufferCapacity() {
+    return this.decodeBufferCapacity;
+  }
+
   public ClientConfig<T> getInnerClientConfig() {
     return this.innerClientConfig;
   }
@@ -130,7 +211,13 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
         .setD2ControllerClient(config.getD2ControllerClient())
         .setControllerD2ServiceName(config.controllerD2ServiceName)
         .setD2Client(config.getD2Client())
-        .setControllerRequestRetryCount(config.getControllerRequestRetryCount());
+        .setControllerRequestRetryCount(config.getControllerRequestRetryCount())
+        .setBootstrapFileSystemPath(config.getBootstrapFileSystemPath())
+        .setDatabaseSyncBytesInterval(config.getDatabaseSyncBytesInterval())
+        .setRocksDBBlockCacheSizeInBytes(config.getRocksDBBlockCacheSizeInBytes())
+        .setBootstrapCatchUpTimeoutInMs(config.getBootstrapCatchUpTimeoutInMs())
+        .setDecodeThreadCount(config.getDecodeThreadCount())
+        .setDecodeBufferCapacity(config.getDecodeBufferCapacity());
     return newConfig;
   }
 }
@@ -0,0 +1,463 @@
+package com.linkedin.davinci.consumer;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOCK_CACHE_SIZE_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.storage.StorageEngineMetadataService;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.state.PartitionState;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.adapter.kafka.ApacheKafkaOffsetPosition;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.tehuti.metrics.MetricsRepository;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericContainer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link BootstrappingVeniceChangelogConsumer} which materializes the state of the subscribed partitions in a local
+ * RocksDB instance under {@link ChangelogClientConfig#getBootstrapFileSystemPath()}, managed by the same
+ * {@link StorageService} as Da Vinci.
+ *
+ * Every consumed change event is applied to the local state, and every
+ * {@link ChangelogClientConfig#getDatabaseSyncBytesInterval()} bytes, the local state of the partition is synced to
+ * disk and the {@link VeniceChangeCoordinate} of the last applied event is checkpointed in the offset record of the
+ * partition, so the checkpoint never runs ahead of the persisted state. After a restart, the consumer seeks to the
+ * checkpoint and only re-consumes the events after it, and the initial full state is served by scanning the local
+ * state instead of re-consuming the whole version topic.
+ */
+public class LocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfterImageConsumerImpl<K, V>
+    implements BootstrappingVeniceChangelogConsumer<K, V> {
+  private static final Logger LOGGER = LogManager.getLogger(LocalBootstrappingVeniceChangelogConsumer.class);
+  private static final String CHANGE_CAPTURE_COORDINATE = "ChangeCaptureCoordinatePosition";
+  private static final String LOCAL_STATE_TOPIC_SUFFIX = "_Bootstrap_v1";
+  private static final int SCAN_QUEUE_CAPACITY = 10000;
+  private static final long CATCH_UP_POLL_TIMEOUT_MS = 1000;
+
+  private final String localStateTopicName;
+  private final VeniceStoreVersionConfig localStateStoreConfig;
+  private final StorageService storageService;
+  private final StorageEngineMetadataService storageMetadataService;
+  private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
+  private final RecordSerializer<K> keySerializer;
+  private final long databaseSyncBytesInterval;
+  private final long catchUpTimeoutInMs;
+  private final ExecutorService bootstrapExecutor =
+      Executors.newSingleThreadExecutor(new DaemonThreadFactory("changelog-bootstrap"));
+
+  private final Map<Integer, VeniceChangeCoordinate> lastAppliedCoordinates = new VeniceConcurrentHashMap<>();
+  private final Map<Integer, Long> unsyncedBytes = new VeniceConcurrentHashMap<>();
+  private final Map<Integer, RecordSerializer<V>> valueSerializers = new VeniceConcurrentHashMap<>();
+  // Serializes the writes to the local state and its checkpoints, and the shutdown of the storage service.
+  private final Object localStateLock = new Object();
+  // Guarded by localStateLock.
+  private boolean isStopped = false;
+  private final BlockingQueue<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> scanQueue =
+      new LinkedBlockingQueue<>(SCAN_QUEUE_CAPACITY);
+  private final Set<Integer> bootstrappedPartitions = new HashSet<>();
+  private volatile boolean isCaughtUp = false;
+  private volatile boolean isScanCompleted = false;
+  private volatile VeniceException scanFailure = null;
+
+  public LocalBootstrappingVeniceChangelogConsumer(
+      ChangelogClientConfig changelogClientConfig,
+      PubSubConsumerAdapter pubSubConsumer) {
+    this(changelogClientConfig, pubSubConsumer, null);
+  }
+
+  // For testing only, the local state is managed by the given storage service if it is not null.
+  LocalBootstrappingVeniceChangelogConsumer(
+      ChangelogClientConfig changelogClientConfig,
+      PubSubConsumerAdapter pubSubConsumer,
+      StorageService storageService) {
+    super(changelogClientConfig, pubSubConsumer);
+    if (changelogClientConfig.getBootstrapFileSystemPath() == null) {
+      throw new VeniceException("Bootstrap file system path is required for store: " + storeName);
+    }
+    this.localStateTopicName = storeName + LOCAL_STATE_TOPIC_SUFFIX;
+    this.databaseSyncBytesInterval = changelogClientConfig.getDatabaseSyncBytesInterval();
+    this.catchUpTimeoutInMs = changelogClientConfig.getBootstrapCatchUpTimeoutInMs();
+    this.keySerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(schemaReader.getKeySchema());
+
+    VeniceConfigLoader configLoader = buildVeniceConfigLoader();
+    this.localStateStoreConfig = new VeniceStoreVersionConfig(
+        localStateTopicName,
+        configLoader.getCombinedProperties(),
+        PersistenceType.ROCKS_DB);
+    MetricsRepository metricsRepository = changelogClientConfig.getInnerClientConfig().getMetricsRepository();
+    InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer =
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+    this.storageService = storageService != null
+        ? storageService
+        : new StorageService(
+            configLoader,
+            new AggVersionedStorageEngineStats(
+                metricsRepository != null ? metricsRepository : new MetricsRepository(),
+                storeRepository,
+                true),
+            null,
+            AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+            partitionStateSerializer,
+            storeRepository,
+            true,
+            true);
+    this.storageMetadataService =
+        new StorageEngineMetadataService(this.storageService.getStorageEngineRepository(), partitionStateSerializer);
+  }
+
+  private VeniceConfigLoader buildVeniceConfigLoader() {
+    PropertyBuilder propertyBuilder = new PropertyBuilder();
+    if (changelogClientConfig.getConsumerProperties() != null) {
+      propertyBuilder.put(changelogClientConfig.getConsumerProperties());
+    }
+    /**
+     * The cluster configs are required by the config loader, but they are not used by the local storage engines, and
+     * the config loader rejects empty Kafka bootstrap servers.
+     */
+    VeniceProperties config = propertyBuilder
+        .putIfAbsent(CLUSTER_NAME, changelogClientConfig.getD2ControllerClient().getClusterName())
+        .putIfAbsent(ZOOKEEPER_ADDRESS, String.valueOf(changelogClientConfig.getLocalD2ZkHosts()))
+        .putIfAbsent(KAFKA_BOOTSTRAP_SERVERS, "localhost:0")
+        .put(DATA_BASE_PATH, changelogClientConfig.getBootstrapFileSystemPath())
+        .put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB)
+        .put(ROCKSDB_BLOCK_CACHE_SIZE_IN_BYTES, changelogClientConfig.getRocksDBBlockCacheSizeInBytes())
+        .put(INGESTION_USE_DA_VINCI_CLIENT, true)
+        .build();
+    return new VeniceConfigLoader(config, config);
+  }
+
+  @Override
+  public CompletableFuture<Void> start() {
+    Set<Integer> allPartitions = new HashSet<>();
+    for (int partition = 0; partition < partitionCount; partition++) {
+      allPartitions.add(partition);
+    }
+    return start(allPartitions);
+  }
+
+  @Override
+  public synchronized CompletableFuture<Void> start(Set<Integer> partitions) {
+    if (!bootstrappedPartitions.isEmpty()) {
+      throw new VeniceException("Bootstrapping consumer of store: " + storeName + " is already started");
+    }
+    bootstrappedPartitions.addAll(partitions);
+    storageService.start();
+    return CompletableFuture.runAsync(() -> {
+      // The current version topic is subscribed from the beginning unless there is a usable checkpoint.
+      subscribe(partitions).join();
+      for (Integer partition: partitions) {
+        storageService.openStoreForNewPartition(localStateStoreConfig, partition, () -> null);
+        VeniceChangeCoordinate checkpoint = loadCheckpoint(partition);
+        if (checkpoint == null) {
+          // Anything left without a checkpoint, e.g. from a crash before the first checkpoint, can't be trusted.
+          resetLocalState(partition);
+          continue;
+        }
+        try {
+          seekToCheckpoint(Collections.singleton(checkpoint)).join();
+          lastAppliedCoordinates.put(partition, checkpoint);
+          LOGGER.info(
+              "Resumed partition: {} of store: {} from checkpoint on topic: {}",
+              partition,
+              storeName,
+              checkpoint.getTopic());
+        } catch (Exception e) {
+          // The checkpoint is not usable anymore, e.g. the topic has been deleted, so bootstrap from scratch.
+          LOGGER.warn("Failed to seek to checkpoint of partition: {}, will re-bootstrap it", partition, e);
+          resetLocalState(partition);
+          seekToBeginningOfPush(Collections.singleton(partition)).join();
+        }
+      }
+
+      long startTime = System.currentTimeMillis();
+      Set<Integer> partitionsToCatchUp = new HashSet<>(partitions);
+      while (!partitionsToCatchUp.isEmpty()) {
+        if (Thread.currentThread().isInterrupted()) {
+          throw new VeniceException("Interrupted while catching up partitions: " + partitionsToCatchUp);
+        }
+        if (System.currentTimeMillis() - startTime > catchUpTimeoutInMs) {
+          throw new VeniceException(
+              "Partitions: " + partitionsToCatchUp + " of store: " + storeName + " didn't catch up in "
+                  + catchUpTimeoutInMs + " ms");
+        }
+        applyToLocalState(internalPoll(CATCH_UP_POLL_TIMEOUT_MS, ""));
+        partitionsToCatchUp.removeIf(this::isPartitionCaughtUp);
+      }
+      for (Integer partition: partitions) {
+        checkpoint(partition);
+      }
+      LOGGER.info(
+          "Local state of partitions: {} of store: {} caught up in {} ms",
+          partitions,
+          storeName,
+          System.currentTimeMillis() - startTime);
+      isCaughtUp = true;
+      bootstrapExecutor.submit(() -> scanLocalState(partitions));
+    }, bootstrapExecutor);
+  }
+
+  @Override
+  public Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> poll(long timeoutInMs) {
+    if (!isCaughtUp) {
+      return Collections.emptyList();
+    }
+    if (scanFailure != null) {
+      throw scanFailure;
+    }
+    // The full state is returned before any new change, and the scan completion is checked before the queue, so the
+    // records queued right before the completion won't be skipped.
+    if (!isScanCompleted || !scanQueue.isEmpty()) {
+      List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> messages = new ArrayList<>();
+      try {
+        PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> message =
+            scanQueue.poll(timeoutInMs, TimeUnit.MILLISECONDS);
+        if (message != null) {
+          messages.add(message);
+          scanQueue.drainTo(messages);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return messages;
+    }
+    Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> messages = super.poll(timeoutInMs);
+    applyToLocalState(messages);
+    return messages;
+  }
+
+  @Override
+  public synchronized void stop() throws Exception {
+    bootstrapExecutor.shutdownNow();
+    bootstrapExecutor.awaitTermination(CATCH_UP_POLL_TIMEOUT_MS * 10, TimeUnit.MILLISECONDS);
+    synchronized (localStateLock) {
+      for (Integer partition: bootstrappedPartitions) {
+        checkpoint(partition);
+      }
+      // Nothing is applied or checkpointed anymore once the storage service is stopped.
+      isStopped = true;
+      close();
+      storageService.stop();
+    }
+  }
+
+  private boolean isPartitionCaughtUp(int partition) {
+    synchronized (pubSubConsumer) {
+      for (PubSubTopicPartition topicPartition: pubSubConsumer.getAssignment()) {
+        if (topicPartition.getPartitionNumber() != partition) {
+          continue;
+        }
+        // The version topic is always followed by its change capture topic, which has the latest changes.
+        if (topicPartition.getPubSubTopic().isVersionTopic()) {
+          return false;
+        }
+        Long endOffset = pubSubConsumer.endOffset(topicPartition);
+        if (endOffset == null || endOffset <= 0) {
+          return true;
+        }
+        Long lastConsumedOffset = partitionToLastConsumedOffset.get(partition);
+        return lastConsumedOffset != null && lastConsumedOffset >= endOffset - 1;
+      }
+    }
+    return false;
+  }
+
+  private void applyToLocalState(Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> messages) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    synchronized (localStateLock) {
+      if (isStopped) {
+        return;
+      }
+      AbstractStorageEngine storageEngine = getLocalStorageEngine();
+      for (PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> message: messages) {
+        int partition = message.getTopicPartition().getPartitionNumber();
+        byte[] keyBytes = keySerializer.serialize(message.getKey());
+        V value = message.getValue().getCurrentValue();
+        long appliedBytes = keyBytes.length;
+        if (value == null) {
+          storageEngine.delete(partition, keyBytes);
+        } else {
+          int schemaId = getValueSchemaId(value);
+          byte[] valueBytes = ValueRecord.create(schemaId, getValueSerializer(schemaId).serialize(value)).serialize();
+          storageEngine.put(partition, keyBytes, valueBytes);
+          appliedBytes += valueBytes.length;
+        }
+        lastAppliedCoordinates.put(partition, message.getOffset());
+        if (unsyncedBytes.merge(partition, appliedBytes, Long::sum) >= databaseSyncBytesInterval) {
+          checkpoint(partition);
+        }
+      }
+    }
+  }
+
+  private RecordSerializer<V> getValueSerializer(int schemaId) {
+    return valueSerializers.computeIfAbsent(
+        schemaId,
+        id -> FastSerializerDeserializerFactory.getFastAvroGenericSerializer(schemaReader.getValueSchema(id)));
+  }
+
+  private int getValueSchemaId(V value) {
+    if (value instanceof GenericContainer) {
+      int schemaId = schemaReader.getValueSchemaId(((GenericContainer) value).getSchema());
+      if (schemaId > 0) {
+        return schemaId;
+      }
+    }
+    return schemaReader.getLatestValueSchemaId();
+  }
+
+  /**
+   * Syncs the local state of the partition to disk first, and then persists the coordinate of the last applied event
+   * along with the database info returned by the sync. The coordinate is taken before the sync, so it never gets
+   * ahead of the synced state.
+   */
+  private void checkpoint(int partition) {
+    synchronized (localStateLock) {
+      if (isStopped) {
+        return;
+      }
+      AbstractStorageEngine storageEngine = getLocalStorageEngine();
+      if (storageEngine == null || !storageEngine.containsPartition(partition)) {
+        return;
+      }
+      VeniceChangeCoordinate coordinate = lastAppliedCoordinates.get(partition);
+      Map<String, String> databaseInfo = new HashMap<>(storageEngine.sync(partition));
+      if (coordinate != null) {
+        try {
+          databaseInfo.put(
+              CHANGE_CAPTURE_COORDINATE,
+              VeniceChangeCoordinate.convertVeniceChangeCoordinateToStringAndEncode(coordinate));
+        } catch (IOException e) {
+          throw new VeniceException("Failed to encode the checkpoint of partition: " + partition, e);
+        }
+      }
+      OffsetRecord offsetRecord = storageMetadataService.getLastOffset(localStateTopicName, partition);
+      offsetRecord.setDatabaseInfo(databaseInfo);
+      storageMetadataService.put(localStateTopicName, partition, offsetRecord);
+      unsyncedBytes.put(partition, 0L);
+    }
+  }
+
+  private VeniceChangeCoordinate loadCheckpoint(int partition) {
+    OffsetRecord offsetRecord = storageMetadataService.getLastOffset(localStateTopicName, partition);
+    String encodedCoordinate = offsetRecord.getDatabaseInfo().get(CHANGE_CAPTURE_COORDINATE);
+    if (encodedCoordinate == null) {
+      return null;
+    }
+    try {
+      return VeniceChangeCoordinate.decodeStringAndConvertToVeniceChangeCoordinate(encodedCoordinate);
+    } catch (IOException | ClassNotFoundException e) {
+      LOGGER.warn("Failed to decode the checkpoint of partition: {}, will re-bootstrap it", partition, e);
+      return null;
+    }
+  }
+
+  private void resetLocalState(int partition) {
+    storageMetadataService.clearOffset(localStateTopicName, partition);
+    storageService.dropStorePartition(localStateStoreConfig, partition, false);
+    storageService.openStoreForNewPartition(localStateStoreConfig, partition, () -> null);
+    lastAppliedCoordinates.remove(partition);
+    unsyncedBytes.remove(partition);
+  }
+
+  /**
+   * Queues every record of the local state as a change event without previous value, tagged with the coordinate of
+   * the local state, so the users could rebuild their state with the same code path as the regular changes.
+   */
+  private void scanLocalState(Set<Integer> partitions) {
+    AbstractStorageEngine storageEngine = getLocalStorageEngine();
+    try {
+      for (Integer partition: partitions) {
+        VeniceChangeCoordinate coordinate = lastAppliedCoordinates.get(partition);
+        if (coordinate == null) {
+          // Nothing has been applied to the partition.
+          continue;
+        }
+        PubSubTopicPartition topicPartition =
+            new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(coordinate.getTopic()), partition);
+        long offset = ((ApacheKafkaOffsetPosition) coordinate.getPosition()).getOffset();
+        storageEngine.getByKeyPrefix(partition, null, new BytesStreamingCallback() {
+          @Override
+          public void onRecordReceived(byte[] key, byte[] value) {
+            int schemaId = ValueRecord.parseSchemaId(value);
+            Schema valueSchema = schemaReader.getValueSchema(schemaId);
+            RecordDeserializer<V> valueDeserializer =
+                FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(valueSchema, valueSchema);
+            V deserializedValue = valueDeserializer.deserialize(ValueRecord.parseDataAsNIOByteBuffer(value));
+            try {
+              scanQueue.put(
+                  new ImmutableChangeCapturePubSubMessage<>(
+                      keyDeserializer.deserialize(key),
+                      new ChangeEvent<>(null, deserializedValue),
+                      topicPartition,
+                      offset,
+                      0,
+                      key.length + value.length));
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              throw new VeniceException("Interrupted while scanning the local state of partition: " + partition);
+            }
+          }
+
+          @Override
+          public void onCompletion() {
+          }
+        });
+      }
+      LOGGER.info("Finished scanning the local state of partitions: {} of store: {}", partitions, storeName);
+      isScanCompleted = true;
+    } catch (Exception e) {
+      // The full state can't be served anymore, so the failure is surfaced by the following polls.
+      LOGGER.error("Failed to scan the local state of store: {}", storeName, e);
+      scanFailure = new VeniceException("Failed to scan the local state of store: " + storeName, e);
+    }
+  }
+
+  private AbstractStorageEngine getLocalStorageEngine() {
+    return storageService.getStorageEngineRepository().getLocalStorageEngine(localStateTopicName);
+  }
+}
@@ -19,7 +19,7 @@ public class ReplicationMetadataSchemaRepository {
     this.controllerClient = controllerClient;
   }
 
-  public Schema getReplicationMetadataSchemaById(String storeName, int replicationMetadataSchemaId) {
+  public synchronized Schema getReplicationMetadataSchemaById(String storeName, int replicationMetadataSchemaId) {
     if (cachedReplicationMetadataSchemas.size() < replicationMetadataSchemaId) {
       MultiSchemaResponse multiReplicationSchemaResponse = controllerClient.getAllReplicationMetadataSchemas(storeName);
       if (multiReplicationSchemaResponse.isError()) {
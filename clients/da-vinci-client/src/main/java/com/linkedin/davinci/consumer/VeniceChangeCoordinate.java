@@ -3,10 +3,15 @@ package com.linkedin.davinci.consumer;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pubsub.api.PubSubPosition;
 import com.linkedin.venice.pubsub.api.PubSubPositionWireFormat;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
+import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.Base64;
 
 
 public class VeniceChangeCoordinate implements Externalizable {
@@ -57,4 +62,26 @@ public class VeniceChangeCoordinate implements Externalizable {
     this.topic = topic;
     this.pubSubPosition = pubSubPosition;
   }
+
+  /**
+   * Encodes the coordinate as a string, so it could be persisted by the clients, e.g. as a local checkpoint.
+   */
+  public static String convertVeniceChangeCoordinateToStringAndEncode(VeniceChangeCoordinate veniceChangeCoordinate)
+      throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+      veniceChangeCoordinate.writeExternal(objectOutputStream);
+    }
+    return Base64.getEncoder().encodeToString(outputStream.toByteArray());
+  }
+
+  public static VeniceChangeCoordinate decodeStringAndConvertToVeniceChangeCoordinate(String encodedCoordinate)
+      throws IOException, ClassNotFoundException {
+    byte[] bytes = Base64.getDecoder().decode(encodedCoordinate);
+    VeniceChangeCoordinate veniceChangeCoordinate = new VeniceChangeCoordinate();
+    try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      veniceChangeCoordinate.readExternal(objectInputStream);
+    }
+    return veniceChangeCoordinate;
+  }
 }
@@ -24,6 +24,8 @@ import java.util.Properties;
 public class VeniceChangelogConsumerClientFactory {
   private final Map<String, VeniceChangelogConsumer> storeClientMap = new HashMap<>();
 
+  private final Map<String, BootstrappingVeniceChangelogConsumer> storeBootstrappingClientMap = new HashMap<>();
+
   private final MetricsRepository metricsRepository;
 
   private final ChangelogClientConfig globalChangelogClientConfig;
@@ -53,33 +55,8 @@ public class VeniceChangelogConsumerClientFactory {
 
   public synchronized <K, V> VeniceChangelogConsumer<K, V> getChangelogConsumer(String storeName) {
     return storeClientMap.computeIfAbsent(storeName, name -> {
-
-      ChangelogClientConfig newStoreChangelogClientConfig =
-          ChangelogClientConfig.cloneConfig(globalChangelogClientConfig).setStoreName(storeName);
-      newStoreChangelogClientConfig.getInnerClientConfig().setMetricsRepository(metricsRepository);
-
-      D2ControllerClient d2ControllerClient;
-      if (this.d2ControllerClient != null) {
-        d2ControllerClient = this.d2ControllerClient;
-      } else if (newStoreChangelogClientConfig.getD2Client() != null) {
-        d2ControllerClient = D2ControllerClientFactory.discoverAndConstructControllerClient(
-            storeName,
-            globalChangelogClientConfig.getControllerD2ServiceName(),
-            globalChangelogClientConfig.getControllerRequestRetryCount(),
-            newStoreChangelogClientConfig.getD2Client());
-      } else {
-        d2ControllerClient = D2ControllerClientFactory.discoverAndConstructControllerClient(
-            storeName,
-            globalChangelogClientConfig.getControllerD2ServiceName(),
-            globalChangelogClientConfig.getLocalD2ZkHosts(),
-            Optional.ofNullable(newStoreChangelogClientConfig.getInnerClientConfig().getSslFactory()),
-            globalChangelogClientConfig.getControllerRequestRetryCount());
-      }
-      newStoreChangelogClientConfig.setD2ControllerClient(d2ControllerClient);
-      if (newStoreChangelogClientConfig.getSchemaReader() == null) {
-        newStoreChangelogClientConfig
-            .setSchemaReader(ClientFactory.getSchemaReader(newStoreChangelogClientConfig.getInnerClientConfig()));
-      }
+      ChangelogClientConfig newStoreChangelogClientConfig = getNewStoreChangelogClientConfig(storeName);
+      D2ControllerClient d2ControllerClient = newStoreChangelogClientConfig.getD2ControllerClient();
 
       // TODO: This is a redundant controller query. Need to condense it with the storeInfo query that happens
       // inside the change capture client itself
@@ -108,13 +85,61 @@ public class VeniceChangelogConsumerClientFactory {
     });
   }
 
+  /**
+   * Creates a {@link BootstrappingVeniceChangelogConsumer} which materializes the state of the store under
+   * {@link ChangelogClientConfig#getBootstrapFileSystemPath()}.
+   */
+  public synchronized <K, V> BootstrappingVeniceChangelogConsumer<K, V> getBootstrappingChangelogConsumer(
+      String storeName) {
+    return storeBootstrappingClientMap.computeIfAbsent(storeName, name -> {
+      ChangelogClientConfig newStoreChangelogClientConfig = getNewStoreChangelogClientConfig(storeName);
+      String consumerName = storeName + "-" + LocalBootstrappingVeniceChangelogConsumer.class.getSimpleName();
+      return new LocalBootstrappingVeniceChangelogConsumer(
+          newStoreChangelogClientConfig,
+          consumer != null
+              ? consumer
+              : getConsumer(newStoreChangelogClientConfig.getConsumerProperties(), consumerName));
+    });
+  }
+
+  private ChangelogClientConfig getNewStoreChangelogClientConfig(String storeName) {
+    ChangelogClientConfig newStoreChangelogClientConfig =
+        ChangelogClientConfig.cloneConfig(globalChangelogClientConfig).setStoreName(storeName);
+    newStoreChangelogClientConfig.getInnerClientConfig().setMetricsRepository(metricsRepository);
+
+    D2ControllerClient d2ControllerClient;
+    if (this.d2ControllerClient != null) {
+      d2ControllerClient = this.d2ControllerClient;
+    } else if (newStoreChangelogClientConfig.getD2Client() != null) {
+      d2ControllerClient = D2ControllerClientFactory.discoverAndConstructControllerClient(
+          storeName,
+          globalChangelogClientConfig.getControllerD2ServiceName(),
+          globalChangelogClientConfig.getControllerRequestRetryCount(),
+          newStoreChangelogClientConfig.getD2Client());
+    } else {
+      d2ControllerClient = D2ControllerClientFactory.discoverAndConstructControllerClient(
+          storeName,
+          globalChangelogClientConfig.getControllerD2ServiceName(),
+          globalChangelogClientConfig.getLocalD2ZkHosts(),
+          Optional.ofNullable(newStoreChangelogClientConfig.getInnerClientConfig().getSslFactory()),
+          globalChangelogClientConfig.getControllerRequestRetryCount());
+    }
+    newStoreChangelogClientConfig.setD2ControllerClient(d2ControllerClient);
+    if (newStoreChangelogClientConfig.getSchemaReader() == null) {
+      newStoreChangelogClientConfig
+          .setSchemaReader(ClientFactory.getSchemaReader(newStoreChangelogClientConfig.getInnerClientConfig()));
+    }
+    return newStoreChangelogClientConfig;
+  }
+
   private PubSubConsumerAdapter getConsumer(Properties consumerProps, String consumerName) {
     PubSubMessageDeserializer pubSubMessageDeserializer = new PubSubMessageDeserializer(
         new OptimizedKafkaValueSerializer(),
         new LandFillObjectPool<>(KafkaMessageEnvelope::new),
         new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+    // The offset collection is enabled to report the offset lag of every partition.
     return new ApacheKafkaConsumerAdapterFactory()
-        .create(new VeniceProperties(consumerProps), false, pubSubMessageDeserializer, consumerName);
+        .create(new VeniceProperties(consumerProps), true, pubSubMessageDeserializer, consumerName);
   }
 
   private String getViewClass(String storeName, String viewName, D2ControllerClient d2ControllerClient, int retries) {
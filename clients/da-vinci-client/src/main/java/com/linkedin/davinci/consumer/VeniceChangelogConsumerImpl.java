@@ -3,6 +3,7 @@ package com.linkedin.davinci.consumer;
 import static com.linkedin.venice.schema.rmd.RmdConstants.*;
 
 import com.linkedin.davinci.repository.ThinClientMetaStoreBasedRepository;
+import com.linkedin.davinci.stats.ChangelogConsumerStats;
 import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SpecificRecordChunkingAdapter;
@@ -43,10 +44,14 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.DictionaryUtils;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.views.ChangeCaptureView;
+import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -58,7 +63,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -70,13 +80,13 @@ import org.apache.logging.log4j.Logger;
 
 public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsumer<K, V> {
   private static final Logger LOGGER = LogManager.getLogger(VeniceChangelogConsumerImpl.class);
-  private final int partitionCount;
+  protected final int partitionCount;
 
   protected static final VeniceCompressor NO_OP_COMPRESSOR = new NoopCompressor();
 
   protected final CompressorFactory compressorFactory = new CompressorFactory();
 
-  protected final HashMap<Integer, VeniceCompressor> compressorMap = new HashMap<>();
+  protected final Map<Integer, VeniceCompressor> compressorMap = new VeniceConcurrentHashMap<>();
   private final AvroStoreDeserializerCache<V> storeDeserializerCache;
   private final AvroStoreDeserializerCache<RecordChangeEvent> recordChangeEventDeserializerCache;
 
@@ -111,10 +121,17 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   // to control and guarantee the behavior we're expecting.
   protected final InMemoryStorageEngine inMemoryStorageEngine;
   protected final PubSubConsumerAdapter pubSubConsumer;
-  protected final Map<Integer, List<Long>> currentVersionHighWatermarks = new HashMap<>();
+  protected final Map<Integer, List<Long>> currentVersionHighWatermarks = new VeniceConcurrentHashMap<>();
   protected final int[] currentValuePayloadSize;
+  // The offset of the last message consumed from the currently subscribed topic of every partition.
+  protected final Map<Integer, Long> partitionToLastConsumedOffset = new VeniceConcurrentHashMap<>();
 
   protected final ChangelogClientConfig changelogClientConfig;
+  protected final ChangelogConsumerStats changelogConsumerStats;
+
+  // The records of different partitions are decoded in parallel by this executor if it's configured, see
+  // ChangelogClientConfig#setDecodeThreadCount.
+  private final ExecutorService decodeExecutor;
 
   public VeniceChangelogConsumerImpl(
       ChangelogClientConfig changelogClientConfig,
@@ -156,6 +173,24 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
       this.userEventChunkingAdapter = GenericChunkingAdapter.INSTANCE;
       this.storeDeserializerCache = new AvroStoreDeserializerCache<>(storeRepository, storeName, true);
     }
+    MetricsRepository metricsRepository = changelogClientConfig.getInnerClientConfig().getMetricsRepository();
+    this.changelogConsumerStats = new ChangelogConsumerStats(
+        metricsRepository != null ? metricsRepository : new MetricsRepository(),
+        storeName);
+    int decodeThreadCount = changelogClientConfig.getDecodeThreadCount();
+    if (decodeThreadCount > 0) {
+      // The polling thread decodes the batches itself once the buffer is full, which also slows down the fetching.
+      this.decodeExecutor = new ThreadPoolExecutor(
+          decodeThreadCount,
+          decodeThreadCount,
+          0,
+          TimeUnit.MILLISECONDS,
+          new LinkedBlockingQueue<>(changelogClientConfig.getDecodeBufferCapacity()),
+          new DaemonThreadFactory("changelog-decode-" + storeName),
+          new ThreadPoolExecutor.CallerRunsPolicy());
+    } else {
+      this.decodeExecutor = null;
+    }
     LOGGER.info(
         "Start a change log consumer client for store: {}, with partition count: {} and view class: {} ",
         storeName,
@@ -414,6 +449,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
           currentVersionHighWatermarks.remove(topicPartition.getPartitionNumber());
           if (partitions.contains(topicPartition.getPartitionNumber())) {
             pubSubConsumer.unSubscribe(topicPartition);
+            partitionToLastConsumedOffset.remove(topicPartition.getPartitionNumber());
           }
         }
 
@@ -459,6 +495,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
       for (PubSubTopicPartition topicPartition: topicPartitionSet) {
         if (partitions.contains(topicPartition.getPartitionNumber())) {
           topicPartitionsToUnsub.add(topicPartition);
+          changelogConsumerStats.removePartitionOffsetLag(topicPartition.getPartitionNumber());
         }
       }
       pubSubConsumer.batchUnsubscribe(topicPartitionsToUnsub);
@@ -486,27 +523,72 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> messagesMap;
     synchronized (pubSubConsumer) {
       messagesMap = pubSubConsumer.poll(timeoutInMs);
+      for (PubSubTopicPartition pubSubTopicPartition: messagesMap.keySet()) {
+        long offsetLag = pubSubConsumer.getOffsetLag(pubSubTopicPartition);
+        if (offsetLag >= 0) {
+          changelogConsumerStats.recordPartitionOffsetLag(pubSubTopicPartition.getPartitionNumber(), offsetLag);
+        }
+      }
     }
-    for (Map.Entry<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> entry: messagesMap
-        .entrySet()) {
-      PubSubTopicPartition pubSubTopicPartition = entry.getKey();
-      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messageList = entry.getValue();
-      for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message: messageList) {
-        if (message.getKey().isControlMessage()) {
-          ControlMessage controlMessage = (ControlMessage) message.getValue().getPayloadUnion();
-          if (handleControlMessage(controlMessage, pubSubTopicPartition, topicSuffix)) {
-            break;
+    long decodeStartTime = System.nanoTime();
+    if (decodeExecutor == null || messagesMap.size() <= 1) {
+      for (Map.Entry<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> entry: messagesMap
+          .entrySet()) {
+        processPartitionMessages(entry.getKey(), entry.getValue(), topicSuffix, pubSubMessages);
+      }
+    } else {
+      /**
+       * The partitions are decoded in parallel while the records of a partition are still decoded in order by the
+       * same task, and the results are returned in the same partition order as the fetched records. Fetching and
+       * delivering stay on the polling thread, so the topic switches triggered by the control messages are always
+       * done before the next fetch.
+       */
+      List<CompletableFuture<List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>>>> futures =
+          new ArrayList<>(messagesMap.size());
+      for (Map.Entry<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> entry: messagesMap
+          .entrySet()) {
+        futures.add(CompletableFuture.supplyAsync(() -> {
+          List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> partitionMessages = new ArrayList<>();
+          processPartitionMessages(entry.getKey(), entry.getValue(), topicSuffix, partitionMessages);
+          return partitionMessages;
+        }, decodeExecutor));
+      }
+      for (CompletableFuture<List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>>> future: futures) {
+        try {
+          pubSubMessages.addAll(future.join());
+        } catch (CompletionException e) {
+          if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
           }
-        } else {
-          Optional<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessage =
-              convertPubSubMessageToPubSubChangeEventMessage(message, pubSubTopicPartition);
-          pubSubMessage.ifPresent(pubSubMessages::add);
+          throw new VeniceException("Failed to decode the polled records of store: " + storeName, e.getCause());
         }
       }
     }
+    changelogConsumerStats.recordDecodeLatency(LatencyUtils.getLatencyInMS(decodeStartTime));
+    changelogConsumerStats.recordPollRecordCount(pubSubMessages.size());
     return pubSubMessages;
   }
 
+  private void processPartitionMessages(
+      PubSubTopicPartition pubSubTopicPartition,
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messageList,
+      String topicSuffix,
+      List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessages) {
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message: messageList) {
+      partitionToLastConsumedOffset.put(pubSubTopicPartition.getPartitionNumber(), message.getOffset());
+      if (message.getKey().isControlMessage()) {
+        ControlMessage controlMessage = (ControlMessage) message.getValue().getPayloadUnion();
+        if (handleControlMessage(controlMessage, pubSubTopicPartition, topicSuffix)) {
+          break;
+        }
+      } else {
+        Optional<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessage =
+            convertPubSubMessageToPubSubChangeEventMessage(message, pubSubTopicPartition);
+        pubSubMessage.ifPresent(pubSubMessages::add);
+      }
+    }
+  }
+
   /**
    * Handle control message from the given topic. Returns true if a topic switch should occur and records should be returned
    *
@@ -755,7 +837,11 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
             .put(pubSubTopicPartition.getPartitionNumber(), versionSwap.getLocalHighWatermarks());
       }
       switchToNewTopic(newServingVersionTopic, topicSuffix, pubSubTopicPartition.getPartitionNumber());
-      inMemoryStorageEngine.drop();
+      // Only the buffered chunks of this partition are dropped, since the other partitions could be decoded in
+      // parallel.
+      if (inMemoryStorageEngine.containsPartition(pubSubTopicPartition.getPartitionNumber())) {
+        inMemoryStorageEngine.dropPartition(pubSubTopicPartition.getPartitionNumber());
+      }
       return true;
     }
     return false;
@@ -819,6 +905,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     PubSubTopic mergedTopicName = pubSubTopicRepository.getTopic(newTopic.getName() + topicSuffix);
     Set<Integer> partitions = Collections.singleton(partition);
     unsubscribe(partitions);
+    partitionToLastConsumedOffset.remove(partition);
     try {
       internalSubscribe(partitions, mergedTopicName).get();
     } catch (InterruptedException | ExecutionException e) {
@@ -837,6 +924,9 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   public void close() {
     this.unsubscribeAll();
     pubSubConsumer.close();
+    if (decodeExecutor != null) {
+      decodeExecutor.shutdownNow();
+    }
   }
 
   protected void setStoreRepository(ThinClientMetaStoreBasedRepository repository) {
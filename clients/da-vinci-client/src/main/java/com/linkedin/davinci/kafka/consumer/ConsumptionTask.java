@@ -1,5 +1,6 @@
 package com.linkedin.davinci.kafka.consumer;
 
+import com.linkedin.alpini.log.RateLimitedLog;
 import com.linkedin.davinci.ingestion.consumption.ConsumedDataReceiver;
 import com.linkedin.davinci.stats.KafkaConsumerServiceStats;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
@@ -14,8 +15,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.IntConsumer;
 import java.util.function.Supplier;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -38,6 +41,11 @@ import org.apache.logging.log4j.Logger;
  */
 class ConsumptionTask implements Runnable {
   private final Logger LOGGER;
+  /**
+   * A consumer which keeps failing is polled again right away, so the errors are logged at most 10 times per second,
+   * and counted by {@link KafkaConsumerServiceStats#recordPollError()}.
+   */
+  private final RateLimitedLog pollErrorLog;
   private final int taskId;
   private final Map<PubSubTopicPartition, ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>>> dataReceiverMap =
       new VeniceConcurrentHashMap<>();
@@ -74,6 +82,13 @@ class ConsumptionTask implements Runnable {
     this.cleaner = cleaner;
     String kafkaUrlForLogger = Utils.getSanitizedStringForLogger(kafkaUrl);
     this.LOGGER = LogManager.getLogger(getClass().getSimpleName() + "[ " + kafkaUrlForLogger + " - " + taskId + " ]");
+    this.pollErrorLog = new RateLimitedLog(
+        LOGGER,
+        Level.ERROR,
+        "Received exception while polling, will retry",
+        10,
+        1,
+        TimeUnit.SECONDS);
   }
 
   @Override
@@ -159,7 +174,7 @@ class ConsumptionTask implements Runnable {
           LOGGER.error("Received InterruptedException, will exit");
           break;
         }
-        LOGGER.error("Received exception while polling, will retry", e);
+        pollErrorLog.log(e);
         addSomeDelay = true;
         stats.recordPollError();
       }
@@ -44,6 +44,7 @@ import com.linkedin.venice.exceptions.validation.ImproperlyStartedSegmentExcepti
 import com.linkedin.venice.exceptions.validation.UnsupportedMessageTypeException;
 import com.linkedin.venice.kafka.TopicManager;
 import com.linkedin.venice.kafka.TopicManagerRepository;
+import com.linkedin.venice.kafka.protocol.BulkLoadSstFile;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
 import com.linkedin.venice.kafka.protocol.Delete;
 import com.linkedin.venice.kafka.protocol.EndOfIncrementalPush;
@@ -2402,6 +2403,38 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * The SST file referenced by the control message is added to the partition as a finished temp SST file, so it will be
+   * ingested together with the rest of the batch data at {@link #processEndOfPush}.
+   */
+  protected void processBulkLoadSstFile(
+      ControlMessage controlMessage,
+      int partition,
+      long offset,
+      PartitionConsumptionState partitionConsumptionState) {
+    if (partitionConsumptionState.isEndOfPushReceived()) {
+      throw new VeniceException(
+          ControlMessageType.BULK_LOAD_SST_FILE.name() + " control message should not be received after EOP. Topic "
+              + kafkaVersionTopic + " partition " + partition + " offset " + offset);
+    }
+    if (!partitionConsumptionState.isDeferredWrite()) {
+      throw new VeniceException(
+          ControlMessageType.BULK_LOAD_SST_FILE.name() + " control message requires sorted input. Topic "
+              + kafkaVersionTopic + " partition " + partition + " offset " + offset);
+    }
+    if (cacheBackend.isPresent()) {
+      throw new VeniceException(
+          ControlMessageType.BULK_LOAD_SST_FILE.name() + " control message is not supported with cache backend. Topic "
+              + kafkaVersionTopic + " partition " + partition);
+    }
+    BulkLoadSstFile bulkLoadSstFile = (BulkLoadSstFile) controlMessage.controlMessageUnion;
+    storageEngine.addExternalSSTFile(
+        partition,
+        bulkLoadSstFile.filePath.toString(),
+        bulkLoadSstFile.recordCount,
+        ByteUtils.extractByteArray(bulkLoadSstFile.checksum));
+  }
+
   protected void processStartOfIncrementalPush(
       ControlMessage startOfIncrementalPush,
       PartitionConsumptionState partitionConsumptionState) {
@@ -2495,6 +2528,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       case VERSION_SWAP:
         processVersionSwapMessage(controlMessage, partition, partitionConsumptionState);
         break;
+      case BULK_LOAD_SST_FILE:
+        processBulkLoadSstFile(controlMessage, partition, offset, partitionConsumptionState);
+        break;
       default:
         throw new UnsupportedMessageTypeException(
             "Unrecognized Control message type " + controlMessage.controlMessageType);
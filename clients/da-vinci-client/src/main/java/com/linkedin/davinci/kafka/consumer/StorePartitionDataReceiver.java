@@ -1,5 +1,6 @@
 package com.linkedin.davinci.kafka.consumer;
 
+import com.linkedin.alpini.log.RateLimitedLog;
 import com.linkedin.avroutil1.compatibility.shaded.org.apache.commons.lang3.Validate;
 import com.linkedin.davinci.ingestion.consumption.ConsumedDataReceiver;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -11,6 +12,8 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.Utils;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -23,6 +26,8 @@ public class StorePartitionDataReceiver
   private final String kafkaUrlForLogger;
   private final int kafkaClusterId;
   private final Logger LOGGER;
+  /** Every polled batch of a failing partition fails, so the errors are logged at most 10 times per second. */
+  private final RateLimitedLog processingErrorLog;
 
   private long receivedRecordsCount;
 
@@ -37,6 +42,13 @@ public class StorePartitionDataReceiver
     this.kafkaUrlForLogger = Utils.getSanitizedStringForLogger(kafkaUrl);
     this.kafkaClusterId = kafkaClusterId;
     this.LOGGER = LogManager.getLogger(this.getClass().getSimpleName() + " [" + kafkaUrlForLogger + "]");
+    this.processingErrorLog = new RateLimitedLog(
+        LOGGER,
+        Level.ERROR,
+        "Received exception when StoreIngestionTask is processing the polled consumer record for topic: {}",
+        10,
+        1,
+        TimeUnit.SECONDS);
     this.receivedRecordsCount = 0L;
   }
 
@@ -121,10 +133,7 @@ public class StorePartitionDataReceiver
        */
       throw e;
     }
-    LOGGER.error(
-        "Received exception when StoreIngestionTask is processing the polled consumer record for topic: {}",
-        topicPartition,
-        e);
+    processingErrorLog.log(topicPartition, e);
     storeIngestionTask.setLastConsumerException(e);
   }
 
@@ -3,6 +3,7 @@ package com.linkedin.davinci.listener.response;
 import com.linkedin.venice.compression.CompressionStrategy;
 import io.netty.buffer.ByteBuf;
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -20,7 +21,8 @@ public abstract class ReadResponse {
   private boolean isStreamingResponse = false;
   private IntList keySizeList;
   private IntList valueSizeList;
-  private int valueSize = 0;
+  // Added to by the parallel chunks of a batch get.
+  private final AtomicInteger valueSize = new AtomicInteger();
   private int readComputeOutputSize = 0;
   private int dotProductCount = 0;
   private int cosineSimilarityCount = 0;
@@ -97,11 +99,11 @@ public abstract class ReadResponse {
   }
 
   public void addValueSize(int size) {
-    this.valueSize += size;
+    this.valueSize.addAndGet(size);
   }
 
   public int getValueSize() {
-    return valueSize;
+    return valueSize.get();
   }
 
   public void addReadComputeOutputSize(int size) {
@@ -0,0 +1,61 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.Rate;
+import java.util.Map;
+
+
+/**
+ * Stats of {@link com.linkedin.davinci.consumer.VeniceChangelogConsumerImpl}, which include the time spent on
+ * decoding the polled records and the offset lag of every subscribed partition.
+ */
+public class ChangelogConsumerStats extends AbstractVeniceStats {
+  private final Sensor pollRecordCountSensor;
+  private final Sensor decodeLatencySensor;
+  private final Map<Integer, Long> partitionToOffsetLag = new VeniceConcurrentHashMap<>();
+
+  public ChangelogConsumerStats(MetricsRepository metricsRepository, String storeName) {
+    super(metricsRepository, storeName + "_changelog_consumer");
+    pollRecordCountSensor = registerSensor("poll_record_count", new Avg(), new Max(), new Rate());
+    decodeLatencySensor = registerSensor("decode_latency", new Avg(), new Max());
+    registerSensor("max_partition_offset_lag", new Gauge(this::getMaxPartitionOffsetLag));
+  }
+
+  public void recordPollRecordCount(int count) {
+    pollRecordCountSensor.record(count);
+  }
+
+  public void recordDecodeLatency(double latencyInMs) {
+    decodeLatencySensor.record(latencyInMs);
+  }
+
+  /**
+   * The lag of a partition is registered as its own metric the first time it's recorded.
+   */
+  public void recordPartitionOffsetLag(int partition, long offsetLag) {
+    if (partitionToOffsetLag.put(partition, offsetLag) == null) {
+      registerSensorIfAbsent(
+          "partition_" + partition + "_offset_lag",
+          new Gauge(() -> partitionToOffsetLag.getOrDefault(partition, 0L)));
+    }
+  }
+
+  public void removePartitionOffsetLag(int partition) {
+    // The metric is kept and reports 0, since the partition could be subscribed again.
+    partitionToOffsetLag.replace(partition, 0L);
+  }
+
+  private double getMaxPartitionOffsetLag() {
+    long maxOffsetLag = 0;
+    for (long offsetLag: partitionToOffsetLag.values()) {
+      maxOffsetLag = Math.max(maxOffsetLag, offsetLag);
+    }
+    return maxOffsetLag;
+  }
+}
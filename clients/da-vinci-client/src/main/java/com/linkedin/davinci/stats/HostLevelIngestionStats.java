@@ -4,9 +4,9 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.kafka.consumer.PartitionConsumptionState;
 import com.linkedin.davinci.kafka.consumer.StoreIngestionTask;
 import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.ConcurrentHistogramStat;
 import com.linkedin.venice.stats.Gauge;
 import com.linkedin.venice.stats.LongAdderRateGauge;
-import com.linkedin.venice.stats.TehutiUtils;
 import com.linkedin.venice.utils.RegionUtils;
 import com.linkedin.venice.utils.Time;
 import io.tehuti.metrics.MeasurableStat;
@@ -34,6 +34,8 @@ import java.util.function.Supplier;
  * (3) Per store and total: The stat is registered for each store on this host and the total number for this host.
  */
 public class HostLevelIngestionStats extends AbstractVeniceStats {
+  private static final double[] HISTOGRAM_PERCENTILES = new double[] { 50, 95, 99 };
+
   private final Time time;
   // The aggregated bytes ingested rate for the entire host
   private final LongAdderRateGauge totalBytesConsumedRate;
@@ -52,8 +54,12 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
 
   /** To measure 'put' latency of consumer records blocking queue */
   private final Sensor consumerRecordsQueuePutLatencySensor;
-  private final Sensor keySizeSensor;
-  private final Sensor valueSizeSensor;
+  /**
+   * The key size, value size and storage engine put latency are recorded for every ingested record by all the
+   * ingestion threads, so they're recorded without contention by {@link ConcurrentHistogramStat}.
+   */
+  private final ConcurrentHistogramStat keySizeStat;
+  private final ConcurrentHistogramStat valueSizeStat;
   private final Sensor unexpectedMessageSensor;
   private final Sensor inconsistentStoreMetadataSensor;
   private final Sensor ingestionFailureSensor;
@@ -81,7 +87,7 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
   // Measure the latency in checking long running task states, like leader promotion, TopicSwitch
   private final Sensor checkLongRunningTasksLatencySensor;
   // Measure the latency in putting data into storage engine
-  private final Sensor storageEnginePutLatencySensor;
+  private final ConcurrentHistogramStat storageEnginePutLatencyStat;
 
   /**
    * Measure the number of times a record was found in {@link PartitionConsumptionState#transientRecordMap} during UPDATE
@@ -280,21 +286,15 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
     this.diskQuotaSensor =
         registerSensor("global_store_disk_quota_allowed", new Gauge(() -> diskQuotaAllowedGauge), new Max());
 
-    String keySizeSensorName = "record_key_size_in_bytes";
-    this.keySizeSensor = registerSensor(
-        keySizeSensorName,
-        new Avg(),
-        new Min(),
-        new Max(),
-        TehutiUtils.getPercentileStat(getName() + AbstractVeniceStats.DELIMITER + keySizeSensorName));
-
-    String valueSizeSensorName = "record_value_size_in_bytes";
-    this.valueSizeSensor = registerSensor(
-        valueSizeSensorName,
-        new Avg(),
-        new Min(),
-        new Max(),
-        TehutiUtils.getPercentileStat(getName() + AbstractVeniceStats.DELIMITER + valueSizeSensorName));
+    this.keySizeStat = registerConcurrentHistogramSensor(
+        "record_key_size_in_bytes",
+        new ConcurrentHistogramStat(null, time),
+        HISTOGRAM_PERCENTILES);
+
+    this.valueSizeStat = registerConcurrentHistogramSensor(
+        "record_value_size_in_bytes",
+        new ConcurrentHistogramStat(null, time),
+        HISTOGRAM_PERCENTILES);
 
     this.storageQuotaUsedSensor =
         registerSensor("storage_quota_used", new Gauge(() -> hybridQuotaUsageGauge), new Avg(), new Min(), new Max());
@@ -355,14 +355,10 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         () -> totalStats.checkLongRunningTasksLatencySensor,
         avgAndMax());
 
-    String storageEnginePutLatencySensorName = "storage_engine_put_latency";
-    this.storageEnginePutLatencySensor = registerPerStoreAndTotalSensor(
-        storageEnginePutLatencySensorName,
-        totalStats,
-        () -> totalStats.storageEnginePutLatencySensor,
-        new Avg(),
-        new Max(),
-        TehutiUtils.getPercentileStat(getName() + AbstractVeniceStats.DELIMITER + storageEnginePutLatencySensorName));
+    this.storageEnginePutLatencyStat = registerConcurrentHistogramSensor(
+        "storage_engine_put_latency",
+        new ConcurrentHistogramStat(totalStats == null ? null : totalStats.storageEnginePutLatencyStat, time),
+        HISTOGRAM_PERCENTILES);
 
     this.writeComputeCacheHitCount = registerPerStoreAndTotalSensor(
         "write_compute_cache_hit_count",
@@ -450,11 +446,11 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
   }
 
   public void recordKeySize(long bytes, long currentTimeMs) {
-    keySizeSensor.record(bytes, currentTimeMs);
+    keySizeStat.record(bytes);
   }
 
   public void recordValueSize(long bytes, long currentTimeMs) {
-    valueSizeSensor.record(bytes, currentTimeMs);
+    valueSizeStat.record(bytes);
   }
 
   public void recordIngestionFailure() {
@@ -494,7 +490,7 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
   }
 
   public void recordStorageEnginePutLatency(double latency, long currentTimeMs) {
-    storageEnginePutLatencySensor.record(latency, currentTimeMs);
+    storageEnginePutLatencyStat.record(latency);
   }
 
   public void recordWriteComputeCacheHitCount() {
@@ -79,6 +79,8 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
    */
   private final List<ReadWriteLock> rwLockForStoragePartitionAdjustmentList = new SparseConcurrentList<>();
 
+  private volatile StorageEngineWriteListener writeListener;
+
   public AbstractStorageEngine(
       String storeName,
       InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer,
@@ -101,6 +103,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     return readWriteLock;
   }
 
+  /**
+   * Sets the listener which is notified of the writes to the partitions of this storage engine, or removes it if null.
+   */
+  public void setWriteListener(StorageEngineWriteListener writeListener) {
+    this.writeListener = writeListener;
+  }
+
   public String getStoreName() {
     return storeName;
   }
@@ -288,6 +297,10 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
     AbstractStoragePartition partition = this.partitionList.remove(partitionId);
     partition.drop();
+    StorageEngineWriteListener listener = writeListener;
+    if (listener != null && partitionId != METADATA_PARTITION_ID) {
+      listener.onPartitionDropped(partitionId);
+    }
 
     if (getNumberOfPartitions() == 0) {
       LOGGER.info("All Partitions deleted for Store {}", getStoreName());
@@ -404,6 +417,18 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     }
   }
 
+  /**
+   * The file is fetched and verified without holding the lock of the engine, since it takes a while for a large file,
+   * and the lock also guards the other partitions. The lock is only taken to add the verified file to the partition.
+   */
+  public void addExternalSSTFile(int partitionId, String filePath, long recordCount, byte[] checksum) {
+    LOGGER.info("Add external sst file: {} to partition: {} of store: {}", filePath, partitionId, storeName);
+    String stagedFilePath = getPartitionOrThrow(partitionId).stageExternalSSTFile(filePath, recordCount, checksum);
+    synchronized (this) {
+      getPartitionOrThrow(partitionId).addStagedExternalSSTFile(stagedFilePath, filePath, recordCount);
+    }
+  }
+
   private void executeWithSafeGuard(int partitionId, Runnable runnable) {
     executeWithSafeGuard(partitionId, () -> {
       runnable.run();
@@ -445,6 +470,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.put(key, value);
     });
+    notifyKeyWritten(partitionId, key);
   }
 
   public void put(int partitionId, byte[] key, ByteBuffer value) throws VeniceException {
@@ -452,6 +478,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.put(key, value);
     });
+    notifyKeyWritten(partitionId, key);
   }
 
   public void putWithReplicationMetadata(int partitionId, byte[] key, ByteBuffer value, byte[] replicationMetadata)
@@ -460,6 +487,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.putWithReplicationMetadata(key, value, replicationMetadata);
     });
+    notifyKeyWritten(partitionId, key);
   }
 
   public void putReplicationMetadata(int partitionId, byte[] key, byte[] replicationMetadata) throws VeniceException {
@@ -509,6 +537,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.delete(key);
     });
+    notifyKeyWritten(partitionId, key);
   }
 
   public void deleteWithReplicationMetadata(int partitionId, byte[] key, byte[] replicationMetadata)
@@ -517,6 +546,14 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.deleteWithReplicationMetadata(key, replicationMetadata);
     });
+    notifyKeyWritten(partitionId, key);
+  }
+
+  private void notifyKeyWritten(int partitionId, byte[] key) {
+    StorageEngineWriteListener listener = writeListener;
+    if (listener != null) {
+      listener.onKeyWritten(partitionId, key);
+    }
   }
 
   public byte[] getReplicationMetadata(int partitionId, byte[] key) {
@@ -117,6 +117,33 @@ public abstract class AbstractStoragePartition {
   public void endBatchWrite() {
   }
 
+  /**
+   * Adds a SST file built outside of the storage engine to the partition, which will be loaded at
+   * {@link #endBatchWrite()}. Only the storage partitions supporting deferred write will execute this method, other
+   * implementations will throw UnsupportedOperationException.
+   */
+  public void addExternalSSTFile(String filePath, long recordCount, byte[] checksum) {
+    throw new VeniceUnsupportedOperationException("addExternalSSTFile");
+  }
+
+  /**
+   * Fetches and verifies a SST file built outside of the storage engine, without adding it to the partition yet, so
+   * that it can run without holding any lock.
+   *
+   * @return the path of the staged file, to be passed to {@link #addStagedExternalSSTFile}.
+   */
+  public String stageExternalSSTFile(String filePath, long recordCount, byte[] checksum) {
+    throw new VeniceUnsupportedOperationException("stageExternalSSTFile");
+  }
+
+  /**
+   * Adds a SST file staged by {@link #stageExternalSSTFile} to the partition, which will be loaded at
+   * {@link #endBatchWrite()}.
+   */
+  public void addStagedExternalSSTFile(String stagedFilePath, String filePath, long recordCount) {
+    throw new VeniceUnsupportedOperationException("addStagedExternalSSTFile");
+  }
+
   /**
    * Get the partition database size in bytes
    * @return partition database size
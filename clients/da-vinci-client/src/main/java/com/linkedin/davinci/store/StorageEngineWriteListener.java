@@ -0,0 +1,17 @@
+package com.linkedin.davinci.store;
+
+/**
+ * Listens to the writes to the partitions of an {@link AbstractStorageEngine}, e.g. to invalidate a cache of its
+ * values. It's called by the writing thread right after each write, so it must be cheap.
+ */
+public interface StorageEngineWriteListener {
+  /**
+   * Called after the value of the key was put or deleted.
+   */
+  void onKeyWritten(int partitionId, byte[] key);
+
+  /**
+   * Called after the partition was dropped, along with all of its keys.
+   */
+  void onPartitionDropped(int partitionId);
+}
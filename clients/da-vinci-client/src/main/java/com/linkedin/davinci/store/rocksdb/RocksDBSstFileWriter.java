@@ -11,13 +11,20 @@ import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import java.io.File;
+import java.io.IOException;
+import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -68,6 +75,11 @@ public class RocksDBSstFileWriter {
   protected static final int DEFAULT_COLUMN_FAMILY_INDEX = 0;
   protected static final int REPLICATION_METADATA_COLUMN_FAMILY_INDEX = 1;
   private static final int REMOVE_ALL_SST_FILES = -1;
+  /**
+   * Prefix of the external SST files which are fetched by {@link #stageExternalSSTFile}, but not added yet. They're
+   * removed by {@link #checkDatabaseIntegrity} since they're not checkpointed.
+   */
+  private static final String STAGED_EXTERNAL_SST_FILE_PREFIX = "staged_external_sst_file_";
   private int lastFinishedSSTFileNo = -1;
   /**
    * Whether the input is sorted or not.
@@ -155,6 +167,7 @@ public class RocksDBSstFileWriter {
     if (!tempSSTFileDir.exists()) {
       tempSSTFileDir.mkdirs();
     }
+    removeStagedExternalSSTFiles(tempSSTFileDir);
 
     if (!checkpointedInfo.containsKey(lastCheckPointedSSTFileNum)) {
       LOGGER.info(
@@ -277,6 +290,121 @@ public class RocksDBSstFileWriter {
     return checkpointingInfo;
   }
 
+  /**
+   * Adds a SST file built outside of the server, such as by the push job, as the next finished temp SST file, so that
+   * it will be ingested into the database together with the other temp SST files in {@link #ingestSSTFiles}.
+   *
+   * It's a shortcut of {@link #stageExternalSSTFile} followed by {@link #addStagedExternalSSTFile}.
+   */
+  public void addExternalSSTFile(String externalSSTFilePath, long recordCount, byte[] checksum) {
+    addStagedExternalSSTFile(
+        stageExternalSSTFile(externalSSTFilePath, recordCount, checksum),
+        externalSSTFilePath,
+        recordCount);
+  }
+
+  /**
+   * Fetches a SST file built outside of the server into the temp SST file dir, and verifies it against the given record
+   * count and checksum. The file is hard linked when it's on the same filesystem, and copied otherwise.
+   *
+   * It doesn't touch the state of the writer, so it may run concurrently with the writes, without holding the lock of
+   * the partition or the storage engine, since fetching and verifying a large file takes a while.
+   *
+   * @param externalSSTFilePath a local path or a file URI of the external SST file.
+   * @param recordCount expected number of key/value pairs in the external SST file
+   * @param checksum MD5 checksum over the key and value of every record in the external SST file
+   * @return the path of the staged file, which should be passed to {@link #addStagedExternalSSTFile}.
+   */
+  public String stageExternalSSTFile(String externalSSTFilePath, long recordCount, byte[] checksum) {
+    Path stagedPath = Paths.get(fullPathForTempSSTFileDir, STAGED_EXTERNAL_SST_FILE_PREFIX + UUID.randomUUID());
+    try {
+      Path sourcePath = externalSSTFilePath.startsWith("file:")
+          ? Paths.get(URI.create(externalSSTFilePath))
+          : Paths.get(externalSSTFilePath);
+      Files.createDirectories(stagedPath.getParent());
+      try {
+        Files.createLink(stagedPath, sourcePath);
+      } catch (IOException | UnsupportedOperationException e) {
+        // E.g. the file is on a different filesystem.
+        Files.copy(sourcePath, stagedPath, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      stagedPath.toFile().delete();
+      throw new VeniceException(
+          "Failed to copy external sst file: " + externalSSTFilePath + " for store: " + storeName + ", partition id: "
+              + partitionId,
+          e);
+    }
+    long startMs = System.currentTimeMillis();
+    if (!verifyChecksum(stagedPath.toString(), recordCount, checksum)) {
+      stagedPath.toFile().delete();
+      throw new VeniceChecksumException(
+          "verifyChecksum: failure. external sstFile checksum didn't match for store: " + storeName + ", partition: "
+              + partitionId + ", sstFile: " + externalSSTFilePath + ", records: " + recordCount + ", latency(ms): "
+              + LatencyUtils.getElapsedTimeInMs(startMs));
+    }
+    return stagedPath.toString();
+  }
+
+  /**
+   * Adds a file staged by {@link #stageExternalSSTFile} as the next finished temp SST file. The records written before
+   * this call are finished into their own SST file first to preserve the write order, and the staged file is moved into
+   * the slot which follows it. The staged file is removed if it can't be added.
+   *
+   * @param stagedSSTFilePath the path returned by {@link #stageExternalSSTFile}
+   * @param externalSSTFilePath the path of the external SST file, for logging
+   * @param recordCount number of key/value pairs in the staged SST file
+   */
+  public void addStagedExternalSSTFile(String stagedSSTFilePath, String externalSSTFilePath, long recordCount) {
+    if (currentSSTFileWriter == null) {
+      new File(stagedSSTFilePath).delete();
+      throw new VeniceException(
+          "currentSSTFileWriter is null for store: " + storeName + ", partition id: " + partitionId
+              + ", 'beginBatchWrite' should be invoked before adding any external sst file");
+    }
+    try {
+      sync();
+    } catch (RuntimeException e) {
+      new File(stagedSSTFilePath).delete();
+      throw e;
+    }
+    /**
+     * The current SST file is empty after {@link #sync()}, so it is safe to close it and take its slot.
+     */
+    currentSSTFileWriter.close();
+    String fullPathForExternalSSTFile = composeFullPathForSSTFile(currentSSTFileNo);
+    try {
+      Files.move(
+          Paths.get(stagedSSTFilePath),
+          Paths.get(fullPathForExternalSSTFile),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      new File(stagedSSTFilePath).delete();
+      throw new VeniceException(
+          "Failed to move staged sst file: " + stagedSSTFilePath + " for store: " + storeName + ", partition id: "
+              + partitionId,
+          e);
+    }
+    lastFinishedSSTFileNo = currentSSTFileNo;
+    ++currentSSTFileNo;
+    recordNumInAllSSTFiles += recordCount;
+    String fullPathForCurrentSSTFile = composeFullPathForSSTFile(currentSSTFileNo);
+    currentSSTFileWriter = new SstFileWriter(envOptions, options);
+    try {
+      currentSSTFileWriter.open(fullPathForCurrentSSTFile);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to open file: " + fullPathForCurrentSSTFile + " with SstFileWriter", e);
+    }
+    LOGGER.info(
+        "Added external sst file: {} with {} records as: {} for store: {}, partition id: {}",
+        externalSSTFilePath,
+        recordCount,
+        fullPathForExternalSSTFile,
+        storeName,
+        partitionId);
+  }
+
   private void removeSSTFilesAfterCheckpointing(int lastFinishedSSTFileNo) {
     File tempSSTFileDir = new File(fullPathForTempSSTFileDir);
     String[] sstFiles = tempSSTFileDir.list((File dir, String name) -> RocksDBUtils.isTempSSTFile(name));
@@ -296,6 +424,17 @@ public class RocksDBSstFileWriter {
     }
   }
 
+  private static void removeStagedExternalSSTFiles(File tempSSTFileDir) {
+    String[] stagedFiles =
+        tempSSTFileDir.list((File dir, String name) -> name.startsWith(STAGED_EXTERNAL_SST_FILE_PREFIX));
+    if (stagedFiles == null) {
+      return;
+    }
+    for (String stagedFile: stagedFiles) {
+      new File(tempSSTFileDir, stagedFile).delete();
+    }
+  }
+
   private void removeAllSSTFiles() {
     removeSSTFilesAfterCheckpointing(REMOVE_ALL_SST_FILES);
   }
@@ -460,6 +460,36 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     rocksDBSstFileWriter.ingestSSTFiles(rocksDB, columnFamilyHandleList);
   }
 
+  @Override
+  public void addExternalSSTFile(String filePath, long recordCount, byte[] checksum) {
+    addStagedExternalSSTFile(stageExternalSSTFile(filePath, recordCount, checksum), filePath, recordCount);
+  }
+
+  /**
+   * Not synchronized, since it doesn't touch the state of the SST file writer, and fetching and verifying a large file
+   * takes a while.
+   */
+  @Override
+  public String stageExternalSSTFile(String filePath, long recordCount, byte[] checksum) {
+    checkExternalSSTFileSupported();
+    return rocksDBSstFileWriter.stageExternalSSTFile(filePath, recordCount, checksum);
+  }
+
+  @Override
+  public synchronized void addStagedExternalSSTFile(String stagedFilePath, String filePath, long recordCount) {
+    checkExternalSSTFileSupported();
+    rocksDBSstFileWriter.addStagedExternalSSTFile(stagedFilePath, filePath, recordCount);
+  }
+
+  private void checkExternalSSTFileSupported() {
+    makeSureRocksDBIsStillOpen();
+    if (!deferredWrite) {
+      throw new VeniceException(
+          "Cannot add external sst file while 'deferredWrite' is disabled, store: " + storeName + ", partition id: "
+              + partitionId);
+    }
+  }
+
   private void checkAndThrowMemoryLimitException(RocksDBException e) {
     if (e.getMessage().contains(ROCKSDB_ERROR_MESSAGE_FOR_RUNNING_OUT_OF_SPACE_QUOTA)) {
       throw new MemoryLimitExhaustedException(
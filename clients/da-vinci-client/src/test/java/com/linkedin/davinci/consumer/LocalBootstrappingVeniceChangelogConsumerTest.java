@@ -0,0 +1,207 @@
+package com.linkedin.davinci.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.repository.ThinClientMetaStoreBasedRepository;
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.controllerapi.D2ControllerClient;
+import com.linkedin.venice.controllerapi.StoreResponse;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreInfo;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.adapter.kafka.ApacheKafkaOffsetPosition;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.views.ChangeCaptureView;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.util.Utf8;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class LocalBootstrappingVeniceChangelogConsumerTest {
+  private static final int PARTITION = 0;
+
+  private String storeName;
+  private SchemaReader schemaReader;
+  private PubSubConsumerAdapter mockPubSubConsumer;
+  private StorageService mockStorageService;
+  private AbstractStorageEngine mockStorageEngine;
+  private PubSubTopicPartition changeCaptureTopicPartition;
+  private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
+
+  @BeforeMethod
+  public void setUp() {
+    storeName = Utils.getUniqueString("store");
+    schemaReader = mock(SchemaReader.class);
+    Schema stringSchema = AvroCompatibilityHelper.parse("\"string\"");
+    doReturn(stringSchema).when(schemaReader).getKeySchema();
+    doReturn(stringSchema).when(schemaReader).getValueSchema(1);
+
+    mockPubSubConsumer = mock(PubSubConsumerAdapter.class);
+    changeCaptureTopicPartition = new PubSubTopicPartitionImpl(
+        pubSubTopicRepository
+            .getTopic(Version.composeKafkaTopic(storeName, 1) + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX),
+        PARTITION);
+
+    mockStorageEngine = mock(AbstractStorageEngine.class);
+    doReturn(true).when(mockStorageEngine).containsPartition(PARTITION);
+    doReturn(Collections.emptyMap()).when(mockStorageEngine).sync(PARTITION);
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+    doReturn(mockStorageEngine).when(storageEngineRepository).getLocalStorageEngine(anyString());
+    mockStorageService = mock(StorageService.class);
+    doReturn(storageEngineRepository).when(mockStorageService).getStorageEngineRepository();
+  }
+
+  @Test
+  public void testStartFailsIfPartitionsDoNotCatchUp() throws Exception {
+    // The consumer keeps consuming the version topic, which never catches up.
+    PubSubTopicPartition versionTopicPartition = new PubSubTopicPartitionImpl(
+        pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1)),
+        PARTITION);
+    doReturn(Collections.singleton(versionTopicPartition)).when(mockPubSubConsumer).getAssignment();
+    LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> consumer = createConsumer(100);
+    try {
+      ExecutionException e =
+          Assert.expectThrows(ExecutionException.class, () -> consumer.start().get(10, TimeUnit.SECONDS));
+      Assert.assertTrue(e.getCause() instanceof VeniceException);
+      Assert.assertTrue(e.getCause().getMessage().contains("didn't catch up"), e.getCause().getMessage());
+      Assert.assertTrue(consumer.poll(10).isEmpty());
+    } finally {
+      consumer.stop();
+    }
+  }
+
+  @Test
+  public void testPollReturnsLocalStateBeforeChanges() throws Exception {
+    prepareCaughtUpCheckpoint();
+    RecordSerializer<String> serializer =
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(schemaReader.getKeySchema());
+    byte[] key = serializer.serialize("key");
+    byte[] value = ValueRecord.create(1, serializer.serialize("value")).serialize();
+    doAnswer(invocation -> {
+      BytesStreamingCallback callback = invocation.getArgument(2);
+      callback.onRecordReceived(key, value);
+      callback.onCompletion();
+      return null;
+    }).when(mockStorageEngine).getByKeyPrefix(eq(PARTITION), any(), any());
+
+    LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> consumer = createConsumer(10000);
+    try {
+      consumer.start().get(10, TimeUnit.SECONDS);
+      List<PubSubMessage<Utf8, ChangeEvent<Utf8>, VeniceChangeCoordinate>> messages = new ArrayList<>();
+      TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+        messages.addAll(consumer.poll(100));
+        Assert.assertEquals(messages.size(), 1);
+      });
+      PubSubMessage<Utf8, ChangeEvent<Utf8>, VeniceChangeCoordinate> message = messages.get(0);
+      Assert.assertEquals(message.getKey().toString(), "key");
+      Assert.assertEquals(message.getValue().getCurrentValue().toString(), "value");
+      Assert.assertNull(message.getValue().getPreviousValue());
+      Assert.assertEquals(message.getTopicPartition(), changeCaptureTopicPartition);
+
+      // Once the local state has been served, the changes are polled from the change capture topic.
+      Assert.assertTrue(consumer.poll(10).isEmpty());
+    } finally {
+      consumer.stop();
+    }
+  }
+
+  @Test
+  public void testPollSurfacesScanFailure() throws Exception {
+    prepareCaughtUpCheckpoint();
+    doThrow(new VeniceException("scan failure")).when(mockStorageEngine).getByKeyPrefix(eq(PARTITION), any(), any());
+
+    LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> consumer = createConsumer(10000);
+    try {
+      consumer.start().get(10, TimeUnit.SECONDS);
+      TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+        VeniceException e = Assert.expectThrows(VeniceException.class, () -> consumer.poll(10));
+        Assert.assertEquals(e.getCause().getMessage(), "scan failure");
+      });
+    } finally {
+      consumer.stop();
+    }
+  }
+
+  /**
+   * The partition has a checkpoint on the change capture topic, which has no new event after it.
+   */
+  private void prepareCaughtUpCheckpoint() throws Exception {
+    VeniceChangeCoordinate checkpoint = new VeniceChangeCoordinate(
+        changeCaptureTopicPartition.getPubSubTopic().getName(),
+        new ApacheKafkaOffsetPosition(5),
+        PARTITION);
+    Map<String, String> databaseInfo = new HashMap<>();
+    databaseInfo.put(
+        "ChangeCaptureCoordinatePosition",
+        VeniceChangeCoordinate.convertVeniceChangeCoordinateToStringAndEncode(checkpoint));
+    OffsetRecord offsetRecord = new OffsetRecord(AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+    offsetRecord.setDatabaseInfo(databaseInfo);
+    doReturn(Optional.of(offsetRecord)).when(mockStorageEngine).getPartitionOffset(PARTITION);
+    doReturn(Collections.singleton(changeCaptureTopicPartition)).when(mockPubSubConsumer).getAssignment();
+    doReturn(0L).when(mockPubSubConsumer).endOffset(changeCaptureTopicPartition);
+  }
+
+  private LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> createConsumer(long catchUpTimeoutInMs) {
+    D2ControllerClient d2ControllerClient = mock(D2ControllerClient.class);
+    doReturn("test_cluster").when(d2ControllerClient).getClusterName();
+    StoreResponse storeResponse = mock(StoreResponse.class);
+    StoreInfo storeInfo = mock(StoreInfo.class);
+    doReturn(1).when(storeInfo).getCurrentVersion();
+    doReturn(1).when(storeInfo).getPartitionCount();
+    doReturn(storeInfo).when(storeResponse).getStore();
+    doReturn(storeResponse).when(d2ControllerClient).getStore(storeName);
+
+    ChangelogClientConfig changelogClientConfig =
+        new ChangelogClientConfig<>().setD2ControllerClient(d2ControllerClient)
+            .setSchemaReader(schemaReader)
+            .setStoreName(storeName)
+            .setViewName("changeCaptureView")
+            .setBootstrapFileSystemPath(Utils.getTempDataDirectory().getAbsolutePath())
+            .setBootstrapCatchUpTimeoutInMs(catchUpTimeoutInMs);
+    LocalBootstrappingVeniceChangelogConsumer<Utf8, Utf8> consumer =
+        new LocalBootstrappingVeniceChangelogConsumer<>(changelogClientConfig, mockPubSubConsumer, mockStorageService);
+
+    ThinClientMetaStoreBasedRepository mockRepository = mock(ThinClientMetaStoreBasedRepository.class);
+    Store store = mock(Store.class);
+    doReturn(1).when(store).getCurrentVersion();
+    doReturn(Optional.of(new VersionImpl(storeName, 1, "foo"))).when(store).getVersion(anyInt());
+    doReturn(store).when(mockRepository).getStore(anyString());
+    consumer.setStoreRepository(mockRepository);
+    return consumer;
+  }
+}
@@ -45,12 +45,14 @@ import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.views.ChangeCaptureView;
+import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -230,6 +232,81 @@ public class VeniceChangelogConsumerImplTest {
     verify(mockPubSubConsumer).close();
   }
 
+  @Test
+  public void testParallelDecode() throws ExecutionException, InterruptedException {
+    D2ControllerClient d2ControllerClient = mock(D2ControllerClient.class);
+    StoreResponse storeResponse = mock(StoreResponse.class);
+    StoreInfo storeInfo = mock(StoreInfo.class);
+    doReturn(1).when(storeInfo).getCurrentVersion();
+    doReturn(2).when(storeInfo).getPartitionCount();
+    doReturn(storeInfo).when(storeResponse).getStore();
+    doReturn(storeResponse).when(d2ControllerClient).getStore(storeName);
+    MultiSchemaResponse multiRMDSchemaResponse = mock(MultiSchemaResponse.class);
+    MultiSchemaResponse.Schema rmdSchemaFromMultiSchemaResponse = mock(MultiSchemaResponse.Schema.class);
+    doReturn(rmdSchema.toString()).when(rmdSchemaFromMultiSchemaResponse).getSchemaStr();
+    doReturn(new MultiSchemaResponse.Schema[] { rmdSchemaFromMultiSchemaResponse }).when(multiRMDSchemaResponse)
+        .getSchemas();
+    doReturn(multiRMDSchemaResponse).when(d2ControllerClient).getAllReplicationMetadataSchemas(storeName);
+
+    PubSubConsumerAdapter mockPubSubConsumer = mock(PubSubConsumerAdapter.class);
+    doReturn(7L).when(mockPubSubConsumer).getOffsetLag(any());
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> consumerRecordsMap =
+        new LinkedHashMap<>();
+    for (int partition = 0; partition < 2; partition++) {
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumerRecordList = new ArrayList<>();
+      for (long i = 0; i < 100; i++) {
+        consumerRecordList.add(
+            constructConsumerRecord(
+                versionTopic,
+                partition,
+                partition + "_newValue" + i,
+                partition + "_key" + i,
+                Arrays.asList(i, i)));
+      }
+      consumerRecordsMap.put(new PubSubTopicPartitionImpl(versionTopic, partition), consumerRecordList);
+    }
+    doReturn(consumerRecordsMap).when(mockPubSubConsumer).poll(100);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    ChangelogClientConfig changelogClientConfig =
+        new ChangelogClientConfig<>().setD2ControllerClient(d2ControllerClient)
+            .setSchemaReader(schemaReader)
+            .setStoreName(storeName)
+            .setViewName("")
+            .setDecodeThreadCount(2)
+            .setDecodeBufferCapacity(1);
+    changelogClientConfig.getInnerClientConfig().setMetricsRepository(metricsRepository);
+    VeniceChangelogConsumerImpl<String, Utf8> veniceChangelogConsumer =
+        new VeniceAfterImageConsumerImpl<>(changelogClientConfig, mockPubSubConsumer);
+    ThinClientMetaStoreBasedRepository mockRepository = mock(ThinClientMetaStoreBasedRepository.class);
+    Store store = mock(Store.class);
+    Version mockVersion = new VersionImpl(storeName, 1, "foo");
+    Mockito.when(store.getCurrentVersion()).thenReturn(1);
+    Mockito.when(store.getCompressionStrategy()).thenReturn(CompressionStrategy.NO_OP);
+    Mockito.when(mockRepository.getStore(anyString())).thenReturn(store);
+    Mockito.when(store.getVersion(Mockito.anyInt())).thenReturn(Optional.of(mockVersion));
+    veniceChangelogConsumer.setStoreRepository(mockRepository);
+    veniceChangelogConsumer.subscribe(new HashSet<>(Arrays.asList(0, 1))).get();
+
+    List<PubSubMessage<String, ChangeEvent<Utf8>, VeniceChangeCoordinate>> pubSubMessages =
+        (List<PubSubMessage<String, ChangeEvent<Utf8>, VeniceChangeCoordinate>>) veniceChangelogConsumer.poll(100);
+    // The records are returned in the order of the fetched partitions, and in order within every partition.
+    Assert.assertEquals(pubSubMessages.size(), 200);
+    for (int partition = 0; partition < 2; partition++) {
+      for (int i = 0; i < 100; i++) {
+        PubSubMessage<String, ChangeEvent<Utf8>, VeniceChangeCoordinate> pubSubMessage =
+            pubSubMessages.get(partition * 100 + i);
+        Assert.assertEquals(pubSubMessage.getTopicPartition().getPartitionNumber(), partition);
+        Assert.assertEquals(pubSubMessage.getValue().getCurrentValue().toString(), partition + "_newValue" + i);
+      }
+    }
+    String metricPrefix = "." + storeName + "_changelog_consumer--";
+    Assert.assertEquals(metricsRepository.getMetric(metricPrefix + "partition_1_offset_lag.Gauge").value(), 7d);
+    Assert.assertEquals(metricsRepository.getMetric(metricPrefix + "max_partition_offset_lag.Gauge").value(), 7d);
+    veniceChangelogConsumer.close();
+  }
+
   private void prepareChangeCaptureRecordsToBePolled(
       long startIdx,
       long endIdx,
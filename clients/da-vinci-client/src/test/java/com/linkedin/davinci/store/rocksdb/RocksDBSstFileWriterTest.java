@@ -1,16 +1,22 @@
 package com.linkedin.davinci.store.rocksdb;
 
+import com.linkedin.venice.exceptions.VeniceChecksumException;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.commons.io.FileUtils;
 import org.rocksdb.EnvOptions;
 import org.rocksdb.Options;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -263,6 +269,74 @@ public class RocksDBSstFileWriterTest {
     }
   }
 
+  @Test
+  public void testAddExternalSSTFile() throws Exception {
+    RocksDBSstFileWriter rocksDBSstFileWriter = null;
+    File externalSSTFile = new File(Utils.getUniqueTempPath("externalSstTest"));
+    try {
+      rocksDBSstFileWriter = new RocksDBSstFileWriter(
+          STORE_NAME,
+          PARTITION_ID,
+          "",
+          new EnvOptions(),
+          new Options(),
+          DB_DIR,
+          IS_RMD,
+          ROCKS_DB_SERVER_CONFIG);
+      rocksDBSstFileWriter.open(new HashMap<>(), Optional.empty());
+      rocksDBSstFileWriter.put("key_0".getBytes(), ByteBuffer.wrap("value_0".getBytes()));
+      byte[] checksum = createExternalSstFile(externalSSTFile, 1, 3);
+
+      // The records written before should be finished into sst file 0, and the external file should become sst file 1.
+      rocksDBSstFileWriter.addExternalSSTFile(externalSSTFile.getAbsolutePath(), 3, checksum);
+      Assert.assertEquals(rocksDBSstFileWriter.getRecordNumInAllSSTFiles(), 4);
+      Assert.assertEquals(rocksDBSstFileWriter.sync().get(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()), "1");
+      Assert.assertEquals(getNumberOfFilesInTempDirectory(), 3);
+
+      // Staging doesn't touch the writer, so records can still be written until the staged file is added after them.
+      String stagedFilePath =
+          rocksDBSstFileWriter.stageExternalSSTFile(externalSSTFile.getAbsolutePath(), 3, checksum);
+      rocksDBSstFileWriter.put("key_4".getBytes(), ByteBuffer.wrap("value_4".getBytes()));
+      Assert.assertEquals(rocksDBSstFileWriter.getRecordNumInAllSSTFiles(), 5);
+      rocksDBSstFileWriter.addStagedExternalSSTFile(stagedFilePath, externalSSTFile.getAbsolutePath(), 3);
+      Assert.assertFalse(new File(stagedFilePath).exists());
+      Assert.assertEquals(rocksDBSstFileWriter.getRecordNumInAllSSTFiles(), 8);
+      Assert.assertEquals(rocksDBSstFileWriter.sync().get(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()), "3");
+      Assert.assertEquals(getNumberOfFilesInTempDirectory(), 5);
+
+      // Mismatched checksum should be rejected, and the staged file removed
+      RocksDBSstFileWriter writer = rocksDBSstFileWriter;
+      Assert.assertThrows(
+          VeniceChecksumException.class,
+          () -> writer.addExternalSSTFile(externalSSTFile.toURI().toString(), 3, new byte[16]));
+      Assert.assertEquals(getNumberOfFilesInTempDirectory(), 5);
+    } finally {
+      if (rocksDBSstFileWriter != null) {
+        rocksDBSstFileWriter.close();
+      }
+      externalSSTFile.delete();
+      deleteTempDatabaseDir();
+    }
+  }
+
+  private byte[] createExternalSstFile(File file, int startKey, int recordCount) throws RocksDBException {
+    CheckSum checkSum = CheckSum.getInstance(CheckSumType.MD5);
+    try (EnvOptions envOptions = new EnvOptions();
+        Options options = new Options();
+        SstFileWriter sstFileWriter = new SstFileWriter(envOptions, options)) {
+      sstFileWriter.open(file.getAbsolutePath());
+      for (int i = startKey; i < startKey + recordCount; i++) {
+        byte[] key = ("key_" + i).getBytes();
+        byte[] value = ("value_" + i).getBytes();
+        sstFileWriter.put(key, value);
+        checkSum.update(key);
+        checkSum.update(value);
+      }
+      sstFileWriter.finish();
+    }
+    return checkSum.getCheckSum();
+  }
+
   private String getTempDatabaseDir() {
     File storeDir = new File(DB_DIR).getAbsoluteFile();
     if (!storeDir.mkdirs()) {
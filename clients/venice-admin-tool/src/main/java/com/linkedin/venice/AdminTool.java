@@ -317,6 +317,9 @@ public class AdminTool {
         case UPDATE_STORE:
           updateStore(cmd);
           break;
+        case UPDATE_STORES:
+          updateStores(cmd);
+          break;
         case UPDATE_CLUSTER_CONFIG:
           updateClusterConfig(cmd);
           break;
@@ -1019,6 +1022,14 @@ public class AdminTool {
     printSuccess(response);
   }
 
+  private static void updateStores(CommandLine cmd) {
+    UpdateStoreQueryParams params = getUpdateStoreQueryParams(cmd);
+
+    String stores = getRequiredArgument(cmd, Arg.STORES, Command.UPDATE_STORES);
+    ControllerResponse response = controllerClient.updateStores(Utils.parseCommaSeparatedStringToList(stores), params);
+    printSuccess(response);
+  }
+
   private static void updateClusterConfig(CommandLine cmd) {
     UpdateClusterConfigQueryParams params = getUpdateClusterConfigQueryParams(cmd);
 
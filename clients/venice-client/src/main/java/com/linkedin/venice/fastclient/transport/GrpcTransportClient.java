@@ -1,12 +1,14 @@
 package com.linkedin.venice.fastclient.transport;
 
 import com.google.protobuf.ByteString;
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.HttpMethod;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.exceptions.VeniceClientRateExceededException;
 import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
+import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.fastclient.GrpcClientConfig;
@@ -26,7 +28,9 @@ import io.grpc.StatusRuntimeException;
 import io.grpc.TlsChannelCredentials;
 import io.grpc.stub.StreamObserver;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -35,6 +39,7 @@ import org.apache.logging.log4j.Logger;
 public class GrpcTransportClient extends InternalTransportClient {
   private static final Logger LOGGER = LogManager.getLogger(GrpcTransportClient.class);
   private static final String STORAGE_ACTION = "storage";
+  private static final String COMPUTE_ACTION = "compute";
   private final VeniceConcurrentHashMap<String, ManagedChannel> serverGrpcChannels;
   private final Map<String, String> nettyAddressToGrpcAddressMap;
   // we cache stubs to avoid creating a new stub for each request, improves performance
@@ -101,6 +106,55 @@ public class GrpcTransportClient extends InternalTransportClient {
     return handleRequest(requestPath, headers, requestBody, false);
   }
 
+  /**
+   * Sends batch gets and compute requests with the server-streaming RPCs, which pass the records to the callback in
+   * chunks as the server reads them. Any other request is sent by the R2 client.
+   */
+  @Override
+  public void streamPost(
+      String requestPath,
+      Map<String, String> headers,
+      byte[] requestBody,
+      TransportClientStreamingCallback callback,
+      int keyCount) {
+    // https://localhost:1234/storage/store_v1 or https://localhost:1234/compute/store_v1
+    String[] requestParts = requestPath.split("/");
+    String action = requestParts[3];
+    if (!action.equals(STORAGE_ACTION) && !action.equals(COMPUTE_ACTION)) {
+      LOGGER.debug("performing unsupported gRPC transport client action ({}), passing request to R2 client", action);
+      r2TransportClientForNonStorageOps.streamPost(requestPath, headers, requestBody, callback, keyCount);
+      return;
+    }
+
+    boolean isCompute = action.equals(COMPUTE_ACTION);
+    VeniceClientRequest.Builder requestBuilder = VeniceClientRequest.newBuilder()
+        .setResourceName(requestParts[4])
+        .setIsBatchRequest(true)
+        .setIsStreamingRequest(true)
+        .setIsComputeRequest(isCompute)
+        .setMethod(HttpMethod.POST.name())
+        .setKeyBytes(ByteString.copyFrom(requestBody));
+    if (isCompute) {
+      requestBuilder.setComputeRequestVersion(Integer.parseInt(headers.get(HttpConstants.VENICE_API_VERSION)));
+      String valueSchemaId = headers.get(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID);
+      if (valueSchemaId != null) {
+        requestBuilder.setComputeValueSchemaId(Integer.parseInt(valueSchemaId));
+      }
+    }
+
+    try {
+      VeniceReadServiceGrpc.VeniceReadServiceStub clientStub = getStub(getChannel(requestParts[2]));
+      GrpcTransportClientStreamObserver responseObserver = new GrpcTransportClientStreamObserver(callback);
+      if (isCompute) {
+        clientStub.streamingCompute(requestBuilder.build(), responseObserver);
+      } else {
+        clientStub.streamingBatchGet(requestBuilder.build(), responseObserver);
+      }
+    } catch (Exception e) {
+      callback.onCompletion(Optional.of(new VeniceClientException(e)));
+    }
+  }
+
   @Override
   public void close() throws IOException {
     for (Map.Entry<String, ManagedChannel> entry: serverGrpcChannels.entrySet()) {
@@ -146,6 +200,65 @@ public class GrpcTransportClient extends InternalTransportClient {
     return isSingleGet ? callback.get() : callback.post();
   }
 
+  /**
+   * Passes the records of a streaming response to {@link TransportClientStreamingCallback} as they're received. The
+   * headers are taken from the first response, and the last response only carries the status of the request. The
+   * data of every response is a complete serialized array of records, which can be deserialized on its own.
+   */
+  private static class GrpcTransportClientStreamObserver implements StreamObserver<VeniceServerResponse> {
+    private final TransportClientStreamingCallback callback;
+    private boolean headerReceived = false;
+    private boolean completed = false;
+
+    GrpcTransportClientStreamObserver(TransportClientStreamingCallback callback) {
+      this.callback = callback;
+    }
+
+    @Override
+    public void onNext(VeniceServerResponse value) {
+      if (completed) {
+        return;
+      }
+      if (value.getErrorCode() != GrpcErrorCodes.OK) {
+        complete(
+            new VeniceClientException(
+                String.format(
+                    "Streaming gRPC request failed with status code: %d, message: %s",
+                    value.getErrorCode(),
+                    value.getErrorMessage())));
+        return;
+      }
+      if (!headerReceived) {
+        headerReceived = true;
+        Map<String, String> headers = new HashMap<>();
+        headers.put(HttpConstants.VENICE_SCHEMA_ID, Integer.toString(value.getSchemaId()));
+        headers.put(HttpConstants.VENICE_COMPRESSION_STRATEGY, Integer.toString(value.getCompressionStrategy()));
+        callback.onHeaderReceived(headers);
+      }
+      if (!value.getData().isEmpty()) {
+        callback.onDataReceived(value.getData().asReadOnlyByteBuffer());
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      LOGGER.debug("Streaming gRPC error occurred", t);
+      complete(new VeniceClientException("A gRPC error occurred when completing this streaming request", t));
+    }
+
+    @Override
+    public void onCompleted() {
+      complete(null);
+    }
+
+    private void complete(VeniceClientException exception) {
+      if (!completed) {
+        completed = true;
+        callback.onCompletion(Optional.ofNullable(exception));
+      }
+    }
+  }
+
   private static class GrpcTransportClientCallback {
     private final CompletableFuture<TransportClientResponse> valueFuture;
     private final VeniceReadServiceGrpc.VeniceReadServiceStub clientStub;
@@ -0,0 +1,160 @@
+package com.linkedin.venice.fastclient.transport;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.google.protobuf.ByteString;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
+import com.linkedin.venice.fastclient.GrpcClientConfig;
+import com.linkedin.venice.grpc.GrpcErrorCodes;
+import com.linkedin.venice.protocols.VeniceClientRequest;
+import com.linkedin.venice.protocols.VeniceReadServiceGrpc;
+import com.linkedin.venice.protocols.VeniceServerResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class GrpcTransportClientTest {
+  private static final String SERVER_ADDRESS = "localhost:1234";
+  private static final String STORAGE_REQUEST_PATH = "https://" + SERVER_ADDRESS + "/storage/store_v1";
+
+  private final List<VeniceServerResponse> streamedResponses = new ArrayList<>();
+  private final List<VeniceClientRequest> receivedRequests = new ArrayList<>();
+  private Server server;
+  private ManagedChannel channel;
+  private GrpcTransportClient transportClient;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    streamedResponses.clear();
+    receivedRequests.clear();
+    String serverName = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(serverName)
+        .directExecutor()
+        .addService(new VeniceReadServiceGrpc.VeniceReadServiceImplBase() {
+          @Override
+          public void streamingBatchGet(
+              VeniceClientRequest request,
+              StreamObserver<VeniceServerResponse> responseObserver) {
+            receivedRequests.add(request);
+            for (VeniceServerResponse response: streamedResponses) {
+              responseObserver.onNext(response);
+            }
+            responseObserver.onCompleted();
+          }
+        })
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+
+    GrpcClientConfig grpcClientConfig = new GrpcClientConfig.Builder().setR2Client(mock(Client.class))
+        .setNettyServerToGrpcAddressMap(Collections.singletonMap(SERVER_ADDRESS, serverName))
+        .build();
+    transportClient = new GrpcTransportClient(grpcClientConfig) {
+      @Override
+      protected ManagedChannel getChannel(String serverAddress) {
+        return channel;
+      }
+    };
+  }
+
+  @AfterMethod
+  public void cleanUp() throws Exception {
+    channel.shutdownNow();
+    server.shutdownNow();
+  }
+
+  @Test
+  public void testStreamPostPassesChunksToCallback() throws Exception {
+    streamedResponses.add(createChunk(new byte[] { 1, 2 }));
+    streamedResponses.add(createChunk(new byte[] { 3 }));
+    // The last response only carries the status of the request.
+    streamedResponses.add(createChunk(new byte[0]));
+
+    RecordingStreamingCallback callback = new RecordingStreamingCallback();
+    transportClient.streamPost(STORAGE_REQUEST_PATH, Collections.emptyMap(), new byte[] { 9 }, callback, 3);
+    Optional<VeniceClientException> completion = callback.completion.get(10, TimeUnit.SECONDS);
+    assertFalse(completion.isPresent());
+
+    assertEquals(receivedRequests.size(), 1);
+    VeniceClientRequest request = receivedRequests.get(0);
+    assertEquals(request.getResourceName(), "store_v1");
+    assertTrue(request.getIsStreamingRequest());
+    assertFalse(request.getIsComputeRequest());
+    assertEquals(request.getKeyBytes().toByteArray(), new byte[] { 9 });
+
+    assertEquals(callback.headers.size(), 1);
+    assertEquals(callback.headers.get(0).get(HttpConstants.VENICE_SCHEMA_ID), "1");
+    assertEquals(callback.chunks.size(), 2);
+    assertEquals(callback.chunks.get(0), new byte[] { 1, 2 });
+    assertEquals(callback.chunks.get(1), new byte[] { 3 });
+  }
+
+  @Test
+  public void testStreamPostFailsOnErrorResponse() throws Exception {
+    streamedResponses.add(createChunk(new byte[] { 1 }));
+    streamedResponses.add(
+        VeniceServerResponse.newBuilder()
+            .setErrorCode(GrpcErrorCodes.INTERNAL_ERROR)
+            .setErrorMessage("read failure")
+            .build());
+
+    RecordingStreamingCallback callback = new RecordingStreamingCallback();
+    transportClient.streamPost(STORAGE_REQUEST_PATH, Collections.emptyMap(), new byte[] { 9 }, callback, 1);
+    Optional<VeniceClientException> completion = callback.completion.get(10, TimeUnit.SECONDS);
+    assertTrue(completion.isPresent());
+    assertTrue(completion.get().getMessage().contains("read failure"), completion.get().getMessage());
+    assertEquals(callback.chunks.size(), 1);
+  }
+
+  private static VeniceServerResponse createChunk(byte[] data) {
+    return VeniceServerResponse.newBuilder()
+        .setErrorCode(GrpcErrorCodes.OK)
+        .setSchemaId(1)
+        .setIsStreamingResponse(true)
+        .setData(ByteString.copyFrom(data))
+        .build();
+  }
+
+  private static class RecordingStreamingCallback implements TransportClientStreamingCallback {
+    private final List<Map<String, String>> headers = new ArrayList<>();
+    private final List<byte[]> chunks = new ArrayList<>();
+    private final CompletableFuture<Optional<VeniceClientException>> completion = new CompletableFuture<>();
+
+    @Override
+    public void onHeaderReceived(Map<String, String> headers) {
+      this.headers.add(headers);
+    }
+
+    @Override
+    public void onDataReceived(ByteBuffer chunk) {
+      byte[] data = new byte[chunk.remaining()];
+      chunk.get(data);
+      chunks.add(data);
+    }
+
+    @Override
+    public void onCompletion(Optional<VeniceClientException> exception) {
+      completion.complete(exception);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package com.linkedin.venice.producer;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_LINGER_MS;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_MAX_RECORDS;
 import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.ConfigKeys.KAFKA_OVER_SSL;
@@ -20,6 +22,7 @@ import com.linkedin.venice.serialization.avro.SchemaPresenceChecker;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.stats.ThreadPoolStats;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
@@ -35,12 +38,24 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
 import org.apache.avro.generic.GenericRecord;
@@ -52,21 +67,39 @@ import org.apache.logging.log4j.Logger;
 /**
  * A generic implementation of the {@link VeniceProducer} interface
  *
+ * When batching is enabled with {@link com.linkedin.venice.ConfigKeys#CLIENT_PRODUCER_BATCH_MAX_RECORDS}, the write
+ * operations are accumulated in a buffer, which is sent as one batch once it's full or once the linger time configured
+ * by {@link com.linkedin.venice.ConfigKeys#CLIENT_PRODUCER_BATCH_LINGER_MS} elapses. The write operations of a batch
+ * are sent in order without blocking a thread per record, and the schema lookups and serializers are shared by all the
+ * records with the same schema. The batch APIs, such as {@link #asyncPutBatch(Map)}, are always sent as one batch.
+ * All the batches are sent by a single thread in the order they were requested, including the buffered ones.
+ *
  * @see VeniceProducer
  */
 public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K, V> {
   private static final Logger LOGGER = LogManager.getLogger(AbstractVeniceProducer.class);
   private static final DurableWrite DURABLE_WRITE = new DurableWrite();
+  private static final long DEFAULT_BATCH_LINGER_MS = 5;
 
   private VeniceProperties producerConfigs;
   private boolean configured = false;
-  private boolean closed = false;
+  private volatile boolean closed = false;
   private VeniceProducerMetrics producerMetrics;
 
   private SchemaReader schemaReader;
   private ThreadPoolExecutor producerExecutor;
   private VeniceWriter<byte[], byte[], byte[]> veniceWriter;
 
+  private int batchMaxRecords;
+  private ScheduledExecutorService batchLingerExecutor;
+  // A single thread to send the batches in the order they are queued.
+  private ThreadPoolExecutor batchSendExecutor;
+  // Guards the write buffer and the batch queueing, and is never held while sending.
+  private final Object bufferLock = new Object();
+  private List<PendingWrite> writeBuffer = new ArrayList<>();
+  // The futures of the individual write operations which are not completed yet, refer close().
+  private final Set<CompletableFuture<DurableWrite>> pendingFutures = ConcurrentHashMap.newKeySet();
+
   private RecordSerializer<Object> keySerializer;
   private static final Schema STRING_SCHEMA = Schema.create(Schema.Type.STRING);
   private static final Schema INT_SCHEMA = Schema.create(Schema.Type.INT);
@@ -106,6 +139,21 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
 
     VersionCreationResponse versionCreationResponse = requestTopic();
     this.veniceWriter = getVeniceWriter(versionCreationResponse);
+
+    this.batchMaxRecords = producerConfigs.getInt(CLIENT_PRODUCER_BATCH_MAX_RECORDS, 0);
+    this.batchSendExecutor = ThreadPoolFactory
+        .createThreadPool(1, "ClientProducerBatchSend", Integer.MAX_VALUE, BlockingQueueType.LINKED_BLOCKING_QUEUE);
+    if (isBatchingEnabled()) {
+      long batchLingerMs = producerConfigs.getLong(CLIENT_PRODUCER_BATCH_LINGER_MS, DEFAULT_BATCH_LINGER_MS);
+      this.batchLingerExecutor =
+          Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("ClientProducerBatchLinger"));
+      batchLingerExecutor.scheduleWithFixedDelay(
+          () -> queueBatch(Collections.emptyList()),
+          batchLingerMs,
+          batchLingerMs,
+          TimeUnit.MILLISECONDS);
+      LOGGER.info("Batching is enabled with max records: {} and linger ms: {}", batchMaxRecords, batchLingerMs);
+    }
   }
 
   private VeniceWriter<byte[], byte[], byte[]> getVeniceWriter(VersionCreationResponse versionCreationResponse) {
@@ -198,30 +246,20 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordPutRequest();
-    return CompletableFuture.supplyAsync(() -> {
+    if (isBatchingEnabled()) {
+      return bufferWrite(new PendingWrite(WriteType.PUT, logicalTime, key, value, null));
+    }
+    return supplyAsync(() -> {
       Schema valueSchema;
+      int valueSchemaId;
       try {
         valueSchema = getSchemaFromObject(value);
+        // Might block
+        valueSchemaId = getRegisteredValueSchemaId(valueSchema);
       } catch (Exception e) {
         producerMetrics.recordFailedRequest();
         throw e;
       }
-      // Might block
-      int valueSchemaId;
-      Exception schemaReadException = null;
-      try {
-        valueSchemaId = schemaReader.getValueSchemaId(valueSchema);
-      } catch (Exception e) {
-        valueSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
-        schemaReadException = e;
-      }
-      if (valueSchemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-        producerMetrics.recordFailedRequest();
-        throw new VeniceException(
-            "Could not find a registered schema id for schema: " + valueSchema
-                + ". This might be transient if the schema has been registered recently.",
-            schemaReadException);
-      }
       final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
       final Instant sendStartTime = Instant.now();
       final PubSubProducerCallback callback = (PubSubProduceResult produceResult, Exception exception) -> {
@@ -248,7 +286,7 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
       }
 
       return DURABLE_WRITE;
-    }, producerExecutor);
+    });
   }
 
   @Override
@@ -272,7 +310,10 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordDeleteRequest();
-    return CompletableFuture.supplyAsync(() -> {
+    if (isBatchingEnabled()) {
+      return bufferWrite(new PendingWrite(WriteType.DELETE, logicalTime, key, null, null));
+    }
+    return supplyAsync(() -> {
       final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
       final Instant sendStartTime = Instant.now();
       final PubSubProducerCallback callback = (PubSubProduceResult produceResult, Exception exception) -> {
@@ -298,7 +339,7 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
       }
 
       return DURABLE_WRITE;
-    }, producerExecutor);
+    });
   }
 
   @Override
@@ -325,27 +366,20 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordUpdateRequest();
-    return CompletableFuture.supplyAsync(() -> {
+    if (isBatchingEnabled()) {
+      return bufferWrite(new PendingWrite(WriteType.UPDATE, logicalTime, key, null, updateFunction));
+    }
+    return supplyAsync(() -> {
       // Caching to avoid race conditions during processing of the function
-      DerivedSchemaEntry updateSchemaEntry = schemaReader.getLatestUpdateSchema();
-
-      if (updateSchemaEntry == null) {
+      DerivedSchemaEntry updateSchemaEntry;
+      try {
+        updateSchemaEntry = getRegisteredLatestUpdateSchema();
+      } catch (Exception e) {
         producerMetrics.recordFailedRequest();
-        throw new VeniceException(
-            "Update schema not found. Check if partial update is enabled for the store. This error"
-                + " might also be transient if partial update has been enabled recently.");
+        throw e;
       }
-
       Schema updateSchema = updateSchemaEntry.getSchema();
 
-      if (updateSchemaEntry.getValueSchemaID() == SchemaData.INVALID_VALUE_SCHEMA_ID
-          || updateSchemaEntry.getId() == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-        producerMetrics.recordFailedRequest();
-        throw new VeniceException(
-            "Could not find a registered schema id for schema: " + updateSchema
-                + ". This might be transient if the schema has been registered recently.");
-      }
-
       UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchemaEntry.getSchema());
       updateFunction.accept(updateBuilder);
       GenericRecord updateRecord = updateBuilder.build();
@@ -382,7 +416,317 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
       }
 
       return DURABLE_WRITE;
-    }, producerExecutor);
+    });
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncPutBatch(Map<K, V> records) {
+    return asyncPutBatchInternal(APP_DEFAULT_LOGICAL_TS, records);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncPutBatch(long logicalTime, Map<K, V> records) {
+    if (logicalTime < 0) {
+      return getFutureCompletedExceptionally("Logical time must be a non-negative value. Got: " + logicalTime);
+    }
+
+    return asyncPutBatchInternal(logicalTime, records);
+  }
+
+  private CompletableFuture<DurableWrite> asyncPutBatchInternal(long logicalTime, Map<K, V> records) {
+    String error = validateProducer();
+    if (!StringUtils.isEmpty(error)) {
+      return getFutureCompletedExceptionally(error);
+    }
+
+    List<PendingWrite> batch = new ArrayList<>(records.size());
+    for (Map.Entry<K, V> record: records.entrySet()) {
+      producerMetrics.recordPutRequest();
+      batch.add(new PendingWrite(WriteType.PUT, logicalTime, record.getKey(), record.getValue(), null));
+    }
+    return writeBatch(batch);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncDeleteBatch(Collection<K> keys) {
+    return asyncDeleteBatchInternal(APP_DEFAULT_LOGICAL_TS, keys);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncDeleteBatch(long logicalTime, Collection<K> keys) {
+    if (logicalTime < 0) {
+      return getFutureCompletedExceptionally("Logical time must be a non-negative value. Got: " + logicalTime);
+    }
+
+    return asyncDeleteBatchInternal(logicalTime, keys);
+  }
+
+  private CompletableFuture<DurableWrite> asyncDeleteBatchInternal(long logicalTime, Collection<K> keys) {
+    String error = validateProducer();
+    if (!StringUtils.isEmpty(error)) {
+      return getFutureCompletedExceptionally(error);
+    }
+
+    List<PendingWrite> batch = new ArrayList<>(keys.size());
+    for (K key: keys) {
+      producerMetrics.recordDeleteRequest();
+      batch.add(new PendingWrite(WriteType.DELETE, logicalTime, key, null, null));
+    }
+    return writeBatch(batch);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncUpdateBatch(Map<K, Consumer<UpdateBuilder>> updateFunctions) {
+    return asyncUpdateBatchInternal(APP_DEFAULT_LOGICAL_TS, updateFunctions);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncUpdateBatch(
+      long logicalTime,
+      Map<K, Consumer<UpdateBuilder>> updateFunctions) {
+    if (logicalTime < 0) {
+      return getFutureCompletedExceptionally("Logical time must be a non-negative value. Got: " + logicalTime);
+    }
+
+    return asyncUpdateBatchInternal(logicalTime, updateFunctions);
+  }
+
+  private CompletableFuture<DurableWrite> asyncUpdateBatchInternal(
+      long logicalTime,
+      Map<K, Consumer<UpdateBuilder>> updateFunctions) {
+    String error = validateProducer();
+    if (!StringUtils.isEmpty(error)) {
+      return getFutureCompletedExceptionally(error);
+    }
+
+    List<PendingWrite> batch = new ArrayList<>(updateFunctions.size());
+    for (Map.Entry<K, Consumer<UpdateBuilder>> entry: updateFunctions.entrySet()) {
+      producerMetrics.recordUpdateRequest();
+      batch.add(new PendingWrite(WriteType.UPDATE, logicalTime, entry.getKey(), null, entry.getValue()));
+    }
+    return writeBatch(batch);
+  }
+
+  private boolean isBatchingEnabled() {
+    return batchMaxRecords > 1;
+  }
+
+  /**
+   * Runs the individual write operation in {@link #producerExecutor}, and tracks its future until it is completed.
+   */
+  private CompletableFuture<DurableWrite> supplyAsync(Supplier<DurableWrite> write) {
+    CompletableFuture<DurableWrite> future;
+    try {
+      future = CompletableFuture.supplyAsync(write, producerExecutor);
+    } catch (RejectedExecutionException e) {
+      return getFutureCompletedExceptionally("Producer is already closed.");
+    }
+    pendingFutures.add(future);
+    future.whenComplete((result, exception) -> pendingFutures.remove(future));
+    return future;
+  }
+
+  private CompletableFuture<DurableWrite> bufferWrite(PendingWrite write) {
+    synchronized (bufferLock) {
+      if (closed) {
+        write.future.completeExceptionally(new VeniceException("Producer is already closed."));
+        return write.future;
+      }
+      writeBuffer.add(write);
+      // Only the write operation filling up the buffer triggers a flush, and the flush sends the whole buffer.
+      if (writeBuffer.size() == batchMaxRecords) {
+        queueBatch(Collections.emptyList());
+      }
+    }
+    return write.future;
+  }
+
+  private CompletableFuture<DurableWrite> writeBatch(List<PendingWrite> batch) {
+    if (batch.isEmpty()) {
+      return CompletableFuture.completedFuture(DURABLE_WRITE);
+    }
+    CompletableFuture<?>[] futures = new CompletableFuture[batch.size()];
+    for (int i = 0; i < batch.size(); i++) {
+      futures[i] = batch.get(i).future;
+    }
+    synchronized (bufferLock) {
+      if (closed) {
+        return getFutureCompletedExceptionally("Producer is already closed.");
+      }
+      queueBatch(batch);
+    }
+    return CompletableFuture.allOf(futures).thenApply(v -> DURABLE_WRITE);
+  }
+
+  /**
+   * Queues the buffered write operations followed by the given batch to {@link #batchSendExecutor}. The buffer is
+   * taken and the batch is queued under the same lock, so the write operations are sent in the order they were
+   * requested, no matter which thread triggers the send.
+   */
+  private void queueBatch(List<PendingWrite> batch) {
+    synchronized (bufferLock) {
+      List<PendingWrite> writes = batch;
+      if (!writeBuffer.isEmpty()) {
+        // The buffered write operations were requested earlier, so they are sent first.
+        writes = writeBuffer;
+        writes.addAll(batch);
+        writeBuffer = new ArrayList<>(batchMaxRecords);
+      }
+      if (writes.isEmpty()) {
+        return;
+      }
+      BatchSendTask task = new BatchSendTask(writes);
+      try {
+        batchSendExecutor.execute(task);
+      } catch (RejectedExecutionException e) {
+        task.fail(new VeniceException("Producer is already closed.", e));
+      }
+    }
+  }
+
+  private class BatchSendTask implements Runnable {
+    private final List<PendingWrite> batch;
+
+    BatchSendTask(List<PendingWrite> batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void run() {
+      sendBatch(batch);
+    }
+
+    void fail(Exception e) {
+      for (PendingWrite write: batch) {
+        write.future.completeExceptionally(e);
+      }
+    }
+  }
+
+  /**
+   * Sends the write operations in order without waiting for them to be durable. The value schema ids and serializers
+   * are looked up once per distinct schema, and the update schema once per batch. A failure only fails the future of
+   * its own write operation.
+   */
+  private void sendBatch(List<PendingWrite> batch) {
+    producerMetrics.recordWriteBatchSize(batch.size());
+    Map<Schema, Integer> valueSchemaIds = new IdentityHashMap<>();
+    Map<Schema, RecordSerializer<Object>> valueSerializers = new IdentityHashMap<>();
+    DerivedSchemaEntry updateSchemaEntry = null;
+    RecordSerializer<Object> updateSerializer = null;
+    long sendStartTime = System.currentTimeMillis();
+    for (PendingWrite write: batch) {
+      try {
+        byte[] keyBytes = keySerializer.serialize(write.key);
+        PubSubProducerCallback callback = getBatchWriteCallback(write.future, sendStartTime);
+        switch (write.type) {
+          case PUT:
+            Schema valueSchema = getSchemaFromObject(write.value);
+            int valueSchemaId = valueSchemaIds.computeIfAbsent(valueSchema, this::getRegisteredValueSchemaId);
+            byte[] valueBytes =
+                valueSerializers.computeIfAbsent(valueSchema, this::getSerializer).serialize(write.value);
+            veniceWriter.put(keyBytes, valueBytes, valueSchemaId, write.logicalTime, callback);
+            break;
+          case DELETE:
+            veniceWriter.delete(keyBytes, write.logicalTime, callback);
+            break;
+          case UPDATE:
+            if (updateSchemaEntry == null) {
+              // Caching to avoid race conditions during processing of the functions
+              updateSchemaEntry = getRegisteredLatestUpdateSchema();
+              updateSerializer = getSerializer(updateSchemaEntry.getSchema());
+            }
+            UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchemaEntry.getSchema());
+            write.updateFunction.accept(updateBuilder);
+            veniceWriter.update(
+                keyBytes,
+                updateSerializer.serialize(updateBuilder.build()),
+                updateSchemaEntry.getValueSchemaID(),
+                updateSchemaEntry.getId(),
+                callback,
+                write.logicalTime);
+            break;
+          default:
+            throw new VeniceException("Unknown write type: " + write.type);
+        }
+      } catch (Exception e) {
+        producerMetrics.recordFailedRequest();
+        write.future.completeExceptionally(e);
+      }
+    }
+  }
+
+  private PubSubProducerCallback getBatchWriteCallback(CompletableFuture<DurableWrite> future, long sendStartTime) {
+    return (PubSubProduceResult produceResult, Exception exception) -> {
+      if (exception == null) {
+        producerMetrics.recordSuccessfulRequestWithLatency(System.currentTimeMillis() - sendStartTime);
+        future.complete(DURABLE_WRITE);
+      } else {
+        producerMetrics.recordFailedRequest();
+        LOGGER.error("Failed to write the batched write operation to the PubSub system", exception);
+        future.completeExceptionally(exception);
+      }
+    };
+  }
+
+  private int getRegisteredValueSchemaId(Schema valueSchema) {
+    int valueSchemaId;
+    Exception schemaReadException = null;
+    try {
+      valueSchemaId = schemaReader.getValueSchemaId(valueSchema);
+    } catch (Exception e) {
+      valueSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
+      schemaReadException = e;
+    }
+    if (valueSchemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
+      throw new VeniceException(
+          "Could not find a registered schema id for schema: " + valueSchema
+              + ". This might be transient if the schema has been registered recently.",
+          schemaReadException);
+    }
+    return valueSchemaId;
+  }
+
+  private DerivedSchemaEntry getRegisteredLatestUpdateSchema() {
+    DerivedSchemaEntry updateSchemaEntry = schemaReader.getLatestUpdateSchema();
+
+    if (updateSchemaEntry == null) {
+      throw new VeniceException(
+          "Update schema not found. Check if partial update is enabled for the store. This error"
+              + " might also be transient if partial update has been enabled recently.");
+    }
+
+    if (updateSchemaEntry.getValueSchemaID() == SchemaData.INVALID_VALUE_SCHEMA_ID
+        || updateSchemaEntry.getId() == SchemaData.INVALID_VALUE_SCHEMA_ID) {
+      throw new VeniceException(
+          "Could not find a registered schema id for schema: " + updateSchemaEntry.getSchema()
+              + ". This might be transient if the schema has been registered recently.");
+    }
+    return updateSchemaEntry;
+  }
+
+  private enum WriteType {
+    PUT, DELETE, UPDATE
+  }
+
+  /**
+   * A write operation waiting to be sent in a batch.
+   */
+  private class PendingWrite {
+    private final WriteType type;
+    private final long logicalTime;
+    private final K key;
+    private final V value;
+    private final Consumer<UpdateBuilder> updateFunction;
+    private final CompletableFuture<DurableWrite> future = new CompletableFuture<>();
+
+    PendingWrite(WriteType type, long logicalTime, K key, V value, Consumer<UpdateBuilder> updateFunction) {
+      this.type = type;
+      this.logicalTime = logicalTime;
+      this.key = key;
+      this.value = value;
+      this.updateFunction = updateFunction;
+    }
   }
 
   /**
@@ -409,14 +753,41 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     return future;
   }
 
+  /**
+   * Sends all the requested write operations before closing the writer, which waits for them to be durable. The write
+   * operations which can't be sent in time are failed, so that none of the returned futures is left uncompleted.
+   */
   @Override
   public void close() throws IOException {
-    closed = true;
-    producerExecutor.shutdownNow();
+    synchronized (bufferLock) {
+      closed = true;
+      queueBatch(Collections.emptyList());
+    }
+    if (batchLingerExecutor != null) {
+      batchLingerExecutor.shutdownNow();
+    }
+    batchSendExecutor.shutdown();
+    producerExecutor.shutdown();
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
     try {
-      producerExecutor.awaitTermination(60, TimeUnit.SECONDS);
+      if (!batchSendExecutor.awaitTermination(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS)) {
+        VeniceException exception = new VeniceException("Producer is closed before the batch is sent.");
+        for (Runnable task: batchSendExecutor.shutdownNow()) {
+          ((BatchSendTask) task).fail(exception);
+        }
+      }
+      if (!producerExecutor.awaitTermination(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS)) {
+        producerExecutor.shutdownNow();
+      }
     } catch (InterruptedException e) {
       LOGGER.warn("Caught InterruptedException while closing the Venice producer ExecutorService", e);
+      batchSendExecutor.shutdownNow();
+      producerExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    VeniceException exception = new VeniceException("Producer is closed before the write operation is sent.");
+    for (CompletableFuture<DurableWrite> future: pendingFutures) {
+      future.completeExceptionally(exception);
     }
 
     Utils.closeQuietlyWithErrorLogged(veniceWriter);
@@ -2,6 +2,8 @@ package com.linkedin.venice.producer;
 
 import com.linkedin.venice.writer.update.UpdateBuilder;
 import java.io.Closeable;
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -86,4 +88,63 @@ public interface VeniceProducer<K, V> extends Closeable {
    *         data is available to readers.
    */
   CompletableFuture<DurableWrite> asyncUpdate(long logicalTime, K key, Consumer<UpdateBuilder> updateFunction);
+
+  /**
+   * A batch of write operations where full values are written to replace the existing values. The records are
+   * serialized and sent together, which is cheaper than calling {@link #asyncPut(Object, Object)} for every record.
+   * @param records The keys of the records that need to be updated and the full values that need to be written
+   * @return A {@link CompletableFuture} that completes when all the write operations are durable, or completes
+   *         exceptionally if any of them fails. It does not imply that the data is available to readers.
+   */
+  CompletableFuture<DurableWrite> asyncPutBatch(Map<K, V> records);
+
+  /**
+   * A batch of write operations where full values are written to replace the existing values. It offers the writers
+   * to specify a logical time, which is applied to all the records in the batch.
+   * @param logicalTime The value used during conflict resolution in Active/Active replication
+   * @param records The keys of the records that need to be updated and the full values that need to be written
+   * @return A {@link CompletableFuture} that completes when all the write operations are durable, or completes
+   *         exceptionally if any of them fails. It does not imply that the data is available to readers.
+   */
+  CompletableFuture<DurableWrite> asyncPutBatch(long logicalTime, Map<K, V> records);
+
+  /**
+   * A batch of write operations to delete the records for the keys.
+   * @param keys The keys associated with the records that should be deleted
+   * @return A {@link CompletableFuture} that completes when all the write operations are durable, or completes
+   *         exceptionally if any of them fails. It does not imply that the data is available to readers.
+   */
+  CompletableFuture<DurableWrite> asyncDeleteBatch(Collection<K> keys);
+
+  /**
+   * A batch of write operations to delete the records for the keys. It offers the writers to specify a logical time,
+   * which is applied to all the records in the batch.
+   * @param logicalTime The value used during conflict resolution in Active/Active replication
+   * @param keys The keys associated with the records that should be deleted
+   * @return A {@link CompletableFuture} that completes when all the write operations are durable, or completes
+   *         exceptionally if any of them fails. It does not imply that the data is available to readers.
+   */
+  CompletableFuture<DurableWrite> asyncDeleteBatch(long logicalTime, Collection<K> keys);
+
+  /**
+   * A batch of write operations to modify a subset of fields in the records for the keys.
+   * @param updateFunctions The keys of the records that need to be updated and the {@link Consumer}s that take in an
+   *                        {@link UpdateBuilder} object and update it to specify which fields to modify and the
+   *                        operations that must be done on them.
+   * @return A {@link CompletableFuture} that completes when all the write operations are durable, or completes
+   *         exceptionally if any of them fails. It does not imply that the data is available to readers.
+   */
+  CompletableFuture<DurableWrite> asyncUpdateBatch(Map<K, Consumer<UpdateBuilder>> updateFunctions);
+
+  /**
+   * A batch of write operations to modify a subset of fields in the records for the keys. It offers the writers to
+   * specify a logical time, which is applied to all the records in the batch.
+   * @param logicalTime The value used during conflict resolution in Active/Active replication
+   * @param updateFunctions The keys of the records that need to be updated and the {@link Consumer}s that take in an
+   *                        {@link UpdateBuilder} object and update it to specify which fields to modify and the
+   *                        operations that must be done on them.
+   * @return A {@link CompletableFuture} that completes when all the write operations are durable, or completes
+   *         exceptionally if any of them fails. It does not imply that the data is available to readers.
+   */
+  CompletableFuture<DurableWrite> asyncUpdateBatch(long logicalTime, Map<K, Consumer<UpdateBuilder>> updateFunctions);
 }
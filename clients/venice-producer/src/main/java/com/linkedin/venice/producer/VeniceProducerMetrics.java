@@ -4,6 +4,7 @@ import com.linkedin.venice.stats.AbstractVeniceStats;
 import com.linkedin.venice.stats.TehutiUtils;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
@@ -20,6 +21,7 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
   private Sensor failedOperationSensor = null;
   private Sensor produceLatencySensor = null;
   private Sensor pendingOperationSensor = null;
+  private Sensor writeBatchSizeSensor = null;
 
   private final AtomicInteger pendingOperationCounter = new AtomicInteger(0);
 
@@ -41,6 +43,7 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
           TehutiUtils.getPercentileStat(getName() + AbstractVeniceStats.DELIMITER + produceLatencySensorName));
 
       pendingOperationSensor = registerSensor("pending_write_operation", new Min(), new Max());
+      writeBatchSizeSensor = registerSensor("write_batch_size", new Avg(), new Max());
     } else {
       enableMetrics = false;
     }
@@ -82,6 +85,12 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
     }
   }
 
+  public void recordWriteBatchSize(int batchSize) {
+    if (enableMetrics) {
+      writeBatchSizeSensor.record(batchSize);
+    }
+  }
+
   public void recordFailedRequest() {
     if (enableMetrics) {
       failedOperationSensor.record();
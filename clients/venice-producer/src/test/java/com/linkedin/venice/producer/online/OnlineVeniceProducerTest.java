@@ -1,5 +1,7 @@
 package com.linkedin.venice.producer.online;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_LINGER_MS;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_MAX_RECORDS;
 import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_SCHEMA_REFRESH_INTERVAL_SECONDS;
 import static com.linkedin.venice.utils.TestWriteUtils.loadFileAsStringQuietlyWithErrorLogged;
 import static com.linkedin.venice.writer.VeniceWriter.APP_DEFAULT_LOGICAL_TS;
@@ -40,6 +42,7 @@ import com.linkedin.venice.meta.RoutingStrategy;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.meta.VersionImpl;
 import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.producer.DurableWrite;
 import com.linkedin.venice.producer.VeniceProducer;
 import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
 import com.linkedin.venice.schema.SchemaReader;
@@ -56,17 +59,23 @@ import com.linkedin.venice.writer.update.UpdateBuilder;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 import org.testng.Assert;
@@ -119,6 +128,7 @@ public class OnlineVeniceProducerTest {
   private static final String FAILED_OPERATION_METRIC_NAME = ".test_store--failed_write_operation.OccurrenceRate";
   private static final String MIN_PENDING_OPERATION_METRIC_NAME = ".test_store--pending_write_operation.Min";
   private static final String MAX_PENDING_OPERATION_METRIC_NAME = ".test_store--pending_write_operation.Max";
+  private static final String WRITE_BATCH_SIZE_METRIC_NAME = ".test_store--write_batch_size.Max";
 
   @Test
   public void testConstructor() throws IOException, ExecutionException, InterruptedException {
@@ -706,6 +716,159 @@ public class OnlineVeniceProducerTest {
     }
   }
 
+  @Test
+  public void testBatchWrites() throws IOException, ExecutionException, InterruptedException {
+    SchemaReader kmeSchemaReader = getKmeSchemaReader();
+    AbstractAvroStoreClient storeClient = getMockStoreClient(true);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    try (TestOnlineVeniceProducer producer = new TestOnlineVeniceProducer(
+        storeClient,
+        kmeSchemaReader,
+        new VeniceProperties(backendConfigs),
+        metricsRepository)) {
+      ArgumentCaptor<byte[]> keyArg = ArgumentCaptor.forClass(byte[].class);
+      ArgumentCaptor<byte[]> valueArg = ArgumentCaptor.forClass(byte[].class);
+      ArgumentCaptor<Integer> valueSchemaIdArg = ArgumentCaptor.forClass(int.class);
+
+      Map<String, Object> records = new LinkedHashMap<>();
+      records.put("KEY1", mockValue1);
+      records.put("KEY2", mockValue2);
+      records.put("KEY3", mockValue1);
+      producer.asyncPutBatch(1000, records).get();
+      verify(producer.mockVeniceWriter, times(3))
+          .put(keyArg.capture(), valueArg.capture(), valueSchemaIdArg.capture(), eq(1000L), any());
+      assertEquals(keyArg.getAllValues().get(0), keySerializer.serialize("KEY1"));
+      assertEquals(keyArg.getAllValues().get(1), keySerializer.serialize("KEY2"));
+      assertEquals(keyArg.getAllValues().get(2), keySerializer.serialize("KEY3"));
+      assertEquals(valueArg.getAllValues().get(1), value2Serializer.serialize(mockValue2));
+      assertEquals(valueArg.getAllValues().get(2), value1Serializer.serialize(mockValue1));
+      assertEquals(valueSchemaIdArg.getAllValues(), Arrays.asList(1, 2, 1));
+
+      producer.asyncDeleteBatch(Arrays.asList("KEY1", "KEY2")).get();
+      verify(producer.mockVeniceWriter, times(2)).delete(any(), eq(APP_DEFAULT_LOGICAL_TS), any());
+
+      Map<String, Consumer<UpdateBuilder>> updateFunctions = new LinkedHashMap<>();
+      updateFunctions.put("KEY1", updateBuilder -> updateBuilder.setNewFieldValue(FIELD_NUMBER, 10L));
+      updateFunctions.put("KEY2", updateBuilder -> updateBuilder.setNewFieldValue(FIELD_COLOR, "green"));
+      producer.asyncUpdateBatch(updateFunctions).get();
+      verify(producer.mockVeniceWriter, times(2))
+          .update(any(), any(), eq(2), eq(1), any(), eq(APP_DEFAULT_LOGICAL_TS));
+
+      // An invalid record only fails itself, but the aggregate future fails as well.
+      records.put("KEY4", true);
+      assertThrowsExceptionFromFuture(VeniceException.class, () -> producer.asyncPutBatch(records).get());
+      verify(producer.mockVeniceWriter, times(3)).put(any(), any(), anyInt(), eq(APP_DEFAULT_LOGICAL_TS), any());
+      assertThrowsExceptionFromFuture(VeniceException.class, () -> producer.asyncPutBatch(-5, records).get());
+
+      Assert.assertEquals(metricsRepository.getMetric(WRITE_BATCH_SIZE_METRIC_NAME).value(), 4.0);
+      Assert.assertTrue(metricsRepository.getMetric(SUCCESS_OPERATION_METRIC_NAME).value() > 0.0);
+      Assert.assertTrue(metricsRepository.getMetric(FAILED_OPERATION_METRIC_NAME).value() > 0.0);
+    }
+  }
+
+  @Test
+  public void testBufferedWrites() throws IOException, ExecutionException, InterruptedException, TimeoutException {
+    SchemaReader kmeSchemaReader = getKmeSchemaReader();
+    AbstractAvroStoreClient storeClient = getMockStoreClient();
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    backendConfigs.put(CLIENT_PRODUCER_BATCH_MAX_RECORDS, 3);
+    // Long enough that the first batch can only be sent once it's full.
+    backendConfigs.put(CLIENT_PRODUCER_BATCH_LINGER_MS, 2000);
+    try (TestOnlineVeniceProducer producer = new TestOnlineVeniceProducer(
+        storeClient,
+        kmeSchemaReader,
+        new VeniceProperties(backendConfigs),
+        metricsRepository)) {
+      List<CompletableFuture<DurableWrite>> futures = new ArrayList<>();
+      futures.add(producer.asyncPut("KEY1", mockValue1));
+      futures.add(producer.asyncDelete("KEY2"));
+      futures.add(producer.asyncPut(1000, "KEY3", mockValue2));
+      for (CompletableFuture<DurableWrite> future: futures) {
+        future.get(1, TimeUnit.SECONDS);
+      }
+
+      InOrder inOrder = Mockito.inOrder(producer.mockVeniceWriter);
+      inOrder.verify(producer.mockVeniceWriter)
+          .put(eq(keySerializer.serialize("KEY1")), any(), eq(1), eq(APP_DEFAULT_LOGICAL_TS), any());
+      inOrder.verify(producer.mockVeniceWriter)
+          .delete(eq(keySerializer.serialize("KEY2")), eq(APP_DEFAULT_LOGICAL_TS), any());
+      inOrder.verify(producer.mockVeniceWriter)
+          .put(eq(keySerializer.serialize("KEY3")), any(), eq(2), eq(1000L), any());
+      Assert.assertEquals(metricsRepository.getMetric(WRITE_BATCH_SIZE_METRIC_NAME).value(), 3.0);
+
+      // A batch which is not full is sent after the linger time.
+      producer.asyncDelete("KEY4").get(10, TimeUnit.SECONDS);
+      verify(producer.mockVeniceWriter, times(2)).delete(any(), eq(APP_DEFAULT_LOGICAL_TS), any());
+
+      assertThrowsExceptionFromFuture(VeniceException.class, () -> producer.asyncPut("KEY5", 10).get());
+      Assert.assertTrue(metricsRepository.getMetric(FAILED_OPERATION_METRIC_NAME).value() > 0.0);
+
+      // The buffered write operations are sent when the producer is closed.
+      CompletableFuture<DurableWrite> future = producer.asyncDelete("KEY6");
+      producer.close();
+      future.get(1, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void testBatchesAreSentInRequestOrder() throws IOException, ExecutionException, InterruptedException {
+    SchemaReader kmeSchemaReader = getKmeSchemaReader();
+    AbstractAvroStoreClient storeClient = getMockStoreClient();
+
+    Properties backendConfigs = new Properties();
+    backendConfigs.put(CLIENT_PRODUCER_BATCH_MAX_RECORDS, 2);
+    try (TestOnlineVeniceProducer producer = new TestOnlineVeniceProducer(
+        storeClient,
+        kmeSchemaReader,
+        new VeniceProperties(backendConfigs),
+        new MetricsRepository())) {
+      int batchCount = 50;
+      List<CompletableFuture<DurableWrite>> futures = new ArrayList<>();
+      for (int i = 0; i < batchCount; i++) {
+        // The buffered write operations are interleaved with the batches.
+        futures.add(producer.asyncDelete("BUFFERED" + i));
+        futures.add(producer.asyncDeleteBatch(Collections.singletonList("BATCH" + i)));
+      }
+      for (CompletableFuture<DurableWrite> future: futures) {
+        future.get();
+      }
+
+      InOrder inOrder = Mockito.inOrder(producer.mockVeniceWriter);
+      for (int i = 0; i < batchCount; i++) {
+        inOrder.verify(producer.mockVeniceWriter)
+            .delete(eq(keySerializer.serialize("BUFFERED" + i)), eq(APP_DEFAULT_LOGICAL_TS), any());
+        inOrder.verify(producer.mockVeniceWriter)
+            .delete(eq(keySerializer.serialize("BATCH" + i)), eq(APP_DEFAULT_LOGICAL_TS), any());
+      }
+    }
+  }
+
+  @Test
+  public void testCloseCompletesAllTheRequestedWrites() throws IOException {
+    SchemaReader kmeSchemaReader = getKmeSchemaReader();
+    AbstractAvroStoreClient storeClient = getMockStoreClient();
+
+    TestOnlineVeniceProducer producer = new TestOnlineVeniceProducer(
+        storeClient,
+        kmeSchemaReader,
+        new VeniceProperties(new Properties()),
+        new MetricsRepository());
+    List<CompletableFuture<DurableWrite>> futures = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      futures.add(producer.asyncDelete("KEY" + i));
+      futures.add(producer.asyncDeleteBatch(Collections.singletonList("BATCH" + i)));
+    }
+    producer.close();
+    for (CompletableFuture<DurableWrite> future: futures) {
+      Assert.assertTrue(future.isDone());
+      Assert.assertFalse(future.isCompletedExceptionally());
+    }
+  }
+
   @Test
   public void testOperationsOnClosedProducer() throws IOException, ExecutionException, InterruptedException {
     SchemaReader kmeSchemaReader = getKmeSchemaReader();
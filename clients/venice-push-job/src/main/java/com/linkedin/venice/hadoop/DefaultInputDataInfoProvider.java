@@ -58,6 +58,14 @@ public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
    * Config to control the thread pool size for HDFS operations.
    */
   public static final String HDFS_OPERATIONS_PARALLEL_THREAD_NUM = "hdfs.operations.parallel.thread.num";
+  /**
+   * Config to control the number of threads to collect the samples for building dictionary from the source topic of a
+   * Kafka Input repush in parallel, one source topic partition per thread. The samples are collected sequentially when
+   * it is 1. The samples of the input files are always collected sequentially by the single
+   * {@link ValidateSchemaAndBuildDictMapper}.
+   */
+  public static final String COMPRESSION_DICTIONARY_SAMPLING_THREAD_NUM = "compression.dictionary.sampling.thread.num";
+  public static final int DEFAULT_COMPRESSION_DICTIONARY_SAMPLING_THREAD_NUM = 1;
   /**
    * Since the job is calculating the raw data file size, which is not accurate because of compression,
    * key/value schema and backend storage overhead, we are applying this factor to provide a more
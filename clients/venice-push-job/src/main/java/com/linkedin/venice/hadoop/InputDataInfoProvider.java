@@ -112,17 +112,12 @@ public interface InputDataInfoProvider extends Closeable {
         }
       }
 
-      // addSample returns false when the data read no longer fits in the 'sample' buffer limit
-      if (!pushJobZstdConfig.getZstdDictTrainer().addSample(data)) {
-        LOGGER.debug(
-            "Read {} to build dictionary. Reached sample limit of {}.",
-            ByteUtils.generateHumanReadableByteCountString(fileSampleSize),
-            ByteUtils.generateHumanReadableByteCountString(pushJobZstdConfig.getMaxSampleSize()));
-        return;
-      }
+      /**
+       * Once the max sample size is reached, the sample might replace a random sample collected before, or be dropped,
+       * so that the samples won't be biased toward the files processed first.
+       */
+      pushJobZstdConfig.addSample(data);
       fileSampleSize += data.length;
-      pushJobZstdConfig.addFilledSize(data.length);
-      pushJobZstdConfig.incrCollectedNumberOfSamples();
     }
 
     LOGGER.debug(
@@ -0,0 +1,260 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.RawComparator;
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.InputFormat;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.JobID;
+import org.apache.hadoop.mapred.Mapper;
+import org.apache.hadoop.mapred.OutputCollector;
+import org.apache.hadoop.mapred.Partitioner;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reducer;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapreduce.TaskType;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class runs the data writer job of VPJ inside the current JVM with a thread pool instead of submitting it to
+ * a MapReduce cluster, which is picked when the input is small enough, as configured by
+ * {@link VenicePushJob#LOCAL_PUSH_ENGINE_MAX_INPUT_SIZE_IN_BYTES}, since the job startup overhead dominates the
+ * total push time for the small stores.
+ *
+ * The job is driven by the same {@link JobConf} as the MapReduce job, so the same {@link InputFormat}, mapper,
+ * partitioner and reducer are used without any change:
+ * 1. Every input split is processed by a map task in the thread pool, and the map output is partitioned by the
+ *    configured {@link Partitioner} and buffered in memory.
+ * 2. Every partition is processed by a reduce task in the thread pool, which sorts and groups the buffered map
+ *    output with the configured comparators, the same as the MapReduce shuffle, and passes them to the reducer, which
+ *    produces to the version topic with its own {@link com.linkedin.venice.writer.VeniceWriter}.
+ *
+ * All the map output is kept in memory, so this should only be used for the pushes which fit in the heap of VPJ.
+ */
+public class LocalJobClientWrapper implements JobClientWrapper {
+  private static final Logger LOGGER = LogManager.getLogger(LocalJobClientWrapper.class);
+  private static final String JOB_TRACKER_IDENTIFIER = "local" + System.currentTimeMillis();
+  private static final AtomicInteger JOB_ID_GENERATOR = new AtomicInteger(0);
+
+  private final int threadNum;
+
+  public LocalJobClientWrapper(int threadNum) {
+    if (threadNum <= 0) {
+      throw new IllegalArgumentException("Invalid thread num: " + threadNum);
+    }
+    this.threadNum = threadNum;
+  }
+
+  private static class MapOutputRecord {
+    private final BytesWritable key;
+    private final BytesWritable value;
+
+    MapOutputRecord(BytesWritable key, BytesWritable value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  @Override
+  public RunningJob runJobWithConfig(JobConf jobConf) throws IOException {
+    JobID jobID = new JobID(JOB_TRACKER_IDENTIFIER, JOB_ID_GENERATOR.incrementAndGet());
+    JobConf localJobConf = new JobConf(jobConf);
+    localJobConf.set(VeniceReducer.MAP_REDUCE_JOB_ID_PROP, jobID.toString());
+    Counters counters = new Counters();
+    InputSplit[] splits = localJobConf.getInputFormat().getSplits(localJobConf, threadNum);
+    int numReduceTasks = localJobConf.getNumReduceTasks();
+    LOGGER.info(
+        "Running job: {} locally with {} threads, {} map tasks and {} reduce tasks",
+        jobID,
+        threadNum,
+        splits.length,
+        numReduceTasks);
+    long startTime = System.currentTimeMillis();
+    ExecutorService executor = Executors.newFixedThreadPool(threadNum, new DaemonThreadFactory("local-push-job"));
+    try {
+      List<Callable<List<MapOutputRecord>[]>> mapTasks = new ArrayList<>(splits.length);
+      for (int i = 0; i < splits.length; i++) {
+        final int taskId = i;
+        mapTasks.add(() -> runMapTask(localJobConf, jobID, taskId, splits[taskId], counters));
+      }
+      List<List<MapOutputRecord>[]> mapOutputs = runTasks(executor, mapTasks);
+      LOGGER.info("Finished all the map tasks of job: {}", jobID);
+
+      if (numReduceTasks > 0) {
+        // The map phase is done, so the reducers could get the total input size without querying the job tracker.
+        localJobConf.setLong(
+            VeniceReducer.TOTAL_INCOMING_DATA_SIZE_PROP,
+            MRJobCounterHelper.getTotalKeySize(counters) + MRJobCounterHelper.getTotalValueSize(counters));
+        List<Callable<Void>> reduceTasks = new ArrayList<>(numReduceTasks);
+        for (int i = 0; i < numReduceTasks; i++) {
+          final int partition = i;
+          reduceTasks.add(() -> {
+            List<MapOutputRecord> records = new ArrayList<>();
+            for (List<MapOutputRecord>[] mapOutput: mapOutputs) {
+              records.addAll(mapOutput[partition]);
+              mapOutput[partition] = null;
+            }
+            runReduceTask(localJobConf, jobID, partition, records, counters);
+            return null;
+          });
+        }
+        runTasks(executor, reduceTasks);
+        LOGGER.info("Finished all the reduce tasks of job: {}", jobID);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    LOGGER.info("Job: {} succeeded in {} ms", jobID, System.currentTimeMillis() - startTime);
+    return new LocalRunningJob(jobID, localJobConf, counters);
+  }
+
+  private static <T> List<T> runTasks(ExecutorService executor, List<Callable<T>> tasks) throws IOException {
+    List<Future<T>> futures = new ArrayList<>(tasks.size());
+    for (Callable<T> task: tasks) {
+      futures.add(executor.submit(task));
+    }
+    List<T> results = new ArrayList<>(tasks.size());
+    try {
+      for (Future<T> future: futures) {
+        results.add(future.get());
+      }
+    } catch (ExecutionException e) {
+      // Fail fast, and the rest of the tasks will be interrupted when the executor is shut down.
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof VeniceException) {
+        throw (VeniceException) cause;
+      }
+      throw new VeniceException("Local task failed", cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while waiting for the local tasks", e);
+    }
+    return results;
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static List<MapOutputRecord>[] runMapTask(
+      JobConf jobConf,
+      JobID jobID,
+      int taskId,
+      InputSplit split,
+      Counters counters) throws IOException {
+    JobConf taskJobConf = getTaskJobConf(jobConf, jobID, TaskType.MAP, taskId);
+    LocalJobReporter reporter = new LocalJobReporter(counters, split);
+    int numReduceTasks = taskJobConf.getNumReduceTasks();
+    List<MapOutputRecord>[] mapOutput = new List[numReduceTasks];
+    for (int i = 0; i < numReduceTasks; i++) {
+      mapOutput[i] = new ArrayList<>();
+    }
+    OutputCollector collector;
+    if (numReduceTasks > 0) {
+      Partitioner partitioner = ReflectionUtils.newInstance(taskJobConf.getPartitionerClass(), taskJobConf);
+      collector = (key, value) -> {
+        // The mappers reuse the same key and value objects, so they have to be copied before being buffered.
+        BytesWritable keyCopy = new BytesWritable(((BytesWritable) key).copyBytes());
+        BytesWritable valueCopy = new BytesWritable(((BytesWritable) value).copyBytes());
+        mapOutput[partitioner.getPartition(keyCopy, valueCopy, numReduceTasks)]
+            .add(new MapOutputRecord(keyCopy, valueCopy));
+      };
+    } else {
+      // Map-only jobs of VPJ write to the version topic directly with NullOutputFormat.
+      collector = (key, value) -> {};
+    }
+
+    Mapper mapper = ReflectionUtils.newInstance(taskJobConf.getMapperClass(), taskJobConf);
+    RecordReader reader = taskJobConf.getInputFormat().getRecordReader(split, taskJobConf, reporter);
+    try {
+      Object key = reader.createKey();
+      Object value = reader.createValue();
+      while (reader.next(key, value)) {
+        mapper.map(key, value, collector, reporter);
+      }
+      reporter.setProgress(1.0f);
+    } finally {
+      try {
+        reader.close();
+      } finally {
+        mapper.close();
+      }
+    }
+    return mapOutput;
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static void runReduceTask(
+      JobConf jobConf,
+      JobID jobID,
+      int partition,
+      List<MapOutputRecord> records,
+      Counters counters) throws IOException {
+    JobConf taskJobConf = getTaskJobConf(jobConf, jobID, TaskType.REDUCE, partition);
+    RawComparator keyComparator = taskJobConf.getOutputKeyComparator();
+    RawComparator groupingComparator = taskJobConf.getOutputValueGroupingComparator();
+    records.sort((r1, r2) -> compareKeys(keyComparator, r1.key, r2.key));
+
+    LocalJobReporter reporter = new LocalJobReporter(counters, null);
+    // Nothing will be collected since the reducers of VPJ produce to the version topic directly.
+    OutputCollector collector = (key, value) -> {};
+    Reducer reducer = ReflectionUtils.newInstance(taskJobConf.getReducerClass(), taskJobConf);
+    try {
+      int groupStart = 0;
+      while (groupStart < records.size()) {
+        BytesWritable groupKey = records.get(groupStart).key;
+        int groupEnd = groupStart + 1;
+        while (groupEnd < records.size()
+            && compareKeys(groupingComparator, groupKey, records.get(groupEnd).key) == 0) {
+          groupEnd++;
+        }
+        List<BytesWritable> values = new ArrayList<>(groupEnd - groupStart);
+        for (int i = groupStart; i < groupEnd; i++) {
+          values.add(records.get(i).value);
+        }
+        reducer.reduce(groupKey, values.iterator(), collector, reporter);
+        reporter.setProgress((float) groupEnd / records.size());
+        groupStart = groupEnd;
+      }
+    } finally {
+      reducer.close();
+    }
+  }
+
+  /**
+   * {@link com.linkedin.venice.hadoop.input.kafka.KafkaInputKeyComparator} doesn't treat two empty keys, which are
+   * sprayed by {@link AbstractVeniceMapper} to bring up every reducer, as equal, so they are handled here to keep the
+   * ordering consistent for the sort.
+   */
+  @SuppressWarnings("unchecked")
+  private static int compareKeys(RawComparator comparator, BytesWritable key1, BytesWritable key2) {
+    if (key1.getLength() == 0 || key2.getLength() == 0) {
+      return Integer.compare(key1.getLength(), key2.getLength());
+    }
+    return comparator.compare(key1, key2);
+  }
+
+  private static JobConf getTaskJobConf(JobConf jobConf, JobID jobID, TaskType taskType, int taskId) {
+    JobConf taskJobConf = new JobConf(jobConf);
+    TaskAttemptID taskAttemptID =
+        new TaskAttemptID(jobID.getJtIdentifier(), jobID.getId(), taskType, taskId, 0);
+    taskJobConf.set(AbstractMapReduceTask.MAPRED_TASK_ID_PROP_NAME, taskAttemptID.toString());
+    return taskJobConf;
+  }
+}
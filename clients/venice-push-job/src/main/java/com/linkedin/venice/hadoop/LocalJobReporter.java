@@ -0,0 +1,79 @@
+package com.linkedin.venice.hadoop;
+
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.Reporter;
+
+
+/**
+ * The {@link Reporter} of a single task run by {@link LocalJobClientWrapper}. All the tasks of the same job share the
+ * same {@link Counters}, which isn't thread-safe, so all the accesses to it are synchronized.
+ */
+public class LocalJobReporter implements Reporter {
+  private final Counters counters;
+  private final InputSplit inputSplit;
+  private volatile float progress = 0;
+
+  /**
+   * @param inputSplit the split processed by the map task, or null for the reduce tasks.
+   */
+  public LocalJobReporter(Counters counters, InputSplit inputSplit) {
+    this.counters = counters;
+    this.inputSplit = inputSplit;
+  }
+
+  @Override
+  public void setStatus(String status) {
+    // No-op since there is no job tracker to report to.
+  }
+
+  @Override
+  public Counters.Counter getCounter(Enum<?> name) {
+    synchronized (counters) {
+      return counters.findCounter(name);
+    }
+  }
+
+  @Override
+  public Counters.Counter getCounter(String group, String name) {
+    synchronized (counters) {
+      return counters.findCounter(group, name);
+    }
+  }
+
+  @Override
+  public void incrCounter(Enum<?> key, long amount) {
+    synchronized (counters) {
+      counters.incrCounter(key, amount);
+    }
+  }
+
+  @Override
+  public void incrCounter(String group, String counter, long amount) {
+    synchronized (counters) {
+      counters.incrCounter(group, counter, amount);
+    }
+  }
+
+  @Override
+  public InputSplit getInputSplit() throws UnsupportedOperationException {
+    if (inputSplit == null) {
+      throw new UnsupportedOperationException("Input split is only available in the map tasks");
+    }
+    return inputSplit;
+  }
+
+  @Override
+  public float getProgress() {
+    return progress;
+  }
+
+  void setProgress(float progress) {
+    this.progress = progress;
+  }
+
+  @Override
+  public void progress() {
+    // No-op since there is no job tracker to report to.
+  }
+}
@@ -0,0 +1,155 @@
+package com.linkedin.venice.hadoop;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.JobID;
+import org.apache.hadoop.mapred.JobStatus;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapred.TaskCompletionEvent;
+
+
+/**
+ * The {@link RunningJob} returned by {@link LocalJobClientWrapper}, which only represents a finished job, since
+ * {@link LocalJobClientWrapper#runJobWithConfig} blocks until all the tasks succeed, the same as
+ * {@link org.apache.hadoop.mapred.JobClient#runJob}.
+ */
+public class LocalRunningJob implements RunningJob {
+  private final JobID jobID;
+  private final JobConf jobConf;
+  private final Counters counters;
+
+  public LocalRunningJob(JobID jobID, JobConf jobConf, Counters counters) {
+    this.jobID = jobID;
+    this.jobConf = jobConf;
+    this.counters = counters;
+  }
+
+  @Override
+  public Configuration getConfiguration() {
+    return jobConf;
+  }
+
+  @Override
+  public JobID getID() {
+    return jobID;
+  }
+
+  @Override
+  @Deprecated
+  public String getJobID() {
+    return jobID.toString();
+  }
+
+  @Override
+  public String getJobName() {
+    return jobConf.getJobName();
+  }
+
+  @Override
+  public String getJobFile() {
+    return null;
+  }
+
+  @Override
+  public String getTrackingURL() {
+    return null;
+  }
+
+  @Override
+  public float mapProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public float reduceProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public float cleanupProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public float setupProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public boolean isComplete() {
+    return true;
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return true;
+  }
+
+  @Override
+  public void waitForCompletion() {
+    // The job has already completed.
+  }
+
+  @Override
+  public int getJobState() {
+    return JobStatus.SUCCEEDED;
+  }
+
+  @Override
+  public JobStatus getJobStatus() {
+    return null;
+  }
+
+  @Override
+  public void killJob() {
+    // The job has already completed.
+  }
+
+  @Override
+  public void setJobPriority(String priority) {
+    // Not applicable to a local job.
+  }
+
+  @Override
+  public TaskCompletionEvent[] getTaskCompletionEvents(int startFrom) {
+    return new TaskCompletionEvent[0];
+  }
+
+  @Override
+  public void killTask(TaskAttemptID taskId, boolean shouldFail) {
+    // The job has already completed.
+  }
+
+  @Override
+  @Deprecated
+  public void killTask(String taskId, boolean shouldFail) {
+    // The job has already completed.
+  }
+
+  @Override
+  public Counters getCounters() {
+    return counters;
+  }
+
+  @Override
+  public String[] getTaskDiagnostics(TaskAttemptID taskId) {
+    return new String[0];
+  }
+
+  @Override
+  public String getHistoryUrl() {
+    return null;
+  }
+
+  @Override
+  public boolean isRetired() {
+    return false;
+  }
+
+  @Override
+  public String getFailureInfo() {
+    return null;
+  }
+}
@@ -11,10 +11,10 @@ import com.linkedin.venice.writer.VeniceWriter;
 
 public class PushJobZstdConfig {
   private ZstdDictTrainer zstdDictTrainer;
+  private final ZstdDictSampleReservoir sampleReservoir;
   private int maxBytesPerFile;
   private int maxDictSize;
   private int maxSampleSize;
-  private int filledSize; // Duplicate of filledSize in ZstdDictTrainer as there is no getter for this
   /**
    * Known <a href="https://github.com/luben/zstd-jni/issues/253">zstd lib issue</a> which
    * crashes if the input sample is too small. So adding a preventive check to skip training
@@ -22,22 +22,40 @@ public class PushJobZstdConfig {
    * it as if this check doesn't prevent some edge cases then we can disable the feature itself
    */
   protected static final int MINIMUM_NUMBER_OF_SAMPLES_REQUIRED_TO_BUILD_ZSTD_DICTIONARY = 20;
-  private int collectedNumberOfSamples;
 
   public PushJobZstdConfig(VeniceProperties props, int numFiles) {
     maxDictSize = props
         .getInt(COMPRESSION_DICTIONARY_SIZE_LIMIT, VeniceWriter.DEFAULT_MAX_SIZE_FOR_USER_PAYLOAD_PER_MESSAGE_IN_BYTES);
     maxSampleSize = props.getInt(COMPRESSION_DICTIONARY_SAMPLE_SIZE, DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_SIZE);
     maxBytesPerFile = maxSampleSize / numFiles;
-    zstdDictTrainer = new ZstdDictTrainer(maxSampleSize, maxDictSize);
-    filledSize = 0;
-    collectedNumberOfSamples = 0;
+    sampleReservoir = new ZstdDictSampleReservoir(maxSampleSize);
   }
 
-  public ZstdDictTrainer getZstdDictTrainer() {
+  /**
+   * The samples are collected by {@link #addSample} into {@link ZstdDictSampleReservoir} first, since they might be
+   * collected by multiple threads, and the trainer will be loaded with all the samples collected so far when it is
+   * retrieved for the first time, so it should only be retrieved after all the samples are collected.
+   */
+  public synchronized ZstdDictTrainer getZstdDictTrainer() {
+    if (zstdDictTrainer == null) {
+      // Only allocate the sample buffer for the collected samples instead of the max sample size.
+      zstdDictTrainer = new ZstdDictTrainer((int) Math.max(sampleReservoir.getFilledBytes(), 1), maxDictSize);
+      sampleReservoir.addTo(zstdDictTrainer);
+    }
     return zstdDictTrainer;
   }
 
+  public ZstdDictSampleReservoir getSampleReservoir() {
+    return sampleReservoir;
+  }
+
+  /**
+   * @return true if the sample is kept.
+   */
+  public boolean addSample(byte[] sample) {
+    return sampleReservoir.offer(sample);
+  }
+
   public int getMaxBytesPerFile() {
     return maxBytesPerFile;
   }
@@ -47,18 +65,10 @@ public class PushJobZstdConfig {
   }
 
   public int getFilledSize() {
-    return filledSize;
-  }
-
-  public void addFilledSize(int filledSize) {
-    this.filledSize += filledSize;
+    return (int) sampleReservoir.getFilledBytes();
   }
 
   public int getCollectedNumberOfSamples() {
-    return collectedNumberOfSamples;
-  }
-
-  public void incrCollectedNumberOfSamples() {
-    this.collectedNumberOfSamples++;
+    return sampleReservoir.getSampleCount();
   }
 }
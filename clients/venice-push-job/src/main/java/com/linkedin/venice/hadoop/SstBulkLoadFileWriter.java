@@ -0,0 +1,143 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+
+
+/**
+ * This class builds a RocksDB SST file out of the records of a single partition in {@link VeniceReducer}, and stages
+ * the finished file under {@link VenicePushJob#SST_BULK_LOAD_STAGING_DIR}, so that the storage nodes could load it
+ * into the partition directly.
+ *
+ * The records have to be added in the ascending order of the keys, which is guaranteed by the MR shuffle, and the
+ * values are stored in the same format as the storage nodes, which is the value schema id header followed by the
+ * serialized value. The checksum is computed the same way as the storage nodes verify a SST file.
+ */
+public class SstBulkLoadFileWriter implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(SstBulkLoadFileWriter.class);
+  private static final int SCHEMA_HEADER_LENGTH = ByteUtils.SIZE_OF_INT;
+
+  static {
+    RocksDB.loadLibrary();
+  }
+
+  private final Path stagingFilePath;
+  private final File localFile;
+  private final EnvOptions envOptions;
+  private final Options options;
+  private final SstFileWriter sstFileWriter;
+  private final CheckSum checkSum = CheckSum.getInstance(CheckSumType.MD5);
+  private long recordCount = 0;
+
+  /**
+   * @param taskAttemptId is part of the staged file name, so that the speculative attempts of the same reducer won't
+   *                      overwrite the file which might be being loaded by the storage nodes.
+   */
+  public SstBulkLoadFileWriter(String stagingDir, String topic, int partition, String taskAttemptId) {
+    this.stagingFilePath =
+        new Path(getStagingDirForTopic(stagingDir, topic), partition + "_" + taskAttemptId + ".sst");
+    try {
+      this.localFile = File.createTempFile(topic + "_" + partition + "_", ".sst");
+    } catch (IOException e) {
+      throw new VeniceException("Failed to create local sst file for topic: " + topic + ", partition: " + partition, e);
+    }
+    this.envOptions = new EnvOptions();
+    this.options = new Options();
+    this.sstFileWriter = new SstFileWriter(envOptions, options);
+    try {
+      sstFileWriter.open(localFile.getAbsolutePath());
+    } catch (RocksDBException e) {
+      close();
+      throw new VeniceException("Failed to open file: " + localFile.getAbsolutePath() + " with SstFileWriter", e);
+    }
+  }
+
+  public static String getStagingDirForTopic(String stagingDir, String topic) {
+    return new Path(stagingDir, topic).toString();
+  }
+
+  /**
+   * Removes all the staged SST files of the given topic, and it should only be invoked once the version won't be
+   * served, e.g. after its push failed, since every replay of the version topic loads the staged files again.
+   */
+  public static void cleanUpStagingDir(String stagingDir, String topic) {
+    Path path = new Path(getStagingDirForTopic(stagingDir, topic));
+    try {
+      FileSystem fs = path.getFileSystem(new Configuration());
+      fs.delete(path, true);
+    } catch (IOException e) {
+      LOGGER.error("Failed to clean up the sst bulk load staging path: {}", path, e);
+    }
+  }
+
+  public void put(byte[] keyBytes, byte[] valueBytes, int valueSchemaId) {
+    byte[] valueBytesWithHeader = new byte[SCHEMA_HEADER_LENGTH + valueBytes.length];
+    ByteUtils.writeInt(valueBytesWithHeader, valueSchemaId, 0);
+    System.arraycopy(valueBytes, 0, valueBytesWithHeader, SCHEMA_HEADER_LENGTH, valueBytes.length);
+    try {
+      sstFileWriter.put(keyBytes, valueBytesWithHeader);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to write to sst file: " + localFile.getAbsolutePath(), e);
+    }
+    checkSum.update(keyBytes);
+    checkSum.update(valueBytesWithHeader);
+    recordCount++;
+  }
+
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Finishes the SST file and copies it to the staging directory.
+   *
+   * @return the fully qualified path of the staged SST file.
+   */
+  public String finishAndStage(Configuration conf) {
+    if (recordCount == 0) {
+      throw new VeniceException("Cannot stage an empty sst file for: " + stagingFilePath);
+    }
+    try {
+      sstFileWriter.finish();
+      FileSystem fs = stagingFilePath.getFileSystem(conf);
+      fs.copyFromLocalFile(false, true, new Path(localFile.getAbsolutePath()), stagingFilePath);
+      String stagedPath = fs.makeQualified(stagingFilePath).toString();
+      LOGGER.info("Staged sst file: {} with {} records", stagedPath, recordCount);
+      return stagedPath;
+    } catch (RocksDBException | IOException e) {
+      throw new VeniceException("Failed to stage sst file to: " + stagingFilePath, e);
+    }
+  }
+
+  /**
+   * @return the MD5 checksum over the key and value of every record written so far.
+   */
+  public byte[] getCheckSum() {
+    return checkSum.getCheckSum();
+  }
+
+  @Override
+  public void close() {
+    sstFileWriter.close();
+    options.close();
+    envOptions.close();
+    if (!localFile.delete()) {
+      LOGGER.warn("Failed to delete local sst file: {}", localFile.getAbsolutePath());
+    }
+  }
+}
@@ -47,7 +47,9 @@ import com.linkedin.venice.hadoop.input.kafka.KafkaInputFormatCombiner;
 import com.linkedin.venice.hadoop.input.kafka.KafkaInputKeyComparator;
 import com.linkedin.venice.hadoop.input.kafka.KafkaInputMRPartitioner;
 import com.linkedin.venice.hadoop.input.kafka.KafkaInputRecordReader;
+import com.linkedin.venice.hadoop.input.kafka.KafkaInputSortedRunDeduplicator;
 import com.linkedin.venice.hadoop.input.kafka.KafkaInputValueGroupingComparator;
+import com.linkedin.venice.hadoop.input.kafka.VeniceKafkaInputMapOnlyMapper;
 import com.linkedin.venice.hadoop.input.kafka.VeniceKafkaInputMapper;
 import com.linkedin.venice.hadoop.input.kafka.VeniceKafkaInputReducer;
 import com.linkedin.venice.hadoop.input.kafka.ttl.TTLResolutionPolicy;
@@ -248,10 +250,37 @@ public class VenicePushJob implements AutoCloseable {
   // Optional
   public static final String KAFKA_INPUT_MAX_RECORDS_PER_MAPPER = "kafka.input.max.records.per.mapper";
   public static final String KAFKA_INPUT_COMBINER_ENABLED = "kafka.input.combiner.enabled";
+  /**
+   * Optional.
+   * Whether to run the Kafka Input repush without the reducers. In this mode, every mapper consumes a whole source
+   * topic partition, de-duplicates the records locally by {@link KafkaInputSortedRunDeduplicator}, and produces the
+   * latest record of every key to the same partition of the new version directly, which skips the shuffle.
+   * It requires the source version and the new version to have the same partition count and partitioner config, and
+   * chunking is not supported since the chunks of a value couldn't be assembled after the local de-duplication.
+   * Since a source partition can't be split across mappers, {@link #KAFKA_INPUT_MAX_RECORDS_PER_MAPPER} is ignored and
+   * the number of mappers is the partition count of the source version.
+   */
+  public static final String KAFKA_INPUT_MAP_ONLY_ENABLED = "kafka.input.map.only.enabled";
+  /**
+   * Optional.
+   * The buffered record size in bytes of the map-only Kafka Input repush mapper before spilling a sorted run to the
+   * local disk.
+   */
+  public static final String KAFKA_INPUT_MAP_ONLY_SPILL_THRESHOLD_IN_BYTES =
+      "kafka.input.map.only.spill.threshold.in.bytes";
+  public static final long DEFAULT_KAFKA_INPUT_MAP_ONLY_SPILL_THRESHOLD_IN_BYTES = 256 * 1024 * 1024L;
   // Whether to build a new dict in the repushed version or not while the original version has already enabled dict
   // compression.
   public static final String KAFKA_INPUT_COMPRESSION_BUILD_NEW_DICT_ENABLED =
       "kafka.input.compression.build.new.dict.enabled";
+  /**
+   * Optional.
+   * When building a new dict for the repush, the dict of the source version will be reused instead if it could still
+   * achieve at least this compression ratio on the collected samples, which saves the dict training time. The source
+   * version dict will never be reused if it is not specified.
+   */
+  public static final String KAFKA_INPUT_COMPRESSION_DICT_REUSE_MIN_RATIO =
+      "kafka.input.compression.dict.reuse.min.ratio";
 
   public static final String KAFKA_INPUT_SOURCE_TOPIC_CHUNKING_ENABLED = "kafka.input.source.topic.chunking.enabled";
   /**
@@ -424,6 +453,32 @@ public class VenicePushJob implements AutoCloseable {
    */
   public static final String POST_VALIDATION_CONSUMPTION_ENABLED = "post.validation.consumption.enabled";
 
+  /**
+   * Config to enable SST bulk load mode in VPJ by specifying a staging directory. In this mode, each reducer builds a
+   * RocksDB SST file for its partition, stages it under this directory and only produces a control message pointing to
+   * the staged file, instead of producing every record.
+   *
+   * The storage nodes read the staged files with java.nio, so the directory must be a local path or a file URI of a
+   * mount shared by the reducers and the storage nodes of every region. The staged files are kept after the push, since
+   * every replay of the version topic, e.g. a new replica or a Da Vinci bootstrap, loads them again, and they are
+   * deleted with the version topic by the controllers configured with
+   * {@link com.linkedin.venice.ConfigKeys#CONTROLLER_SST_BULK_LOAD_STAGING_DIR}.
+   */
+  public static final String SST_BULK_LOAD_STAGING_DIR = "sst.bulk.load.staging.dir";
+
+  /**
+   * Optional. Config to run the data writer job inside the VPJ process by {@link LocalJobClientWrapper} instead of a
+   * MapReduce job when the estimated input data size is not larger than this value, which avoids the job startup
+   * overhead for the small pushes. It only applies to the pushes from HDFS input, and it is disabled by default.
+   */
+  public static final String LOCAL_PUSH_ENGINE_MAX_INPUT_SIZE_IN_BYTES = "local.push.engine.max.input.size.in.bytes";
+
+  /**
+   * Optional. The number of threads to run the map and reduce tasks when the data writer job is run locally.
+   * The default value is the number of available processors.
+   */
+  public static final String LOCAL_PUSH_ENGINE_THREAD_NUM = "local.push.engine.thread.num";
+
   /**
    * Since the job is calculating the raw data file size, which is not accurate because of compression,
    * key/value schema and backend storage overhead, we are applying this factor to provide a more
@@ -510,6 +565,8 @@ public class VenicePushJob implements AutoCloseable {
     RepushInfoResponse repushInfoResponse;
     long rewindTimeInSecondsOverride;
     boolean kafkaInputCombinerEnabled;
+    /** Refer {@link #KAFKA_INPUT_MAP_ONLY_ENABLED} **/
+    boolean kafkaInputMapOnlyEnabled;
     boolean kafkaInputBuildNewDictEnabled;
     BufferReplayPolicy validateRemoteReplayPolicy;
     boolean suppressEndOfPushMessage;
@@ -525,6 +582,12 @@ public class VenicePushJob implements AutoCloseable {
     long repushTTLInSeconds;
     // HDFS directory to cache RMD schemas
     String rmdSchemaDir;
+    /** Refer {@link #SST_BULK_LOAD_STAGING_DIR} **/
+    String sstBulkLoadStagingDir;
+    /** Refer {@link #LOCAL_PUSH_ENGINE_MAX_INPUT_SIZE_IN_BYTES} **/
+    long localPushEngineMaxInputSizeInBytes;
+    /** Refer {@link #LOCAL_PUSH_ENGINE_THREAD_NUM} **/
+    int localPushEngineThreadNum;
     String controllerD2ServiceName;
     String parentControllerRegionD2ZkHosts;
     String childControllerRegionD2ZkHosts;
@@ -702,6 +765,7 @@ public class VenicePushJob implements AutoCloseable {
     pushJobSettingToReturn.isSourceETL = props.getBoolean(SOURCE_ETL, false);
     pushJobSettingToReturn.isSourceKafka = props.getBoolean(SOURCE_KAFKA, false);
     pushJobSettingToReturn.kafkaInputCombinerEnabled = props.getBoolean(KAFKA_INPUT_COMBINER_ENABLED, false);
+    pushJobSettingToReturn.kafkaInputMapOnlyEnabled = props.getBoolean(KAFKA_INPUT_MAP_ONLY_ENABLED, false);
     pushJobSettingToReturn.kafkaInputBuildNewDictEnabled =
         props.getBoolean(KAFKA_INPUT_COMPRESSION_BUILD_NEW_DICT_ENABLED, true);
     pushJobSettingToReturn.suppressEndOfPushMessage = props.getBoolean(SUPPRESS_END_OF_PUSH_MESSAGE, false);
@@ -725,6 +789,38 @@ public class VenicePushJob implements AutoCloseable {
       throw new VeniceException("Repush with TTL is only supported while using Kafka Input Format");
     }
 
+    if (pushJobSettingToReturn.kafkaInputMapOnlyEnabled && !pushJobSettingToReturn.isSourceKafka) {
+      throw new VeniceException("Map-only mode is only supported while using Kafka Input Format");
+    }
+
+    pushJobSettingToReturn.sstBulkLoadStagingDir = props.getString(SST_BULK_LOAD_STAGING_DIR, () -> null);
+    if (pushJobSettingToReturn.sstBulkLoadStagingDir != null) {
+      String scheme = new Path(pushJobSettingToReturn.sstBulkLoadStagingDir).toUri().getScheme();
+      if (scheme != null && !scheme.equals("file")) {
+        throw new VeniceException(
+            SST_BULK_LOAD_STAGING_DIR + " must be a local path or a file URI of a mount shared with the storage nodes,"
+                + " but got: " + pushJobSettingToReturn.sstBulkLoadStagingDir);
+      }
+      if (pushJobSettingToReturn.isIncrementalPush || pushJobSettingToReturn.enableWriteCompute) {
+        throw new VeniceException("SST bulk load is only supported for full batch push");
+      }
+      if (pushJobSettingToReturn.isSourceKafka) {
+        throw new VeniceException("SST bulk load is not supported while using Kafka Input Format");
+      }
+      if (pushJobSettingToReturn.suppressEndOfPushMessage) {
+        throw new VeniceException("SST bulk load is not supported while suppressing end of push message");
+      }
+    }
+
+    pushJobSettingToReturn.localPushEngineMaxInputSizeInBytes =
+        props.getLong(LOCAL_PUSH_ENGINE_MAX_INPUT_SIZE_IN_BYTES, NOT_SET);
+    pushJobSettingToReturn.localPushEngineThreadNum =
+        props.getInt(LOCAL_PUSH_ENGINE_THREAD_NUM, Runtime.getRuntime().availableProcessors());
+    if (pushJobSettingToReturn.localPushEngineThreadNum <= 0) {
+      throw new VeniceException(
+          "Invalid " + LOCAL_PUSH_ENGINE_THREAD_NUM + ": " + pushJobSettingToReturn.localPushEngineThreadNum);
+    }
+
     final String D2_PREFIX = "d2://";
     if (pushJobSettingToReturn.veniceControllerUrl.startsWith(D2_PREFIX)) {
       pushJobSettingToReturn.d2Routing = true;
@@ -1219,6 +1315,10 @@ public class VenicePushJob implements AutoCloseable {
         } catch (Exception ex) {
           LOGGER.info("Failed to stop and cleanup the job. New pushes might be blocked.", ex);
         }
+        if (pushJobSetting.sstBulkLoadStagingDir != null && kafkaTopicInfo != null) {
+          // The killed version won't be served, so nothing will load its staged files anymore.
+          SstBulkLoadFileWriter.cleanUpStagingDir(pushJobSetting.sstBulkLoadStagingDir, kafkaTopicInfo.topic);
+        }
       }
       throwVeniceException(e);
     } finally {
@@ -1355,7 +1455,17 @@ public class VenicePushJob implements AutoCloseable {
 
   void runJobAndUpdateStatus() throws IOException {
     updatePushJobDetailsWithCheckpoint(PushJobCheckpoints.START_MAP_REDUCE_JOB);
-    runningJob = runJobWithConfig(jobConf);
+    if (shouldRunJobLocally()) {
+      LOGGER.info(
+          "Running the data writer job locally with {} threads since the estimated input data size: {} is not larger"
+              + " than {}",
+          pushJobSetting.localPushEngineThreadNum,
+          inputFileDataSize,
+          pushJobSetting.localPushEngineMaxInputSizeInBytes);
+      runningJob = runJobWithConfig(jobConf, new LocalJobClientWrapper(pushJobSetting.localPushEngineThreadNum));
+    } else {
+      runningJob = runJobWithConfig(jobConf);
+    }
     validateCountersAfterPush();
     Optional<ErrorMessage> errorMessage = updatePushJobDetailsWithMRDetails();
     if (errorMessage.isPresent()) {
@@ -1724,12 +1834,25 @@ public class VenicePushJob implements AutoCloseable {
     }
   }
 
+  /**
+   * The input size of the Kafka Input repush isn't known upfront, so only the pushes from HDFS input could be run
+   * locally.
+   */
+  boolean shouldRunJobLocally() {
+    return !pushJobSetting.isSourceKafka && pushJobSetting.localPushEngineMaxInputSizeInBytes != NOT_SET
+        && inputFileDataSize <= pushJobSetting.localPushEngineMaxInputSizeInBytes;
+  }
+
   private RunningJob runJobWithConfig(JobConf jobConf) throws IOException {
     if (jobClientWrapper == null) {
       jobClientWrapper = new DefaultJobClientWrapper();
     }
+    return runJobWithConfig(jobConf, jobClientWrapper);
+  }
+
+  private RunningJob runJobWithConfig(JobConf jobConf, JobClientWrapper clientWrapper) throws IOException {
     try {
-      return jobClientWrapper.runJobWithConfig(jobConf);
+      return clientWrapper.runJobWithConfig(jobConf);
     } catch (Exception e) {
       if (!pushJobSetting.isSourceKafka) {
         checkLastModificationTimeAndLog();
@@ -1856,7 +1979,11 @@ public class VenicePushJob implements AutoCloseable {
         .setDictSampleSize(
             props.getInt(
                 DefaultInputDataInfoProvider.COMPRESSION_DICTIONARY_SAMPLE_SIZE,
-                DefaultInputDataInfoProvider.DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_SIZE));
+                DefaultInputDataInfoProvider.DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_SIZE))
+        .setSamplingThreadNum(
+            props.getInt(
+                DefaultInputDataInfoProvider.COMPRESSION_DICTIONARY_SAMPLING_THREAD_NUM,
+                DefaultInputDataInfoProvider.DEFAULT_COMPRESSION_DICTIONARY_SAMPLING_THREAD_NUM));
     if (pushJobSetting.isSourceKafka) {
       /**
        * Currently KIF repush will always build a dict in Azkaban Job driver if necessary.
@@ -1869,7 +1996,9 @@ public class VenicePushJob implements AutoCloseable {
           LOGGER.info("Rebuild a new Zstd dictionary from the input topic: {}", pushJobSetting.kafkaInputTopic);
           paramBuilder.setKafkaInputBroker(pushJobSetting.kafkaInputBrokerUrl)
               .setTopicName(pushJobSetting.kafkaInputTopic)
-              .setSourceVersionCompressionStrategy(storeSetting.sourceKafkaInputVersionInfo.getCompressionStrategy());
+              .setSourceVersionCompressionStrategy(storeSetting.sourceKafkaInputVersionInfo.getCompressionStrategy())
+              .setSourceDictReuseMinCompressionRatio(
+                  props.getDouble(KAFKA_INPUT_COMPRESSION_DICT_REUSE_MIN_RATIO, NOT_SET));
           KafkaInputDictTrainer dictTrainer = new KafkaInputDictTrainer(paramBuilder.build());
           compressionDictionary = ByteBuffer.wrap(dictTrainer.trainDict());
         } else {
@@ -2506,6 +2635,19 @@ public class VenicePushJob implements AutoCloseable {
       jobSetting.sendControlMessagesDirectly = false;
     }
 
+    if (jobSetting.sstBulkLoadStagingDir != null) {
+      /**
+       * The SST files are loaded into the default column family directly, so there is no room for replication metadata,
+       * and the chunked keys wouldn't keep the order required by the SST file writer.
+       */
+      if (storeResponse.getStore().isActiveActiveReplicationEnabled()) {
+        throw new VeniceException("SST bulk load is not supported for store with active/active replication enabled.");
+      }
+      if (storeResponse.getStore().isChunkingEnabled()) {
+        throw new VeniceException("SST bulk load is not supported for store with chunking enabled.");
+      }
+    }
+
     storeSetting.keySchema =
         getKeySchemaFromController(controllerClient, jobSetting.controllerRetries, jobSetting.storeName);
 
@@ -2661,6 +2803,33 @@ public class VenicePushJob implements AutoCloseable {
                 + " is using RMD ID: " + sourceVersion.getRmdVersionId() + ", new version: " + newVersion.getNumber()
                 + " is using RMD ID: " + newVersion.getRmdVersionId());
       }
+
+      if (pushJobSetting.kafkaInputMapOnlyEnabled) {
+        validateKafkaInputMapOnlyCompatibility(sourceVersion, newVersion);
+      }
+    }
+  }
+
+  /**
+   * Refer {@link #KAFKA_INPUT_MAP_ONLY_ENABLED}: every source partition has to be mapped to the partition with the same
+   * id in the new version.
+   */
+  private void validateKafkaInputMapOnlyCompatibility(Version sourceVersion, Version newVersion) {
+    if (sourceVersion.isChunkingEnabled() || newVersion.isChunkingEnabled()) {
+      throw new VeniceException(
+          "Map-only Kafka Input repush is not supported for chunking enabled store: " + pushJobSetting.storeName);
+    }
+    if (sourceVersion.getPartitionCount() != newVersion.getPartitionCount()) {
+      throw new VeniceException(
+          "Map-only Kafka Input repush requires the same partition count, source version: "
+              + sourceVersion.getNumber() + " has " + sourceVersion.getPartitionCount() + " partitions, new version: "
+              + newVersion.getNumber() + " has " + newVersion.getPartitionCount() + " partitions");
+    }
+    if (!Objects.equals(sourceVersion.getPartitionerConfig(), newVersion.getPartitionerConfig())) {
+      throw new VeniceException(
+          "Map-only Kafka Input repush requires the same partitioner config, source version: "
+              + sourceVersion.getNumber() + " is using: " + sourceVersion.getPartitionerConfig() + ", new version: "
+              + newVersion.getNumber() + " is using: " + newVersion.getPartitionerConfig());
     }
   }
 
@@ -3018,6 +3187,9 @@ public class VenicePushJob implements AutoCloseable {
       conf.setInt(DERIVED_SCHEMA_ID_PROP, pushJobSchemaInfo.getDerivedSchemaId());
     }
     conf.setBoolean(ENABLE_WRITE_COMPUTE, pushJobSetting.enableWriteCompute);
+    if (pushJobSetting.sstBulkLoadStagingDir != null) {
+      conf.set(SST_BULK_LOAD_STAGING_DIR, pushJobSetting.sstBulkLoadStagingDir);
+    }
 
     if (!props.containsKey(KAFKA_PRODUCER_REQUEST_TIMEOUT_MS)) {
       // If the push job plug-in doesn't specify the request timeout config, default will be infinite
@@ -3098,8 +3270,13 @@ public class VenicePushJob implements AutoCloseable {
       String keySchemaString = AvroCompatibilityHelper.toParsingForm(keySchemaFromController);
       jobConf.set(KAFKA_SOURCE_KEY_SCHEMA_STRING_PROP, keySchemaString);
       jobConf.setInputFormat(KafkaInputFormat.class);
-      jobConf.setMapperClass(VeniceKafkaInputMapper.class);
-      if (pushJobSetting.kafkaInputCombinerEnabled) {
+      if (pushJobSetting.kafkaInputMapOnlyEnabled) {
+        jobConf.setBoolean(KAFKA_INPUT_MAP_ONLY_ENABLED, true);
+        jobConf.setMapperClass(VeniceKafkaInputMapOnlyMapper.class);
+      } else {
+        jobConf.setMapperClass(VeniceKafkaInputMapper.class);
+      }
+      if (pushJobSetting.kafkaInputCombinerEnabled && !pushJobSetting.kafkaInputMapOnlyEnabled) {
         jobConf.setCombinerClass(KafkaInputFormatCombiner.class);
       }
     } else {
@@ -3139,6 +3316,13 @@ public class VenicePushJob implements AutoCloseable {
   }
 
   private void setupReducerConf(JobConf jobConf, PushJobSetting pushJobSetting, TopicInfo topicInfo) {
+    if (pushJobSetting.isSourceKafka && pushJobSetting.kafkaInputMapOnlyEnabled) {
+      // The mappers produce to Kafka directly, and the speculative attempts of the same mapper share the same producer
+      // GUID, the same as the reducers.
+      jobConf.setMapSpeculativeExecution(pushJobSetting.enableReducerSpeculativeExecution);
+      jobConf.setNumReduceTasks(0);
+      return;
+    }
     if (pushJobSetting.isSourceKafka) {
       jobConf.setOutputKeyComparatorClass(KafkaInputKeyComparator.class);
       jobConf.setOutputValueGroupingComparator(KafkaInputValueGroupingComparator.class);
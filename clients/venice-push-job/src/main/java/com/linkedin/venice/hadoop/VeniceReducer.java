@@ -4,6 +4,7 @@ import static com.linkedin.venice.hadoop.VenicePushJob.ALLOW_DUPLICATE_KEY;
 import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_IS_DUPLICATED_KEY_ALLOWED;
 import static com.linkedin.venice.hadoop.VenicePushJob.DERIVED_SCHEMA_ID_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.ENABLE_WRITE_COMPUTE;
+import static com.linkedin.venice.hadoop.VenicePushJob.SST_BULK_LOAD_STAGING_DIR;
 import static com.linkedin.venice.hadoop.VenicePushJob.STORAGE_QUOTA_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.TELEMETRY_MESSAGE_INTERVAL;
 import static com.linkedin.venice.hadoop.VenicePushJob.TOPIC_PROP;
@@ -41,6 +42,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Properties;
 import java.util.Set;
@@ -158,6 +160,11 @@ public class VeniceReducer extends AbstractMapReduceTask
   }
 
   public static final String MAP_REDUCE_JOB_ID_PROP = "mapred.job.id";
+  /**
+   * Set by {@link LocalJobClientWrapper} once all the map tasks are done, since there is no job tracker to query the
+   * counters from.
+   */
+  public static final String TOTAL_INCOMING_DATA_SIZE_PROP = "venice.total.incoming.data.size";
   private static final Logger LOGGER = LogManager.getLogger(VeniceReducer.class);
 
   private long lastTimeThroughputWasLoggedInNS = System.nanoTime();
@@ -174,6 +181,13 @@ public class VeniceReducer extends AbstractMapReduceTask
   private final Set<Integer> partitionSet = ConcurrentHashMap.newKeySet();
   private DuplicateKeyPrinter duplicateKeyPrinter;
   private Exception sendException = null;
+  private JobConf jobConf;
+  /**
+   * Refer {@link VenicePushJob#SST_BULK_LOAD_STAGING_DIR}, and the records will be written to
+   * {@link #sstBulkLoadFileWriter} instead of Kafka when it is set.
+   */
+  private String sstBulkLoadStagingDir = null;
+  private SstBulkLoadFileWriter sstBulkLoadFileWriter = null;
 
   /**
    * Visible for testing purpose
@@ -225,7 +239,9 @@ public class VeniceReducer extends AbstractMapReduceTask
     if (key.getLength() > VeniceMRPartitioner.EMPTY_KEY_LENGTH
         && (!hasReportedFailure(reporter, this.isDuplicateKeyAllowed))) {
       VeniceWriterMessage message = extract(key, values, reporter);
-      if (message != null) {
+      if (message != null && sstBulkLoadStagingDir != null) {
+        writeToSstFile(reporter, message);
+      } else if (message != null) {
         try {
           sendMessageToKafka(reporter, message.getConsumer());
         } catch (VeniceException e) {
@@ -364,6 +380,37 @@ public class VeniceReducer extends AbstractMapReduceTask
     MRJobCounterHelper.incrOutputRecordCount(reporter, 1);
   }
 
+  protected void writeToSstFile(Reporter reporter, VeniceWriterMessage message) {
+    if (sstBulkLoadFileWriter == null) {
+      sstBulkLoadFileWriter = new SstBulkLoadFileWriter(
+          sstBulkLoadStagingDir,
+          props.getString(TOPIC_PROP),
+          getTaskId(),
+          jobConf.get(MAPRED_TASK_ID_PROP_NAME));
+    }
+    sstBulkLoadFileWriter.put(message.getKeyBytes(), message.getValueBytes(), message.getValueSchemaId());
+    MRJobCounterHelper.incrOutputRecordCount(reporter, 1);
+  }
+
+  /**
+   * Stages the SST file built by this reducer, and produces a control message pointing to it, so that the storage nodes
+   * could load the file at once instead of consuming every record from Kafka.
+   */
+  private void publishSstFile() {
+    String stagedFilePath = sstBulkLoadFileWriter.finishAndStage(jobConf);
+    VeniceWriter<byte[], byte[], byte[]> writer = createBasicVeniceWriter();
+    try {
+      writer.sendBulkLoadSstFile(
+          getTaskId(),
+          stagedFilePath,
+          sstBulkLoadFileWriter.getRecordCount(),
+          sstBulkLoadFileWriter.getCheckSum(),
+          Collections.emptyMap());
+    } finally {
+      writer.close();
+    }
+  }
+
   private boolean updatePreviousReporter(Reporter reporter) {
     if (previousReporter == null || !previousReporter.equals(reporter)) {
       previousReporter = reporter;
@@ -438,6 +485,16 @@ public class VeniceReducer extends AbstractMapReduceTask
   @Override
   public void close() throws IOException {
     try {
+      if (sstBulkLoadFileWriter != null) {
+        try {
+          // The job is going to fail anyway, so there is no point to stage an incomplete file.
+          if (!hasReportedFailure(previousReporter, isDuplicateKeyAllowed)) {
+            publishSstFile();
+          }
+        } finally {
+          sstBulkLoadFileWriter.close();
+        }
+      }
       LOGGER.info("Kafka message progress before flushing and closing producer:");
       logMessageProgress();
       if (veniceWriter != null) {
@@ -475,6 +532,8 @@ public class VeniceReducer extends AbstractMapReduceTask
   @Override
   protected void configureTask(VeniceProperties props, JobConf job) {
     this.props = props;
+    this.jobConf = job;
+    this.sstBulkLoadStagingDir = props.getString(SST_BULK_LOAD_STAGING_DIR, () -> null);
     this.isDuplicateKeyAllowed = props.getBoolean(ALLOW_DUPLICATE_KEY, false);
     this.mapReduceJobId = JobID.forName(job.get(MAP_REDUCE_JOB_ID_PROP));
     this.valueSchemaId = props.getInt(VALUE_SCHEMA_ID_PROP);
@@ -507,6 +566,10 @@ public class VeniceReducer extends AbstractMapReduceTask
   }
 
   private long getTotalIncomingDataSizeInBytes(JobConf jobConfig) {
+    long totalIncomingDataSize = jobConfig.getLong(TOTAL_INCOMING_DATA_SIZE_PROP, -1);
+    if (totalIncomingDataSize >= 0) {
+      return totalIncomingDataSize;
+    }
     JobClient hadoopJobClient = null;
     String jobIdProp = null;
     JobID jobID = null;
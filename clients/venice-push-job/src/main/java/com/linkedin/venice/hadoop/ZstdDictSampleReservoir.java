@@ -0,0 +1,96 @@
+package com.linkedin.venice.hadoop;
+
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * A bounded-memory reservoir of the samples to train the Zstd dictionary. It is thread-safe, but the kept samples are
+ * only deterministic if the samples are offered in a deterministic order, so the callers sampling multiple inputs in
+ * parallel should buffer the samples of every input and offer them in the input order.
+ *
+ * All the offered samples are kept until the total size reaches {@link #maxSampleBytes}, and after that, every offered
+ * sample replaces a random sample in the reservoir with the probability of (number of kept samples / number of offered
+ * samples), as long as the replacement still fits in the size limit. Compared to keeping the samples in the arrival
+ * order, which is what {@link ZstdDictTrainer} does, this won't be biased toward the inputs which are read first.
+ */
+public class ZstdDictSampleReservoir {
+  private final long maxSampleBytes;
+  private final List<byte[]> samples = new ArrayList<>();
+  // A fixed seed to keep the same samples when the same samples are offered in the same order.
+  private final Random random = new Random(0);
+  private long filledBytes = 0;
+  private long offeredCount = 0;
+
+  public ZstdDictSampleReservoir(long maxSampleBytes) {
+    this.maxSampleBytes = maxSampleBytes;
+  }
+
+  /**
+   * @return true if the sample is kept in the reservoir.
+   */
+  public synchronized boolean offer(byte[] sample) {
+    offeredCount++;
+    if (filledBytes + sample.length <= maxSampleBytes) {
+      samples.add(sample);
+      filledBytes += sample.length;
+      return true;
+    }
+    long index = (long) (random.nextDouble() * offeredCount);
+    if (index < samples.size()) {
+      byte[] replaced = samples.get((int) index);
+      if (filledBytes - replaced.length + sample.length <= maxSampleBytes) {
+        samples.set((int) index, sample);
+        filledBytes += sample.length - replaced.length;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public synchronized int getSampleCount() {
+    return samples.size();
+  }
+
+  public synchronized long getFilledBytes() {
+    return filledBytes;
+  }
+
+  public synchronized long getOfferedCount() {
+    return offeredCount;
+  }
+
+  public synchronized void addTo(ZstdDictTrainer trainer) {
+    for (byte[] sample: samples) {
+      trainer.addSample(sample);
+    }
+  }
+
+  /**
+   * Compresses the first samples up to {@param maxBytesToCheck} with the given compressor, which is a quick check about
+   * whether an existing dictionary still works well for the samples.
+   *
+   * @return the ratio of the raw size to the compressed size, or 0 if there is no sample.
+   */
+  public synchronized double estimateCompressionRatio(VeniceCompressor compressor, long maxBytesToCheck) {
+    long rawBytes = 0;
+    long compressedBytes = 0;
+    try {
+      for (byte[] sample: samples) {
+        if (rawBytes >= maxBytesToCheck) {
+          break;
+        }
+        rawBytes += sample.length;
+        compressedBytes += compressor.compress(sample).length;
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to compress the samples with " + compressor.getCompressionStrategy(), e);
+    }
+    return compressedBytes == 0 ? 0 : (double) rawBytes / compressedBytes;
+  }
+}
@@ -2,13 +2,17 @@ package com.linkedin.venice.hadoop.input.kafka;
 
 import static com.linkedin.venice.hadoop.DefaultInputDataInfoProvider.*;
 import static com.linkedin.venice.hadoop.VenicePushJob.*;
+import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_MB;
 
 import com.github.luben.zstd.ZstdDictTrainer;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.hadoop.PushJobZstdConfig;
+import com.linkedin.venice.hadoop.VenicePushJob;
+import com.linkedin.venice.hadoop.ZstdDictSampleReservoir;
 import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperKey;
 import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperValue;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
@@ -20,11 +24,19 @@ import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
-import org.apache.hadoop.mapred.InputSplit;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.RecordReader;
 import org.apache.hadoop.mapred.Reporter;
@@ -34,7 +46,8 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * Zstd dict trainer for Kafka Repush.
- * This class will try to read a few records from every partition as samples of dict trainer.
+ * This class will try to read a few records from every partition as samples of dict trainer, and the partitions could
+ * be sampled in parallel, refer {@link ParamBuilder#setSamplingThreadNum}.
  */
 public class KafkaInputDictTrainer {
   public static class Param {
@@ -47,6 +60,8 @@ public class KafkaInputDictTrainer {
     private final CompressionStrategy sourceVersionCompressionStrategy;
 
     private final boolean sourceVersionChunkingEnabled;
+    private final int samplingThreadNum;
+    private final double sourceDictReuseMinCompressionRatio;
 
     Param(ParamBuilder builder) {
       this.kafkaInputBroker = builder.kafkaInputBroker;
@@ -57,6 +72,8 @@ public class KafkaInputDictTrainer {
       this.dictSampleSize = builder.dictSampleSize;
       this.sourceVersionCompressionStrategy = builder.sourceVersionCompressionStrategy;
       this.sourceVersionChunkingEnabled = builder.sourceVersionChunkingEnabled;
+      this.samplingThreadNum = builder.samplingThreadNum;
+      this.sourceDictReuseMinCompressionRatio = builder.sourceDictReuseMinCompressionRatio;
     }
   }
 
@@ -69,6 +86,8 @@ public class KafkaInputDictTrainer {
     private int dictSampleSize;
     private CompressionStrategy sourceVersionCompressionStrategy;
     private boolean sourceVersionChunkingEnabled;
+    private int samplingThreadNum = DEFAULT_COMPRESSION_DICTIONARY_SAMPLING_THREAD_NUM;
+    private double sourceDictReuseMinCompressionRatio = NOT_SET;
 
     public ParamBuilder setKafkaInputBroker(String kafkaInputBroker) {
       this.kafkaInputBroker = kafkaInputBroker;
@@ -110,12 +129,29 @@ public class KafkaInputDictTrainer {
       return this;
     }
 
+    public ParamBuilder setSamplingThreadNum(int samplingThreadNum) {
+      this.samplingThreadNum = samplingThreadNum;
+      return this;
+    }
+
+    /**
+     * Refer {@link VenicePushJob#KAFKA_INPUT_COMPRESSION_DICT_REUSE_MIN_RATIO}.
+     */
+    public ParamBuilder setSourceDictReuseMinCompressionRatio(double sourceDictReuseMinCompressionRatio) {
+      this.sourceDictReuseMinCompressionRatio = sourceDictReuseMinCompressionRatio;
+      return this;
+    }
+
     public Param build() {
       return new Param(this);
     }
   }
 
   private static final Logger LOGGER = LogManager.getLogger(KafkaInputDictTrainer.class);
+  /**
+   * The max size of the samples to check the compression ratio of the source version dictionary.
+   */
+  private static final long SOURCE_DICT_REUSE_CHECK_MAX_BYTES = 10 * BYTES_PER_MB;
   private final VeniceProperties props;
   private final JobConf jobConf;
   private final String sourceTopicName;
@@ -124,6 +160,8 @@ public class KafkaInputDictTrainer {
   private final Optional<ZstdDictTrainer> trainerSupplier;
   private final CompressionStrategy sourceVersionCompressionStrategy;
   private final CompressorBuilder compressorBuilder;
+  private final int samplingThreadNum;
+  private final double sourceDictReuseMinCompressionRatio;
 
   public KafkaInputDictTrainer(Param param) {
     this(new KafkaInputFormat(), Optional.empty(), param, KafkaInputUtils::getCompressor);
@@ -147,6 +185,8 @@ public class KafkaInputDictTrainer {
     this.kafkaInputFormat = inputFormat;
     this.trainerSupplier = trainerSupplier;
     this.sourceVersionCompressionStrategy = param.sourceVersionCompressionStrategy;
+    this.samplingThreadNum = Math.max(param.samplingThreadNum, 1);
+    this.sourceDictReuseMinCompressionRatio = param.sourceDictReuseMinCompressionRatio;
     Properties properties = new Properties();
     properties.setProperty(KAFKA_INPUT_BROKER_URL, param.kafkaInputBroker);
     properties.setProperty(KAFKA_INPUT_TOPIC, param.topicName);
@@ -178,11 +218,13 @@ public class KafkaInputDictTrainer {
     // Prepare input
     // Get one split per partition
     KafkaInputSplit[] splits = (KafkaInputSplit[]) kafkaInputFormat.getSplitsByRecordsPerSplit(jobConf, Long.MAX_VALUE);
-    // The following sort is trying to get a deterministic dict with the same input.
+    /**
+     * The following sort is trying to get a deterministic dict with the same input, since the samples of every
+     * partition are added into the reservoir in the partition order, even if the partitions are sampled in parallel.
+     */
     Arrays.sort(splits, Comparator.comparingInt(o -> o.getTopicPartition().partition()));
     // Try to gather some records from each partition
     PushJobZstdConfig zstdConfig = new PushJobZstdConfig(props, splits.length);
-    ZstdDictTrainer trainer = trainerSupplier.orElseGet(zstdConfig::getZstdDictTrainer);
     int maxBytesPerPartition = zstdConfig.getMaxBytesPerFile();
 
     // Get the compressor for source version
@@ -193,95 +235,176 @@ public class KafkaInputDictTrainer {
         jobConf.get(KAFKA_INPUT_BROKER_URL),
         jobConf.get(KAFKA_INPUT_TOPIC),
         props);
-    boolean isSourceVersionUsingNoopCompressionStrategy =
-        sourceVersionCompressor.getCompressionStrategy().equals(CompressionStrategy.NO_OP);
-
-    KafkaInputMapperKey mapperKey = null;
-    KafkaInputMapperValue mapperValue = null;
 
-    int currentPartition = 0;
+    /**
+     * Every partition is sampled by one thread, and a mock consumer could only be used by one thread, so the partitions
+     * will be sampled sequentially if the consumer is passed in.
+     */
+    int threadNum = reusedConsumerOptional.isPresent() ? 1 : Math.min(samplingThreadNum, splits.length);
+    // Reuse the same Kafka Consumer across all partitions sampled by the same thread to avoid log flooding
+    BlockingQueue<PubSubConsumerAdapter> consumerPool = new LinkedBlockingQueue<>();
+    ExecutorService samplingExecutor = threadNum > 1 ? Executors.newFixedThreadPool(threadNum) : null;
     long totalSampledRecordCnt = 0;
-
-    // Reuse the same Kafka Consumer across all partitions avoid log flooding
-    PubSubConsumerAdapter reusedConsumer = reusedConsumerOptional.orElseGet(
-        () -> new ApacheKafkaConsumerAdapterFactory().create(
-            KafkaInputUtils.getConsumerProperties(jobConf),
-            false,
-            new PubSubMessageDeserializer(
-                new OptimizedKafkaValueSerializer(),
-                new LandFillObjectPool<>(KafkaMessageEnvelope::new),
-                new LandFillObjectPool<>(KafkaMessageEnvelope::new)),
-            null));
     try {
-      for (InputSplit split: splits) {
-        long currentFilledSize = 0;
-        long sampledRecordCnt = 0;
-        // Reset Kafka consumer before using it
-        reusedConsumer.batchUnsubscribe(reusedConsumer.getAssignment());
-        RecordReader<KafkaInputMapperKey, KafkaInputMapperValue> recordReader =
-            kafkaInputFormat.getRecordReader(split, jobConf, Reporter.NULL, reusedConsumer);
-        try {
-          if (mapperKey == null) {
-            mapperKey = recordReader.createKey();
-          }
-          if (mapperValue == null) {
-            mapperValue = recordReader.createValue();
-          }
-          while (recordReader.next(mapperKey, mapperValue)) {
-            /**
-             * We can only decompress full compressed value here.
-             * If the source version is using {@link CompressionStrategy.NO_OP}, the value will be passed to the dict directly.
-             * If the source version is using other compression strategies, since we can only decompress the full value here, and the
-             * chunked values will be skipped.
-             *
-             * This logic may have a side effect if only the chunked payloads contain enough materials to build the dict,
-             * with this, the dict built won't be very efficient.
-             * Since the above is an edge case, and solving it would require a lot of efforts here to
-             * assemble the chunks into a full value, we will evaluate this after gaining more experience with this feature.
-             */
-            byte[] decompressedValue;
-            if (isSourceVersionUsingNoopCompressionStrategy) {
-              decompressedValue = ByteUtils.extractByteArray(mapperValue.value);
-            } else {
-              if (mapperValue.schemaId <= 0) {
-                // We can't decompress some chunks of a compressed value here.
-                continue;
-              } else {
-                decompressedValue = ByteUtils.extractByteArray(sourceVersionCompressor.decompress(mapperValue.value));
-              }
-            }
-            currentFilledSize += decompressedValue.length;
-            if (currentFilledSize > maxBytesPerPartition) {
-              break;
-            }
-            trainer.addSample(decompressedValue);
-            ++sampledRecordCnt;
-          }
-          totalSampledRecordCnt += sampledRecordCnt;
-          LOGGER.info("Added {} samples into dict from partition: {}", sampledRecordCnt, currentPartition);
-          ++currentPartition;
-        } finally {
-          recordReader.close();
+      if (reusedConsumerOptional.isPresent()) {
+        consumerPool.add(reusedConsumerOptional.get());
+      } else {
+        for (int i = 0; i < Math.max(threadNum, 1); i++) {
+          consumerPool.add(
+              new ApacheKafkaConsumerAdapterFactory().create(
+                  KafkaInputUtils.getConsumerProperties(jobConf),
+                  false,
+                  new PubSubMessageDeserializer(
+                      new OptimizedKafkaValueSerializer(),
+                      new LandFillObjectPool<>(KafkaMessageEnvelope::new),
+                      new LandFillObjectPool<>(KafkaMessageEnvelope::new)),
+                  null));
         }
       }
-    } catch (IOException e) {
+      List<CompletableFuture<List<byte[]>>> futures = new ArrayList<>(splits.length);
+      for (KafkaInputSplit split: splits) {
+        Supplier<List<byte[]>> sampler =
+            () -> samplePartition(split, consumerPool, sourceVersionCompressor, maxBytesPerPartition);
+        futures.add(
+            samplingExecutor == null
+                ? CompletableFuture.completedFuture(sampler.get())
+                : CompletableFuture.supplyAsync(sampler, samplingExecutor));
+      }
+      ZstdDictSampleReservoir reservoir = zstdConfig.getSampleReservoir();
+      for (CompletableFuture<List<byte[]>> future: futures) {
+        List<byte[]> samples = future.get();
+        for (byte[] sample: samples) {
+          reservoir.offer(sample);
+        }
+        totalSampledRecordCnt += samples.size();
+      }
+      if (totalSampledRecordCnt > 0 && shouldReuseSourceVersionDict(sourceVersionCompressor, zstdConfig)) {
+        dict = ((ZstdWithDictCompressor) sourceVersionCompressor).getDictionary();
+        return dict;
+      }
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof VeniceException) {
+        throw (VeniceException) e.getCause();
+      }
       throw new VeniceException("Encountered exception while reading source topic: " + sourceTopicName, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while reading source topic: " + sourceTopicName, e);
     } finally {
+      if (samplingExecutor != null) {
+        samplingExecutor.shutdownNow();
+      }
       if (compressorFactory != null) {
         compressorFactory.close();
       }
       if (!reusedConsumerOptional.isPresent()) {
-        // Closed the consumer initialized in this function
-        reusedConsumer.close();
+        // Closed the consumers initialized in this function
+        consumerPool.forEach(PubSubConsumerAdapter::close);
       }
     }
     if (totalSampledRecordCnt == 0) {
       throw new VeniceException("No record in the source topic: " + sourceTopicName + ", can't train the dict");
     }
-    LOGGER.info("Added total {} records from {} partitions into dict", totalSampledRecordCnt, splits.length);
+    LOGGER.info(
+        "Added total {} records from {} partitions into dict, {} of them are kept with {} bytes",
+        totalSampledRecordCnt,
+        splits.length,
+        zstdConfig.getCollectedNumberOfSamples(),
+        zstdConfig.getFilledSize());
+    ZstdDictTrainer trainer;
+    if (trainerSupplier.isPresent()) {
+      trainer = trainerSupplier.get();
+      zstdConfig.getSampleReservoir().addTo(trainer);
+    } else {
+      trainer = zstdConfig.getZstdDictTrainer();
+    }
     dict = trainer.trainSamples();
     LOGGER.info("Successfully finished training dict");
     return dict;
   }
 
+  /**
+   * Reads the samples from a single partition until {@param maxBytesPerPartition} is reached.
+   *
+   * @return the sampled records, which are added into the reservoir by the caller in the partition order.
+   */
+  private List<byte[]> samplePartition(
+      KafkaInputSplit split,
+      BlockingQueue<PubSubConsumerAdapter> consumerPool,
+      VeniceCompressor sourceVersionCompressor,
+      int maxBytesPerPartition) {
+    boolean isSourceVersionUsingNoopCompressionStrategy =
+        sourceVersionCompressor.getCompressionStrategy().equals(CompressionStrategy.NO_OP);
+    PubSubConsumerAdapter consumer = consumerPool.poll();
+    if (consumer == null) {
+      throw new VeniceException("No consumer available to sample partition: " + split.getTopicPartition());
+    }
+    long currentFilledSize = 0;
+    List<byte[]> samples = new ArrayList<>();
+    try {
+      // Reset Kafka consumer before using it
+      consumer.batchUnsubscribe(consumer.getAssignment());
+      RecordReader<KafkaInputMapperKey, KafkaInputMapperValue> recordReader =
+          kafkaInputFormat.getRecordReader(split, jobConf, Reporter.NULL, consumer);
+      try {
+        KafkaInputMapperKey mapperKey = recordReader.createKey();
+        KafkaInputMapperValue mapperValue = recordReader.createValue();
+        while (recordReader.next(mapperKey, mapperValue)) {
+          /**
+           * We can only decompress full compressed value here.
+           * If the source version is using {@link CompressionStrategy.NO_OP}, the value will be passed to the dict directly.
+           * If the source version is using other compression strategies, since we can only decompress the full value here, and the
+           * chunked values will be skipped.
+           *
+           * This logic may have a side effect if only the chunked payloads contain enough materials to build the dict,
+           * with this, the dict built won't be very efficient.
+           * Since the above is an edge case, and solving it would require a lot of efforts here to
+           * assemble the chunks into a full value, we will evaluate this after gaining more experience with this feature.
+           */
+          byte[] decompressedValue;
+          if (isSourceVersionUsingNoopCompressionStrategy) {
+            decompressedValue = ByteUtils.extractByteArray(mapperValue.value);
+          } else {
+            if (mapperValue.schemaId <= 0) {
+              // We can't decompress some chunks of a compressed value here.
+              continue;
+            } else {
+              decompressedValue = ByteUtils.extractByteArray(sourceVersionCompressor.decompress(mapperValue.value));
+            }
+          }
+          currentFilledSize += decompressedValue.length;
+          if (currentFilledSize > maxBytesPerPartition) {
+            break;
+          }
+          samples.add(decompressedValue);
+        }
+        LOGGER.info("Read {} samples from partition: {}", samples.size(), split.getTopicPartition().partition());
+        return samples;
+      } finally {
+        recordReader.close();
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Encountered exception while reading source topic: " + sourceTopicName, e);
+    } finally {
+      consumerPool.add(consumer);
+    }
+  }
+
+  /**
+   * Refer {@link VenicePushJob#KAFKA_INPUT_COMPRESSION_DICT_REUSE_MIN_RATIO}.
+   */
+  private boolean shouldReuseSourceVersionDict(VeniceCompressor sourceVersionCompressor, PushJobZstdConfig zstdConfig) {
+    if (sourceDictReuseMinCompressionRatio <= 0 || !(sourceVersionCompressor instanceof ZstdWithDictCompressor)) {
+      return false;
+    }
+    double compressionRatio = zstdConfig.getSampleReservoir()
+        .estimateCompressionRatio(sourceVersionCompressor, SOURCE_DICT_REUSE_CHECK_MAX_BYTES);
+    boolean reuse = compressionRatio >= sourceDictReuseMinCompressionRatio;
+    LOGGER.info(
+        "Compression ratio of the source version dict: {}, min ratio to reuse it: {}, will {}",
+        compressionRatio,
+        sourceDictReuseMinCompressionRatio,
+        reuse ? "reuse the source version dict" : "train a new dict");
+    return reuse;
+  }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.venice.hadoop.input.kafka;
 
 import static com.linkedin.venice.hadoop.VenicePushJob.KAFKA_INPUT_BROKER_URL;
+import static com.linkedin.venice.hadoop.VenicePushJob.KAFKA_INPUT_MAP_ONLY_ENABLED;
 import static com.linkedin.venice.hadoop.VenicePushJob.KAFKA_INPUT_MAX_RECORDS_PER_MAPPER;
 import static com.linkedin.venice.hadoop.VenicePushJob.KAFKA_INPUT_TOPIC;
 
@@ -66,9 +67,15 @@ public class KafkaInputFormat implements InputFormat<KafkaInputMapperKey, KafkaI
   /**
    * Split the topic according to the topic partition size and the allowed max record per mapper.
    * {@param numSplits} is not being used in this function.
+   *
+   * In the map-only mode, every topic partition will be a single split, since the records of the same key have to be
+   * de-duplicated by the same mapper, so the max records per mapper is ignored.
    */
   @Override
   public InputSplit[] getSplits(JobConf job, int numSplits) throws IOException {
+    if (job.getBoolean(KAFKA_INPUT_MAP_ONLY_ENABLED, false)) {
+      return getSplitsByRecordsPerSplit(job, Long.MAX_VALUE);
+    }
     long maxRecordsPerSplit =
         job.getLong(KAFKA_INPUT_MAX_RECORDS_PER_MAPPER, DEFAULT_KAFKA_INPUT_MAX_RECORDS_PER_MAPPER);
     if (maxRecordsPerSplit < 1L) {
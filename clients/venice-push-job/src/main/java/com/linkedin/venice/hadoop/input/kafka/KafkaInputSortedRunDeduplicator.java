@@ -0,0 +1,233 @@
+package com.linkedin.venice.hadoop.input.kafka;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class de-duplicates the records of a single source topic partition inside the mapper for the map-only
+ * Kafka Input repush, which is an external sort with the same ordering as {@link KafkaInputKeyComparator}:
+ * the records are buffered in memory, and whenever the buffered size exceeds the spill threshold, the buffer is sorted
+ * by key ascending and offset descending, and only the latest record of every key is spilled to a local run file.
+ * In the end, all the runs are merged, and only the record with the highest offset is kept for every key, so that the
+ * records are emitted in the ascending order of the keys, which is the same order as the reducers would produce.
+ */
+public class KafkaInputSortedRunDeduplicator implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(KafkaInputSortedRunDeduplicator.class);
+  /**
+   * A rough estimation of the per-record overhead of the buffered record in heap.
+   */
+  private static final int RECORD_OVERHEAD_IN_BYTES = 64;
+
+  private static final Comparator<Record> RECORD_COMPARATOR = (r1, r2) -> {
+    int compareResult = WritableComparator.compareBytes(r1.key, 0, r1.key.length, r2.key, 0, r2.key.length);
+    if (compareResult != 0) {
+      return compareResult;
+    }
+    // Offset descending for the same key.
+    return Long.compare(r2.offset, r1.offset);
+  };
+
+  public interface RecordConsumer {
+    void accept(byte[] key, long offset, byte[] value) throws IOException;
+  }
+
+  private static class Record {
+    private final byte[] key;
+    private final long offset;
+    private final byte[] value;
+
+    Record(byte[] key, long offset, byte[] value) {
+      this.key = key;
+      this.offset = offset;
+      this.value = value;
+    }
+  }
+
+  private final long spillThresholdInBytes;
+  private final List<Record> buffer = new ArrayList<>();
+  private final List<File> runFiles = new ArrayList<>();
+  private File spillDir = null;
+  private long bufferedBytes = 0;
+
+  public KafkaInputSortedRunDeduplicator(long spillThresholdInBytes) {
+    if (spillThresholdInBytes <= 0) {
+      throw new IllegalArgumentException("Invalid spill threshold: " + spillThresholdInBytes);
+    }
+    this.spillThresholdInBytes = spillThresholdInBytes;
+  }
+
+  public void add(byte[] key, long offset, byte[] value) throws IOException {
+    buffer.add(new Record(key, offset, value));
+    bufferedBytes += key.length + value.length + RECORD_OVERHEAD_IN_BYTES;
+    if (bufferedBytes >= spillThresholdInBytes) {
+      spill();
+    }
+  }
+
+  int getRunCount() {
+    return runFiles.size();
+  }
+
+  /**
+   * Emits the latest record of every key in the ascending order of the keys, and this function should only be
+   * invoked once after all the records have been added.
+   */
+  public void forEachLatestRecord(RecordConsumer consumer) throws IOException {
+    if (runFiles.isEmpty()) {
+      // Everything fits in memory, so there is no need to touch the disk.
+      buffer.sort(RECORD_COMPARATOR);
+      byte[] previousKey = null;
+      for (Record record: buffer) {
+        if (previousKey == null || !isSameKey(record.key, previousKey)) {
+          consumer.accept(record.key, record.offset, record.value);
+          previousKey = record.key;
+        }
+      }
+      buffer.clear();
+      bufferedBytes = 0;
+      return;
+    }
+    if (!buffer.isEmpty()) {
+      spill();
+    }
+    List<RunReader> readers = new ArrayList<>(runFiles.size());
+    PriorityQueue<RunReader> queue =
+        new PriorityQueue<>(runFiles.size(), (r1, r2) -> RECORD_COMPARATOR.compare(r1.current, r2.current));
+    try {
+      for (File runFile: runFiles) {
+        RunReader reader = new RunReader(runFile);
+        readers.add(reader);
+        if (reader.advance()) {
+          queue.add(reader);
+        }
+      }
+      byte[] previousKey = null;
+      while (!queue.isEmpty()) {
+        RunReader reader = queue.poll();
+        Record record = reader.current;
+        // The first record polled for every key is the one with the highest offset.
+        if (previousKey == null || !isSameKey(record.key, previousKey)) {
+          consumer.accept(record.key, record.offset, record.value);
+          previousKey = record.key;
+        }
+        if (reader.advance()) {
+          queue.add(reader);
+        }
+      }
+    } finally {
+      for (RunReader reader: readers) {
+        reader.close();
+      }
+    }
+  }
+
+  private static boolean isSameKey(byte[] key1, byte[] key2) {
+    return WritableComparator.compareBytes(key1, 0, key1.length, key2, 0, key2.length) == 0;
+  }
+
+  /**
+   * Sorts the buffered records and writes the latest record of every key to a new run file.
+   */
+  private void spill() throws IOException {
+    if (spillDir == null) {
+      spillDir = Files.createTempDirectory("kafka_input_sorted_runs").toFile();
+    }
+    buffer.sort(RECORD_COMPARATOR);
+    File runFile = new File(spillDir, "run_" + runFiles.size());
+    long recordCount = 0;
+    try (DataOutputStream outputStream =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(runFile)))) {
+      byte[] previousKey = null;
+      for (Record record: buffer) {
+        if (previousKey != null && isSameKey(record.key, previousKey)) {
+          continue;
+        }
+        outputStream.writeInt(record.key.length);
+        outputStream.write(record.key);
+        outputStream.writeLong(record.offset);
+        outputStream.writeInt(record.value.length);
+        outputStream.write(record.value);
+        previousKey = record.key;
+        recordCount++;
+      }
+    }
+    runFiles.add(runFile);
+    LOGGER.info(
+        "Spilled {} out of {} buffered records ({} bytes) to run file: {}",
+        recordCount,
+        buffer.size(),
+        bufferedBytes,
+        runFile.getAbsolutePath());
+    buffer.clear();
+    bufferedBytes = 0;
+  }
+
+  @Override
+  public void close() {
+    buffer.clear();
+    bufferedBytes = 0;
+    if (spillDir != null) {
+      try {
+        FileUtils.deleteDirectory(spillDir);
+      } catch (IOException e) {
+        LOGGER.warn("Failed to delete the spill directory: {}", spillDir.getAbsolutePath(), e);
+      }
+      spillDir = null;
+    }
+    runFiles.clear();
+  }
+
+  private static class RunReader implements Closeable {
+    private final DataInputStream inputStream;
+    private Record current = null;
+
+    RunReader(File runFile) throws IOException {
+      this.inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(runFile)));
+    }
+
+    boolean advance() throws IOException {
+      int keyLength;
+      try {
+        keyLength = inputStream.readInt();
+      } catch (EOFException e) {
+        current = null;
+        return false;
+      }
+      byte[] key = new byte[keyLength];
+      inputStream.readFully(key);
+      long offset = inputStream.readLong();
+      byte[] value = new byte[inputStream.readInt()];
+      inputStream.readFully(value);
+      current = new Record(key, offset, value);
+      return true;
+    }
+
+    @Override
+    public void close() {
+      try {
+        inputStream.close();
+      } catch (IOException e) {
+        throw new VeniceException("Failed to close the run file reader", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package com.linkedin.venice.hadoop.input.kafka;
+
+import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_KAFKA_INPUT_MAP_ONLY_SPILL_THRESHOLD_IN_BYTES;
+import static com.linkedin.venice.hadoop.VenicePushJob.KAFKA_INPUT_MAP_ONLY_SPILL_THRESHOLD_IN_BYTES;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.hadoop.AbstractMapReduceTask;
+import com.linkedin.venice.hadoop.VenicePushJob;
+import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperKey;
+import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperValue;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.OutputCollector;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapreduce.TaskType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This mapper is used by the map-only Kafka Input repush, which is enabled by
+ * {@link VenicePushJob#KAFKA_INPUT_MAP_ONLY_ENABLED}.
+ *
+ * Since every mapper consumes a whole source topic partition, and the source version and the new version are
+ * using the same partitioner and partition count, all the records of a source partition belong to the same partition
+ * of the new version, so the shuffle could be skipped: the records are de-duplicated locally by
+ * {@link KafkaInputSortedRunDeduplicator}, and the latest record of every key is produced by an embedded
+ * {@link VeniceKafkaInputReducer} to the partition with the same id, which keeps the compression and replication
+ * metadata handling identical to the regular repush.
+ *
+ * As a consequence, the parallelism of the job is bounded by the partition count of the source version, since a
+ * source partition can't be split by {@link VenicePushJob#KAFKA_INPUT_MAX_RECORDS_PER_MAPPER} like in the regular
+ * repush without producing several records of the same key from different mappers in an undefined order.
+ */
+public class VeniceKafkaInputMapOnlyMapper extends VeniceKafkaInputMapper {
+  private static final Logger LOGGER = LogManager.getLogger(VeniceKafkaInputMapOnlyMapper.class);
+  private static final RecordSerializer<KafkaInputMapperKey> KAFKA_INPUT_MAPPER_KEY_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(KafkaInputMapperKey.SCHEMA$);
+  /**
+   * The embedded reducer produces the records to Kafka, and never collects anything.
+   */
+  private static final OutputCollector<BytesWritable, BytesWritable> NO_OP_OUTPUT_COLLECTOR = (key, value) -> {
+  };
+
+  private final BytesWritable keyBW = new BytesWritable();
+  private final BytesWritable valueBW = new BytesWritable();
+  private KafkaInputSortedRunDeduplicator deduplicator;
+  private VeniceKafkaInputReducer reducer;
+  private JobConf job;
+  private Reporter reporter = null;
+  private int sourcePartition = TASK_ID_NOT_SET;
+
+  @Override
+  protected void configureTask(VeniceProperties props, JobConf job) {
+    super.configureTask(props, job);
+    this.job = job;
+    this.deduplicator = new KafkaInputSortedRunDeduplicator(
+        props.getLong(
+            KAFKA_INPUT_MAP_ONLY_SPILL_THRESHOLD_IN_BYTES,
+            DEFAULT_KAFKA_INPUT_MAP_ONLY_SPILL_THRESHOLD_IN_BYTES));
+  }
+
+  @Override
+  public void map(
+      KafkaInputMapperKey inputKey,
+      KafkaInputMapperValue inputValue,
+      OutputCollector<BytesWritable, BytesWritable> output,
+      Reporter reporter) throws IOException {
+    this.reporter = reporter;
+    if (sourcePartition == TASK_ID_NOT_SET) {
+      if (!(reporter.getInputSplit() instanceof KafkaInputSplit)) {
+        throw new VeniceException("Map-only Kafka Input repush requires " + KafkaInputSplit.class.getSimpleName());
+      }
+      sourcePartition = ((KafkaInputSplit) reporter.getInputSplit()).getTopicPartition().partition();
+    }
+    // Nothing will be collected since the records are produced to Kafka directly in #close.
+    if (process(inputKey, inputValue, keyBW, valueBW, reporter)) {
+      deduplicator.add(ByteUtils.extractByteArray(inputKey.key), inputKey.offset, valueBW.copyBytes());
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (reporter != null) {
+        reducer = createReducer();
+        KafkaInputMapperKey mapperKey = new KafkaInputMapperKey();
+        try {
+          deduplicator.forEachLatestRecord((key, offset, value) -> {
+            mapperKey.key = ByteBuffer.wrap(key);
+            mapperKey.offset = offset;
+            byte[] serializedKey = KAFKA_INPUT_MAPPER_KEY_SERIALIZER.serialize(mapperKey);
+            keyBW.set(serializedKey, 0, serializedKey.length);
+            valueBW.set(value, 0, value.length);
+            reducer.reduce(keyBW, Collections.singletonList(valueBW).iterator(), NO_OP_OUTPUT_COLLECTOR, reporter);
+          });
+        } finally {
+          reducer.close();
+        }
+        LOGGER.info("Finished producing the de-duplicated records of source partition: {}", sourcePartition);
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to produce the records of source partition: " + sourcePartition, e);
+    } finally {
+      Utils.closeQuietlyWithErrorLogged(deduplicator);
+      super.close();
+    }
+  }
+
+  /**
+   * The embedded reducer verifies that every record is produced to the partition matching its task id, so its task
+   * id is overridden with the source partition, since the map task ids are assigned by the split order.
+   */
+  VeniceKafkaInputReducer createReducer() {
+    JobConf reducerJob = new JobConf(job);
+    TaskAttemptID mapTaskAttemptID =
+        TaskAttemptID.forName(job.get(AbstractMapReduceTask.MAPRED_TASK_ID_PROP_NAME));
+    TaskAttemptID reducerTaskAttemptID = new TaskAttemptID(
+        mapTaskAttemptID.getJobID().getJtIdentifier(),
+        mapTaskAttemptID.getJobID().getId(),
+        TaskType.REDUCE,
+        sourcePartition,
+        mapTaskAttemptID.getId());
+    reducerJob.set(AbstractMapReduceTask.MAPRED_TASK_ID_PROP_NAME, reducerTaskAttemptID.toString());
+    VeniceKafkaInputReducer newReducer = new VeniceKafkaInputReducer();
+    newReducer.configure(reducerJob);
+    return newReducer;
+  }
+}
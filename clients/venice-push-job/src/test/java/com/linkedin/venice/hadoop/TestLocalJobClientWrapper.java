@@ -0,0 +1,238 @@
+package com.linkedin.venice.hadoop;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.mapred.InputFormat;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.MapReduceBase;
+import org.apache.hadoop.mapred.Mapper;
+import org.apache.hadoop.mapred.OutputCollector;
+import org.apache.hadoop.mapred.Partitioner;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reducer;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestLocalJobClientWrapper {
+  private static final int SPLIT_COUNT = 4;
+  private static final int RECORDS_PER_SPLIT = 100;
+  private static final int PARTITION_COUNT = 3;
+  private static final String COUNTER_GROUP = "test";
+  private static final String MAPPED_COUNTER = "mapped";
+  private static final String REDUCED_COUNTER = "reduced";
+
+  /**
+   * Partition id -> the keys passed to the reducer of the partition in order, and every key is the input record
+   * modulo 50, so every key is emitted by all the splits.
+   */
+  private static final Map<Integer, List<String>> REDUCED_KEYS = new ConcurrentHashMap<>();
+
+  @Test
+  public void testMapAndReduce() throws IOException {
+    REDUCED_KEYS.clear();
+    RunningJob runningJob = new LocalJobClientWrapper(2).runJobWithConfig(getJobConf(PARTITION_COUNT));
+
+    Assert.assertTrue(runningJob.isSuccessful());
+    Assert.assertEquals(
+        runningJob.getCounters().getGroup(COUNTER_GROUP).getCounter(MAPPED_COUNTER),
+        SPLIT_COUNT * RECORDS_PER_SPLIT);
+    // Every key is from all the splits, and the values of the same key are grouped.
+    Assert.assertEquals(
+        runningJob.getCounters().getGroup(COUNTER_GROUP).getCounter(REDUCED_COUNTER),
+        SPLIT_COUNT * RECORDS_PER_SPLIT);
+    Assert.assertEquals(REDUCED_KEYS.size(), PARTITION_COUNT);
+    int totalKeyCount = 0;
+    for (Map.Entry<Integer, List<String>> entry: REDUCED_KEYS.entrySet()) {
+      List<String> keys = entry.getValue();
+      List<String> sortedKeys = new ArrayList<>(keys);
+      sortedKeys.sort(String::compareTo);
+      Assert.assertEquals(keys, sortedKeys, "The keys should be passed to the reducer in order");
+      for (String key: keys) {
+        Assert.assertEquals(Integer.parseInt(key) % PARTITION_COUNT, (int) entry.getKey());
+      }
+      totalKeyCount += keys.size();
+    }
+    Assert.assertEquals(totalKeyCount, 50);
+  }
+
+  @Test
+  public void testMapOnly() throws IOException {
+    REDUCED_KEYS.clear();
+    RunningJob runningJob = new LocalJobClientWrapper(2).runJobWithConfig(getJobConf(0));
+
+    Assert.assertEquals(
+        runningJob.getCounters().getGroup(COUNTER_GROUP).getCounter(MAPPED_COUNTER),
+        SPLIT_COUNT * RECORDS_PER_SPLIT);
+    Assert.assertTrue(REDUCED_KEYS.isEmpty());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidThreadNum() {
+    new LocalJobClientWrapper(0);
+  }
+
+  private JobConf getJobConf(int numReduceTasks) {
+    JobConf jobConf = new JobConf();
+    jobConf.setInputFormat(TestInputFormat.class);
+    jobConf.setMapperClass(TestMapper.class);
+    jobConf.setPartitionerClass(TestPartitioner.class);
+    jobConf.setReducerClass(TestReducer.class);
+    jobConf.setMapOutputKeyClass(BytesWritable.class);
+    jobConf.setMapOutputValueClass(BytesWritable.class);
+    jobConf.setNumReduceTasks(numReduceTasks);
+    return jobConf;
+  }
+
+  public static class TestInputSplit implements InputSplit {
+    private int splitId;
+
+    public TestInputSplit() {
+    }
+
+    TestInputSplit(int splitId) {
+      this.splitId = splitId;
+    }
+
+    @Override
+    public long getLength() {
+      return RECORDS_PER_SPLIT;
+    }
+
+    @Override
+    public String[] getLocations() {
+      return new String[0];
+    }
+
+    @Override
+    public void write(DataOutput out) throws IOException {
+      out.writeInt(splitId);
+    }
+
+    @Override
+    public void readFields(DataInput in) throws IOException {
+      splitId = in.readInt();
+    }
+  }
+
+  public static class TestInputFormat implements InputFormat<IntWritable, NullWritable> {
+    @Override
+    public InputSplit[] getSplits(JobConf job, int numSplits) {
+      InputSplit[] splits = new InputSplit[SPLIT_COUNT];
+      for (int i = 0; i < SPLIT_COUNT; i++) {
+        splits[i] = new TestInputSplit(i);
+      }
+      return splits;
+    }
+
+    @Override
+    public RecordReader<IntWritable, NullWritable> getRecordReader(InputSplit split, JobConf job, Reporter reporter) {
+      int splitId = ((TestInputSplit) split).splitId;
+      return new RecordReader<IntWritable, NullWritable>() {
+        private int cur = 0;
+
+        @Override
+        public boolean next(IntWritable key, NullWritable value) {
+          if (cur >= RECORDS_PER_SPLIT) {
+            return false;
+          }
+          key.set(splitId * RECORDS_PER_SPLIT + cur);
+          cur++;
+          return true;
+        }
+
+        @Override
+        public IntWritable createKey() {
+          return new IntWritable();
+        }
+
+        @Override
+        public NullWritable createValue() {
+          return NullWritable.get();
+        }
+
+        @Override
+        public long getPos() {
+          return cur;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public float getProgress() {
+          return (float) cur / RECORDS_PER_SPLIT;
+        }
+      };
+    }
+  }
+
+  public static class TestMapper extends MapReduceBase
+      implements Mapper<IntWritable, NullWritable, BytesWritable, BytesWritable> {
+    private final BytesWritable keyBW = new BytesWritable();
+    private final BytesWritable valueBW = new BytesWritable();
+
+    @Override
+    public void map(
+        IntWritable key,
+        NullWritable value,
+        OutputCollector<BytesWritable, BytesWritable> output,
+        Reporter reporter) throws IOException {
+      // The same key and value objects are reused, the same as the Venice mappers.
+      byte[] keyBytes = String.format("%02d", key.get() % 50).getBytes();
+      byte[] valueBytes = Integer.toString(key.get()).getBytes();
+      keyBW.set(keyBytes, 0, keyBytes.length);
+      valueBW.set(valueBytes, 0, valueBytes.length);
+      output.collect(keyBW, valueBW);
+      reporter.incrCounter(COUNTER_GROUP, MAPPED_COUNTER, 1);
+    }
+  }
+
+  public static class TestPartitioner implements Partitioner<BytesWritable, BytesWritable> {
+    @Override
+    public int getPartition(BytesWritable key, BytesWritable value, int numPartitions) {
+      return Integer.parseInt(new String(key.copyBytes())) % numPartitions;
+    }
+
+    @Override
+    public void configure(JobConf job) {
+    }
+  }
+
+  public static class TestReducer extends MapReduceBase
+      implements Reducer<BytesWritable, BytesWritable, BytesWritable, BytesWritable> {
+    private int taskId;
+
+    @Override
+    public void configure(JobConf job) {
+      taskId = TaskAttemptID.forName(job.get(AbstractMapReduceTask.MAPRED_TASK_ID_PROP_NAME)).getTaskID().getId();
+    }
+
+    @Override
+    public void reduce(
+        BytesWritable key,
+        Iterator<BytesWritable> values,
+        OutputCollector<BytesWritable, BytesWritable> output,
+        Reporter reporter) {
+      REDUCED_KEYS.computeIfAbsent(taskId, k -> new ArrayList<>()).add(new String(key.copyBytes()));
+      while (values.hasNext()) {
+        values.next();
+        reporter.incrCounter(COUNTER_GROUP, REDUCED_COUNTER, 1);
+      }
+    }
+  }
+}
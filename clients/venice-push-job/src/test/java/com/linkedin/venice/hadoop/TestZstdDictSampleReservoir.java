@@ -0,0 +1,48 @@
+package com.linkedin.venice.hadoop;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.linkedin.venice.compression.NoopCompressor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestZstdDictSampleReservoir {
+  @Test
+  public void testAllSamplesAreKeptUnderLimit() {
+    ZstdDictSampleReservoir reservoir = new ZstdDictSampleReservoir(100);
+    for (int i = 0; i < 10; i++) {
+      Assert.assertTrue(reservoir.offer(new byte[10]));
+    }
+    Assert.assertEquals(reservoir.getSampleCount(), 10);
+    Assert.assertEquals(reservoir.getFilledBytes(), 100);
+    Assert.assertEquals(reservoir.getOfferedCount(), 10);
+
+    ZstdDictTrainer mockTrainer = mock(ZstdDictTrainer.class);
+    reservoir.addTo(mockTrainer);
+    verify(mockTrainer, times(10)).addSample(any());
+  }
+
+  @Test
+  public void testReservoirIsBoundedOverLimit() {
+    ZstdDictSampleReservoir reservoir = new ZstdDictSampleReservoir(100);
+    for (int i = 0; i < 1000; i++) {
+      reservoir.offer(new byte[i % 20 + 1]);
+      Assert.assertTrue(reservoir.getFilledBytes() <= 100);
+    }
+    Assert.assertEquals(reservoir.getOfferedCount(), 1000);
+    Assert.assertTrue(reservoir.getSampleCount() > 0);
+  }
+
+  @Test
+  public void testEstimateCompressionRatio() {
+    ZstdDictSampleReservoir reservoir = new ZstdDictSampleReservoir(100);
+    Assert.assertEquals(reservoir.estimateCompressionRatio(new NoopCompressor(), 100), 0d);
+    reservoir.offer("sample".getBytes());
+    Assert.assertEquals(reservoir.estimateCompressionRatio(new NoopCompressor(), 100), 1d);
+  }
+}
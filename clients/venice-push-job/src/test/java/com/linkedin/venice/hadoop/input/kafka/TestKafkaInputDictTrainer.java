@@ -9,10 +9,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.github.luben.zstd.Zstd;
 import com.github.luben.zstd.ZstdDictTrainer;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.NoopCompressor;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperKey;
 import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperValue;
@@ -26,6 +28,7 @@ import java.util.Optional;
 import java.util.Properties;
 import org.apache.hadoop.mapred.InputSplit;
 import org.apache.hadoop.mapred.RecordReader;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 
@@ -294,4 +297,57 @@ public class TestKafkaInputDictTrainer {
     verify(mockedCompressor, never()).decompress(eq(ByteBuffer.wrap("p0_value0".getBytes())));
     verify(mockTrainer1, never()).addSample(eq("p0_value0".getBytes()));
   }
+
+  @Test
+  public void testReuseSourceVersionDict() throws IOException {
+    byte[] sourceDict = ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData();
+    try (ZstdWithDictCompressor sourceCompressor = new ZstdWithDictCompressor(sourceDict, Zstd.maxCompressionLevel())) {
+      // The source dict will be reused with a low enough ratio requirement.
+      ZstdDictTrainer mockTrainer1 = mock(ZstdDictTrainer.class);
+      KafkaInputDictTrainer trainer1 = new KafkaInputDictTrainer(
+          mockFormatWithCompressedValues(sourceCompressor),
+          Optional.of(mockTrainer1),
+          getParamWithDictReuse(0.01),
+          getCompressorBuilder(sourceCompressor));
+      Assert.assertEquals(trainer1.trainDict(Optional.of(mock(PubSubConsumerAdapter.class))), sourceDict);
+      verify(mockTrainer1, never()).trainSamples();
+
+      // A new dict will be trained if the source dict can't achieve the required ratio.
+      ZstdDictTrainer mockTrainer2 = mock(ZstdDictTrainer.class);
+      byte[] newDict = "new_dict".getBytes();
+      doReturn(newDict).when(mockTrainer2).trainSamples();
+      KafkaInputDictTrainer trainer2 = new KafkaInputDictTrainer(
+          mockFormatWithCompressedValues(sourceCompressor),
+          Optional.of(mockTrainer2),
+          getParamWithDictReuse(1000),
+          getCompressorBuilder(sourceCompressor));
+      Assert.assertEquals(trainer2.trainDict(Optional.of(mock(PubSubConsumerAdapter.class))), newDict);
+      verify(mockTrainer2).addSample(eq("p0_value0".getBytes()));
+    }
+  }
+
+  private KafkaInputDictTrainer.Param getParamWithDictReuse(double minCompressionRatio) {
+    return new KafkaInputDictTrainer.ParamBuilder().setKafkaInputBroker("test_url")
+        .setTopicName("test_topic")
+        .setKeySchema("\"string\"")
+        .setCompressionDictSize(900 * 1024)
+        .setDictSampleSize(1000)
+        .setSslProperties(new Properties())
+        .setSourceVersionCompressionStrategy(CompressionStrategy.ZSTD_WITH_DICT)
+        .setSourceDictReuseMinCompressionRatio(minCompressionRatio)
+        .build();
+  }
+
+  private KafkaInputFormat mockFormatWithCompressedValues(VeniceCompressor compressor) throws IOException {
+    KafkaInputFormat mockFormat = mock(KafkaInputFormat.class);
+    InputSplit[] splits = new KafkaInputSplit[] { new KafkaInputSplit("test_topic", 0, 0, 2) };
+    doReturn(splits).when(mockFormat).getSplitsByRecordsPerSplit(any(), anyLong());
+    List<byte[]> compressedValues = new ArrayList<>();
+    for (String value: Arrays.asList("p0_value0", "p0_value1", "p0_value2")) {
+      compressedValues.add(compressor.compress(value.getBytes()));
+    }
+    ResettableRecordReader<KafkaInputMapperKey, KafkaInputMapperValue> reader = mockReader(compressedValues);
+    doReturn(reader).when(mockFormat).getRecordReader(eq(splits[0]), any(), any(), any());
+    return mockFormat;
+  }
 }
@@ -0,0 +1,55 @@
+package com.linkedin.venice.hadoop.input.kafka;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestKafkaInputSortedRunDeduplicator {
+  @DataProvider(name = "spillThreshold")
+  public static Object[][] spillThreshold() {
+    // A huge threshold keeps everything in memory, while a tiny one spills a run for every record.
+    return new Object[][] { { Long.MAX_VALUE }, { 1L }, { 200L } };
+  }
+
+  @Test(dataProvider = "spillThreshold")
+  public void testLatestRecordOfEveryKeyIsEmittedInOrder(long spillThreshold) throws IOException {
+    List<String> emitted = new ArrayList<>();
+    try (KafkaInputSortedRunDeduplicator deduplicator = new KafkaInputSortedRunDeduplicator(spillThreshold)) {
+      deduplicator.add("key_b".getBytes(), 0, "value_b_0".getBytes());
+      deduplicator.add("key_a".getBytes(), 1, "value_a_1".getBytes());
+      deduplicator.add("key_c".getBytes(), 2, "value_c_2".getBytes());
+      deduplicator.add("key_b".getBytes(), 3, "value_b_3".getBytes());
+      deduplicator.add("key_a".getBytes(), 4, "value_a_4".getBytes());
+      deduplicator.add("key_b".getBytes(), 5, "value_b_5".getBytes());
+      if (spillThreshold == 1L) {
+        Assert.assertEquals(deduplicator.getRunCount(), 6);
+      } else if (spillThreshold == Long.MAX_VALUE) {
+        Assert.assertEquals(deduplicator.getRunCount(), 0);
+      }
+
+      deduplicator.forEachLatestRecord(
+          (key, offset, value) -> emitted.add(new String(key) + ":" + offset + ":" + new String(value)));
+    }
+    List<String> expected = new ArrayList<>();
+    expected.add("key_a:4:value_a_4");
+    expected.add("key_b:5:value_b_5");
+    expected.add("key_c:2:value_c_2");
+    Assert.assertEquals(emitted, expected);
+  }
+
+  @Test
+  public void testEmptyInput() throws IOException {
+    try (KafkaInputSortedRunDeduplicator deduplicator = new KafkaInputSortedRunDeduplicator(1L)) {
+      deduplicator.forEachLatestRecord((key, offset, value) -> Assert.fail("Nothing should be emitted"));
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidSpillThreshold() {
+    new KafkaInputSortedRunDeduplicator(0);
+  }
+}
@@ -0,0 +1,107 @@
+package com.linkedin.venice.hadoop.input.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.hadoop.AbstractVeniceFilter;
+import com.linkedin.venice.hadoop.FilterChain;
+import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperKey;
+import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperValue;
+import com.linkedin.venice.hadoop.input.kafka.avro.MapperValueType;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.OutputCollector;
+import org.apache.hadoop.mapred.Reporter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceKafkaInputMapOnlyMapper {
+  private static final RecordDeserializer<KafkaInputMapperKey> KEY_DESERIALIZER = FastSerializerDeserializerFactory
+      .getFastAvroSpecificDeserializer(KafkaInputMapperKey.SCHEMA$, KafkaInputMapperKey.class);
+  private static final RecordDeserializer<KafkaInputMapperValue> VALUE_DESERIALIZER = FastSerializerDeserializerFactory
+      .getFastAvroSpecificDeserializer(KafkaInputMapperValue.SCHEMA$, KafkaInputMapperValue.class);
+  private static final long EXPIRED_OFFSET = 3;
+
+  @Test
+  public void testLatestRecordOfEveryKeyIsProducedAfterFiltering() throws Exception {
+    // The filter stands for the TTL filter, which drops the expired record.
+    AbstractVeniceFilter<KafkaInputMapperValue> filter = mock(AbstractVeniceFilter.class);
+    doAnswer(invocation -> ((KafkaInputMapperValue) invocation.getArgument(0)).offset == EXPIRED_OFFSET)
+        .when(filter)
+        .apply(any());
+    VeniceKafkaInputMapOnlyMapper mapper = spy(new VeniceKafkaInputMapOnlyMapper());
+    doReturn(new FilterChain<>(filter)).when(mapper).getFilterChain(any());
+
+    List<String> producedRecords = new ArrayList<>();
+    VeniceKafkaInputReducer reducer = mock(VeniceKafkaInputReducer.class);
+    doAnswer(invocation -> {
+      KafkaInputMapperKey key = KEY_DESERIALIZER.deserialize(((BytesWritable) invocation.getArgument(0)).copyBytes());
+      Iterator<BytesWritable> values = invocation.getArgument(1);
+      KafkaInputMapperValue value = VALUE_DESERIALIZER.deserialize(values.next().copyBytes());
+      Assert.assertFalse(values.hasNext());
+      Assert.assertNotNull(invocation.getArgument(2), "The reducer should be given an output collector");
+      producedRecords.add(
+          new String(ByteUtils.extractByteArray(key.key), StandardCharsets.UTF_8) + ":" + key.offset + ":"
+              + value.valueType + ":" + new String(ByteUtils.extractByteArray(value.value), StandardCharsets.UTF_8));
+      return null;
+    }).when(reducer).reduce(any(), any(), any(), any());
+    doReturn(reducer).when(mapper).createReducer();
+
+    Reporter reporter = mock(Reporter.class);
+    doReturn(new KafkaInputSplit("test_store_v1", 2, 0, 10)).when(reporter).getInputSplit();
+    OutputCollector<BytesWritable, BytesWritable> collector = mock(OutputCollector.class);
+
+    mapper.configureTask(VeniceProperties.empty(), new JobConf());
+    mapper.map(getKey("key_a", 1), getValue(MapperValueType.PUT, 1, "value_a_1"), collector, reporter);
+    mapper.map(getKey("key_b", 2), getValue(MapperValueType.PUT, 2, "value_b_2"), collector, reporter);
+    mapper.map(
+        getKey("key_c", EXPIRED_OFFSET),
+        getValue(MapperValueType.PUT, EXPIRED_OFFSET, "value_c_3"),
+        collector,
+        reporter);
+    mapper.map(getKey("key_a", 4), getValue(MapperValueType.PUT, 4, "value_a_4"), collector, reporter);
+    mapper.map(getKey("key_b", 5), getValue(MapperValueType.DELETE, 5, ""), collector, reporter);
+    mapper.close();
+
+    // The latest record of every key wins, including deletes, and the expired record is dropped.
+    List<String> expectedRecords = new ArrayList<>();
+    expectedRecords.add("key_a:4:PUT:value_a_4");
+    expectedRecords.add("key_b:5:DELETE:");
+    Assert.assertEquals(producedRecords, expectedRecords);
+    verify(reducer).close();
+    verify(collector, never()).collect(any(), any());
+  }
+
+  private static KafkaInputMapperKey getKey(String key, long offset) {
+    KafkaInputMapperKey mapperKey = new KafkaInputMapperKey();
+    mapperKey.key = ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+    mapperKey.offset = offset;
+    return mapperKey;
+  }
+
+  private static KafkaInputMapperValue getValue(MapperValueType valueType, long offset, String value) {
+    KafkaInputMapperValue mapperValue = new KafkaInputMapperValue();
+    mapperValue.valueType = valueType;
+    mapperValue.offset = offset;
+    mapperValue.schemaId = 1;
+    mapperValue.value = ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    mapperValue.replicationMetadataPayload = ByteBuffer.wrap(new byte[0]);
+    mapperValue.replicationMetadataVersionId = -1;
+    return mapperValue;
+  }
+}
@@ -4,8 +4,10 @@ import com.linkedin.alpini.base.concurrency.ConcurrentAccumulator;
 import com.linkedin.alpini.base.misc.Time;
 import com.linkedin.alpini.base.statistics.AbstractQuantileEstimation;
 import com.linkedin.alpini.base.statistics.LongStats;
+import com.linkedin.alpini.base.statistics.LongStatsAccumulator;
 import com.linkedin.alpini.base.statistics.LongStatsAggregator;
 import com.linkedin.alpini.base.statistics.LongStatsArrayAggregator;
+import com.linkedin.alpini.base.statistics.LongStatsSketchAggregator;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
@@ -32,6 +34,9 @@ public class CallTrackerImpl implements CallTracker {
 
   private static final double LONG_STATS_EPSILON = 0.0005;
   private static final int LONG_STATS_SAMPLES = 2000;
+  /** The call times are estimated within 1/64 of their value, up to the length of the buckets. */
+  private static final int LONG_STATS_PRECISION_BITS = 6;
+  private static final long LONG_STATS_HIGHEST_NANOS = SUNSET_NANOS;
 
   private static final Stats NULL_STATS = new Stats();
 
@@ -47,23 +52,32 @@ public class CallTrackerImpl implements CallTracker {
   public enum Mode {
     SKIP_LIST {
       @Override
-      LongStatsAggregator constructor(double epsilon, int samples) {
+      LongStatsAccumulator constructor(double epsilon, int samples) {
         return new LongStatsAggregator(epsilon, samples);
       }
     },
     ARRAY_LIST {
       @Override
-      LongStatsAggregator constructor(double epsilon, int samples) {
+      LongStatsAccumulator constructor(double epsilon, int samples) {
         return new LongStatsArrayAggregator(epsilon, samples);
       }
+    },
+    /**
+     * Estimates the quantiles with a fixed size sketch, which bounds the memory and the cost of every call.
+     */
+    SKETCH {
+      @Override
+      LongStatsAccumulator constructor(double epsilon, int samples) {
+        return new LongStatsSketchAggregator(LONG_STATS_PRECISION_BITS, LONG_STATS_HIGHEST_NANOS);
+      }
     };
 
-    abstract LongStatsAggregator constructor(double epsilon, int samples);
+    abstract LongStatsAccumulator constructor(double epsilon, int samples);
   }
 
-  public static Mode defaultMode = Mode.SKIP_LIST;
+  public static Mode defaultMode = Mode.SKETCH;
 
-  private final LongStatsAggregator _callTimeStatsAggregator =
+  private final LongStatsAccumulator _callTimeStatsAggregator =
       defaultMode.constructor(LONG_STATS_EPSILON, LONG_STATS_SAMPLES);
   private final AtomicIntegerArray _concurrencyArray;
   private final AtomicIntegerArray _maxConcurrencyArray;
@@ -23,12 +23,12 @@ public class LongQuantileEstimation extends AbstractQuantileEstimation<LongQuant
     return super.computeQuantile(new Sample(v));
   }
 
-  public final Long query(double quantile) {
+  public Long query(double quantile) {
     List<Sample> sample = querySample(new Quantiles(quantile));
     return !sample.isEmpty() ? sample.iterator().next()._value : null;
   }
 
-  public final long[] query(@Nonnull Quantiles quantiles) {
+  public long[] query(@Nonnull Quantiles quantiles) {
     return querySample(quantiles).stream().mapToLong(Sample::value).toArray();
   }
 
@@ -0,0 +1,301 @@
+package com.linkedin.alpini.base.statistics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import javax.annotation.Nonnull;
+
+
+/**
+ * A fixed size, mergeable sketch for estimating the quantiles of non-negative long values, such as latencies in
+ * nanoseconds. Unlike the {@link AbstractQuantileEstimation} implementations, it keeps no samples: recording a value
+ * increments a counter, without allocating or sorting anything, and its memory is bounded by its precision and
+ * range, whatever the number of values.
+ *
+ * The buckets are log-linear, like the ones of HdrHistogram: the values below 2^{@literal precisionBits} have a bucket
+ * each, and every greater power of two is split into 2^({@literal precisionBits} - 1) linear buckets. So the
+ * quantiles are estimated with a relative error of at most 2^-{@literal precisionBits}, whatever the distribution.
+ * The values greater than the highest trackable value are counted in the last bucket.
+ *
+ * The counters are striped by thread to reduce the contention between the recording threads, and the stripes are
+ * only allocated when they're first used. The sum, min and max of the values are kept exactly, by accumulators which
+ * are striped as well. The values are read by taking a {@link Snapshot}, and the snapshots of
+ * sketches with the same precision and range can be merged, e.g. to combine the sketches of several hosts.
+ *
+ * @see "Gil Tene, 'HdrHistogram: A High Dynamic Range Histogram'"
+ */
+public class LongQuantileSketch implements LongConsumer {
+  private static final int DEFAULT_STRIPE_COUNT = 4;
+
+  private final int _precisionBits;
+  private final int _bucketCount;
+  private final AtomicReferenceArray<AtomicLongArray> _stripes;
+  private final int _stripeMask;
+  private final LongAccumulator _min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  private final LongAccumulator _max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+  private final LongAdder _sum = new LongAdder();
+
+  /**
+   * @param precisionBits number of significant bits of the values, between 1 and 16. The relative error of the
+   *                      quantiles is at most 2^-{@literal precisionBits}.
+   * @param highestTrackableValue the greatest value which is counted in its own bucket.
+   */
+  public LongQuantileSketch(int precisionBits, long highestTrackableValue) {
+    this(precisionBits, highestTrackableValue, DEFAULT_STRIPE_COUNT);
+  }
+
+  /**
+   * @param precisionBits number of significant bits of the values, between 1 and 16. The relative error of the
+   *                      quantiles is at most 2^-{@literal precisionBits}.
+   * @param highestTrackableValue the greatest value which is counted in its own bucket.
+   * @param stripeCount number of copies of the counters, which is rounded up to a power of two.
+   */
+  public LongQuantileSketch(int precisionBits, long highestTrackableValue, int stripeCount) {
+    if (precisionBits < 1 || precisionBits > 16) {
+      throw new IllegalArgumentException("The precision bits must be between 1 and 16");
+    }
+    if (highestTrackableValue < 1) {
+      throw new IllegalArgumentException("The highest trackable value must be positive");
+    }
+    if (stripeCount < 1) {
+      throw new IllegalArgumentException("The stripe count must be positive");
+    }
+    _precisionBits = precisionBits;
+    _bucketCount = bucketIndex(precisionBits, highestTrackableValue) + 1;
+    int roundedStripeCount = Integer.highestOneBit(stripeCount);
+    if (roundedStripeCount < stripeCount) {
+      roundedStripeCount <<= 1;
+    }
+    _stripes = new AtomicReferenceArray<>(roundedStripeCount);
+    _stripeMask = roundedStripeCount - 1;
+  }
+
+  /**
+   * Records a value. Negative values are counted as 0.
+   */
+  @Override
+  public void accept(long value) {
+    long v = Math.max(0L, value);
+    stripe().incrementAndGet(Math.min(bucketIndex(_precisionBits, v), _bucketCount - 1));
+    _sum.add(v);
+    _min.accumulate(v);
+    _max.accumulate(v);
+  }
+
+  private AtomicLongArray stripe() {
+    int index = (int) Thread.currentThread().getId() & _stripeMask;
+    AtomicLongArray stripe = _stripes.get(index);
+    if (stripe == null) {
+      _stripes.compareAndSet(index, null, new AtomicLongArray(_bucketCount));
+      stripe = _stripes.get(index);
+    }
+    return stripe;
+  }
+
+  /**
+   * @return the values recorded so far.
+   */
+  public @Nonnull Snapshot snapshot() {
+    long[] counts = new long[_bucketCount];
+    for (int s = 0; s < _stripes.length(); s++) {
+      AtomicLongArray stripe = _stripes.get(s);
+      for (int i = 0; stripe != null && i < _bucketCount; i++) {
+        counts[i] += stripe.get(i);
+      }
+    }
+    return new Snapshot(_precisionBits, counts, _sum.sum(), _min.get(), _max.get());
+  }
+
+  /**
+   * @return the values recorded since the last reset, and starts recording from scratch. A value which is recorded
+   *         concurrently may have its bucket counted in this snapshot and its sum, min and max in the next one.
+   */
+  public @Nonnull Snapshot snapshotAndReset() {
+    long[] counts = new long[_bucketCount];
+    for (int s = 0; s < _stripes.length(); s++) {
+      AtomicLongArray stripe = _stripes.get(s);
+      for (int i = 0; stripe != null && i < _bucketCount; i++) {
+        if (stripe.get(i) != 0) {
+          counts[i] += stripe.getAndSet(i, 0);
+        }
+      }
+    }
+    return new Snapshot(_precisionBits, counts, _sum.sumThenReset(), _min.getThenReset(), _max.getThenReset());
+  }
+
+  public void reset() {
+    snapshotAndReset();
+  }
+
+  /**
+   * @return the number of buckets of a stripe of counters.
+   */
+  public int getBucketCount() {
+    return _bucketCount;
+  }
+
+  static int bucketIndex(int precisionBits, long value) {
+    if (value < (1L << precisionBits)) {
+      return (int) value;
+    }
+    // The top precisionBits bits of the value pick the linear bucket within its power of two.
+    int shift = 64 - Long.numberOfLeadingZeros(value) - precisionBits;
+    int halfCount = 1 << (precisionBits - 1);
+    return (1 << precisionBits) + (shift - 1) * halfCount + (int) (value >>> shift) - halfCount;
+  }
+
+  static long bucketLowestValue(int precisionBits, int index) {
+    if (index < (1 << precisionBits)) {
+      return index;
+    }
+    int halfCount = 1 << (precisionBits - 1);
+    int shift = (index - (1 << precisionBits)) / halfCount + 1;
+    long top = halfCount + (index - (1 << precisionBits)) % halfCount;
+    return top << shift;
+  }
+
+  static long bucketHighestValue(int precisionBits, int index) {
+    return bucketLowestValue(precisionBits, index + 1) - 1;
+  }
+
+  /**
+   * An immutable copy of the counters of a {@link LongQuantileSketch}.
+   */
+  public static final class Snapshot {
+    private final int _precisionBits;
+    private final long[] _counts;
+    private final long _count;
+    private final long _sum;
+    private final long _min;
+    private final long _max;
+
+    private Snapshot(int precisionBits, long[] counts, long sum, long min, long max) {
+      _precisionBits = precisionBits;
+      _counts = counts;
+      long count = 0;
+      for (long c: counts) {
+        count += c;
+      }
+      _count = count;
+      _sum = sum;
+      _min = min;
+      _max = max;
+    }
+
+    public long getCount() {
+      return _count;
+    }
+
+    /**
+     * @return the sum of the values, where the negative values are counted as 0.
+     */
+    public long getSum() {
+      return _sum;
+    }
+
+    /**
+     * @return the least value, or null if there is no value.
+     */
+    public Long getMin() {
+      return _count == 0 ? null : _min;
+    }
+
+    /**
+     * @return the greatest value, or null if there is no value.
+     */
+    public Long getMax() {
+      return _count == 0 ? null : _max;
+    }
+
+    /**
+     * @return the number of non-empty buckets.
+     */
+    public int getNumberOfBuckets() {
+      int buckets = 0;
+      for (long c: _counts) {
+        if (c != 0) {
+          buckets++;
+        }
+      }
+      return buckets;
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. 0.99 for the 99th percentile.
+     * @return the estimated value of the quantile, or null if there is no value.
+     */
+    public Long getQuantile(double quantile) {
+      if (_count == 0) {
+        return null;
+      }
+      long rank = Math.max(1L, (long) Math.ceil(quantile * _count));
+      long seen = 0;
+      for (int i = 0; i < _counts.length; i++) {
+        seen += _counts[i];
+        if (seen >= rank) {
+          if (i == _counts.length - 1) {
+            return _max;
+          }
+          // The middle of the bucket, within the exact min and max unless they were reset concurrently.
+          long low = bucketLowestValue(_precisionBits, i);
+          long value = low + (bucketHighestValue(_precisionBits, i) - low) / 2;
+          return _min <= _max ? Math.min(Math.max(value, _min), _max) : value;
+        }
+      }
+      return _max;
+    }
+
+    /**
+     * @return the estimated values of the quantiles, or an empty array if there is no value.
+     */
+    public @Nonnull long[] getQuantiles(@Nonnull AbstractQuantileEstimation.Quantiles quantiles) {
+      if (_count == 0) {
+        return new long[0];
+      }
+      long[] values = new long[quantiles.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = getQuantile(quantiles.get(i));
+      }
+      return values;
+    }
+
+    /**
+     * Computes the quantile which the given value is a member.
+     * @return quantile, or null if there is no value.
+     */
+    public AbstractQuantileEstimation.Quantile computeQuantile(long value) {
+      if (_count == 0) {
+        return null;
+      }
+      int index = Math.min(bucketIndex(_precisionBits, Math.max(0L, value)), _counts.length - 1);
+      long below = 0;
+      for (int i = 0; i < index; i++) {
+        below += _counts[i];
+      }
+      double scale = 1.0 / _count;
+      double error = _counts[index] * scale * 0.5;
+      return new AbstractQuantileEstimation.Quantile(Math.min((below * scale) + error, 1.0), error);
+    }
+
+    /**
+     * @return a snapshot with the values of both snapshots.
+     */
+    public @Nonnull Snapshot merge(@Nonnull Snapshot other) {
+      if (_precisionBits != other._precisionBits || _counts.length != other._counts.length) {
+        throw new IllegalArgumentException("Only the snapshots of sketches with the same precision can be merged");
+      }
+      long[] counts = new long[_counts.length];
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] = _counts[i] + other._counts[i];
+      }
+      return new Snapshot(
+          _precisionBits,
+          counts,
+          _sum + other._sum,
+          Math.min(_min, other._min),
+          Math.max(_max, other._max));
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.linkedin.alpini.base.statistics;
+
+import java.util.function.LongConsumer;
+
+
+/**
+ * Accepts long values, such as call times, and summarises their statistics in a {@link LongStats} object, which
+ * resets the statistics.
+ *
+ * @see LongStatsAggregator
+ * @see LongStatsSketchAggregator
+ */
+public interface LongStatsAccumulator extends LongConsumer {
+  /**
+   * Computes the quantile which the given value is a member.
+   * @return quantile, or null if there is no value.
+   */
+  AbstractQuantileEstimation.Quantile computeQuantile(long v);
+
+  /**
+   * Summarises the statistics of the values accepted since the last reset, and resets them.
+   */
+  LongStats getLongStats();
+
+  void reset();
+}
@@ -11,7 +11,7 @@ import javax.annotation.Nonnull;
  *
  * @author Antony T Curtis {@literal <acurtis@linkedin.com>}
  */
-public class LongStatsAggregator extends LongQuantileEstimation {
+public class LongStatsAggregator extends LongQuantileEstimation implements LongStatsAccumulator {
   private static final Quantiles QUANTILES = new Quantiles(0.00, 0.50, 0.90, 0.95, 0.99, 0.999, 1.00);
 
   public LongStatsAggregator(double epsilon, int compactSize) {
@@ -39,6 +39,7 @@ public class LongStatsAggregator extends LongQuantileEstimation {
     }
   }
 
+  @Override
   public LongStats getLongStats() {
     Welfords.Result[] stddev = new Welfords.Result[1];
     List<Sample> samples = queryAndReset(QUANTILES, d -> stddev[0] = ((LongData) d)._stddev.getResult());
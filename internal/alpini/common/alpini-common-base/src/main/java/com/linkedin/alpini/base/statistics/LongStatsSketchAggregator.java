@@ -0,0 +1,122 @@
+package com.linkedin.alpini.base.statistics;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * A {@link LongStatsAccumulator} which estimates the quantiles with a {@link LongQuantileSketch} instead of keeping
+ * a summary of the samples like {@link LongStatsAggregator}, so that its memory and the cost of accepting a value are
+ * bounded whatever the rate of values. The quantiles have a relative error of at most 2^-{@literal precisionBits},
+ * rather than a rank error.
+ *
+ * The mean and standard deviation are still computed exactly, and the statistics are reset when they're summarised.
+ * Like the counters of the sketch, their accumulators are striped by thread, so that the threads which accept values
+ * don't all contend on a single atomic state.
+ */
+public class LongStatsSketchAggregator implements LongStatsAccumulator {
+  private static final AbstractQuantileEstimation.Quantiles QUANTILES =
+      new AbstractQuantileEstimation.Quantiles(0.50, 0.90, 0.95, 0.99, 0.999);
+  private static final int DEFAULT_STRIPE_COUNT = 4;
+
+  private final LongQuantileSketch _sketch;
+  private final Welfords.LongWelford[] _stddev;
+  private final int _stripeMask;
+
+  /**
+   * @param precisionBits number of significant bits of the values, see {@link LongQuantileSketch}.
+   * @param highestTrackableValue the greatest value which is counted in its own bucket.
+   */
+  public LongStatsSketchAggregator(int precisionBits, long highestTrackableValue) {
+    this(precisionBits, highestTrackableValue, DEFAULT_STRIPE_COUNT);
+  }
+
+  /**
+   * @param precisionBits number of significant bits of the values, see {@link LongQuantileSketch}.
+   * @param highestTrackableValue the greatest value which is counted in its own bucket.
+   * @param stripeCount number of copies of the counters and accumulators, which is rounded up to a power of two.
+   */
+  public LongStatsSketchAggregator(int precisionBits, long highestTrackableValue, int stripeCount) {
+    _sketch = new LongQuantileSketch(precisionBits, highestTrackableValue, stripeCount);
+    int roundedStripeCount = Integer.highestOneBit(stripeCount);
+    if (roundedStripeCount < stripeCount) {
+      roundedStripeCount <<= 1;
+    }
+    _stddev = new Welfords.LongWelford[roundedStripeCount];
+    for (int i = 0; i < roundedStripeCount; i++) {
+      _stddev[i] = new Welfords.LongWelford();
+    }
+    _stripeMask = roundedStripeCount - 1;
+  }
+
+  @Override
+  public void accept(long v) {
+    _sketch.accept(v);
+    _stddev[(int) Thread.currentThread().getId() & _stripeMask].accept(v);
+  }
+
+  @Override
+  public AbstractQuantileEstimation.Quantile computeQuantile(long v) {
+    return _sketch.snapshot().computeQuantile(v);
+  }
+
+  /**
+   * @return the estimated value of the quantile, or null if there is no value.
+   */
+  public Long query(double quantile) {
+    return _sketch.snapshot().getQuantile(quantile);
+  }
+
+  /**
+   * @return the estimated values of the quantiles, or an empty array if there is no value.
+   */
+  public long[] query(@Nonnull AbstractQuantileEstimation.Quantiles quantiles) {
+    return _sketch.snapshot().getQuantiles(quantiles);
+  }
+
+  /**
+   * @return the number of values accepted since the last reset, as the sketch doesn't keep the samples themselves.
+   */
+  public int getNumberOfSamples() {
+    return (int) Math.min(Integer.MAX_VALUE, _sketch.snapshot().getCount());
+  }
+
+  /**
+   * @return the sketch of the values accepted since the last reset.
+   */
+  public LongQuantileSketch.Snapshot getSnapshot() {
+    return _sketch.snapshot();
+  }
+
+  @Override
+  public void reset() {
+    _sketch.reset();
+    for (Welfords.LongWelford stripe: _stddev) {
+      stripe.reset();
+    }
+  }
+
+  @Override
+  public LongStats getLongStats() {
+    LongQuantileSketch.Snapshot snapshot = _sketch.snapshotAndReset();
+    Welfords.LongWelford merged = new Welfords.LongWelford();
+    for (Welfords.LongWelford stripe: _stddev) {
+      merged.merge(stripe);
+      stripe.reset();
+    }
+    Welfords.Result stddev = merged.getResult();
+
+    if (snapshot.getCount() == 0) {
+      return new LongStatsImpl(stddev, null, null, null, null, null, null, null);
+    }
+    long[] pct = snapshot.getQuantiles(QUANTILES);
+    return new LongStatsImpl(
+        stddev,
+        snapshot.getMin(),
+        snapshot.getMax(),
+        pct[0],
+        pct[1],
+        pct[2],
+        pct[3],
+        pct[4]);
+  }
+}
@@ -23,18 +23,21 @@ import org.testng.annotations.Test;
 public class TestCallTracker {
   private static final Logger LOG = LogManager.getLogger(TestCallTracker.class);
   static final ConcurrentAccumulator.Mode DEFAULT_MODE = ConcurrentAccumulator.defaultMode;
+  static final CallTrackerImpl.Mode DEFAULT_STATS_MODE = CallTrackerImpl.defaultMode;
 
   @AfterTest(groups = { "unit", "functional" })
   public void resetMode() {
     ConcurrentAccumulator.defaultMode = DEFAULT_MODE;
-    CallTrackerImpl.defaultMode = CallTrackerImpl.Mode.SKIP_LIST;
+    CallTrackerImpl.defaultMode = DEFAULT_STATS_MODE;
   }
 
   private static final Object[][] ACCUMULATOR_MODES =
       { { ConcurrentAccumulator.Mode.COMPLEX, CallTrackerImpl.Mode.SKIP_LIST },
           { ConcurrentAccumulator.Mode.THREADED, CallTrackerImpl.Mode.SKIP_LIST },
           { ConcurrentAccumulator.Mode.COMPLEX, CallTrackerImpl.Mode.ARRAY_LIST },
-          { ConcurrentAccumulator.Mode.THREADED, CallTrackerImpl.Mode.ARRAY_LIST }, };
+          { ConcurrentAccumulator.Mode.THREADED, CallTrackerImpl.Mode.ARRAY_LIST },
+          { ConcurrentAccumulator.Mode.COMPLEX, CallTrackerImpl.Mode.SKETCH },
+          { ConcurrentAccumulator.Mode.THREADED, CallTrackerImpl.Mode.SKETCH }, };
 
   @DataProvider
   public Object[][] accumulatorModes() {
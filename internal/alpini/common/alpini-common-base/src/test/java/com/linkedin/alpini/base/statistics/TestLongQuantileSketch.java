@@ -0,0 +1,134 @@
+package com.linkedin.alpini.base.statistics;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestLongQuantileSketch {
+  private static final double[] QUANTILES = { 0.01, 0.1, 0.5, 0.9, 0.95, 0.99, 0.999 };
+
+  @Test(groups = "unit")
+  public void testBucketIndex() {
+    for (int precisionBits: new int[] { 1, 3, 6, 10 }) {
+      for (long value = 0; value < 100000; value++) {
+        int index = LongQuantileSketch.bucketIndex(precisionBits, value);
+        Assert.assertTrue(LongQuantileSketch.bucketLowestValue(precisionBits, index) <= value);
+        Assert.assertTrue(LongQuantileSketch.bucketHighestValue(precisionBits, index) >= value);
+      }
+    }
+    Assert.assertEquals(new LongQuantileSketch(6, TimeUnit.MINUTES.toNanos(15)).getBucketCount(), 1141);
+  }
+
+  @DataProvider
+  public Object[][] distributions() {
+    return new Object[][] { { "uniform" }, { "exponential" }, { "lognormal" } };
+  }
+
+  @Test(groups = "unit", dataProvider = "distributions")
+  public void testAccuracy(String distribution) {
+    int precisionBits = 6;
+    LongQuantileSketch sketch = new LongQuantileSketch(precisionBits, Long.MAX_VALUE >>> 8);
+    Random random = new Random(0xDEADBEEF);
+    long[] values = new long[100000];
+    for (int i = 0; i < values.length; i++) {
+      switch (distribution) {
+        case "uniform":
+          values[i] = random.nextInt(1000000);
+          break;
+        case "exponential":
+          values[i] = (long) (-100000 * Math.log(1 - random.nextDouble()));
+          break;
+        default:
+          values[i] = (long) Math.exp(12 + 2 * random.nextGaussian());
+          break;
+      }
+      sketch.accept(values[i]);
+    }
+    Arrays.sort(values);
+
+    LongQuantileSketch.Snapshot snapshot = sketch.snapshot();
+    Assert.assertEquals(snapshot.getCount(), values.length);
+    Assert.assertEquals(snapshot.getMin().longValue(), values[0]);
+    Assert.assertEquals(snapshot.getMax().longValue(), values[values.length - 1]);
+    for (double quantile: QUANTILES) {
+      long expected = values[(int) Math.ceil(quantile * values.length) - 1];
+      long actual = snapshot.getQuantile(quantile);
+      Assert.assertTrue(
+          Math.abs(actual - expected) <= Math.max(1.0, expected * Math.scalb(1.0, -precisionBits)),
+          distribution + " quantile " + quantile + " expected " + expected + " actual " + actual);
+    }
+    Assert.assertEquals(snapshot.computeQuantile(values[values.length / 2]).getQuantile(), 0.5, 0.02);
+    Assert.assertEquals(snapshot.computeQuantile(values[values.length - 1] * 2).getQuantile(), 1.0);
+  }
+
+  @Test(groups = "unit")
+  public void testMergeAndReset() {
+    LongQuantileSketch low = new LongQuantileSketch(6, 1000000);
+    LongQuantileSketch high = new LongQuantileSketch(6, 1000000);
+    for (long value = 1; value <= 1000; value++) {
+      low.accept(value);
+      high.accept(value + 1000);
+    }
+    // Values beyond the highest trackable value are counted in the last bucket.
+    high.accept(5000000);
+
+    LongQuantileSketch.Snapshot merged = low.snapshot().merge(high.snapshotAndReset());
+    Assert.assertEquals(merged.getCount(), 2001);
+    Assert.assertEquals(merged.getSum(), 2001000 + 5000000);
+    Assert.assertEquals(merged.getMin().longValue(), 1);
+    Assert.assertEquals(merged.getMax().longValue(), 5000000);
+    Assert.assertEquals(merged.getQuantile(0.5), 1000, 1000 / 64.0);
+    Assert.assertEquals(merged.getQuantile(1.0).longValue(), 5000000);
+
+    LongQuantileSketch.Snapshot empty = high.snapshot();
+    Assert.assertEquals(empty.getCount(), 0);
+    Assert.assertNull(empty.getMin());
+    Assert.assertNull(empty.getQuantile(0.5));
+    Assert.assertNull(empty.computeQuantile(1));
+    Assert.assertEquals(empty.getQuantiles(new AbstractQuantileEstimation.Quantiles(0.5, 0.9)).length, 0);
+  }
+
+  @Test(groups = "unit", expectedExceptions = IllegalArgumentException.class)
+  public void testMergeDifferentPrecision() {
+    new LongQuantileSketch(6, 1000).snapshot().merge(new LongQuantileSketch(7, 1000).snapshot());
+  }
+
+  @Test(groups = "unit")
+  public void testLongStatsSketchAggregator() throws InterruptedException {
+    LongStatsSketchAggregator aggregator = new LongStatsSketchAggregator(6, 1000000);
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (long value = 1; value <= 10000; value++) {
+          aggregator.accept(value);
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread: threads) {
+      thread.join();
+    }
+    Assert.assertEquals(aggregator.query(0.5), 5000, 5000 / 64.0);
+    Assert.assertEquals(aggregator.query(new AbstractQuantileEstimation.Quantiles(0.5, 0.99)).length, 2);
+    Assert.assertEquals(aggregator.getNumberOfSamples(), 40000);
+
+    LongStats stats = aggregator.getLongStats();
+    Assert.assertEquals(stats.getLongCount(), 40000);
+    Assert.assertEquals(stats.getAverage(), 5000.5, 0.001);
+    Assert.assertEquals(stats.getMinimum().longValue(), 1);
+    Assert.assertEquals(stats.getMaximum().longValue(), 10000);
+    Assert.assertEquals(stats.get90Pct(), 9000, 9000 / 64.0);
+    Assert.assertEquals(stats.get99Pct(), 9900, 9900 / 64.0);
+
+    // The statistics are reset when they're summarised.
+    stats = aggregator.getLongStats();
+    Assert.assertEquals(stats.getLongCount(), 0);
+    Assert.assertNull(stats.getMinimum());
+    Assert.assertNull(stats.get50Pct());
+    Assert.assertEquals(aggregator.getNumberOfSamples(), 0);
+  }
+}
@@ -0,0 +1,171 @@
+package com.linkedin.alpini.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.annotation.Nonnull;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Unbox;
+
+
+/**
+ * A log call site which logs at most a number of messages per interval, and counts the messages which it suppressed,
+ * so that a storm of errors at a high QPS doesn't make an outage worse by flooding the logs.
+ *
+ * The message pattern is fixed by the call site, and the parameters are passed to fixed-arity methods, so that no
+ * varargs array is allocated, and nothing is formatted when the message is suppressed or its level is disabled. The
+ * primitive parameters should be boxed with {@link Unbox#box} to avoid allocating their wrappers. N.B.: the messages
+ * which are logged are still formatted and appended by the configured loggers as usual, which allocate unless log4j2
+ * itself is configured with its garbage-free mode and async loggers. The goal here is to bound the number of messages
+ * which are logged, not to make logging them garbage-free.
+ *
+ * The numbers of logged and suppressed messages are exported as metrics by the services, see {@link #getLoggedCount}
+ * and {@link #getSuppressedCount}.
+ *
+ * The first message which is logged after some were suppressed is prefixed with the number of suppressed messages.
+ * As usual, a {@link Throwable} passed as the last parameter is logged as the exception of the message.
+ */
+public final class RateLimitedLog {
+  private final Logger _logger;
+  private final Level _level;
+  private final String _pattern;
+  private final String _suppressedPattern;
+  private final int _maxMessagesPerInterval;
+  private final long _intervalNanos;
+  private final LongSupplier _nanoTime;
+
+  private final AtomicLong _intervalStart;
+  private final AtomicInteger _messagesInInterval = new AtomicInteger();
+  /** The number of messages suppressed since the last logged message */
+  private final LongAdder _pendingSuppressedCount = new LongAdder();
+  private final LongAdder _loggedCount = new LongAdder();
+  private final LongAdder _suppressedCount = new LongAdder();
+
+  /**
+   * @param logger logger of the call site
+   * @param level level of the messages
+   * @param pattern message pattern, with a {} placeholder for every parameter
+   * @param maxMessagesPerInterval number of messages which are logged per interval, before the others are suppressed
+   * @param interval duration of the interval
+   * @param unit unit of the interval
+   */
+  public RateLimitedLog(
+      @Nonnull Logger logger,
+      @Nonnull Level level,
+      @Nonnull String pattern,
+      int maxMessagesPerInterval,
+      long interval,
+      @Nonnull TimeUnit unit) {
+    this(logger, level, pattern, maxMessagesPerInterval, interval, unit, System::nanoTime);
+  }
+
+  /* package private */ RateLimitedLog(
+      @Nonnull Logger logger,
+      @Nonnull Level level,
+      @Nonnull String pattern,
+      int maxMessagesPerInterval,
+      long interval,
+      @Nonnull TimeUnit unit,
+      @Nonnull LongSupplier nanoTime) {
+    if (maxMessagesPerInterval < 1 || interval < 1) {
+      throw new IllegalArgumentException("The max messages per interval and the interval must be positive");
+    }
+    _logger = logger;
+    _level = level;
+    _pattern = pattern;
+    _suppressedPattern = "[{} similar messages suppressed] " + pattern;
+    _maxMessagesPerInterval = maxMessagesPerInterval;
+    _intervalNanos = unit.toNanos(interval);
+    _nanoTime = nanoTime;
+    _intervalStart = new AtomicLong(nanoTime.getAsLong());
+  }
+
+  /**
+   * @return the number of messages which were logged.
+   */
+  public long getLoggedCount() {
+    return _loggedCount.sum();
+  }
+
+  /**
+   * @return the number of messages which were suppressed because too many messages were logged in their interval.
+   */
+  public long getSuppressedCount() {
+    return _suppressedCount.sum();
+  }
+
+  public void log() {
+    if (_logger.isEnabled(_level) && tryAcquire()) {
+      long suppressedCount = _pendingSuppressedCount.sumThenReset();
+      if (suppressedCount == 0) {
+        _logger.log(_level, _pattern);
+      } else {
+        _logger.log(_level, _suppressedPattern, Unbox.box(suppressedCount));
+      }
+    }
+  }
+
+  public void log(Object p0) {
+    if (_logger.isEnabled(_level) && tryAcquire()) {
+      long suppressedCount = _pendingSuppressedCount.sumThenReset();
+      if (suppressedCount == 0) {
+        _logger.log(_level, _pattern, p0);
+      } else {
+        _logger.log(_level, _suppressedPattern, Unbox.box(suppressedCount), p0);
+      }
+    }
+  }
+
+  public void log(Object p0, Object p1) {
+    if (_logger.isEnabled(_level) && tryAcquire()) {
+      long suppressedCount = _pendingSuppressedCount.sumThenReset();
+      if (suppressedCount == 0) {
+        _logger.log(_level, _pattern, p0, p1);
+      } else {
+        _logger.log(_level, _suppressedPattern, Unbox.box(suppressedCount), p0, p1);
+      }
+    }
+  }
+
+  public void log(Object p0, Object p1, Object p2) {
+    if (_logger.isEnabled(_level) && tryAcquire()) {
+      long suppressedCount = _pendingSuppressedCount.sumThenReset();
+      if (suppressedCount == 0) {
+        _logger.log(_level, _pattern, p0, p1, p2);
+      } else {
+        _logger.log(_level, _suppressedPattern, Unbox.box(suppressedCount), p0, p1, p2);
+      }
+    }
+  }
+
+  public void log(Object p0, Object p1, Object p2, Object p3) {
+    if (_logger.isEnabled(_level) && tryAcquire()) {
+      long suppressedCount = _pendingSuppressedCount.sumThenReset();
+      if (suppressedCount == 0) {
+        _logger.log(_level, _pattern, p0, p1, p2, p3);
+      } else {
+        _logger.log(_level, _suppressedPattern, Unbox.box(suppressedCount), p0, p1, p2, p3);
+      }
+    }
+  }
+
+  private boolean tryAcquire() {
+    long now = _nanoTime.getAsLong();
+    long intervalStart = _intervalStart.get();
+    if (now - intervalStart >= _intervalNanos && _intervalStart.compareAndSet(intervalStart, now)) {
+      _messagesInInterval.set(0);
+    }
+    // Stop counting once the interval is used up, so that a storm only reads the count, without contending on it.
+    if (_messagesInInterval.get() >= _maxMessagesPerInterval
+        || _messagesInInterval.incrementAndGet() > _maxMessagesPerInterval) {
+      _pendingSuppressedCount.increment();
+      _suppressedCount.increment();
+      return false;
+    }
+    _loggedCount.increment();
+    return true;
+  }
+}
@@ -0,0 +1,59 @@
+package com.linkedin.alpini.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+@Test(groups = "unit")
+public class TestRateLimitedLog {
+  public void testMessagesAreLimitedPerInterval() {
+    Logger logger = Mockito.mock(Logger.class);
+    Mockito.when(logger.isEnabled(Level.WARN)).thenReturn(true);
+    AtomicLong nanoTime = new AtomicLong(1000L);
+    RateLimitedLog log = new RateLimitedLog(logger, Level.WARN, "Error for {}", 2, 1, TimeUnit.SECONDS, nanoTime::get);
+
+    Exception exception = new Exception("test");
+    for (int i = 0; i < 5; i++) {
+      log.log("store", exception);
+    }
+    Mockito.verify(logger, Mockito.times(2)).log(Level.WARN, "Error for {}", "store", exception);
+    Assert.assertEquals(log.getLoggedCount(), 2);
+    Assert.assertEquals(log.getSuppressedCount(), 3);
+
+    // The first message of the next interval reports how many messages were suppressed.
+    nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    log.log("store", exception);
+    Mockito.verify(logger)
+        .log(
+            Mockito.eq(Level.WARN),
+            Mockito.eq("[{} similar messages suppressed] Error for {}"),
+            Mockito.argThat(count -> "3".equals(String.valueOf(count))),
+            Mockito.eq("store"),
+            Mockito.eq(exception));
+    log.log("store", exception);
+    Mockito.verify(logger, Mockito.times(3)).log(Level.WARN, "Error for {}", "store", exception);
+    Assert.assertEquals(log.getLoggedCount(), 4);
+    Assert.assertEquals(log.getSuppressedCount(), 3);
+  }
+
+  public void testDisabledLevel() {
+    Logger logger = Mockito.mock(Logger.class);
+    RateLimitedLog log = new RateLimitedLog(logger, Level.DEBUG, "Message {} {} {}", 1, 1, TimeUnit.SECONDS);
+    log.log("a", "b", "c");
+    log.log("a", "b", "c");
+    Mockito.verify(logger, Mockito.times(2)).isEnabled(Level.DEBUG);
+    Mockito.verifyNoMoreInteractions(logger);
+    Assert.assertEquals(log.getLoggedCount(), 0);
+    Assert.assertEquals(log.getSuppressedCount(), 0);
+  }
+
+  @Test(groups = "unit", expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidLimit() {
+    new RateLimitedLog(Mockito.mock(Logger.class), Level.INFO, "Message", 0, 1, TimeUnit.SECONDS);
+  }
+}
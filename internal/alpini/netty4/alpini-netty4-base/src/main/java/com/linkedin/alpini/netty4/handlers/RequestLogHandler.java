@@ -3,6 +3,7 @@ package com.linkedin.alpini.netty4.handlers;
 import com.linkedin.alpini.base.misc.BasicRequest;
 import com.linkedin.alpini.base.misc.Msg;
 import com.linkedin.alpini.base.misc.Time;
+import com.linkedin.alpini.log.RateLimitedLog;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandler;
@@ -24,6 +25,8 @@ import java.net.SocketAddress;
 import java.util.LinkedList;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.util.StringBuilderFormattable;
@@ -46,6 +49,9 @@ public class RequestLogHandler extends ChannelInitializer<Channel> {
   /** Writes to a special logfile for the requests. */
   private final Logger _requestLog;
 
+  /** The failed requests are logged at most 100 times per second, so that an outage doesn't flood the request log. */
+  private final RateLimitedLog _failedRequestLog;
+
   /** Name of this pipeline (e.g. "inbound", "outbound", etc.). */
   private final String _pipelineName;
 
@@ -63,10 +69,18 @@ public class RequestLogHandler extends ChannelInitializer<Channel> {
 
   /* package private */ RequestLogHandler(Logger logger, String pipelineName) {
     _requestLog = logger;
+    _failedRequestLog = new RateLimitedLog(logger, Level.ERROR, "{}", 100, 1, TimeUnit.SECONDS);
     _pipelineName = pipelineName;
     _pipelineKey = "request-log-" + logger.getName() + "-" + pipelineName;
   }
 
+  /**
+   * @return the log of the failed requests, whose logged and suppressed counts may be exported as metrics.
+   */
+  public RateLimitedLog getFailedRequestLog() {
+    return _failedRequestLog;
+  }
+
   @Override
   protected void initChannel(Channel ch) throws Exception {
     ch.pipeline().replace(this, _pipelineKey, new Handler());
@@ -255,10 +269,10 @@ public class RequestLogHandler extends ChannelInitializer<Channel> {
       if (success && requestInfo._response._status.codeClass() != HttpStatusClass.SERVER_ERROR) {
         _requestLog.debug("{}", infoToString(_pipelineName, connectInfo, requestInfo, responseInfo));
       } else {
-        _requestLog.error("{}", infoToString(_pipelineName, connectInfo, requestInfo, responseInfo));
+        _failedRequestLog.log(infoToString(_pipelineName, connectInfo, requestInfo, responseInfo));
       }
     } else {
-      _requestLog.error("{}", infoToString(_pipelineName, connectInfo, requestInfo, null));
+      _failedRequestLog.log(infoToString(_pipelineName, connectInfo, requestInfo, null));
     }
   }
 
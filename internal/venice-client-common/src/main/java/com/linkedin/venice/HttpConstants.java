@@ -36,6 +36,12 @@ public class HttpConstants {
 
   public static final String VENICE_CLIENT_COMPUTE = "X-VENICE-CLIENT-COMPUTE";
 
+  /**
+   * Indicates that the partition ids carried by the multi-key request are sub-partition ids already resolved by Router,
+   * so that the storage node doesn't need to re-hash the keys for stores with amplification factor > 1.
+   */
+  public static final String VENICE_SUB_PARTITION_RESOLVED = "X-VENICE-SUB-PARTITION-RESOLVED";
+
   public static final int SC_MISDIRECTED_REQUEST = 421;
 
   private HttpConstants() {
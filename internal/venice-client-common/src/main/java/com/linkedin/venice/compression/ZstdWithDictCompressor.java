@@ -46,6 +46,13 @@ public class ZstdWithDictCompressor extends VeniceCompressor {
     this.decompressor = new CloseableThreadLocal<>(() -> new ZstdDecompressCtx().loadDict(dictDecompress));
   }
 
+  /**
+   * @return the dictionary used by this compressor, which could be reused by a new version with similar data.
+   */
+  public byte[] getDictionary() {
+    return dictionary;
+  }
+
   @Override
   public byte[] compress(byte[] data) {
     return compressor.get().compress(data);
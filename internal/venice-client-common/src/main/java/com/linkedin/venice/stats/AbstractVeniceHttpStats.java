@@ -49,4 +49,29 @@ public abstract class AbstractVeniceHttpStats extends AbstractVeniceStats {
     newStats[stats.length] = TehutiUtils.getPercentileStatForNetworkLatency(getName(), getFullMetricName(sensorName));
     return registerSensor(sensorName, newStats);
   }
+
+  /**
+   * Same metrics as {@link #registerSensorWithDetailedPercentiles(String, MeasurableStat...)} with Avg and Max, plus
+   * Min, measured by a {@link ConcurrentHistogramStat} for the sensors which are recorded for every request.
+   *
+   * N.B.: the metrics are measured from a snapshot of the values recorded since the previous reset of the histogram,
+   * which happens at most once every {@link ConcurrentHistogramStat#ROLL_UP_INTERVAL_MS}, not over a sliding window.
+   */
+  protected ConcurrentHistogramStat registerConcurrentHistogramSensorWithDetailedPercentiles(String sensorName) {
+    return registerConcurrentHistogramSensor(
+        getFullMetricName(sensorName),
+        new ConcurrentHistogramStat(),
+        TehutiUtils.HISTOGRAM_PERCENTILES_FOR_NETWORK_LATENCY);
+  }
+
+  /**
+   * Same as {@link #registerConcurrentHistogramSensorWithDetailedPercentiles(String)}, with the percentiles of
+   * {@link TehutiUtils#getFineGrainedPercentileStat(String, String)}.
+   */
+  protected ConcurrentHistogramStat registerConcurrentHistogramSensorWithFineGrainedPercentiles(String sensorName) {
+    return registerConcurrentHistogramSensor(
+        getFullMetricName(sensorName),
+        new ConcurrentHistogramStat(),
+        TehutiUtils.FINE_GRAINED_HISTOGRAM_PERCENTILES);
+  }
 }
@@ -2,6 +2,7 @@ package com.linkedin.venice.stats;
 
 import static com.linkedin.venice.stats.AbstractVeniceAggStats.STORE_NAME_FOR_TOTAL_STAT;
 
+import com.linkedin.venice.stats.ConcurrentHistogramStat.Snapshot;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MeasurableStat;
 import io.tehuti.metrics.MetricConfig;
@@ -59,6 +60,33 @@ public class AbstractVeniceStats {
     }
   }
 
+  /**
+   * Registers the Avg, Min, Max and percentile metrics of a sensor, with the same names as the tehuti stats, which are
+   * measured from the given {@link ConcurrentHistogramStat} instead of being recorded by the sensor. It's meant for
+   * the sensors which are recorded on hot paths by many threads.
+   *
+   * N.B.: the metrics are not measured over a sliding window like the tehuti stats, but from a snapshot of the values
+   * recorded since the previous reset of the histogram, which happens at most once every
+   * {@link ConcurrentHistogramStat#ROLL_UP_INTERVAL_MS}, i.e. 30 seconds.
+   *
+   * @param percentiles e.g. 50 and 99 for the 50th and the 99th percentiles.
+   */
+  protected ConcurrentHistogramStat registerConcurrentHistogramSensor(
+      String sensorName,
+      ConcurrentHistogramStat stat,
+      double... percentiles) {
+    registerSensorAttributeGauge(sensorName, "Avg", new Gauge(stat.measurable(Snapshot::getAverage)));
+    registerSensorAttributeGauge(sensorName, "Min", new Gauge(stat.measurable(Snapshot::getMin)));
+    registerSensorAttributeGauge(sensorName, "Max", new Gauge(stat.measurable(Snapshot::getMax)));
+    for (double percentile: percentiles) {
+      registerSensorAttributeGauge(
+          sensorName,
+          TehutiUtils.getPercentileAttributeName(percentile),
+          new Gauge(stat.measurable(snapshot -> snapshot.getQuantile(percentile / 100))));
+    }
+    return stat;
+  }
+
   protected Sensor registerSensor(String sensorName, Sensor[] parents, MeasurableStat... stats) {
     return registerSensor(getSensorFullName(getName(), sensorName), null, parents, stats);
   }
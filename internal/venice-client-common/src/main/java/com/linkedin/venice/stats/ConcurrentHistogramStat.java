@@ -0,0 +1,130 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.alpini.base.statistics.LongQuantileSketch;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import io.tehuti.metrics.Measurable;
+import java.util.function.ToDoubleFunction;
+
+
+/**
+ * Records the values of a hot path sensor into a {@link LongQuantileSketch} instead of a tehuti sensor, whose
+ * {@link io.tehuti.metrics.Sensor#record(double)} is synchronized and updates every stat, including the percentiles,
+ * for every value. The sketch is the one which the call trackers of the router use: its counters are striped by
+ * thread, and its buckets are log-linear. The values are recorded in units of 2^-{@link #FRACTION_BITS}, so that
+ * latencies below a millisecond are still told apart, and the quantiles have a relative error of at most
+ * 2^-{@link #PRECISION_BITS}, up to 2^{@link #MAX_EXPONENT}. Bigger values are counted in the last bucket.
+ *
+ * The values are rolled up into the tehuti metrics when they're read: the first read takes a snapshot of the values
+ * recorded so far, and then the histogram is reset at most once every {@link #ROLL_UP_INTERVAL_MS}. All the metrics of
+ * the sensor are measured from the same snapshot in the meantime. N.B.: unlike the sliding windows of the tehuti stats,
+ * a metric is the Avg, Max or percentile of the values recorded between two resets, i.e. over the last 30 seconds or
+ * more, depending on how often the metrics are read. Like {@link LongAdderRateGauge}, it's meant for metrics which are
+ * read about once a minute.
+ *
+ * The metrics are registered by {@link AbstractVeniceStats#registerConcurrentHistogramSensor}.
+ */
+public class ConcurrentHistogramStat {
+  public static final long ROLL_UP_INTERVAL_MS =
+      LongAdderRateGauge.RATE_GAUGE_CACHE_DURATION_IN_SECONDS * Time.MS_PER_SECOND;
+  static final int PRECISION_BITS = 5;
+  static final int FRACTION_BITS = 10;
+  static final int MAX_EXPONENT = 40;
+  private static final double SCALE = Math.scalb(1.0, FRACTION_BITS);
+
+  private final LongQuantileSketch sketch =
+      new LongQuantileSketch(PRECISION_BITS, 1L << (MAX_EXPONENT + FRACTION_BITS));
+  /**
+   * Also records every value, e.g. the stat of all the stores.
+   */
+  private final ConcurrentHistogramStat parent;
+  private final Time time;
+  // Null until the first read.
+  private Snapshot lastSnapshot = null;
+  private long lastRollUpTimeMs;
+
+  public ConcurrentHistogramStat() {
+    this(null, new SystemTime());
+  }
+
+  public ConcurrentHistogramStat(ConcurrentHistogramStat parent) {
+    this(parent, new SystemTime());
+  }
+
+  public ConcurrentHistogramStat(ConcurrentHistogramStat parent, Time time) {
+    this.parent = parent;
+    this.time = time;
+  }
+
+  public void record(double value) {
+    sketch.accept(Math.round(value * SCALE));
+    if (parent != null) {
+      parent.record(value);
+    }
+  }
+
+  /**
+   * @return a {@link Measurable} of the given value of the last snapshot, to be registered as a {@link Gauge}.
+   */
+  public Measurable measurable(ToDoubleFunction<Snapshot> value) {
+    return (config, now) -> value.applyAsDouble(getSnapshot(now));
+  }
+
+  public Snapshot getSnapshot() {
+    return getSnapshot(time.getMilliseconds());
+  }
+
+  private synchronized Snapshot getSnapshot(long currentTimeMs) {
+    if (lastSnapshot == null || currentTimeMs - lastRollUpTimeMs >= ROLL_UP_INTERVAL_MS) {
+      lastRollUpTimeMs = currentTimeMs;
+      lastSnapshot = new Snapshot(sketch.snapshotAndReset());
+    }
+    return lastSnapshot;
+  }
+
+  /**
+   * The values recorded between two resets, in the unit they were recorded in. Like the tehuti stats, the getters
+   * return {@link Double#NaN} if there is no value.
+   */
+  public static class Snapshot {
+    private final LongQuantileSketch.Snapshot snapshot;
+
+    private Snapshot(LongQuantileSketch.Snapshot snapshot) {
+      this.snapshot = snapshot;
+    }
+
+    public long getCount() {
+      return snapshot.getCount();
+    }
+
+    public double getAverage() {
+      return snapshot.getCount() == 0 ? Double.NaN : snapshot.getSum() / SCALE / snapshot.getCount();
+    }
+
+    public double getMin() {
+      return toValue(snapshot.getMin());
+    }
+
+    public double getMax() {
+      return toValue(snapshot.getMax());
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. 0.99 for the 99th percentile.
+     */
+    public double getQuantile(double quantile) {
+      return toValue(snapshot.getQuantile(quantile));
+    }
+
+    /**
+     * @return a snapshot with the values of both snapshots, e.g. to combine the stats of several stores.
+     */
+    public Snapshot merge(Snapshot other) {
+      return new Snapshot(snapshot.merge(other.snapshot));
+    }
+
+    private static double toValue(Long value) {
+      return value == null ? Double.NaN : value / SCALE;
+    }
+  }
+}
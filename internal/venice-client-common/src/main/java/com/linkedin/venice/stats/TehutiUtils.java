@@ -21,9 +21,9 @@ public class TehutiUtils {
 
   // a fine grained percentiles. Please use it with cautions as it will emit more 20
   // metrics. It's likely to degrade critical path performance
-  private static final double[] FINE_GRAINED_HISTOGRAM_PERCENTILES =
+  static final double[] FINE_GRAINED_HISTOGRAM_PERCENTILES =
       new double[] { 0.01, 0.1, 1, 2, 3, 4, 5, 10, 20, 30, 40, 50, 60, 70, 80, 90, 95, 99, 99.9 };
-  private static final double[] HISTOGRAM_PERCENTILES_FOR_NETWORK_LATENCY = new double[] { 50, 77, 90, 95, 99, 99.9 };
+  static final double[] HISTOGRAM_PERCENTILES_FOR_NETWORK_LATENCY = new double[] { 50, 77, 90, 95, 99, 99.9 };
   private static final String ROUND_NUMBER_SUFFIX = ".0";
 
   /**
@@ -105,6 +105,13 @@ public class TehutiUtils {
   }
 
   private static Percentile getPercentile(String name, double percentile) {
+    return new Percentile(name + "." + getPercentileAttributeName(percentile), percentile);
+  }
+
+  /**
+   * @return the attribute of the metric of the given percentile, e.g. "99_9thPercentile" for 99.9.
+   */
+  static String getPercentileAttributeName(double percentile) {
     String stringPercentile = Double.toString(percentile);
     // Clip decimals for round numbers.
     if (stringPercentile.endsWith(ROUND_NUMBER_SUFFIX)) {
@@ -115,7 +122,7 @@ public class TehutiUtils {
     if (stringPercentile.contains(".")) {
       stringPercentile = stringPercentile.replace(".", "_");
     }
-    return new Percentile(name + "." + stringPercentile + "thPercentile", percentile);
+    return stringPercentile + "thPercentile";
   }
 
   /**
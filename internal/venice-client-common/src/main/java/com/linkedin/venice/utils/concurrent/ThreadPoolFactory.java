@@ -4,8 +4,12 @@ import static com.linkedin.venice.utils.concurrent.BlockingQueueType.ARRAY_BLOCK
 
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.DaemonThreadFactory;
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +41,23 @@ public final class ThreadPoolFactory {
     return executor;
   }
 
+  /**
+   * Creates an executor which runs every task on a new virtual thread. It's looked up by reflection, since virtual
+   * threads were added in Java 21, and the code is compiled for older versions.
+   *
+   * @return the executor, or empty if the JVM doesn't support virtual threads.
+   */
+  public static Optional<ExecutorService> createVirtualThreadPerTaskExecutor() {
+    try {
+      Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return Optional.of((ExecutorService) method.invoke(null));
+    } catch (NoSuchMethodException e) {
+      return Optional.empty();
+    } catch (ReflectiveOperationException e) {
+      throw new VeniceException("Failed to create a virtual thread executor", e);
+    }
+  }
+
   private static BlockingQueue<Runnable> getExecutionQueue(int capacity, BlockingQueueType blockingQueueType) {
     switch (blockingQueueType) {
       case LINKED_BLOCKING_QUEUE:
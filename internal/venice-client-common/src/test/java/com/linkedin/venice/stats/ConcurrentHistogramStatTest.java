@@ -0,0 +1,134 @@
+package com.linkedin.venice.stats;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.utils.TestMockTime;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+
+public class ConcurrentHistogramStatTest {
+  private static final double MAX_RELATIVE_ERROR = Math.scalb(1.0, -ConcurrentHistogramStat.PRECISION_BITS);
+
+  @Test
+  public void testQuantiles() {
+    TestMockTime time = new TestMockTime();
+    ConcurrentHistogramStat stat = new ConcurrentHistogramStat(null, time);
+    for (int i = 1; i <= 1000; i++) {
+      stat.record(i);
+    }
+    ConcurrentHistogramStat.Snapshot snapshot = stat.getSnapshot();
+    assertEquals(snapshot.getCount(), 1000);
+    assertEquals(snapshot.getAverage(), 500.5);
+    assertEquals(snapshot.getMin(), 1.0);
+    assertEquals(snapshot.getMax(), 1000.0);
+    assertQuantile(snapshot.getQuantile(0.5), 500);
+    assertQuantile(snapshot.getQuantile(0.99), 990);
+    assertEquals(snapshot.getQuantile(1), 1000.0);
+
+    // Fractions are kept, and values out of the range of the buckets are clamped to the min and the max.
+    stat.record(0);
+    stat.record(0.25);
+    stat.record(Math.pow(2, 50));
+    time.addMilliseconds(ConcurrentHistogramStat.ROLL_UP_INTERVAL_MS);
+    snapshot = stat.getSnapshot();
+    assertEquals(snapshot.getQuantile(0), 0.0);
+    assertQuantile(snapshot.getQuantile(0.5), 0.25);
+    assertEquals(snapshot.getQuantile(1), Math.pow(2, 50));
+  }
+
+  @Test
+  public void testReset() {
+    TestMockTime time = new TestMockTime();
+    ConcurrentHistogramStat stat = new ConcurrentHistogramStat(null, time);
+    stat.record(10);
+    assertEquals(stat.getSnapshot().getCount(), 1);
+
+    time.addMilliseconds(ConcurrentHistogramStat.ROLL_UP_INTERVAL_MS);
+    ConcurrentHistogramStat.Snapshot snapshot = stat.getSnapshot();
+    assertEquals(snapshot.getCount(), 0);
+    assertTrue(Double.isNaN(snapshot.getAverage()));
+    assertTrue(Double.isNaN(snapshot.getMax()));
+    assertTrue(Double.isNaN(snapshot.getQuantile(0.5)));
+  }
+
+  @Test
+  public void testMerge() {
+    ConcurrentHistogramStat stat1 = new ConcurrentHistogramStat();
+    ConcurrentHistogramStat stat2 = new ConcurrentHistogramStat();
+    for (int i = 1; i <= 100; i++) {
+      stat1.record(i);
+      stat2.record(i + 100);
+    }
+    ConcurrentHistogramStat.Snapshot snapshot = stat1.getSnapshot().merge(stat2.getSnapshot());
+    assertEquals(snapshot.getCount(), 200);
+    assertEquals(snapshot.getMin(), 1.0);
+    assertEquals(snapshot.getMax(), 200.0);
+    assertEquals(snapshot.getAverage(), 100.5);
+    assertQuantile(snapshot.getQuantile(0.5), 100);
+  }
+
+  @Test
+  public void testConcurrentRecording() throws InterruptedException {
+    ConcurrentHistogramStat stat = new ConcurrentHistogramStat();
+    int threadCount = 8;
+    int valuesPerThread = 10_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      for (int i = 0; i < threadCount; i++) {
+        executor.submit(() -> {
+          for (int j = 0; j < valuesPerThread; j++) {
+            stat.record(1);
+          }
+        });
+      }
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    }
+    ConcurrentHistogramStat.Snapshot snapshot = stat.getSnapshot();
+    assertEquals(snapshot.getCount(), threadCount * valuesPerThread);
+    assertEquals(snapshot.getAverage(), 1.0);
+  }
+
+  @Test
+  public void testConcurrentHistogramSensor() {
+    TestMockTime time = new TestMockTime();
+    MetricsRepository metricsRepository = new MetricsRepository(time);
+    AbstractVeniceStats stats = new AbstractVeniceStats(metricsRepository, "test_store");
+    ConcurrentHistogramStat totalStat = new ConcurrentHistogramStat(null, time);
+    ConcurrentHistogramStat stat =
+        stats.registerConcurrentHistogramSensor("latency", new ConcurrentHistogramStat(totalStat, time), 50, 99.9);
+    for (int i = 1; i <= 100; i++) {
+      stat.record(i);
+    }
+
+    // The first read rolls up the values recorded so far.
+    assertEquals(getMetricValue(metricsRepository, ".test_store--latency.Avg"), 50.5);
+    assertEquals(getMetricValue(metricsRepository, ".test_store--latency.Min"), 1.0);
+    assertEquals(getMetricValue(metricsRepository, ".test_store--latency.Max"), 100.0);
+    assertQuantile(getMetricValue(metricsRepository, ".test_store--latency.50thPercentile"), 50);
+    assertEquals(getMetricValue(metricsRepository, ".test_store--latency.99_9thPercentile"), 100.0);
+    assertEquals(totalStat.getSnapshot().getCount(), 100);
+
+    // The snapshot is kept until the next interval.
+    stat.record(1000);
+    assertEquals(getMetricValue(metricsRepository, ".test_store--latency.Max"), 100.0);
+    time.addMilliseconds(ConcurrentHistogramStat.ROLL_UP_INTERVAL_MS);
+    assertEquals(getMetricValue(metricsRepository, ".test_store--latency.Max"), 1000.0);
+    time.addMilliseconds(ConcurrentHistogramStat.ROLL_UP_INTERVAL_MS);
+    assertTrue(Double.isNaN(getMetricValue(metricsRepository, ".test_store--latency.Max")));
+  }
+
+  private static double getMetricValue(MetricsRepository metricsRepository, String metricName) {
+    return metricsRepository.getMetric(metricName).value();
+  }
+
+  private static void assertQuantile(double actual, double expected) {
+    assertEquals(actual, expected, expected * MAX_RELATIVE_ERROR);
+  }
+}
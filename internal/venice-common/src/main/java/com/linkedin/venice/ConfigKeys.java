@@ -245,6 +245,14 @@ public class ConfigKeys {
   public static final String TOPIC_CLEANUP_SLEEP_INTERVAL_BETWEEN_TOPIC_LIST_FETCH_MS =
       "topic.cleanup.sleep.interval.between.topic.list.fetch.ms";
   public static final String TOPIC_CLEANUP_DELAY_FACTOR = "topic.cleanup.delay.factor";
+
+  /**
+   * The staging directory of the SST bulk load pushes, see {@code VenicePushJob#SST_BULK_LOAD_STAGING_DIR}. The staged
+   * files of a version are deleted by {@code TopicCleanupService} in the controller together with
+   * its version topic. Since the directory could be shared by several regions, it should only be configured in the
+   * controllers of the region whose versions are retired last.
+   */
+  public static final String CONTROLLER_SST_BULK_LOAD_STAGING_DIR = "controller.sst.bulk.load.staging.dir";
   public static final String TOPIC_CLEANUP_SEND_CONCURRENT_DELETES_REQUESTS =
       "topic.cleanup.send.concurrent.delete.requests.enabled";
 
@@ -348,6 +356,21 @@ public class ConfigKeys {
   public static final String GRPC_READ_SERVER_PORT = "grpc.read.server.port";
   public static final String ENABLE_GRPC_READ_SERVER = "grpc.read.server.enabled";
   public static final String GRPC_SERVER_WORKER_THREAD_COUNT = "grpc.server.worker.thread.count";
+  /**
+   * Whether to run the reads of gRPC requests on a new virtual thread each, instead of the storage execution and
+   * compute thread pools. It's ignored if the JVM doesn't support virtual threads, which were added in Java 21.
+   */
+  public static final String GRPC_SERVER_VIRTUAL_THREADS_ENABLED = "grpc.server.virtual.threads.enabled";
+  /**
+   * The bytes of the chunks of a streaming gRPC response which may wait for the client to read them, after which the
+   * reads of the request wait as well.
+   */
+  public static final String GRPC_SERVER_STREAMING_MAX_BUFFERED_BYTES = "grpc.server.streaming.max.buffered.bytes";
+  /**
+   * How long the reads of a streaming gRPC request wait for a client which doesn't read anything, before the call is
+   * failed with DEADLINE_EXCEEDED.
+   */
+  public static final String GRPC_SERVER_STREAMING_WRITE_TIMEOUT_MS = "grpc.server.streaming.write.timeout.ms";
 
   public static final String LISTENER_HOSTNAME = "listener.hostname";
 
@@ -470,6 +493,14 @@ public class ConfigKeys {
    */
   public static final String SERVER_NODE_CAPACITY_RCU = "server.node.capacity.rcu.per.second";
 
+  /**
+   * Number of bytes of the returned values which count as one Read Capacity Unit. When positive, the read quota charges
+   * a request for the bytes it returned, on top of its key count, so that the quota follows the cost of the storage.
+   * 0 disables it, and requests only cost their key count.
+   */
+  public static final String SERVER_QUOTA_ENFORCEMENT_VALUE_BYTES_PER_RCU =
+      "server.quota.enforcement.value.bytes.per.rcu";
+
   /**
    * This config is used to control the maximum records returned by every poll request.
    * So far, Store Ingestion is throttling per poll, so if the configured value is too big,
@@ -551,6 +582,43 @@ public class ConfigKeys {
    */
   public static final String SERVER_BLOCKING_QUEUE_TYPE = "server.blocking.queue.type";
 
+  /**
+   * Whether the read executors queue the requests of each store separately, and poll the stores in turn, instead of
+   * in a single FIFO queue, so that the heavy requests of a store can't delay the requests of the other stores. It
+   * replaces {@link #SERVER_BLOCKING_QUEUE_TYPE} for the storage execution and compute thread pools.
+   */
+  public static final String SERVER_READ_FAIR_QUEUING_ENABLED = "server.read.fair.queuing.enabled";
+
+  /**
+   * The share of the polls of the fair queues which prefer each QOS, in the form LOW:NORMAL:HIGH, e.g. 5:15:80.
+   * Single gets have a HIGH QOS, and batch gets and compute requests a NORMAL QOS.
+   */
+  public static final String SERVER_READ_FAIR_QUEUING_QOS_RATIO = "server.read.fair.queuing.qos.ratio";
+
+  /**
+   * The maximum number of requests of a single store in the fair queue of a read executor, beyond which the requests
+   * of the store are rejected right away. 0 means that it's only bounded by the capacity of the queue.
+   */
+  public static final String SERVER_READ_FAIR_QUEUING_MAX_QUEUE_LENGTH_PER_STORE =
+      "server.read.fair.queuing.max.queue.length.per.store";
+
+  /**
+   * The requests which waited longer than this in the fair queue of a read executor are rejected when they're polled,
+   * instead of being served after their clients most likely gave up on them. 0 disables it.
+   */
+  public static final String SERVER_READ_FAIR_QUEUING_QUEUE_TIME_SLO_MS = "server.read.fair.queuing.queue.time.slo.ms";
+
+  /**
+   * The size of the off-heap cache of the values read by single gets, shared by all the store versions of the storage
+   * node. 0 disables the cache.
+   */
+  public static final String SERVER_VALUE_CACHE_SIZE_IN_BYTES = "server.value.cache.size.in.bytes";
+
+  /**
+   * The values which are bigger than this aren't put in the value cache.
+   */
+  public static final String SERVER_VALUE_CACHE_MAX_VALUE_SIZE_IN_BYTES = "server.value.cache.max.value.size.in.bytes";
+
   /**
    * This config is used to control how much time Server will wait for connection warming from Routers.
    * This is trying to avoid availability issue when router connection warming happens when Server restarts.
@@ -1405,6 +1473,68 @@ public class ConfigKeys {
    */
   public static final String ROUTER_HTTP_CLIENT_OPENSSL_ENABLED = "router.http.client.openssl.enabled";
 
+  /**
+   * Whether to enable the off-heap single-get response cache in Router.
+   * Only the stores listed in {@link #ROUTER_SINGLE_GET_CACHE_STORE_SIZE_MAP} will be cached.
+   */
+  public static final String ROUTER_SINGLE_GET_CACHE_ENABLED = "router.single.get.cache.enabled";
+
+  /**
+   * Per-store memory budget of the Router single-get cache, and the format is: "store1:104857600,store2:10485760".
+   * The budget is in bytes.
+   */
+  public static final String ROUTER_SINGLE_GET_CACHE_STORE_SIZE_MAP = "router.single.get.cache.store.size.map";
+
+  /**
+   * Max age of the cached entries for hybrid stores since the current version could receive new updates at any time.
+   * Batch-only stores will be cached until the next version swap.
+   */
+  public static final String ROUTER_SINGLE_GET_CACHE_HYBRID_STORE_TTL_MS = "router.single.get.cache.hybrid.store.ttl.ms";
+
+  /**
+   * Whether to collapse concurrent single-get requests for the same key of the same store version into a single
+   * storage node request in Router.
+   */
+  public static final String ROUTER_SINGLE_GET_COALESCING_ENABLED = "router.single.get.coalescing.enabled";
+
+  /**
+   * Whether Router should resolve the sub-partition id of every key in multi-key requests for stores with
+   * amplification factor > 1, so that storage nodes don't need to re-hash the keys.
+   * This should only be enabled after all the storage nodes understand
+   * {@link com.linkedin.venice.HttpConstants#VENICE_SUB_PARTITION_RESOLVED}.
+   */
+  public static final String ROUTER_MULTI_KEY_SUB_PARTITION_RESOLUTION_ENABLED =
+      "router.multi.key.sub.partition.resolution.enabled";
+
+  /**
+   * Whether Router should adapt the number of in-flight requests to every storage node to its latency, in the style of
+   * TCP Vegas, instead of only relying on the static pending request thresholds. The storage nodes at their limit
+   * are considered unhealthy, so that the requests are routed to the other replicas.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED = "router.adaptive.concurrency.limit.enabled";
+
+  /**
+   * The limit of in-flight requests of every storage node before it adapts to the latency of the storage node.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL = "router.adaptive.concurrency.limit.initial";
+
+  /**
+   * The lower bound of the adaptive limit of in-flight requests of every storage node.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MIN = "router.adaptive.concurrency.limit.min";
+
+  /**
+   * The upper bound of the adaptive limit of in-flight requests of every storage node.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MAX = "router.adaptive.concurrency.limit.max";
+
+  /**
+   * How much the short-term latency of a storage node can exceed its long-term latency before its adaptive limit is
+   * reduced, e.g. 2.0 means the limit only decreases once the latency doubles.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_LATENCY_TOLERANCE =
+      "router.adaptive.concurrency.limit.latency.tolerance";
+
   /**
    * In Leader/Follower state transition model, in order to avoid split brain problem (multiple leaders) as much as possible,
    * the newly promoted leader should keep checking whether there is any new messages from the old leader in the version
@@ -1576,6 +1706,11 @@ public class ConfigKeys {
   public static final String ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED =
       "router.http.client5.skip.cipher.check.enabled";
 
+  /**
+   * Max number of pending channel acquisitions per storage node when using the Netty HTTP/2 storage node client.
+   */
+  public static final String ROUTER_NETTY_CLIENT_MAX_PENDING_ACQUIRES = "router.netty.client.max.pending.acquires";
+
   /**
    * Number of IO threads used for AHAC client.
    */
@@ -1788,6 +1923,15 @@ public class ConfigKeys {
    */
   public static final String ROUTER_META_STORE_SHADOW_READ_ENABLED = "router.meta.store.shadow.read.enabled";
 
+  /**
+   * Whether the router records the latency, healthy request latency and key size of every request into concurrent
+   * histograms instead of tehuti sensors, so that the request threads don't contend on the lock of the sensors. Default
+   * is false. N.B.: when it's on, the Avg, Max and percentile metrics of these sensors are no longer measured over the
+   * sliding windows of tehuti, but over the values recorded since the previous read, reset at most every 30 seconds,
+   * and they're NaN instead of 0 when there was no request.
+   */
+  public static final String ROUTER_CONCURRENT_HISTOGRAM_STATS_ENABLED = "router.concurrent.histogram.stats.enabled";
+
   /**
    * Defines the key names in venice.server.kafkaClustersMap
    */
@@ -1898,6 +2042,19 @@ public class ConfigKeys {
    */
   public static final String CLIENT_PRODUCER_THREAD_NUM = "client.producer.thread.num";
 
+  /**
+   * The max number of write operations the online Venice producer accumulates before sending them to the PubSub
+   * system as one batch, with one schema lookup per distinct schema. Batching is disabled when it's not larger than 1,
+   * and every write operation is sent individually.
+   */
+  public static final String CLIENT_PRODUCER_BATCH_MAX_RECORDS = "client.producer.batch.max.records";
+
+  /**
+   * The max time in milliseconds that a write operation of the online Venice producer waits in the batch before the
+   * batch is sent, if the batch doesn't reach {@link #CLIENT_PRODUCER_BATCH_MAX_RECORDS} records earlier.
+   */
+  public static final String CLIENT_PRODUCER_BATCH_LINGER_MS = "client.producer.batch.linger.ms";
+
   /**
    * The refresh interval for online producer to refresh value schemas and update schemas that rely on periodic polling.
    */
@@ -199,6 +199,11 @@ public class ControllerApiConstants {
   public static final String KAFKA_TOPIC_MIN_IN_SYNC_REPLICA = "kafka.topic.min.in.sync.replica";
   public static final String UPSTREAM_OFFSET = "upstream_offset";
 
+  /**
+   * String representation of the list of store names that is separated by comma for bulk store updates
+   */
+  public static final String STORE_NAMES = "store_names";
+
   public static final String PERSONA_NAME = "persona_name";
   public static final String PERSONA_OWNERS = "persona_owners";
   public static final String PERSONA_STORES = "persona_stores";
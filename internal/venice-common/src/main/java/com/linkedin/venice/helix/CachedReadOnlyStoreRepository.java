@@ -11,7 +11,9 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ClusterLockManager;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -24,6 +26,7 @@ import org.apache.helix.manager.zk.ZkBaseDataAccessor;
 import org.apache.helix.zookeeper.impl.client.ZkClient;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.zookeeper.data.Stat;
 
 
 public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
@@ -41,6 +44,12 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   protected final Map<String, Store> storeMap = new VeniceConcurrentHashMap<>();
   private final AtomicLong totalStoreReadQuota = new AtomicLong();
   private final Set<StoreDataChangedListener> listeners = new CopyOnWriteArraySet<>();
+  /**
+   * The version of the ZNode which every cached store was read from. When the cached stores are synced with ZK again,
+   * e.g. after a ZK reconnection, only the stores whose ZNode version has changed since then are read and deserialized
+   * again, instead of all the stores in the cluster. A store without a known version is always read again.
+   */
+  protected final Map<String, Integer> storeZkVersions = new VeniceConcurrentHashMap<>();
 
   public CachedReadOnlyStoreRepository(
       ZkClient zkClient,
@@ -105,13 +114,23 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   public void refresh() {
     LOGGER.info("Refresh started for cluster {}'s ", clusterName, getClass().getSimpleName());
     try (AutoCloseableLock ignore = clusterLockManager.createClusterWriteLock()) {
-      List<Store> newStores = getStoresFromZk();
+      Set<String> deletedStoreNames = storeMap.values().stream().map(Store::getName).collect(Collectors.toSet());
+      List<Store> newStores;
+      if (storeMap.isEmpty()) {
+        newStores = getStoresFromZk();
+      } else {
+        // Only read the stores which are new or have changed, and drop the ones which are gone or can't be read.
+        List<String> zkStoreNames = getStoreNamesFromZk();
+        List<String> changedStoreNames = getChangedStoreNames(zkStoreNames);
+        deletedStoreNames.removeAll(zkStoreNames);
+        deletedStoreNames.addAll(changedStoreNames);
+        newStores = getStoresFromZk(changedStoreNames);
+      }
       LOGGER.info(
-          "Got {} stores from cluster {} during refresh in repo: {}",
+          "Got {} new or changed stores from cluster {} during refresh in repo: {}",
           newStores.size(),
           clusterName,
           getClass().getSimpleName());
-      Set<String> deletedStoreNames = storeMap.values().stream().map(Store::getName).collect(Collectors.toSet());
       for (Store newStore: newStores) {
         putStore(newStore);
         deletedStoreNames.remove(newStore.getName());
@@ -141,6 +160,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   public void clear() {
     try (AutoCloseableLock ignore = clusterLockManager.createClusterWriteLock()) {
       storeMap.clear();
+      storeZkVersions.clear();
       totalStoreReadQuota.set(0);
       clusterLockManager.clear();
     }
@@ -176,6 +196,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   protected Store removeStore(String storeName) {
     try (AutoCloseableLock ignore = clusterLockManager.createStoreWriteLock(storeName)) {
       Store oldStore = storeMap.remove(storeName);
+      storeZkVersions.remove(storeName);
       if (oldStore != null) {
         totalStoreReadQuota.addAndGet(-oldStore.getReadQuotaInCU());
         notifyStoreDeleted(oldStore);
@@ -189,7 +210,10 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   }
 
   protected Store getStoreFromZk(String storeName) {
-    return zkDataAccessor.get(getStoreZkPath(storeName), null, AccessOption.PERSISTENT);
+    Stat stat = new Stat();
+    Store store = zkDataAccessor.get(getStoreZkPath(storeName), stat, AccessOption.PERSISTENT);
+    recordStoreZkVersion(store, stat);
+    return store;
   }
 
   /**
@@ -199,18 +223,64 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
    * accordingly.
    */
   protected List<Store> getStoresFromZk() {
-    List<Store> stores = zkDataAccessor.getChildren(clusterStoreRepositoryPath, null, AccessOption.PERSISTENT);
+    List<Stat> stats = new ArrayList<>();
+    List<Store> stores = zkDataAccessor.getChildren(clusterStoreRepositoryPath, stats, AccessOption.PERSISTENT);
+    recordStoreZkVersions(stores, stats);
     stores.removeIf(Objects::isNull);
     return stores;
   }
 
   protected List<Store> getStoresFromZk(Collection<String> storeNames) {
     List<String> paths = storeNames.stream().map(this::getStoreZkPath).collect(Collectors.toList());
-    List<Store> stores = zkDataAccessor.get(paths, null, AccessOption.PERSISTENT);
+    List<Stat> stats = new ArrayList<>();
+    List<Store> stores = zkDataAccessor.get(paths, stats, AccessOption.PERSISTENT);
+    recordStoreZkVersions(stores, stats);
     stores.removeIf(Objects::isNull);
     return stores;
   }
 
+  /**
+   * {@link HelixReadOnlyZKSharedSystemStoreRepository} is overriding this function to filter out the stores which are
+   * not cached, the same way as {@link #getStoresFromZk()}.
+   */
+  protected List<String> getStoreNamesFromZk() {
+    List<String> storeNames = zkDataAccessor.getChildNames(clusterStoreRepositoryPath, AccessOption.PERSISTENT);
+    return storeNames == null ? Collections.emptyList() : storeNames;
+  }
+
+  /**
+   * @return the stores which aren't cached, or whose ZNode has changed or is gone since they were read, which only
+   *         takes reading the stats of the ZNodes instead of their data.
+   */
+  protected List<String> getChangedStoreNames(List<String> storeNames) {
+    List<String> paths = storeNames.stream().map(this::getStoreZkPath).collect(Collectors.toList());
+    Stat[] stats = zkDataAccessor.getStats(paths, AccessOption.PERSISTENT);
+    List<String> changedStoreNames = new ArrayList<>();
+    for (int i = 0; i < storeNames.size(); i++) {
+      if (!isStoreZkVersionCached(storeNames.get(i), stats[i])) {
+        changedStoreNames.add(storeNames.get(i));
+      }
+    }
+    return changedStoreNames;
+  }
+
+  protected boolean isStoreZkVersionCached(String storeName, Stat stat) {
+    Integer version = storeZkVersions.get(storeName);
+    return stat != null && version != null && version == stat.getVersion() && storeMap.containsKey(storeName);
+  }
+
+  private void recordStoreZkVersion(Store store, Stat stat) {
+    if (store != null) {
+      storeZkVersions.put(store.getName(), stat.getVersion());
+    }
+  }
+
+  private void recordStoreZkVersions(List<Store> stores, List<Stat> stats) {
+    for (int i = 0; i < stores.size(); i++) {
+      recordStoreZkVersion(stores.get(i), stats.get(i));
+    }
+  }
+
   protected void notifyStoreCreated(Store store) {
     for (StoreDataChangedListener listener: listeners) {
       try {
@@ -3,17 +3,21 @@ package com.linkedin.venice.helix;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ClusterLockManager;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.apache.helix.AccessOption;
 import org.apache.helix.zookeeper.impl.client.ZkClient;
 import org.apache.helix.zookeeper.zkclient.IZkChildListener;
 import org.apache.helix.zookeeper.zkclient.IZkDataListener;
+import org.apache.helix.zookeeper.zkclient.annotation.PreFetchChangedData;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.zookeeper.data.Stat;
 
 
 public class HelixReadOnlyStoreRepository extends CachedReadOnlyStoreRepository {
@@ -58,13 +62,18 @@ public class HelixReadOnlyStoreRepository extends CachedReadOnlyStoreRepository
     try (AutoCloseableLock ignore = clusterLockManager.createStoreWriteLock(newStore.getName())) {
       Store oldStore = super.putStore(newStore);
       if (oldStore == null) {
-        zkDataAccessor.subscribeDataChanges(getStoreZkPath(newStore.getName()), zkStoreListener);
+        String storeZkPath = getStoreZkPath(newStore.getName());
+        zkDataAccessor.subscribeDataChanges(storeZkPath, zkStoreListener);
         // Refresh the store after subscription to prevent missed updates. Here is the exact scenario:
         // 1. Put store in read repo.
         // 2. Store updated in read write repo.
         // 3. Subscribe to data change in read repo.
         // Updates in step 2 will not be reflected until the next update.
-        refreshOneStore(newStore.getName());
+        // The stat of the ZNode is enough to tell whether the store was updated in step 2, which avoids reading and
+        // deserializing every new store twice.
+        if (!isStoreZkVersionCached(newStore.getName(), zkDataAccessor.getStat(storeZkPath, AccessOption.PERSISTENT))) {
+          refreshOneStore(newStore.getName());
+        }
       }
       return oldStore;
     }
@@ -81,10 +90,26 @@ public class HelixReadOnlyStoreRepository extends CachedReadOnlyStoreRepository
     }
   }
 
-  protected void onStoreChanged(Store newStore) {
-    Store oldStore = putStore(newStore);
-    if (oldStore == null) {
-      LOGGER.warn("Out of order store change notification, storeName={}.", newStore.getName());
+  /**
+   * The data of the ZNode isn't notified, so that a notification of a version of the store which is already cached,
+   * e.g. read by {@link #refreshOneStore} after subscribing, only costs reading the stat of the ZNode. Otherwise, the
+   * store is read along with the version of its ZNode, which is kept so the next refresh doesn't read it again.
+   */
+  protected void onStoreChanged(String storeName) {
+    try (AutoCloseableLock ignore = clusterLockManager.createStoreWriteLock(storeName)) {
+      Stat stat = zkDataAccessor.getStat(getStoreZkPath(storeName), AccessOption.PERSISTENT);
+      if (isStoreZkVersionCached(storeName, stat)) {
+        return;
+      }
+      Store newStore = getStoreFromZk(storeName);
+      if (newStore == null) {
+        // The store has been deleted, which is handled by the listener of the store repository.
+        return;
+      }
+      Store oldStore = putStore(newStore);
+      if (oldStore == null) {
+        LOGGER.warn("Out of order store change notification, storeName={}.", storeName);
+      }
     }
   }
 
@@ -131,19 +156,15 @@ public class HelixReadOnlyStoreRepository extends CachedReadOnlyStoreRepository
 
   private final IZkDataListener zkStoreListener = new IZkDataListener() {
     @Override
+    @PreFetchChangedData(enabled = false)
     public void handleDataChange(String path, Object data) {
-      if (!(data instanceof Store)) {
-        LOGGER.warn("Notification data is not a Store, path={}, data={}.", path, data);
-        return;
-      }
-
-      Store store = (Store) data;
-      String storePath = getStoreZkPath(store.getName());
+      String storeName = Paths.get(path).getFileName().toString();
+      String storePath = getStoreZkPath(storeName);
       if (!path.equals(storePath)) {
         LOGGER.warn("Notification path mismatch, path={}, expected={}.", path, storePath);
         return;
       }
-      onStoreChanged(store);
+      onStoreChanged(storeName);
     }
 
     @Override
@@ -95,6 +95,13 @@ public class HelixReadOnlyZKSharedSystemStoreRepository extends HelixReadOnlySto
         .collect(Collectors.toList());
   }
 
+  @Override
+  protected List<String> getStoreNamesFromZk() {
+    return super.getStoreNamesFromZk().stream()
+        .filter(s -> zkSharedSystemStoreSet.contains(s))
+        .collect(Collectors.toList());
+  }
+
   /**
    * This function is used to filter out non system stores to avoid unnecessary zk watches against
    * the newly added regular stores.
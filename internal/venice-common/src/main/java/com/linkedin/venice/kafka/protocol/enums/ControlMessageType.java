@@ -2,6 +2,7 @@ package com.linkedin.venice.kafka.protocol.enums;
 
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceMessageException;
+import com.linkedin.venice.kafka.protocol.BulkLoadSstFile;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
 import com.linkedin.venice.kafka.protocol.EndOfIncrementalPush;
 import com.linkedin.venice.kafka.protocol.EndOfPush;
@@ -24,7 +25,8 @@ import com.linkedin.venice.utils.VeniceEnumValue;
  */
 public enum ControlMessageType implements VeniceEnumValue {
   START_OF_PUSH(0), END_OF_PUSH(1), START_OF_SEGMENT(2), END_OF_SEGMENT(3), @Deprecated
-  START_OF_BUFFER_REPLAY(4), START_OF_INCREMENTAL_PUSH(5), END_OF_INCREMENTAL_PUSH(6), TOPIC_SWITCH(7), VERSION_SWAP(8);
+  START_OF_BUFFER_REPLAY(4), START_OF_INCREMENTAL_PUSH(5), END_OF_INCREMENTAL_PUSH(6), TOPIC_SWITCH(7), VERSION_SWAP(8),
+  BULK_LOAD_SST_FILE(9);
 
   /** The value is the byte used on the wire format */
   private final int value;
@@ -50,6 +52,7 @@ public enum ControlMessageType implements VeniceEnumValue {
    *         - {@link EndOfIncrementalPush}
    *         - {@link TopicSwitch}
    *         - {@link VersionSwap}
+   *         - {@link BulkLoadSstFile}
    */
   public Object getNewInstance() {
     switch (valueOf(value)) {
@@ -69,6 +72,8 @@ public enum ControlMessageType implements VeniceEnumValue {
         return new TopicSwitch();
       case VERSION_SWAP:
         return new VersionSwap();
+      case BULK_LOAD_SST_FILE:
+        return new BulkLoadSstFile();
 
       default:
         throw new VeniceException("Unsupported " + getClass().getSimpleName() + " value: " + value);
@@ -19,6 +19,7 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -53,6 +54,11 @@ public class OfflinePushStatus {
   private String incrementalPushVersion = "";
   // Key is Partition Id (0 to n-1); value is the corresponding partition status.
   private Map<Integer, PartitionStatus> partitionIdToStatus;
+  /**
+   * The partitions which have enough finished replicas. It's updated for the changed partition only, so that the status
+   * details don't need a scan of all the replicas of all the partitions on every partition status change.
+   */
+  private BitSet finishedPartitions;
 
   private Map<String, String> pushProperties;
 
@@ -75,6 +81,7 @@ public class OfflinePushStatus {
     this.statusHistory = new ArrayList<>();
     addHistoricStatus(currentStatus, incrementalPushVersion);
     this.partitionIdToStatus = new VeniceConcurrentHashMap<>(numberOfPartition);
+    this.finishedPartitions = new BitSet(numberOfPartition);
     for (int i = 0; i < numberOfPartition; i++) {
       ReadOnlyPartitionStatus partitionStatus = new ReadOnlyPartitionStatus(i, Collections.emptyList());
       partitionIdToStatus.put(i, partitionStatus);
@@ -161,37 +168,45 @@ public class OfflinePushStatus {
       throw new IllegalArgumentException(
           "Received an invalid partition:" + partitionStatus.getPartitionId() + " for topic:" + kafkaTopic);
     }
+    putPartitionStatus(partitionStatus);
+    if (updateDetails) {
+      updateStatusDetails();
+    }
+  }
+
+  private void putPartitionStatus(PartitionStatus partitionStatus) {
     if (partitionStatus instanceof ReadOnlyPartitionStatus) {
       partitionIdToStatus.put(partitionStatus.getPartitionId(), partitionStatus);
     } else {
       partitionIdToStatus
           .put(partitionStatus.getPartitionId(), ReadOnlyPartitionStatus.fromPartitionStatus(partitionStatus));
     }
-    if (updateDetails) {
-      updateStatusDetails();
+    int finishedReplicaInPartition = 0;
+    for (ReplicaStatus replicaStatus: partitionStatus.getReplicaStatuses()) {
+      if (replicaStatus.getCurrentStatus().isTerminal()) {
+        finishedReplicaInPartition++;
+      }
     }
+    PushStatusDecider decider = strategy.getPushStatusDecider();
+    finishedPartitions.set(
+        partitionStatus.getPartitionId(),
+        decider.hasEnoughReplicasForOnePartition(finishedReplicaInPartition, replicationFactor));
   }
 
   private void updateStatusDetails() {
-    PushStatusDecider decider = strategy.getPushStatusDecider();
-    Set<Integer> incompletePartitions = new HashSet<>();
-    int finishedPartitions = 0;
-    for (PartitionStatus partitionStatus: getPartitionStatuses()) {
-      int finishedReplicaInPartition = 0;
-      for (ReplicaStatus replicaStatus: partitionStatus.getReplicaStatuses()) {
-        if (replicaStatus.getCurrentStatus().isTerminal()) {
-          finishedReplicaInPartition++;
+    int finishedPartitionCount = finishedPartitions.cardinality();
+    if (finishedPartitionCount > 0) {
+      String message = finishedPartitionCount + "/" + numberOfPartition + " partitions completed.";
+      int incompletePartitionCount = partitionIdToStatus.size() - finishedPartitionCount;
+      if (incompletePartitionCount > 0 && incompletePartitionCount <= 5) {
+        Set<Integer> incompletePartitions = new HashSet<>();
+        for (int partitionId = finishedPartitions.nextClearBit(0); partitionId < numberOfPartition
+            && incompletePartitions.size() < incompletePartitionCount; partitionId =
+                finishedPartitions.nextClearBit(partitionId + 1)) {
+          if (partitionIdToStatus.containsKey(partitionId)) {
+            incompletePartitions.add(partitionId);
+          }
         }
-      }
-      if (decider.hasEnoughReplicasForOnePartition(finishedReplicaInPartition, replicationFactor)) {
-        finishedPartitions++;
-      } else {
-        incompletePartitions.add(partitionStatus.getPartitionId());
-      }
-    }
-    if (finishedPartitions > 0) {
-      String message = finishedPartitions + "/" + numberOfPartition + " partitions completed.";
-      if (incompletePartitions.size() > 0 && incompletePartitions.size() <= 5) {
         message += ". Following partitions still not complete " + incompletePartitions;
       }
       setStatusDetails(message);
@@ -326,13 +341,9 @@ public class OfflinePushStatus {
   // Only used by accessor while loading data from Zookeeper.
   public void setPartitionStatuses(List<PartitionStatus> partitionStatuses) {
     this.partitionIdToStatus.clear();
+    this.finishedPartitions.clear();
     for (PartitionStatus partitionStatus: partitionStatuses) {
-      if (partitionStatus instanceof ReadOnlyPartitionStatus) {
-        this.partitionIdToStatus.put(partitionStatus.getPartitionId(), partitionStatus);
-      } else {
-        this.partitionIdToStatus
-            .put(partitionStatus.getPartitionId(), ReadOnlyPartitionStatus.fromPartitionStatus(partitionStatus));
-      }
+      putPartitionStatus(partitionStatus);
     }
     updateStatusDetails();
   }
@@ -362,8 +373,11 @@ public class OfflinePushStatus {
     // itself is able to avoid affecting the object while updating the cloned one.
     clonePushStatus.setStatusHistory(new ArrayList<>(statusHistory));
     // As same as status history, there is no way update properties inside Partition status object. So only
-    // copy list is enough here.
-    clonePushStatus.setPartitionStatuses(new ArrayList<>(partitionIdToStatus.values()));
+    // copy the map is enough here, and the finished partitions are copied instead of being computed again.
+    clonePushStatus.partitionIdToStatus.clear();
+    clonePushStatus.partitionIdToStatus.putAll(partitionIdToStatus);
+    clonePushStatus.finishedPartitions = (BitSet) finishedPartitions.clone();
+    clonePushStatus.updateStatusDetails();
     clonePushStatus.setPushProperties(new HashMap<>(pushProperties));
     clonePushStatus.setIncrementalPushVersion(incrementalPushVersion);
     clonePushStatus.setSuccessfulPushDurationInSecs((successfulPushDurationInSecs));
@@ -66,10 +66,7 @@ public abstract class PushStatusDecider {
             callback);
 
         if (executionStatus == ERROR) {
-          return new ExecutionStatusWithDetails(
-              executionStatus,
-              "too many ERROR replicas in partition: " + partitionStatus.getPartitionId() + " for offlinePushStrategy: "
-                  + getStrategy().name());
+          return new ExecutionStatusWithDetails(executionStatus, getErrorPartitionDetails(partitionId));
         }
 
         if (!executionStatus.equals(COMPLETED)) {
@@ -91,6 +88,33 @@ public abstract class PushStatusDecider {
     return new ExecutionStatusWithDetails(STARTED);
   }
 
+  /**
+   * Check the current status of a single partition based on its {@link PartitionStatus}, so that the caller could
+   * aggregate the push status incrementally instead of checking all the partitions on every partition status change.
+   */
+  public ExecutionStatus checkPartitionStatus(
+      OfflinePushStatus pushStatus,
+      int partitionId,
+      PartitionAssignment partitionAssignment,
+      DisableReplicaCallback callback) {
+    Partition partition = partitionAssignment.getPartition(partitionId);
+    if (partition == null) {
+      throw new IllegalStateException("partition " + partitionId + " is null.");
+    }
+    return getPartitionStatus(
+        pushStatus.getPartitionStatus(partitionId),
+        pushStatus.getReplicationFactor(),
+        partition.getInstanceToHelixStateMap(),
+        callback);
+  }
+
+  /**
+   * @return the status details of a push which failed because of the given partition.
+   */
+  public String getErrorPartitionDetails(int partitionId) {
+    return "too many ERROR replicas in partition: " + partitionId + " for offlinePushStrategy: " + getStrategy().name();
+  }
+
   public static List<Instance> getReadyToServeInstances(
       PartitionStatus partitionStatus,
       PartitionAssignment partitionAssignment,
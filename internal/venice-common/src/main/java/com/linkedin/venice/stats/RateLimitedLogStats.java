@@ -0,0 +1,23 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.alpini.log.RateLimitedLog;
+import io.tehuti.metrics.MetricsRepository;
+
+
+/**
+ * {@code RateLimitedLogStats} measures the messages which were logged and suppressed by {@link RateLimitedLog} call
+ * sites, so that a storm of errors shows up in the metrics even though most of its messages aren't logged.
+ */
+public class RateLimitedLogStats extends AbstractVeniceStats {
+  public RateLimitedLogStats(MetricsRepository metricsRepository, String name) {
+    super(metricsRepository, name);
+  }
+
+  /**
+   * @param callSiteName the prefix of the metrics of the call site, e.g. "read_error".
+   */
+  public void registerLog(String callSiteName, RateLimitedLog log) {
+    registerSensor(callSiteName + "_logged_message", new Gauge(log::getLoggedCount));
+    registerSensor(callSiteName + "_suppressed_message", new Gauge(log::getSuppressedCount));
+  }
+}
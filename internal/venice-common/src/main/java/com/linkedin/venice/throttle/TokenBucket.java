@@ -9,6 +9,9 @@ import java.util.concurrent.atomic.AtomicLong;
  * @see <a href="http://en.wikipedia.org/wiki/Token_bucket">Token Bucket on Wikipedia</a>
  * This implementation aims to be very high performance with the goal of supporting a very large number of
  * TokenBuckets in an application; thus avoiding an auxilliary thread to refill the bucket.
+ *
+ * The bucket is lock-free: the refill is claimed by the thread which advances {@link #nextUpdateTime} with a CAS, and
+ * the tokens are consumed with a CAS loop, so the threads which share a hot bucket never block each other.
  */
 public class TokenBucket {
   private final long capacity;
@@ -19,7 +22,7 @@ public class TokenBucket {
   private final AtomicLong tokens;
   private final AtomicLong tokensCountAfterLastRefill;
   private final AtomicLong tokensConsumedSinceLastRefill;
-  private volatile long nextUpdateTime;
+  private final AtomicLong nextUpdateTime;
 
   /**
    * This constructor should only be used by tests.  Application should not specify it's own instance of Clock
@@ -52,7 +55,7 @@ public class TokenBucket {
     tokens = new AtomicLong(capacity);
     tokensCountAfterLastRefill = new AtomicLong(tokens.get());
     tokensConsumedSinceLastRefill = new AtomicLong(0);
-    nextUpdateTime = clock.millis() + refillIntervalMs;
+    nextUpdateTime = new AtomicLong(clock.millis() + refillIntervalMs);
 
     float refillIntervalSeconds = refillIntervalMs / (float) 1000;
     refillPerSecond = refillAmount / refillIntervalSeconds;
@@ -75,28 +78,31 @@ public class TokenBucket {
    * @return true if tokens may have been added, false if short circuited and no tokens were added
    */
   private boolean update() {
-    if (clock.millis() > nextUpdateTime) {
-      synchronized (this) {
-        if (clock.millis() > nextUpdateTime) {
-          long refillCount = (clock.millis() - nextUpdateTime) / refillIntervalMs + 1;
-          long totalRefillAmount = refillCount * refillAmount;
-          tokens.getAndAccumulate(totalRefillAmount, (existing, toAdd) -> {
-            long newTokens = existing + toAdd;
-            if (newTokens > capacity) {
-              return capacity;
-            } else {
-              return newTokens;
-            }
-          });
-          tokensCountAfterLastRefill.set(tokens.get());
-          tokensConsumedSinceLastRefill.set(0);
-          nextUpdateTime += refillCount * refillIntervalMs;
-        }
-      }
-      return true;
-    } else {
+    long now = clock.millis();
+    long updateTime = nextUpdateTime.get();
+    if (now <= updateTime) {
       return false;
     }
+    long refillCount = (now - updateTime) / refillIntervalMs + 1;
+    /**
+     * Only the thread which advances the next update time refills the bucket. The threads which lose the race don't
+     * wait for the refill, so they could miss the new tokens, which only matters at the very edge of an interval.
+     */
+    if (nextUpdateTime.compareAndSet(updateTime, updateTime + refillCount * refillIntervalMs)) {
+      // Enough to fill the bucket from the maximum debt, so that a long idle period can't overflow the token count.
+      long totalRefillAmount = Math.min(refillCount, 2 * capacity / refillAmount + 1) * refillAmount;
+      long tokensAfterRefill = tokens.accumulateAndGet(totalRefillAmount, (existing, toAdd) -> {
+        long newTokens = existing + toAdd;
+        if (newTokens > capacity) {
+          return capacity;
+        } else {
+          return newTokens;
+        }
+      });
+      tokensCountAfterLastRefill.set(tokensAfterRefill);
+      tokensConsumedSinceLastRefill.set(0);
+    }
+    return true;
   }
 
   /**
@@ -113,7 +119,12 @@ public class TokenBucket {
    * @return ratio between number of tokens consumed since last refill over the total token count after the last refill
    */
   public double getStaleUsageRatio() {
-    return (double) tokensConsumedSinceLastRefill.get() / (double) tokensCountAfterLastRefill.get();
+    long tokensAfterLastRefill = tokensCountAfterLastRefill.get();
+    if (tokensAfterLastRefill <= 0) {
+      // Still in debt from #forceConsume() after the last refill
+      return 1;
+    }
+    return (double) tokensConsumedSinceLastRefill.get() / (double) tokensAfterLastRefill;
   }
 
   public boolean tryConsume(long tokensToConsume) {
@@ -121,15 +132,27 @@ public class TokenBucket {
   }
 
   private boolean noRetryTryConsume(long tokensToConsume) {
-    long tokensThatWereAvailable = tokens.getAndAccumulate(tokensToConsume, (existing, toConsume) -> {
-      if (toConsume <= existing) { // there are sufficient tokens
-        tokensConsumedSinceLastRefill.getAndAdd(toConsume);
-        return existing - toConsume;
-      } else {
-        return existing; // insufficient tokens, do not consume any
+    while (true) {
+      long existing = tokens.get();
+      if (tokensToConsume > existing) {
+        return false; // insufficient tokens, do not consume any
+      }
+      if (tokens.compareAndSet(existing, existing - tokensToConsume)) {
+        tokensConsumedSinceLastRefill.addAndGet(tokensToConsume);
+        return true;
       }
-    });
-    return tokensToConsume <= tokensThatWereAvailable;
+    }
+  }
+
+  /**
+   * Consumes the tokens even if the bucket doesn't have enough of them, for a cost which is only known once the work
+   * is done. The bucket then goes into debt, down to minus its capacity, which is paid back by the next refills
+   * before {@link #tryConsume(long)} succeeds again.
+   */
+  public void forceConsume(long tokensToConsume) {
+    update();
+    tokens.accumulateAndGet(tokensToConsume, (existing, toConsume) -> Math.max(existing - toConsume, -capacity));
+    tokensConsumedSinceLastRefill.addAndGet(tokensToConsume);
   }
 
   public boolean tryConsume() {
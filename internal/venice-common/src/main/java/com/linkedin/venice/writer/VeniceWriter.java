@@ -10,6 +10,7 @@ import com.linkedin.venice.exceptions.RecordTooLargeException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceResourceAccessException;
 import com.linkedin.venice.guid.GuidUtils;
+import com.linkedin.venice.kafka.protocol.BulkLoadSstFile;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
 import com.linkedin.venice.kafka.protocol.Delete;
 import com.linkedin.venice.kafka.protocol.EndOfIncrementalPush;
@@ -1086,6 +1087,33 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
     producerAdapter.flush();
   }
 
+  /**
+   * Points the consumers of the given partition to a SST file built offline, which contains the data of the partition
+   * and will be loaded into the storage engine directly, instead of producing every record of the file.
+   *
+   * @param partition the Kafka partition the SST file belongs to.
+   * @param filePath location of the staged SST file, which should be readable by the consumers.
+   * @param recordCount the number of records in the SST file.
+   * @param checksum the MD5 checksum over the key and value of every record in the SST file.
+   * @param debugInfo arbitrary key/value pairs of information that will be propagated alongside the control message.
+   */
+  public void sendBulkLoadSstFile(
+      int partition,
+      @Nonnull String filePath,
+      long recordCount,
+      @Nonnull byte[] checksum,
+      Map<String, String> debugInfo) {
+    Validate.notEmpty(filePath);
+    ControlMessage controlMessage = getEmptyControlMessage(ControlMessageType.BULK_LOAD_SST_FILE);
+    BulkLoadSstFile bulkLoadSstFile = new BulkLoadSstFile();
+    bulkLoadSstFile.filePath = filePath;
+    bulkLoadSstFile.recordCount = recordCount;
+    bulkLoadSstFile.checksum = ByteBuffer.wrap(checksum);
+    controlMessage.controlMessageUnion = bulkLoadSstFile;
+    sendControlMessage(controlMessage, partition, debugInfo, null, DEFAULT_LEADER_METADATA_WRAPPER);
+    producerAdapter.flush();
+  }
+
   /**
    * IMPORTANT: Only invoke this function in pass-through mode.
    *
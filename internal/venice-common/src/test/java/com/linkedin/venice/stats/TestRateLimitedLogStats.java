@@ -0,0 +1,31 @@
+package com.linkedin.venice.stats;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.alpini.log.RateLimitedLog;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestRateLimitedLogStats {
+  @Test
+  public void testLoggedAndSuppressedCounts() {
+    Logger logger = mock(Logger.class);
+    doReturn(true).when(logger).isEnabled(any(Level.class));
+    RateLimitedLog log = new RateLimitedLog(logger, Level.ERROR, "Exception thrown for {}", 1, 1, TimeUnit.HOURS);
+    MetricsRepository metricsRepository = new MetricsRepository();
+    new RateLimitedLogStats(metricsRepository, "test_log").registerLog("read_error", log);
+
+    for (int i = 0; i < 3; i++) {
+      log.log("key");
+    }
+    Assert.assertEquals(metricsRepository.getMetric(".test_log--read_error_logged_message.Gauge").value(), 1d);
+    Assert.assertEquals(metricsRepository.getMetric(".test_log--read_error_suppressed_message.Gauge").value(), 2d);
+  }
+}
@@ -7,7 +7,10 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.testng.annotations.Test;
 
 
@@ -50,4 +53,53 @@ public class TokenBucketTest {
         (double) 40 / (double) 50,
         "After 3 refills and the most recent consumption of 40 the usage ratio should be 40/50");
   }
+
+  @Test
+  public static void testForceConsume() {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+
+    TokenBucket tokenBucket = new TokenBucket(100, 10, 1, TimeUnit.SECONDS, mockClock);
+    tokenBucket.forceConsume(130);
+    assertEquals(tokenBucket.getStaleTokenCount(), -30, "Force consuming must put the bucket into debt");
+    assertFalse(tokenBucket.tryConsume(1), "TokenBucket must not allow consuming while in debt");
+    tokenBucket.forceConsume(1000);
+    assertEquals(tokenBucket.getStaleTokenCount(), -100, "The debt must be bounded by the capacity");
+
+    doReturn(start + 10500).when(mockClock).millis(); // 10 refills of 10 each pay back the debt.
+    assertFalse(tokenBucket.tryConsume(1), "TokenBucket must not allow consuming until the debt is paid back");
+    assertEquals(tokenBucket.getStaleUsageRatio(), 1.0, "The usage ratio of a bucket in debt must be 1");
+
+    doReturn(start + 1000000).when(mockClock).millis(); // A long idle period fills the bucket up to its capacity.
+    assertTrue(tokenBucket.tryConsume(100), "After enough refills, the bucket must be full");
+    assertFalse(tokenBucket.tryConsume(1), "The refills must be bounded by the capacity");
+  }
+
+  @Test
+  public static void testConcurrentConsume() throws InterruptedException {
+    Clock mockClock = mock(Clock.class);
+    doReturn(System.currentTimeMillis()).when(mockClock).millis();
+
+    int threadCount = 8;
+    int capacity = 10000;
+    TokenBucket tokenBucket = new TokenBucket(capacity, 1, 1, TimeUnit.SECONDS, mockClock);
+    AtomicInteger consumed = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      for (int i = 0; i < threadCount; i++) {
+        executor.submit(() -> {
+          while (tokenBucket.tryConsume()) {
+            consumed.incrementAndGet();
+          }
+        });
+      }
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    }
+    assertEquals(consumed.get(), capacity, "Every token must be consumed exactly once");
+    assertEquals(tokenBucket.getStaleTokenCount(), 0);
+    assertEquals(tokenBucket.getStaleUsageRatio(), 1.0);
+  }
 }
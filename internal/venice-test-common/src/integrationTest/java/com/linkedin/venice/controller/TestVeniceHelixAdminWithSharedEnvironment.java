@@ -1379,6 +1379,38 @@ public class TestVeniceHelixAdminWithSharedEnvironment extends AbstractTestVenic
     Assert.assertEquals(store.getBatchGetLimit(), 100);
   }
 
+  @Test(timeOut = TOTAL_TIMEOUT_FOR_SHORT_TEST_MS)
+  public void testUpdateStoreKeepsConcurrentStoreChanges() throws Exception {
+    String storeName = Utils.getUniqueString("test_store");
+    veniceAdmin.createStore(clusterName, storeName, storeOwner, "\"string\"", "\"string\"");
+
+    // The changes of one store update are written together, on top of the changes made by other threads meanwhile.
+    int iterations = 20;
+    CompletableFuture<Void> storeUpdates = CompletableFuture.runAsync(() -> {
+      for (int i = 1; i <= iterations; i++) {
+        veniceAdmin.updateStore(
+            clusterName,
+            storeName,
+            new UpdateStoreQueryParams().setReadQuotaInCU(i).setNumVersionsToPreserve(i));
+      }
+    });
+    CompletableFuture<Void> metadataUpdates = CompletableFuture.runAsync(() -> {
+      for (int i = 1; i <= iterations; i++) {
+        int batchGetLimit = i;
+        veniceAdmin.storeMetadataUpdate(clusterName, storeName, store -> {
+          store.setBatchGetLimit(batchGetLimit);
+          return store;
+        });
+      }
+    });
+    CompletableFuture.allOf(storeUpdates, metadataUpdates).get();
+
+    Store store = veniceAdmin.getStore(clusterName, storeName);
+    Assert.assertEquals(store.getReadQuotaInCU(), iterations);
+    Assert.assertEquals(store.getNumVersionsToPreserve(), iterations);
+    Assert.assertEquals(store.getBatchGetLimit(), iterations);
+  }
+
   @Test
   public void testNumVersionsToPreserve() {
     String storeName = Utils.getUniqueString("test_store");
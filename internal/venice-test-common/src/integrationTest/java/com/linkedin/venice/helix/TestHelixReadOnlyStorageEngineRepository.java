@@ -11,6 +11,9 @@ import com.linkedin.venice.meta.VersionImpl;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.locks.ClusterLockManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -134,6 +137,40 @@ public class TestHelixReadOnlyStorageEngineRepository {
     }
   }
 
+  @Test
+  public void testRefreshOnlyReadsChangedStores() {
+    int count = 5;
+    List<String> storeNames = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Store s = TestUtils.createTestStore("s" + i, "owner", System.currentTimeMillis());
+      writeRepo.addStore(s);
+      storeNames.add(s.getName());
+    }
+    TestUtils.waitForNonDeterministicAssertion(
+        3,
+        TimeUnit.SECONDS,
+        () -> Assert.assertEquals(repo.getAllStores().size(), count));
+    repo.refresh();
+    Assert.assertTrue(repo.getChangedStoreNames(storeNames).isEmpty());
+
+    // The store updated through a notification keeps the version of its ZNode, so the next refresh doesn't read it.
+    Store updatedStore = writeRepo.getStore("s0");
+    updatedStore.setReadQuotaInCU(1000);
+    writeRepo.updateStore(updatedStore);
+    writeRepo.deleteStore("s1");
+    TestUtils.waitForNonDeterministicAssertion(3, TimeUnit.SECONDS, () -> {
+      Assert.assertEquals(repo.getStore("s0").getReadQuotaInCU(), 1000);
+      Assert.assertFalse(repo.hasStore("s1"));
+    });
+    Assert.assertEquals(repo.getChangedStoreNames(storeNames), Collections.singletonList("s1"));
+
+    repo.refresh();
+    Assert.assertEquals(repo.getStore("s0").getReadQuotaInCU(), 1000);
+    Assert.assertFalse(repo.hasStore("s1"));
+    Assert.assertEquals(repo.getChangedStoreNames(storeNames), Collections.singletonList("s1"));
+    Assert.assertEquals(repo.getAllStores().size(), count - 1);
+  }
+
   static class TestListener implements StoreDataChangedListener {
     AtomicInteger creationCount = new AtomicInteger(0);
     AtomicInteger changeCount = new AtomicInteger(0);
@@ -0,0 +1,135 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.utils.concurrent.BlockingQueueType;
+import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Benchmark of the executor models for the reads of gRPC requests in the server. Every request is received on a
+ * transport thread, like the gRPC server executor, and its read blocks for a while to simulate a read from the disk.
+ * The models are:
+ *
+ * 1. INLINE: the read runs on the transport thread, which was the behavior before the reads were offloaded.
+ * 2. THREAD_POOL: the read is submitted to a separate fixed thread pool, like the storage execution thread pool.
+ * 3. VIRTUAL_THREADS: the read runs on a new virtual thread, which requires Java 21.
+ *
+ * To run the benchmark, run {@link #main(String[])}, or add it to the includes of the jmh task and run
+ * `./gradlew :internal:venice-test-common:jmh`.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class GrpcReadExecutorBenchmark {
+  private static final int REQUESTS_PER_INVOCATION = 10_000;
+  private static final int TRANSPORT_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+  private static final int READ_THREAD_COUNT = 64;
+
+  public enum ExecutorModel {
+    INLINE, THREAD_POOL, VIRTUAL_THREADS
+  }
+
+  @Param({ "INLINE", "THREAD_POOL", "VIRTUAL_THREADS" })
+  protected ExecutorModel executorModel;
+
+  /**
+   * How long every read blocks, where 0 is a read served from the memory.
+   */
+  @Param({ "0", "100" })
+  protected int readLatencyMicros;
+
+  private ExecutorService transportExecutor;
+  private ExecutorService readExecutor;
+
+  @Setup
+  public void setUp() {
+    transportExecutor = ThreadPoolFactory.createThreadPool(
+        TRANSPORT_THREAD_COUNT,
+        "TransportThread",
+        Integer.MAX_VALUE,
+        BlockingQueueType.LINKED_BLOCKING_QUEUE);
+    switch (executorModel) {
+      case INLINE:
+        readExecutor = null;
+        break;
+      case THREAD_POOL:
+        readExecutor = ThreadPoolFactory.createThreadPool(
+            READ_THREAD_COUNT,
+            "ReadThread",
+            Integer.MAX_VALUE,
+            BlockingQueueType.LINKED_BLOCKING_QUEUE);
+        break;
+      case VIRTUAL_THREADS:
+        Optional<ExecutorService> virtualThreadExecutor = ThreadPoolFactory.createVirtualThreadPerTaskExecutor();
+        if (!virtualThreadExecutor.isPresent()) {
+          throw new IllegalStateException("Virtual threads aren't supported by this JVM");
+        }
+        readExecutor = virtualThreadExecutor.get();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown executor model: " + executorModel);
+    }
+  }
+
+  @TearDown
+  public void cleanUp() {
+    transportExecutor.shutdownNow();
+    if (readExecutor != null) {
+      readExecutor.shutdownNow();
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(GrpcReadExecutorBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(REQUESTS_PER_INVOCATION)
+  public void read() {
+    CompletableFuture<?>[] futures = new CompletableFuture[REQUESTS_PER_INVOCATION];
+    for (int i = 0; i < REQUESTS_PER_INVOCATION; i++) {
+      CompletableFuture<Void> future = new CompletableFuture<>();
+      futures[i] = future;
+      transportExecutor.execute(() -> {
+        Executor executor = readExecutor == null ? Runnable::run : readExecutor;
+        executor.execute(() -> {
+          simulateRead();
+          future.complete(null);
+        });
+      });
+    }
+    CompletableFuture.allOf(futures).join();
+  }
+
+  private void simulateRead() {
+    if (readLatencyMicros > 0) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(readLatencyMicros));
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.ConcurrentHistogramStat;
+import com.linkedin.venice.stats.TehutiUtils;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Benchmark of the cost of recording a latency from many threads at once, into a tehuti sensor with the Avg, Max and
+ * percentile stats, which is how most of the latency sensors are registered, versus into a
+ * {@link ConcurrentHistogramStat} with the same metrics.
+ *
+ * To run the benchmark, run {@link #main(String[])}, or add it to the includes of the jmh task and run
+ * `./gradlew :internal:venice-test-common:jmh`.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(Threads.MAX)
+public class MetricsRecordingBenchmark {
+  private static final double[] PERCENTILES = new double[] { 50, 95, 99 };
+
+  private Sensor tehutiSensor;
+  private ConcurrentHistogramStat concurrentHistogramStat;
+
+  @Setup
+  public void setUp() {
+    BenchmarkStats stats = new BenchmarkStats(new MetricsRepository());
+    tehutiSensor = stats.tehutiSensor;
+    concurrentHistogramStat = stats.concurrentHistogramStat;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(MetricsRecordingBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void recordTehutiSensor() {
+    tehutiSensor.record(nextLatency());
+  }
+
+  @Benchmark
+  public void recordConcurrentHistogramStat() {
+    concurrentHistogramStat.record(nextLatency());
+  }
+
+  private static double nextLatency() {
+    return ThreadLocalRandom.current().nextDouble(100);
+  }
+
+  private static class BenchmarkStats extends AbstractVeniceStats {
+    private final Sensor tehutiSensor;
+    private final ConcurrentHistogramStat concurrentHistogramStat;
+
+    BenchmarkStats(MetricsRepository metricsRepository) {
+      super(metricsRepository, "benchmark");
+      tehutiSensor = registerSensor(
+          "tehuti_latency",
+          new Avg(),
+          new Max(),
+          TehutiUtils.getPercentileStat(getSensorFullName("tehuti_latency")));
+      concurrentHistogramStat =
+          registerConcurrentHistogramSensor("concurrent_latency", new ConcurrentHistogramStat(), PERCENTILES);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.alpini.base.statistics.LongStatsAccumulator;
+import com.linkedin.alpini.base.statistics.LongStatsAggregator;
+import com.linkedin.alpini.base.statistics.LongStatsArrayAggregator;
+import com.linkedin.alpini.base.statistics.LongStatsSketchAggregator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Benchmark of the cost of accepting a call time from many threads at once, into the sample based quantile
+ * estimations of alpini, which {@link com.linkedin.alpini.base.monitoring.CallTrackerImpl} used to use, versus into
+ * the fixed size {@link LongStatsSketchAggregator} which it uses by default. Every benchmark also summarises the
+ * statistics once per 10000 calls, like a metrics reporter would. The accuracy of the sketch is covered by the unit
+ * tests of {@link com.linkedin.alpini.base.statistics.LongQuantileSketch}.
+ *
+ * To run the benchmark, run {@link #main(String[])}, or add it to the includes of the jmh task and run
+ * `./gradlew :internal:venice-test-common:jmh`.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(Threads.MAX)
+public class QuantileEstimationBenchmark {
+  private static final double LONG_STATS_EPSILON = 0.0005;
+  private static final int LONG_STATS_SAMPLES = 2000;
+  private static final int CALLS_PER_SUMMARY = 10000;
+
+  private LongStatsAccumulator skipListAggregator;
+  private LongStatsAccumulator arrayAggregator;
+  private LongStatsAccumulator sketchAggregator;
+
+  @Setup
+  public void setUp() {
+    skipListAggregator = new LongStatsAggregator(LONG_STATS_EPSILON, LONG_STATS_SAMPLES);
+    arrayAggregator = new LongStatsArrayAggregator(LONG_STATS_EPSILON, LONG_STATS_SAMPLES);
+    sketchAggregator = new LongStatsSketchAggregator(6, TimeUnit.MINUTES.toNanos(15));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(QuantileEstimationBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public Object acceptSkipList() {
+    return accept(skipListAggregator);
+  }
+
+  @Benchmark
+  public Object acceptArray() {
+    return accept(arrayAggregator);
+  }
+
+  @Benchmark
+  public Object acceptSketch() {
+    return accept(sketchAggregator);
+  }
+
+  private static Object accept(LongStatsAccumulator aggregator) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    // Call times between 100us and 100ms, most of them short.
+    aggregator.accept((long) (TimeUnit.MICROSECONDS.toNanos(100) * Math.pow(1000, random.nextDouble(0, 1))));
+    if (random.nextInt(CALLS_PER_SUMMARY) == 0) {
+      return aggregator.getLongStats();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,75 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.integration.utils.ServiceFactory.getVeniceCluster;
+
+import com.linkedin.venice.ConfigKeys;
+import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the storage node clients of Router end to end, with the single-get and batch-get requests of a thin
+ * client going through a local Router to a local storage node over SSL, which is required by the Netty HTTP/2 client.
+ * Run with the GC profiler to compare the allocation rate of the clients as well.
+ */
+@Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouterStorageNodeClientBenchmark extends VeniceClientBenchmark {
+  private static final int BATCH_GET_KEY_COUNT = 100;
+
+  @Param({ "HTTP_CLIENT_5_CLIENT", "NETTY_HTTP2_CLIENT" })
+  protected String storageNodeClientType;
+
+  @Override
+  protected VeniceClusterWrapper createCluster() {
+    Properties extraProperties = new Properties();
+    extraProperties.put(ConfigKeys.ROUTER_STORAGE_NODE_CLIENT_TYPE, storageNodeClientType);
+    extraProperties.put(ConfigKeys.ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED, "true");
+    extraProperties.put(ConfigKeys.SERVER_HTTP2_INBOUND_ENABLED, true);
+    return getVeniceCluster(1, 1, 1, 1, 100, true, false, extraProperties);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(RouterStorageNodeClientBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(KEY_COUNT)
+  public void runBatchGetQueries(Blackhole blackhole) throws ExecutionException, InterruptedException {
+    Set<Integer> keySet = new HashSet<>(BATCH_GET_KEY_COUNT);
+    for (int i = 0; i < KEY_COUNT; ++i) {
+      keySet.add(keys[i]);
+      if (keySet.size() == BATCH_GET_KEY_COUNT || i == KEY_COUNT - 1) {
+        blackhole.consume(client.batchGet(keySet).get());
+        keySet = new HashSet<>(BATCH_GET_KEY_COUNT);
+      }
+    }
+  }
+}
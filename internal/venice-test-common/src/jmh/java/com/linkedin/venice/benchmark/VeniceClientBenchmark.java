@@ -55,7 +55,7 @@ public class VeniceClientBenchmark {
   @Setup
   public void setUp() throws Exception {
     Utils.thisIsLocalhost();
-    cluster = getVeniceCluster(1, 1, 1);
+    cluster = createCluster();
     String storeName = buildStore(cluster);
     cluster.useControllerClient(c -> c.updateStore(storeName, new UpdateStoreQueryParams().setReadQuotaInCU(10000)));
     client = ClientFactory.getAndStartGenericAvroClient(
@@ -70,6 +70,10 @@ public class VeniceClientBenchmark {
     TestUtils.restoreSystemExit();
   }
 
+  protected VeniceClusterWrapper createCluster() {
+    return getVeniceCluster(1, 1, 1);
+  }
+
   @TearDown
   public void cleanUp() {
     client.close();
@@ -0,0 +1,242 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_LINGER_MS;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_MAX_RECORDS;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_THREAD_NUM;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.controllerapi.VersionCreationResponse;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.producer.AbstractVeniceProducer;
+import com.linkedin.venice.producer.DurableWrite;
+import com.linkedin.venice.pubsub.adapter.SimplePubSubProduceResultImpl;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.schema.SchemaData;
+import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.VeniceWriterOptions;
+import io.tehuti.metrics.MetricsRepository;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMaps;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Benchmark of the records per second that {@link AbstractVeniceProducer} writes with a single producer thread, which
+ * compares the individual write operations, the buffered write operations and the batch API. The records are written
+ * by a real {@link VeniceWriter} to a {@link PubSubProducerAdapter} which completes every record immediately, so only
+ * the client side cost is measured.
+ *
+ * To run the benchmark, run {@link #main(String[])}, or add it to the includes of the jmh task and run
+ * `./gradlew :internal:venice-test-common:jmh`.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class VeniceProducerBenchmark {
+  private static final int RECORDS_PER_INVOCATION = 10_000;
+  private static final String STORE_NAME = "producer_benchmark_store";
+  private static final Schema KEY_SCHEMA = Schema.create(Schema.Type.STRING);
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\": \"record\", \"name\": \"BenchmarkValue\", \"fields\": ["
+          + "{\"name\": \"id\", \"type\": \"long\"}, {\"name\": \"name\", \"type\": \"string\"}]}");
+
+  /**
+   * 0 sends every write operation individually, which is the default.
+   */
+  @Param({ "0", "100", "1000" })
+  protected int batchMaxRecords;
+
+  private AbstractVeniceProducer<String, GenericRecord> producer;
+  private String[] keys;
+  private GenericRecord[] values;
+  private Map<String, GenericRecord> records;
+
+  @Setup
+  public void setUp() {
+    Properties properties = new Properties();
+    properties.put(CLIENT_PRODUCER_THREAD_NUM, 1);
+    properties.put(CLIENT_PRODUCER_BATCH_MAX_RECORDS, batchMaxRecords);
+    properties.put(CLIENT_PRODUCER_BATCH_LINGER_MS, 1);
+    producer = new BenchmarkVeniceProducer(new VeniceProperties(properties));
+
+    keys = new String[RECORDS_PER_INVOCATION];
+    values = new GenericRecord[RECORDS_PER_INVOCATION];
+    records = new LinkedHashMap<>();
+    for (int i = 0; i < RECORDS_PER_INVOCATION; i++) {
+      keys[i] = "key_" + i;
+      values[i] = new GenericData.Record(VALUE_SCHEMA);
+      values[i].put("id", (long) i);
+      values[i].put("name", "name_" + i);
+      records.put(keys[i], values[i]);
+    }
+  }
+
+  @TearDown
+  public void cleanUp() throws IOException {
+    producer.close();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(VeniceProducerBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+  public void asyncPut() {
+    CompletableFuture<?>[] futures = new CompletableFuture[RECORDS_PER_INVOCATION];
+    for (int i = 0; i < RECORDS_PER_INVOCATION; i++) {
+      futures[i] = producer.asyncPut(keys[i], values[i]);
+    }
+    CompletableFuture.allOf(futures).join();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+  public DurableWrite asyncPutBatch() {
+    return producer.asyncPutBatch(records).join();
+  }
+
+  private static class BenchmarkVeniceProducer extends AbstractVeniceProducer<String, GenericRecord> {
+    BenchmarkVeniceProducer(VeniceProperties producerConfigs) {
+      configure(STORE_NAME, producerConfigs, new MetricsRepository(), new BenchmarkSchemaReader(), null);
+    }
+
+    @Override
+    protected VersionCreationResponse requestTopic() {
+      VersionCreationResponse versionCreationResponse = new VersionCreationResponse();
+      versionCreationResponse.setKafkaTopic(Version.composeRealTimeTopic(STORE_NAME));
+      versionCreationResponse.setKafkaBootstrapServers("localhost:1234");
+      versionCreationResponse.setPartitions(1);
+      return versionCreationResponse;
+    }
+
+    @Override
+    protected VeniceWriter<byte[], byte[], byte[]> constructVeniceWriter(
+        Properties properties,
+        VeniceWriterOptions writerOptions) {
+      return new VeniceWriter<>(writerOptions, new VeniceProperties(properties), new CompletingProducerAdapter());
+    }
+  }
+
+  private static class BenchmarkSchemaReader implements SchemaReader {
+    @Override
+    public Schema getKeySchema() {
+      return KEY_SCHEMA;
+    }
+
+    @Override
+    public Schema getValueSchema(int id) {
+      return id == 1 ? VALUE_SCHEMA : null;
+    }
+
+    @Override
+    public int getValueSchemaId(Schema schema) {
+      return VALUE_SCHEMA.equals(schema) ? 1 : SchemaData.INVALID_VALUE_SCHEMA_ID;
+    }
+
+    @Override
+    public Schema getLatestValueSchema() {
+      return VALUE_SCHEMA;
+    }
+
+    @Override
+    public Integer getLatestValueSchemaId() {
+      return 1;
+    }
+
+    @Override
+    public Schema getUpdateSchema(int valueSchemaId) {
+      return null;
+    }
+
+    @Override
+    public DerivedSchemaEntry getLatestUpdateSchema() {
+      return null;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  /**
+   * Completes every record as soon as it's sent without keeping it.
+   */
+  private static class CompletingProducerAdapter implements PubSubProducerAdapter {
+    private long offset = 0;
+
+    @Override
+    public int getNumberOfPartitions(String topic) {
+      return 1;
+    }
+
+    @Override
+    public synchronized Future<PubSubProduceResult> sendMessage(
+        String topic,
+        Integer partition,
+        KafkaKey key,
+        KafkaMessageEnvelope value,
+        PubSubMessageHeaders pubSubMessageHeaders,
+        PubSubProducerCallback pubSubProducerCallback) {
+      PubSubProduceResult produceResult = new SimplePubSubProduceResultImpl(topic, partition, offset++, -1);
+      pubSubProducerCallback.onCompletion(produceResult, null);
+      return CompletableFuture.completedFuture(produceResult);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close(int closeTimeOutMs, boolean doFlush) {
+    }
+
+    @Override
+    public Object2DoubleMap<String> getMeasurableProducerMetrics() {
+      return Object2DoubleMaps.emptyMap();
+    }
+
+    @Override
+    public String getBrokerAddress() {
+      return "localhost:1234";
+    }
+  }
+}
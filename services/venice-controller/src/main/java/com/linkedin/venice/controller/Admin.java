@@ -423,6 +423,16 @@ public interface Admin extends AutoCloseable, Closeable {
 
   void updateStore(String clusterName, String storeName, UpdateStoreQueryParams params);
 
+  /**
+   * Apply the same update to multiple stores. The default implementation updates the stores one by one, while the
+   * parent controller sends the updates of many stores in a single admin message.
+   */
+  default void updateStores(String clusterName, List<String> storeNames, UpdateStoreQueryParams params) {
+    for (String storeName: storeNames) {
+      updateStore(clusterName, storeName, params);
+    }
+  }
+
   void updateClusterConfig(String clusterName, UpdateClusterConfigQueryParams params);
 
   double getStorageEngineOverheadRatio(String clusterName);
@@ -41,6 +41,7 @@ import static com.linkedin.venice.ConfigKeys.CONTROLLER_HAAS_SUPER_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_IN_AZURE_FABRIC;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_PARENT_EXTERNAL_SUPERSET_SCHEMA_GENERATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_PARENT_MODE;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_SST_BULK_LOAD_STAGING_DIR;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_DELAY_MINUTES;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_SLEEP_INTERVAL_BETWEEN_LIST_FETCH_MINUTES;
@@ -162,6 +163,7 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
   private final long deprecatedJobTopicMaxRetentionMs;
   private final long topicCleanupSleepIntervalBetweenTopicListFetchMs;
   private final int topicCleanupDelayFactor;
+  private final String sstBulkLoadStagingDir;
   private final int topicManagerKafkaOperationTimeOutMs;
   private final int minNumberOfUnusedKafkaTopicsToPreserve;
   private final int minNumberOfStoreVersionsToPreserve;
@@ -384,6 +386,7 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
     this.topicCleanupDelayFactor = props.getInt(TOPIC_CLEANUP_DELAY_FACTOR, 20); // thisFactor *
                                                                                  // topicCleanupSleepIntervalBetweenTopicListFetchMs
                                                                                  // = delayBeforeTopicDeletion
+    this.sstBulkLoadStagingDir = props.getString(CONTROLLER_SST_BULK_LOAD_STAGING_DIR, () -> null);
 
     this.topicManagerKafkaOperationTimeOutMs =
         props.getInt(TOPIC_MANAGER_KAFKA_OPERATION_TIMEOUT_MS, 30 * Time.MS_PER_SECOND);
@@ -596,6 +599,13 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
     return topicCleanupDelayFactor;
   }
 
+  /**
+   * @return the staging directory of the SST bulk load pushes, or null if the staged files shouldn't be cleaned up.
+   */
+  public String getSstBulkLoadStagingDir() {
+    return sstBulkLoadStagingDir;
+  }
+
   /**
    * Map where keys are logical, human-readable names for child clusters (suitable for printing in logs or other output)
    * values are a list of cluster URLs that can be used to reach that cluster with the controller client.  List provides
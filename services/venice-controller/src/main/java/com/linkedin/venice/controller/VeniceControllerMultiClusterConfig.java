@@ -122,6 +122,10 @@ public class VeniceControllerMultiClusterConfig {
     return getCommonConfig().getTopicCleanupDelayFactor();
   }
 
+  public String getSstBulkLoadStagingDir() {
+    return getCommonConfig().getSstBulkLoadStagingDir();
+  }
+
   public String getControllerClusterZkAddress() {
     return getCommonConfig().getControllerClusterZkAddress();
   }
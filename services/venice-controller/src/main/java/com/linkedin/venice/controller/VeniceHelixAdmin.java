@@ -377,6 +377,13 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
   private static final String PUSH_JOB_DETAILS_WRITER = "PUSH_JOB_DETAILS_WRITER";
   private final Map<String, VeniceWriter> jobTrackingVeniceWriterMap = new VeniceConcurrentHashMap<>();
 
+  /**
+   * The store being updated by {@link #updateStore} on the current thread. The store metadata operations of the same
+   * store are recorded instead of being written to Zookeeper one at a time, and they are all applied to the latest
+   * store under the store write lock in a single write.
+   */
+  private final ThreadLocal<CoalescedStoreUpdate> coalescedStoreUpdate = new ThreadLocal<>();
+
   // This map stores the time when topics were created. It only contains topics whose information has not yet been
   // persisted to Zk.
   private final Map<String, Long> topicToCreationTime = new VeniceConcurrentHashMap<>();
@@ -4220,6 +4227,7 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
     }
 
     try {
+      coalescedStoreUpdate.set(new CoalescedStoreUpdate(storeName));
       if (owner.isPresent()) {
         setStoreOwner(clusterName, storeName, owner.get());
       }
@@ -4438,8 +4446,11 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
       }
 
       if (personaName.isPresent()) {
+        // The persona validates the store from the store repository, so the changes so far need to be written first.
+        writeCoalescedStoreUpdate(clusterName);
         StoragePersonaRepository repository = getHelixVeniceClusterResources(clusterName).getStoragePersonaRepository();
         repository.addStoresToPersona(personaName.get(), Arrays.asList(storeName));
+        coalescedStoreUpdate.set(new CoalescedStoreUpdate(storeName));
       }
 
       if (storeViews.isPresent()) {
@@ -4460,8 +4471,10 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
       storageNodeReadQuotaEnabled
           .ifPresent(aBoolean -> setStorageNodeReadQuotaEnabled(clusterName, storeName, aBoolean));
 
+      writeCoalescedStoreUpdate(clusterName);
       LOGGER.info("Finished updating store: {} in cluster: {}", storeName, clusterName);
     } catch (VeniceException e) {
+      coalescedStoreUpdate.remove();
       LOGGER.error(
           "Caught exception when updating store: {} in cluster: {}. Will attempt to rollback changes.",
           storeName,
@@ -4483,6 +4496,37 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
           clusterName,
           e.getClass().getSimpleName());
       throw e;
+    } finally {
+      coalescedStoreUpdate.remove();
+    }
+  }
+
+  private void writeCoalescedStoreUpdate(String clusterName) {
+    CoalescedStoreUpdate update = coalescedStoreUpdate.get();
+    if (update != null) {
+      coalescedStoreUpdate.remove();
+      if (update.operations.isEmpty()) {
+        return;
+      }
+      storeMetadataUpdate(clusterName, update.storeName, store -> {
+        Store updatedStore = store;
+        for (StoreMetadataOperation operation: update.operations) {
+          updatedStore = operation.update(updatedStore);
+        }
+        return updatedStore;
+      });
+    }
+  }
+
+  /**
+   * The store metadata operations recorded by {@link #updateStore} for a single store.
+   */
+  private static class CoalescedStoreUpdate {
+    private final String storeName;
+    private final List<StoreMetadataOperation> operations = new ArrayList<>();
+
+    CoalescedStoreUpdate(String storeName) {
+      this.storeName = storeName;
     }
   }
 
@@ -4658,6 +4702,12 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
    * @param operation the defined operation that update the store.
    */
   public void storeMetadataUpdate(String clusterName, String storeName, StoreMetadataOperation operation) {
+    CoalescedStoreUpdate coalescedUpdate = coalescedStoreUpdate.get();
+    if (coalescedUpdate != null && coalescedUpdate.storeName.equals(storeName)) {
+      // Applied to the latest store and written to Zookeeper together with the other changes of the same store update.
+      coalescedUpdate.operations.add(operation);
+      return;
+    }
     checkPreConditionForUpdateStore(clusterName, storeName);
     HelixVeniceClusterResources resources = getHelixVeniceClusterResources(clusterName);
     try (AutoCloseableLock ignore = resources.getClusterLockManager().createStoreWriteLock(storeName)) {
@@ -85,6 +85,7 @@ import com.linkedin.venice.controller.kafka.consumer.AdminConsumptionTask;
 import com.linkedin.venice.controller.kafka.protocol.admin.AbortMigration;
 import com.linkedin.venice.controller.kafka.protocol.admin.AddVersion;
 import com.linkedin.venice.controller.kafka.protocol.admin.AdminOperation;
+import com.linkedin.venice.controller.kafka.protocol.admin.BulkUpdateStore;
 import com.linkedin.venice.controller.kafka.protocol.admin.ConfigureActiveActiveReplicationForCluster;
 import com.linkedin.venice.controller.kafka.protocol.admin.ConfigureNativeReplicationForCluster;
 import com.linkedin.venice.controller.kafka.protocol.admin.CreateStoragePersona;
@@ -237,6 +238,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -267,6 +269,11 @@ import org.apache.logging.log4j.Logger;
  */
 public class VeniceParentHelixAdmin implements Admin {
   private static final long SLEEP_INTERVAL_FOR_DATA_CONSUMPTION_IN_MS = 1000;
+  /**
+   * The max number of stores updated by one {@link AdminMessageType#BULK_UPDATE_STORE} admin message, which keeps the
+   * size of the message well below the max size of a Kafka message.
+   */
+  static final int BULK_UPDATE_STORE_BATCH_SIZE = 100;
   private static final Logger LOGGER = LogManager.getLogger(VeniceParentHelixAdmin.class);
   // Store version number to retain in Parent Controller to limit 'Store' ZNode size.
   static final int STORE_VERSION_RETENTION_COUNT = 5;
@@ -583,6 +590,13 @@ public class VeniceParentHelixAdmin implements Admin {
   }
 
   private void sendAdminMessageAndWaitForConsumed(String clusterName, String storeName, AdminOperation message) {
+    sendAdminMessageAndWaitForConsumed(clusterName, Collections.singletonList(storeName), message);
+  }
+
+  /**
+   * Send an admin message which applies to all the given stores, and wait until it's consumed for every one of them.
+   */
+  private void sendAdminMessageAndWaitForConsumed(String clusterName, List<String> storeNames, AdminOperation message) {
     if (!veniceWriterMap.containsKey(clusterName)) {
       throw new VeniceException("Cluster: " + clusterName + " is not started yet!");
     }
@@ -615,7 +629,9 @@ public class VeniceParentHelixAdmin implements Admin {
     } finally {
       releaseAdminMessageExecutionIdLock(clusterName);
     }
-    waitingMessageToBeConsumed(clusterName, storeName, message.executionId);
+    for (String storeName: storeNames) {
+      waitingMessageToBeConsumed(clusterName, storeName, message.executionId);
+    }
   }
 
   private void checkAndRepairCorruptedExecutionId(String clusterName) {
@@ -2077,472 +2093,561 @@ public class VeniceParentHelixAdmin implements Admin {
   public void updateStore(String clusterName, String storeName, UpdateStoreQueryParams params) {
     acquireAdminMessageLock(clusterName, storeName);
     try {
-      Optional<String> owner = params.getOwner();
-      Optional<Boolean> readability = params.getEnableReads();
-      Optional<Boolean> writeability = params.getEnableWrites();
-      Optional<Integer> partitionCount = params.getPartitionCount();
-      Optional<String> partitionerClass = params.getPartitionerClass();
-      Optional<Map<String, String>> partitionerParams = params.getPartitionerParams();
-      Optional<Integer> amplificationFactor = params.getAmplificationFactor();
-      Optional<Long> storageQuotaInByte = params.getStorageQuotaInByte();
-      Optional<Long> readQuotaInCU = params.getReadQuotaInCU();
-      Optional<Integer> currentVersion = params.getCurrentVersion();
-      Optional<Integer> largestUsedVersionNumber = params.getLargestUsedVersionNumber();
-      Optional<Long> hybridRewindSeconds = params.getHybridRewindSeconds();
-      Optional<Long> hybridOffsetLagThreshold = params.getHybridOffsetLagThreshold();
-      Optional<Long> hybridTimeLagThreshold = params.getHybridTimeLagThreshold();
-      Optional<DataReplicationPolicy> hybridDataReplicationPolicy = params.getHybridDataReplicationPolicy();
-      Optional<BufferReplayPolicy> hybridBufferReplayPolicy = params.getHybridBufferReplayPolicy();
-      Optional<Boolean> accessControlled = params.getAccessControlled();
-      Optional<CompressionStrategy> compressionStrategy = params.getCompressionStrategy();
-      Optional<Boolean> clientDecompressionEnabled = params.getClientDecompressionEnabled();
-      Optional<Boolean> chunkingEnabled = params.getChunkingEnabled();
-      Optional<Boolean> rmdChunkingEnabled = params.getRmdChunkingEnabled();
-      Optional<Integer> batchGetLimit = params.getBatchGetLimit();
-      Optional<Integer> numVersionsToPreserve = params.getNumVersionsToPreserve();
-      Optional<Boolean> incrementalPushEnabled = params.getIncrementalPushEnabled();
-      Optional<Boolean> storeMigration = params.getStoreMigration();
-      Optional<Boolean> writeComputationEnabled = params.getWriteComputationEnabled();
-      Optional<Integer> replicationMetadataVersionID = params.getReplicationMetadataVersionID();
-      Optional<Boolean> readComputationEnabled = params.getReadComputationEnabled();
-      Optional<Integer> bootstrapToOnlineTimeoutInHours = params.getBootstrapToOnlineTimeoutInHours();
-      Optional<BackupStrategy> backupStrategy = params.getBackupStrategy();
-      Optional<Boolean> autoSchemaRegisterPushJobEnabled = params.getAutoSchemaRegisterPushJobEnabled();
-      Optional<Boolean> hybridStoreDiskQuotaEnabled = params.getHybridStoreDiskQuotaEnabled();
-      Optional<Boolean> regularVersionETLEnabled = params.getRegularVersionETLEnabled();
-      Optional<Boolean> futureVersionETLEnabled = params.getFutureVersionETLEnabled();
-      Optional<String> etledUserProxyAccount = params.getETLedProxyUserAccount();
-      Optional<Boolean> nativeReplicationEnabled = params.getNativeReplicationEnabled();
-      Optional<String> pushStreamSourceAddress = params.getPushStreamSourceAddress();
-      Optional<Long> backupVersionRetentionMs = params.getBackupVersionRetentionMs();
-      Optional<Integer> replicationFactor = params.getReplicationFactor();
-      Optional<Boolean> migrationDuplicateStore = params.getMigrationDuplicateStore();
-      Optional<String> nativeReplicationSourceFabric = params.getNativeReplicationSourceFabric();
-      Optional<Boolean> activeActiveReplicationEnabled = params.getActiveActiveReplicationEnabled();
-      Optional<String> regionsFilter = params.getRegionsFilter();
-      Optional<String> personaName = params.getStoragePersona();
-      Optional<Map<String, String>> storeViewConfig = params.getStoreViews();
-      Optional<Integer> latestSupersetSchemaId = params.getLatestSupersetSchemaId();
-
-      /**
-       * Check whether parent controllers will only propagate the update configs to child controller, or all unchanged
-       * configs should be replicated to children too.
-       */
-      Optional<Boolean> replicateAll = params.getReplicateAllConfigs();
-      Optional<Boolean> storageNodeReadQuotaEnabled = params.getStorageNodeReadQuotaEnabled();
-      Optional<Long> minCompactionLagSeconds = params.getMinCompactionLagSeconds();
+      Store currStore = getVeniceHelixAdmin().getStore(clusterName, storeName);
+      UpdateStore setStore = createUpdateStoreMessage(clusterName, storeName, params, currStore);
 
-      boolean replicateAllConfigs = replicateAll.isPresent() && replicateAll.get();
-      List<CharSequence> updatedConfigsList = new LinkedList<>();
-      String errorMessagePrefix = "Store update error for " + storeName + " in cluster: " + clusterName + ": ";
+      AdminOperation message = new AdminOperation();
+      message.operationType = AdminMessageType.UPDATE_STORE.getValue();
+      message.payloadUnion = setStore;
+      sendAdminMessageAndWaitForConsumed(clusterName, storeName, message);
 
-      Store currStore = getVeniceHelixAdmin().getStore(clusterName, storeName);
-      if (currStore == null) {
-        LOGGER.error(errorMessagePrefix + "store does not exist, and thus cannot be updated.");
-        throw new VeniceNoStoreException(storeName, clusterName);
-      }
-      UpdateStore setStore = (UpdateStore) AdminMessageType.UPDATE_STORE.getNewInstance();
-      setStore.clusterName = clusterName;
-      setStore.storeName = storeName;
-      setStore.owner = owner.map(addToUpdatedConfigList(updatedConfigsList, OWNER)).orElseGet(currStore::getOwner);
-
-      // Invalid config update on hybrid will not be populated to admin channel so subsequent updates on the store won't
-      // be blocked by retry mechanism.
-      if (currStore.isHybrid() && (partitionerClass.isPresent() || partitionerParams.isPresent())) {
-        String errorMessage = errorMessagePrefix + "Cannot change partitioner class and parameters for hybrid stores";
-        LOGGER.error(errorMessage);
-        throw new VeniceHttpException(HttpStatus.SC_BAD_REQUEST, errorMessage, ErrorType.BAD_REQUEST);
-      }
+      handleStoreUpdated(clusterName, storeName, params, currStore);
+    } finally {
+      releaseAdminMessageLock(clusterName, storeName);
+    }
+  }
 
-      if (partitionCount.isPresent()) {
-        getVeniceHelixAdmin().preCheckStorePartitionCountUpdate(clusterName, currStore, partitionCount.get());
-        setStore.partitionNum = partitionCount.get();
-        updatedConfigsList.add(PARTITION_COUNT);
-      } else {
-        setStore.partitionNum = currStore.getPartitionCount();
-      }
+  /**
+   * Update the properties of multiple stores with the same provided deltas by sending one
+   * {@link AdminMessageType#BULK_UPDATE_STORE BULK_UPDATE_STORE} admin message for every
+   * {@link #BULK_UPDATE_STORE_BATCH_SIZE} stores, instead of one {@link AdminMessageType#UPDATE_STORE UPDATE_STORE}
+   * admin message for every store.
+   *
+   * The stores are updated in the order of their names, so that the locks of the stores are always acquired in the
+   * same order by concurrent bulk updates. The batches are applied one by one, so if a batch fails, the stores of the
+   * previous batches have been updated already, and they're logged so that only the remaining ones need to be retried.
+   * @param clusterName name of the Venice cluster.
+   * @param storeNames names of the to-be-updated stores.
+   * @param params to-be-updated store properties.
+   */
+  @Override
+  public void updateStores(String clusterName, List<String> storeNames, UpdateStoreQueryParams params) {
+    List<String> distinctStoreNames = new ArrayList<>(new TreeSet<>(storeNames));
+    List<String> updatedStoreNames = new ArrayList<>(distinctStoreNames.size());
+    for (int i = 0; i < distinctStoreNames.size(); i += BULK_UPDATE_STORE_BATCH_SIZE) {
+      List<String> batch =
+          distinctStoreNames.subList(i, Math.min(i + BULK_UPDATE_STORE_BATCH_SIZE, distinctStoreNames.size()));
+      List<String> lockedStoreNames = new ArrayList<>(batch.size());
+      try {
+        for (String storeName: batch) {
+          acquireAdminMessageLock(clusterName, storeName);
+          lockedStoreNames.add(storeName);
+        }
+        List<Store> currStores = new ArrayList<>(batch.size());
+        BulkUpdateStore bulkUpdateStore = (BulkUpdateStore) AdminMessageType.BULK_UPDATE_STORE.getNewInstance();
+        bulkUpdateStore.clusterName = clusterName;
+        bulkUpdateStore.updates = new ArrayList<>(batch.size());
+        for (String storeName: batch) {
+          Store currStore = getVeniceHelixAdmin().getStore(clusterName, storeName);
+          bulkUpdateStore.updates.add(createUpdateStoreMessage(clusterName, storeName, params, currStore));
+          currStores.add(currStore);
+        }
 
-      /**
-       * TODO: We should build an UpdateStoreHelper that takes current store config and update command as input, and
-       *       return whether the update command is valid.
-       */
-      validateActiveActiveReplicationEnableConfigs(activeActiveReplicationEnabled, nativeReplicationEnabled, currStore);
-
-      setStore.nativeReplicationEnabled =
-          nativeReplicationEnabled.map(addToUpdatedConfigList(updatedConfigsList, NATIVE_REPLICATION_ENABLED))
-              .orElseGet(currStore::isNativeReplicationEnabled);
-      setStore.pushStreamSourceAddress =
-          pushStreamSourceAddress.map(addToUpdatedConfigList(updatedConfigsList, PUSH_STREAM_SOURCE_ADDRESS))
-              .orElseGet(currStore::getPushStreamSourceAddress);
-
-      if (storeViewConfig.isPresent()) {
-        // Validate and merge store views if they're getting set
-        validateStoreViewConfig(storeViewConfig.get(), currStore);
-        Map<String, StoreViewConfigRecord> mergedViewSettings =
-            VeniceHelixAdmin.mergeNewViewConfigsIntoOldConfigs(currStore, storeViewConfig.get());
-        setStore.views = mergedViewSettings;
-        updatedConfigsList.add(STORE_VIEW);
-      }
+        AdminOperation message = new AdminOperation();
+        message.operationType = AdminMessageType.BULK_UPDATE_STORE.getValue();
+        message.payloadUnion = bulkUpdateStore;
+        sendAdminMessageAndWaitForConsumed(clusterName, batch, message);
+        updatedStoreNames.addAll(batch);
 
-      // Only update fields that are set, other fields will be read from the original store's partitioner config.
-      PartitionerConfig updatedPartitionerConfig = VeniceHelixAdmin.mergeNewSettingsIntoOldPartitionerConfig(
-          currStore,
-          partitionerClass,
-          partitionerParams,
-          amplificationFactor);
-      if (partitionerClass.isPresent() || partitionerParams.isPresent() || amplificationFactor.isPresent()) {
-        // Update updatedConfigsList.
-        partitionerClass.ifPresent(p -> updatedConfigsList.add(PARTITIONER_CLASS));
-        partitionerParams.ifPresent(p -> updatedConfigsList.add(PARTITIONER_PARAMS));
-        amplificationFactor.ifPresent(p -> updatedConfigsList.add(AMPLIFICATION_FACTOR));
-        // Create PartitionConfigRecord for admin channel transmission.
-        PartitionerConfigRecord partitionerConfigRecord = new PartitionerConfigRecord();
-        partitionerConfigRecord.partitionerClass = updatedPartitionerConfig.getPartitionerClass();
-        partitionerConfigRecord.partitionerParams =
-            CollectionUtils.getCharSequenceMapFromStringMap(updatedPartitionerConfig.getPartitionerParams());
-        partitionerConfigRecord.amplificationFactor = updatedPartitionerConfig.getAmplificationFactor();
-        // Before setting partitioner config, verify the updated partitionerConfig can be built
-        try {
-          PartitionUtils.getVenicePartitioner(
-              partitionerConfigRecord.partitionerClass.toString(),
-              partitionerConfigRecord.amplificationFactor,
-              new VeniceProperties(partitionerConfigRecord.partitionerParams),
-              getKeySchema(clusterName, storeName).getSchema());
-        } catch (PartitionerSchemaMismatchException e) {
-          String errorMessage = errorMessagePrefix + e.getMessage();
-          LOGGER.error(errorMessage);
-          throw new VeniceHttpException(HttpStatus.SC_BAD_REQUEST, errorMessage, ErrorType.INVALID_SCHEMA);
-        } catch (Exception e) {
-          String errorMessage = errorMessagePrefix + "Partitioner Configs invalid, please verify that partitioner "
-              + "configs like classpath and parameters are correct!";
-          LOGGER.error(errorMessage);
-          throw new VeniceHttpException(HttpStatus.SC_BAD_REQUEST, errorMessage, ErrorType.INVALID_CONFIG);
+        for (Store currStore: currStores) {
+          handleStoreUpdated(clusterName, currStore.getName(), params, currStore);
+        }
+      } catch (RuntimeException e) {
+        List<String> remainingStoreNames = new ArrayList<>(distinctStoreNames);
+        remainingStoreNames.removeAll(updatedStoreNames);
+        LOGGER.error(
+            "Failed to update stores in cluster: {}. Updated stores: {}, not updated stores: {}",
+            clusterName,
+            updatedStoreNames,
+            remainingStoreNames,
+            e);
+        throw e;
+      } finally {
+        for (String storeName: lockedStoreNames) {
+          releaseAdminMessageLock(clusterName, storeName);
         }
-        setStore.partitionerConfig = partitionerConfigRecord;
       }
+    }
+  }
 
-      setStore.enableReads =
-          readability.map(addToUpdatedConfigList(updatedConfigsList, ENABLE_READS)).orElseGet(currStore::isEnableReads);
-      setStore.enableWrites = writeability.map(addToUpdatedConfigList(updatedConfigsList, ENABLE_WRITES))
-          .orElseGet(currStore::isEnableWrites);
-
-      setStore.readQuotaInCU = readQuotaInCU.map(addToUpdatedConfigList(updatedConfigsList, READ_QUOTA_IN_CU))
-          .orElseGet(currStore::getReadQuotaInCU);
-
-      // We need to be careful when handling currentVersion.
-      // Since it is not synced between parent and local controller,
-      // It is very likely to override local values unintentionally.
-      setStore.currentVersion = currentVersion.map(addToUpdatedConfigList(updatedConfigsList, VERSION))
-          .orElse(AdminConsumptionTask.IGNORED_CURRENT_VERSION);
-
-      hybridRewindSeconds.map(addToUpdatedConfigList(updatedConfigsList, REWIND_TIME_IN_SECONDS));
-      hybridOffsetLagThreshold.map(addToUpdatedConfigList(updatedConfigsList, OFFSET_LAG_TO_GO_ONLINE));
-      hybridTimeLagThreshold.map(addToUpdatedConfigList(updatedConfigsList, TIME_LAG_TO_GO_ONLINE));
-      hybridDataReplicationPolicy.map(addToUpdatedConfigList(updatedConfigsList, DATA_REPLICATION_POLICY));
-      hybridBufferReplayPolicy.map(addToUpdatedConfigList(updatedConfigsList, BUFFER_REPLAY_POLICY));
-      HybridStoreConfig updatedHybridStoreConfig = VeniceHelixAdmin.mergeNewSettingsIntoOldHybridStoreConfig(
-          currStore,
-          hybridRewindSeconds,
-          hybridOffsetLagThreshold,
-          hybridTimeLagThreshold,
-          hybridDataReplicationPolicy,
-          hybridBufferReplayPolicy);
-
-      // Get VeniceControllerClusterConfig for the cluster
-      VeniceControllerClusterConfig clusterConfig =
-          veniceHelixAdmin.getHelixVeniceClusterResources(clusterName).getConfig();
-      // Check if the store is being converted to a hybrid store
-      boolean storeBeingConvertedToHybrid = !currStore.isHybrid() && updatedHybridStoreConfig != null
-          && veniceHelixAdmin.isHybrid(updatedHybridStoreConfig);
-
-      // Update active-active replication and incremental push settings
-      setStore.activeActiveReplicationEnabled = activeActiveReplicationEnabled
-          .map(addToUpdatedConfigList(updatedConfigsList, ACTIVE_ACTIVE_REPLICATION_ENABLED))
-          .orElseGet(currStore::isActiveActiveReplicationEnabled);
-      // Enable active-active replication automatically when batch user store being converted to hybrid store and
-      // active-active replication is enabled for all hybrid store via the cluster config
-      if (storeBeingConvertedToHybrid && !setStore.activeActiveReplicationEnabled && !currStore.isSystemStore()
-          && clusterConfig.isActiveActiveReplicationEnabledAsDefaultForHybrid()) {
-        setStore.activeActiveReplicationEnabled = true;
-        updatedConfigsList.add(ACTIVE_ACTIVE_REPLICATION_ENABLED);
-      }
+  /**
+   * Build the {@link UpdateStore} admin message which applies the provided deltas to the current store properties.
+   */
+  private UpdateStore createUpdateStoreMessage(
+      String clusterName,
+      String storeName,
+      UpdateStoreQueryParams params,
+      Store currStore) {
+    Optional<String> owner = params.getOwner();
+    Optional<Boolean> readability = params.getEnableReads();
+    Optional<Boolean> writeability = params.getEnableWrites();
+    Optional<Integer> partitionCount = params.getPartitionCount();
+    Optional<String> partitionerClass = params.getPartitionerClass();
+    Optional<Map<String, String>> partitionerParams = params.getPartitionerParams();
+    Optional<Integer> amplificationFactor = params.getAmplificationFactor();
+    Optional<Long> storageQuotaInByte = params.getStorageQuotaInByte();
+    Optional<Long> readQuotaInCU = params.getReadQuotaInCU();
+    Optional<Integer> currentVersion = params.getCurrentVersion();
+    Optional<Integer> largestUsedVersionNumber = params.getLargestUsedVersionNumber();
+    Optional<Long> hybridRewindSeconds = params.getHybridRewindSeconds();
+    Optional<Long> hybridOffsetLagThreshold = params.getHybridOffsetLagThreshold();
+    Optional<Long> hybridTimeLagThreshold = params.getHybridTimeLagThreshold();
+    Optional<DataReplicationPolicy> hybridDataReplicationPolicy = params.getHybridDataReplicationPolicy();
+    Optional<BufferReplayPolicy> hybridBufferReplayPolicy = params.getHybridBufferReplayPolicy();
+    Optional<Boolean> accessControlled = params.getAccessControlled();
+    Optional<CompressionStrategy> compressionStrategy = params.getCompressionStrategy();
+    Optional<Boolean> clientDecompressionEnabled = params.getClientDecompressionEnabled();
+    Optional<Boolean> chunkingEnabled = params.getChunkingEnabled();
+    Optional<Boolean> rmdChunkingEnabled = params.getRmdChunkingEnabled();
+    Optional<Integer> batchGetLimit = params.getBatchGetLimit();
+    Optional<Integer> numVersionsToPreserve = params.getNumVersionsToPreserve();
+    Optional<Boolean> incrementalPushEnabled = params.getIncrementalPushEnabled();
+    Optional<Boolean> storeMigration = params.getStoreMigration();
+    Optional<Boolean> writeComputationEnabled = params.getWriteComputationEnabled();
+    Optional<Integer> replicationMetadataVersionID = params.getReplicationMetadataVersionID();
+    Optional<Boolean> readComputationEnabled = params.getReadComputationEnabled();
+    Optional<Integer> bootstrapToOnlineTimeoutInHours = params.getBootstrapToOnlineTimeoutInHours();
+    Optional<BackupStrategy> backupStrategy = params.getBackupStrategy();
+    Optional<Boolean> autoSchemaRegisterPushJobEnabled = params.getAutoSchemaRegisterPushJobEnabled();
+    Optional<Boolean> hybridStoreDiskQuotaEnabled = params.getHybridStoreDiskQuotaEnabled();
+    Optional<Boolean> regularVersionETLEnabled = params.getRegularVersionETLEnabled();
+    Optional<Boolean> futureVersionETLEnabled = params.getFutureVersionETLEnabled();
+    Optional<String> etledUserProxyAccount = params.getETLedProxyUserAccount();
+    Optional<Boolean> nativeReplicationEnabled = params.getNativeReplicationEnabled();
+    Optional<String> pushStreamSourceAddress = params.getPushStreamSourceAddress();
+    Optional<Long> backupVersionRetentionMs = params.getBackupVersionRetentionMs();
+    Optional<Integer> replicationFactor = params.getReplicationFactor();
+    Optional<Boolean> migrationDuplicateStore = params.getMigrationDuplicateStore();
+    Optional<String> nativeReplicationSourceFabric = params.getNativeReplicationSourceFabric();
+    Optional<Boolean> activeActiveReplicationEnabled = params.getActiveActiveReplicationEnabled();
+    Optional<String> regionsFilter = params.getRegionsFilter();
+    Optional<String> personaName = params.getStoragePersona();
+    Optional<Map<String, String>> storeViewConfig = params.getStoreViews();
+    Optional<Integer> latestSupersetSchemaId = params.getLatestSupersetSchemaId();
 
-      setStore.incrementalPushEnabled =
-          incrementalPushEnabled.map(addToUpdatedConfigList(updatedConfigsList, INCREMENTAL_PUSH_ENABLED))
-              .orElseGet(currStore::isIncrementalPushEnabled);
-      // Enable incremental push automatically when batch user store being converted to hybrid store and active-active
-      // replication is enabled or being and the cluster config allows it.
-      if (!setStore.incrementalPushEnabled && !currStore.isSystemStore() && storeBeingConvertedToHybrid
-          && setStore.activeActiveReplicationEnabled
-          && clusterConfig.enabledIncrementalPushForHybridActiveActiveUserStores()) {
-        setStore.incrementalPushEnabled = true;
-        updatedConfigsList.add(INCREMENTAL_PUSH_ENABLED);
-      }
+    /**
+     * Check whether parent controllers will only propagate the update configs to child controller, or all unchanged
+     * configs should be replicated to children too.
+     */
+    Optional<Boolean> replicateAll = params.getReplicateAllConfigs();
+    Optional<Boolean> storageNodeReadQuotaEnabled = params.getStorageNodeReadQuotaEnabled();
+    Optional<Long> minCompactionLagSeconds = params.getMinCompactionLagSeconds();
 
-      // If store is already hybrid then check to make sure the end state is valid. We do this because we allow enabling
-      // incremental push without enabling hybrid already (we will automatically convert to hybrid store with default
-      // configs).
-      if (veniceHelixAdmin.isHybrid(currStore.getHybridStoreConfig())
-          && !veniceHelixAdmin.isHybrid(updatedHybridStoreConfig) && setStore.incrementalPushEnabled) {
-        throw new VeniceHttpException(
-            HttpStatus.SC_BAD_REQUEST,
-            "Cannot convert store to batch-only, incremental push enabled stores require valid hybrid configs. "
-                + "Please disable incremental push if you'd like to convert the store to batch-only",
-            ErrorType.BAD_REQUEST);
-      }
-      if (updatedHybridStoreConfig == null) {
-        setStore.hybridStoreConfig = null;
-      } else {
-        HybridStoreConfigRecord hybridStoreConfigRecord = new HybridStoreConfigRecord();
-        hybridStoreConfigRecord.offsetLagThresholdToGoOnline =
-            updatedHybridStoreConfig.getOffsetLagThresholdToGoOnline();
-        hybridStoreConfigRecord.rewindTimeInSeconds = updatedHybridStoreConfig.getRewindTimeInSeconds();
-        hybridStoreConfigRecord.producerTimestampLagThresholdToGoOnlineInSeconds =
-            updatedHybridStoreConfig.getProducerTimestampLagThresholdToGoOnlineInSeconds();
-        hybridStoreConfigRecord.dataReplicationPolicy = updatedHybridStoreConfig.getDataReplicationPolicy().getValue();
-        hybridStoreConfigRecord.bufferReplayPolicy = updatedHybridStoreConfig.getBufferReplayPolicy().getValue();
-        setStore.hybridStoreConfig = hybridStoreConfigRecord;
-      }
+    boolean replicateAllConfigs = replicateAll.isPresent() && replicateAll.get();
+    List<CharSequence> updatedConfigsList = new LinkedList<>();
+    String errorMessagePrefix = "Store update error for " + storeName + " in cluster: " + clusterName + ": ";
 
-      if (incrementalPushEnabled.orElse(currStore.isIncrementalPushEnabled())
-          && !veniceHelixAdmin.isHybrid(currStore.getHybridStoreConfig())
-          && !veniceHelixAdmin.isHybrid(updatedHybridStoreConfig)) {
-        LOGGER.info(
-            "Enabling incremental push for a batch store:{}. Converting it to a hybrid store with default configs.",
-            storeName);
-        HybridStoreConfigRecord hybridStoreConfigRecord = new HybridStoreConfigRecord();
-        hybridStoreConfigRecord.rewindTimeInSeconds = DEFAULT_REWIND_TIME_IN_SECONDS;
-        updatedConfigsList.add(REWIND_TIME_IN_SECONDS);
-        hybridStoreConfigRecord.offsetLagThresholdToGoOnline = DEFAULT_HYBRID_OFFSET_LAG_THRESHOLD;
-        updatedConfigsList.add(OFFSET_LAG_TO_GO_ONLINE);
-        hybridStoreConfigRecord.producerTimestampLagThresholdToGoOnlineInSeconds = DEFAULT_HYBRID_TIME_LAG_THRESHOLD;
-        updatedConfigsList.add(TIME_LAG_TO_GO_ONLINE);
-        hybridStoreConfigRecord.dataReplicationPolicy = DataReplicationPolicy.NONE.getValue();
-        updatedConfigsList.add(DATA_REPLICATION_POLICY);
-        hybridStoreConfigRecord.bufferReplayPolicy = BufferReplayPolicy.REWIND_FROM_EOP.getValue();
-        updatedConfigsList.add(BUFFER_REPLAY_POLICY);
-        setStore.hybridStoreConfig = hybridStoreConfigRecord;
-      }
+    if (currStore == null) {
+      LOGGER.error(errorMessagePrefix + "store does not exist, and thus cannot be updated.");
+      throw new VeniceNoStoreException(storeName, clusterName);
+    }
+    UpdateStore setStore = (UpdateStore) AdminMessageType.UPDATE_STORE.getNewInstance();
+    setStore.clusterName = clusterName;
+    setStore.storeName = storeName;
+    setStore.owner = owner.map(addToUpdatedConfigList(updatedConfigsList, OWNER)).orElseGet(currStore::getOwner);
 
-      /**
-       * Set storage quota according to store properties. For hybrid stores, rocksDB has the overhead ratio as we
-       * do append-only and compaction will happen later.
-       * We expose actual disk usage to users, instead of multiplying/dividing the overhead ratio by situations.
-       */
-      setStore.storageQuotaInByte =
-          storageQuotaInByte.map(addToUpdatedConfigList(updatedConfigsList, STORAGE_QUOTA_IN_BYTE))
-              .orElseGet(currStore::getStorageQuotaInByte);
-
-      setStore.accessControlled = accessControlled.map(addToUpdatedConfigList(updatedConfigsList, ACCESS_CONTROLLED))
-          .orElseGet(currStore::isAccessControlled);
-      setStore.compressionStrategy =
-          compressionStrategy.map(addToUpdatedConfigList(updatedConfigsList, COMPRESSION_STRATEGY))
-              .map(CompressionStrategy::getValue)
-              .orElse(currStore.getCompressionStrategy().getValue());
-      setStore.clientDecompressionEnabled =
-          clientDecompressionEnabled.map(addToUpdatedConfigList(updatedConfigsList, CLIENT_DECOMPRESSION_ENABLED))
-              .orElseGet(currStore::getClientDecompressionEnabled);
-      setStore.chunkingEnabled = chunkingEnabled.map(addToUpdatedConfigList(updatedConfigsList, CHUNKING_ENABLED))
-          .orElseGet(currStore::isChunkingEnabled);
-      setStore.rmdChunkingEnabled =
-          rmdChunkingEnabled.map(addToUpdatedConfigList(updatedConfigsList, RMD_CHUNKING_ENABLED))
-              .orElseGet(currStore::isRmdChunkingEnabled);
-      setStore.batchGetLimit = batchGetLimit.map(addToUpdatedConfigList(updatedConfigsList, BATCH_GET_LIMIT))
-          .orElseGet(currStore::getBatchGetLimit);
-      setStore.numVersionsToPreserve =
-          numVersionsToPreserve.map(addToUpdatedConfigList(updatedConfigsList, NUM_VERSIONS_TO_PRESERVE))
-              .orElseGet(currStore::getNumVersionsToPreserve);
-      setStore.isMigrating = storeMigration.map(addToUpdatedConfigList(updatedConfigsList, STORE_MIGRATION))
-          .orElseGet(currStore::isMigrating);
-      setStore.writeComputationEnabled =
-          writeComputationEnabled.map(addToUpdatedConfigList(updatedConfigsList, WRITE_COMPUTATION_ENABLED))
-              .orElseGet(currStore::isWriteComputationEnabled);
-      setStore.replicationMetadataVersionID = replicationMetadataVersionID
-          .map(addToUpdatedConfigList(updatedConfigsList, REPLICATION_METADATA_PROTOCOL_VERSION_ID))
-          .orElse(currStore.getRmdVersion());
-      setStore.readComputationEnabled =
-          readComputationEnabled.map(addToUpdatedConfigList(updatedConfigsList, READ_COMPUTATION_ENABLED))
-              .orElseGet(currStore::isReadComputationEnabled);
-      setStore.bootstrapToOnlineTimeoutInHours = bootstrapToOnlineTimeoutInHours
-          .map(addToUpdatedConfigList(updatedConfigsList, BOOTSTRAP_TO_ONLINE_TIMEOUT_IN_HOURS))
-          .orElseGet(currStore::getBootstrapToOnlineTimeoutInHours);
-      setStore.leaderFollowerModelEnabled = true; // do not mess up during upgrades
-      setStore.backupStrategy = (backupStrategy.map(addToUpdatedConfigList(updatedConfigsList, BACKUP_STRATEGY))
-          .orElse(currStore.getBackupStrategy())).ordinal();
-
-      setStore.schemaAutoRegisterFromPushJobEnabled = autoSchemaRegisterPushJobEnabled
-          .map(addToUpdatedConfigList(updatedConfigsList, AUTO_SCHEMA_REGISTER_FOR_PUSHJOB_ENABLED))
-          .orElse(currStore.isSchemaAutoRegisterFromPushJobEnabled());
-
-      setStore.hybridStoreDiskQuotaEnabled =
-          hybridStoreDiskQuotaEnabled.map(addToUpdatedConfigList(updatedConfigsList, HYBRID_STORE_DISK_QUOTA_ENABLED))
-              .orElse(currStore.isHybridStoreDiskQuotaEnabled());
-
-      regularVersionETLEnabled.map(addToUpdatedConfigList(updatedConfigsList, REGULAR_VERSION_ETL_ENABLED));
-      futureVersionETLEnabled.map(addToUpdatedConfigList(updatedConfigsList, FUTURE_VERSION_ETL_ENABLED));
-      etledUserProxyAccount.map(addToUpdatedConfigList(updatedConfigsList, ETLED_PROXY_USER_ACCOUNT));
-      setStore.ETLStoreConfig = mergeNewSettingIntoOldETLStoreConfig(
-          currStore,
-          regularVersionETLEnabled,
-          futureVersionETLEnabled,
-          etledUserProxyAccount);
-
-      setStore.largestUsedVersionNumber =
-          largestUsedVersionNumber.map(addToUpdatedConfigList(updatedConfigsList, LARGEST_USED_VERSION_NUMBER))
-              .orElseGet(currStore::getLargestUsedVersionNumber);
-
-      setStore.backupVersionRetentionMs =
-          backupVersionRetentionMs.map(addToUpdatedConfigList(updatedConfigsList, BACKUP_VERSION_RETENTION_MS))
-              .orElseGet(currStore::getBackupVersionRetentionMs);
-      setStore.replicationFactor = replicationFactor.map(addToUpdatedConfigList(updatedConfigsList, REPLICATION_FACTOR))
-          .orElseGet(currStore::getReplicationFactor);
-      setStore.migrationDuplicateStore =
-          migrationDuplicateStore.map(addToUpdatedConfigList(updatedConfigsList, MIGRATION_DUPLICATE_STORE))
-              .orElseGet(currStore::isMigrationDuplicateStore);
-      setStore.nativeReplicationSourceFabric = nativeReplicationSourceFabric
-          .map(addToUpdatedConfigList(updatedConfigsList, NATIVE_REPLICATION_SOURCE_FABRIC))
-          .orElseGet((currStore::getNativeReplicationSourceFabric));
-
-      setStore.disableMetaStore =
-          params.disableMetaStore().map(addToUpdatedConfigList(updatedConfigsList, DISABLE_META_STORE)).orElse(false);
-
-      setStore.disableDavinciPushStatusStore = params.disableDavinciPushStatusStore()
-          .map(addToUpdatedConfigList(updatedConfigsList, DISABLE_DAVINCI_PUSH_STATUS_STORE))
-          .orElse(false);
-
-      setStore.storagePersona = personaName.map(addToUpdatedConfigList(updatedConfigsList, PERSONA_NAME)).orElse(null);
-
-      // Check whether the passed param is valid or not
-      if (latestSupersetSchemaId.isPresent()) {
-        if (latestSupersetSchemaId.get() != SchemaData.INVALID_VALUE_SCHEMA_ID) {
-          if (veniceHelixAdmin.getValueSchema(clusterName, storeName, latestSupersetSchemaId.get()) == null) {
-            throw new VeniceException(
-                "Unknown value schema id: " + latestSupersetSchemaId.get() + " in store: " + storeName);
-          }
-        }
+    // Invalid config update on hybrid will not be populated to admin channel so subsequent updates on the store won't
+    // be blocked by retry mechanism.
+    if (currStore.isHybrid() && (partitionerClass.isPresent() || partitionerParams.isPresent())) {
+      String errorMessage = errorMessagePrefix + "Cannot change partitioner class and parameters for hybrid stores";
+      LOGGER.error(errorMessage);
+      throw new VeniceHttpException(HttpStatus.SC_BAD_REQUEST, errorMessage, ErrorType.BAD_REQUEST);
+    }
+
+    if (partitionCount.isPresent()) {
+      getVeniceHelixAdmin().preCheckStorePartitionCountUpdate(clusterName, currStore, partitionCount.get());
+      setStore.partitionNum = partitionCount.get();
+      updatedConfigsList.add(PARTITION_COUNT);
+    } else {
+      setStore.partitionNum = currStore.getPartitionCount();
+    }
+
+    /**
+     * TODO: We should build an UpdateStoreHelper that takes current store config and update command as input, and
+     *       return whether the update command is valid.
+     */
+    validateActiveActiveReplicationEnableConfigs(activeActiveReplicationEnabled, nativeReplicationEnabled, currStore);
+
+    setStore.nativeReplicationEnabled =
+        nativeReplicationEnabled.map(addToUpdatedConfigList(updatedConfigsList, NATIVE_REPLICATION_ENABLED))
+            .orElseGet(currStore::isNativeReplicationEnabled);
+    setStore.pushStreamSourceAddress =
+        pushStreamSourceAddress.map(addToUpdatedConfigList(updatedConfigsList, PUSH_STREAM_SOURCE_ADDRESS))
+            .orElseGet(currStore::getPushStreamSourceAddress);
+
+    if (storeViewConfig.isPresent()) {
+      // Validate and merge store views if they're getting set
+      validateStoreViewConfig(storeViewConfig.get(), currStore);
+      Map<String, StoreViewConfigRecord> mergedViewSettings =
+          VeniceHelixAdmin.mergeNewViewConfigsIntoOldConfigs(currStore, storeViewConfig.get());
+      setStore.views = mergedViewSettings;
+      updatedConfigsList.add(STORE_VIEW);
+    }
+
+    // Only update fields that are set, other fields will be read from the original store's partitioner config.
+    PartitionerConfig updatedPartitionerConfig = VeniceHelixAdmin.mergeNewSettingsIntoOldPartitionerConfig(
+        currStore,
+        partitionerClass,
+        partitionerParams,
+        amplificationFactor);
+    if (partitionerClass.isPresent() || partitionerParams.isPresent() || amplificationFactor.isPresent()) {
+      // Update updatedConfigsList.
+      partitionerClass.ifPresent(p -> updatedConfigsList.add(PARTITIONER_CLASS));
+      partitionerParams.ifPresent(p -> updatedConfigsList.add(PARTITIONER_PARAMS));
+      amplificationFactor.ifPresent(p -> updatedConfigsList.add(AMPLIFICATION_FACTOR));
+      // Create PartitionConfigRecord for admin channel transmission.
+      PartitionerConfigRecord partitionerConfigRecord = new PartitionerConfigRecord();
+      partitionerConfigRecord.partitionerClass = updatedPartitionerConfig.getPartitionerClass();
+      partitionerConfigRecord.partitionerParams =
+          CollectionUtils.getCharSequenceMapFromStringMap(updatedPartitionerConfig.getPartitionerParams());
+      partitionerConfigRecord.amplificationFactor = updatedPartitionerConfig.getAmplificationFactor();
+      // Before setting partitioner config, verify the updated partitionerConfig can be built
+      try {
+        PartitionUtils.getVenicePartitioner(
+            partitionerConfigRecord.partitionerClass.toString(),
+            partitionerConfigRecord.amplificationFactor,
+            new VeniceProperties(partitionerConfigRecord.partitionerParams),
+            getKeySchema(clusterName, storeName).getSchema());
+      } catch (PartitionerSchemaMismatchException e) {
+        String errorMessage = errorMessagePrefix + e.getMessage();
+        LOGGER.error(errorMessage);
+        throw new VeniceHttpException(HttpStatus.SC_BAD_REQUEST, errorMessage, ErrorType.INVALID_SCHEMA);
+      } catch (Exception e) {
+        String errorMessage = errorMessagePrefix + "Partitioner Configs invalid, please verify that partitioner "
+            + "configs like classpath and parameters are correct!";
+        LOGGER.error(errorMessage);
+        throw new VeniceHttpException(HttpStatus.SC_BAD_REQUEST, errorMessage, ErrorType.INVALID_CONFIG);
       }
-      setStore.latestSuperSetValueSchemaId =
-          latestSupersetSchemaId.map(addToUpdatedConfigList(updatedConfigsList, LATEST_SUPERSET_SCHEMA_ID))
-              .orElseGet(currStore::getLatestSuperSetValueSchemaId);
-      setStore.storageNodeReadQuotaEnabled =
-          storageNodeReadQuotaEnabled.map(addToUpdatedConfigList(updatedConfigsList, STORAGE_NODE_READ_QUOTA_ENABLED))
-              .orElseGet(currStore::isStorageNodeReadQuotaEnabled);
-      setStore.minCompactionLagSeconds =
-          minCompactionLagSeconds.map(addToUpdatedConfigList(updatedConfigsList, MIN_COMPACTION_LAG_SECONDS))
-              .orElseGet(currStore::getMinCompactionLagSeconds);
-
-      StoragePersonaRepository repository =
-          getVeniceHelixAdmin().getHelixVeniceClusterResources(clusterName).getStoragePersonaRepository();
-      StoragePersona personaToValidate = null;
-      StoragePersona existingPersona = repository.getPersonaContainingStore(currStore.getName());
-
-      if (params.getStoragePersona().isPresent()) {
-        personaToValidate = getVeniceHelixAdmin().getStoragePersona(clusterName, params.getStoragePersona().get());
-        if (personaToValidate == null) {
-          String errMsg = "UpdateStore command failed for store " + storeName + ".  The provided StoragePersona "
-              + params.getStoragePersona().get() + " does not exist.";
-          throw new VeniceException(errMsg);
+      setStore.partitionerConfig = partitionerConfigRecord;
+    }
+
+    setStore.enableReads =
+        readability.map(addToUpdatedConfigList(updatedConfigsList, ENABLE_READS)).orElseGet(currStore::isEnableReads);
+    setStore.enableWrites = writeability.map(addToUpdatedConfigList(updatedConfigsList, ENABLE_WRITES))
+        .orElseGet(currStore::isEnableWrites);
+
+    setStore.readQuotaInCU = readQuotaInCU.map(addToUpdatedConfigList(updatedConfigsList, READ_QUOTA_IN_CU))
+        .orElseGet(currStore::getReadQuotaInCU);
+
+    // We need to be careful when handling currentVersion.
+    // Since it is not synced between parent and local controller,
+    // It is very likely to override local values unintentionally.
+    setStore.currentVersion = currentVersion.map(addToUpdatedConfigList(updatedConfigsList, VERSION))
+        .orElse(AdminConsumptionTask.IGNORED_CURRENT_VERSION);
+
+    hybridRewindSeconds.map(addToUpdatedConfigList(updatedConfigsList, REWIND_TIME_IN_SECONDS));
+    hybridOffsetLagThreshold.map(addToUpdatedConfigList(updatedConfigsList, OFFSET_LAG_TO_GO_ONLINE));
+    hybridTimeLagThreshold.map(addToUpdatedConfigList(updatedConfigsList, TIME_LAG_TO_GO_ONLINE));
+    hybridDataReplicationPolicy.map(addToUpdatedConfigList(updatedConfigsList, DATA_REPLICATION_POLICY));
+    hybridBufferReplayPolicy.map(addToUpdatedConfigList(updatedConfigsList, BUFFER_REPLAY_POLICY));
+    HybridStoreConfig updatedHybridStoreConfig = VeniceHelixAdmin.mergeNewSettingsIntoOldHybridStoreConfig(
+        currStore,
+        hybridRewindSeconds,
+        hybridOffsetLagThreshold,
+        hybridTimeLagThreshold,
+        hybridDataReplicationPolicy,
+        hybridBufferReplayPolicy);
+
+    // Get VeniceControllerClusterConfig for the cluster
+    VeniceControllerClusterConfig clusterConfig =
+        veniceHelixAdmin.getHelixVeniceClusterResources(clusterName).getConfig();
+    // Check if the store is being converted to a hybrid store
+    boolean storeBeingConvertedToHybrid = !currStore.isHybrid() && updatedHybridStoreConfig != null
+        && veniceHelixAdmin.isHybrid(updatedHybridStoreConfig);
+
+    // Update active-active replication and incremental push settings
+    setStore.activeActiveReplicationEnabled = activeActiveReplicationEnabled
+        .map(addToUpdatedConfigList(updatedConfigsList, ACTIVE_ACTIVE_REPLICATION_ENABLED))
+        .orElseGet(currStore::isActiveActiveReplicationEnabled);
+    // Enable active-active replication automatically when batch user store being converted to hybrid store and
+    // active-active replication is enabled for all hybrid store via the cluster config
+    if (storeBeingConvertedToHybrid && !setStore.activeActiveReplicationEnabled && !currStore.isSystemStore()
+        && clusterConfig.isActiveActiveReplicationEnabledAsDefaultForHybrid()) {
+      setStore.activeActiveReplicationEnabled = true;
+      updatedConfigsList.add(ACTIVE_ACTIVE_REPLICATION_ENABLED);
+    }
+
+    setStore.incrementalPushEnabled =
+        incrementalPushEnabled.map(addToUpdatedConfigList(updatedConfigsList, INCREMENTAL_PUSH_ENABLED))
+            .orElseGet(currStore::isIncrementalPushEnabled);
+    // Enable incremental push automatically when batch user store being converted to hybrid store and active-active
+    // replication is enabled or being and the cluster config allows it.
+    if (!setStore.incrementalPushEnabled && !currStore.isSystemStore() && storeBeingConvertedToHybrid
+        && setStore.activeActiveReplicationEnabled
+        && clusterConfig.enabledIncrementalPushForHybridActiveActiveUserStores()) {
+      setStore.incrementalPushEnabled = true;
+      updatedConfigsList.add(INCREMENTAL_PUSH_ENABLED);
+    }
+
+    // If store is already hybrid then check to make sure the end state is valid. We do this because we allow enabling
+    // incremental push without enabling hybrid already (we will automatically convert to hybrid store with default
+    // configs).
+    if (veniceHelixAdmin.isHybrid(currStore.getHybridStoreConfig())
+        && !veniceHelixAdmin.isHybrid(updatedHybridStoreConfig) && setStore.incrementalPushEnabled) {
+      throw new VeniceHttpException(
+          HttpStatus.SC_BAD_REQUEST,
+          "Cannot convert store to batch-only, incremental push enabled stores require valid hybrid configs. "
+              + "Please disable incremental push if you'd like to convert the store to batch-only",
+          ErrorType.BAD_REQUEST);
+    }
+    if (updatedHybridStoreConfig == null) {
+      setStore.hybridStoreConfig = null;
+    } else {
+      HybridStoreConfigRecord hybridStoreConfigRecord = new HybridStoreConfigRecord();
+      hybridStoreConfigRecord.offsetLagThresholdToGoOnline =
+          updatedHybridStoreConfig.getOffsetLagThresholdToGoOnline();
+      hybridStoreConfigRecord.rewindTimeInSeconds = updatedHybridStoreConfig.getRewindTimeInSeconds();
+      hybridStoreConfigRecord.producerTimestampLagThresholdToGoOnlineInSeconds =
+          updatedHybridStoreConfig.getProducerTimestampLagThresholdToGoOnlineInSeconds();
+      hybridStoreConfigRecord.dataReplicationPolicy = updatedHybridStoreConfig.getDataReplicationPolicy().getValue();
+      hybridStoreConfigRecord.bufferReplayPolicy = updatedHybridStoreConfig.getBufferReplayPolicy().getValue();
+      setStore.hybridStoreConfig = hybridStoreConfigRecord;
+    }
+
+    if (incrementalPushEnabled.orElse(currStore.isIncrementalPushEnabled())
+        && !veniceHelixAdmin.isHybrid(currStore.getHybridStoreConfig())
+        && !veniceHelixAdmin.isHybrid(updatedHybridStoreConfig)) {
+      LOGGER.info(
+          "Enabling incremental push for a batch store:{}. Converting it to a hybrid store with default configs.",
+          storeName);
+      HybridStoreConfigRecord hybridStoreConfigRecord = new HybridStoreConfigRecord();
+      hybridStoreConfigRecord.rewindTimeInSeconds = DEFAULT_REWIND_TIME_IN_SECONDS;
+      updatedConfigsList.add(REWIND_TIME_IN_SECONDS);
+      hybridStoreConfigRecord.offsetLagThresholdToGoOnline = DEFAULT_HYBRID_OFFSET_LAG_THRESHOLD;
+      updatedConfigsList.add(OFFSET_LAG_TO_GO_ONLINE);
+      hybridStoreConfigRecord.producerTimestampLagThresholdToGoOnlineInSeconds = DEFAULT_HYBRID_TIME_LAG_THRESHOLD;
+      updatedConfigsList.add(TIME_LAG_TO_GO_ONLINE);
+      hybridStoreConfigRecord.dataReplicationPolicy = DataReplicationPolicy.NONE.getValue();
+      updatedConfigsList.add(DATA_REPLICATION_POLICY);
+      hybridStoreConfigRecord.bufferReplayPolicy = BufferReplayPolicy.REWIND_FROM_EOP.getValue();
+      updatedConfigsList.add(BUFFER_REPLAY_POLICY);
+      setStore.hybridStoreConfig = hybridStoreConfigRecord;
+    }
+
+    /**
+     * Set storage quota according to store properties. For hybrid stores, rocksDB has the overhead ratio as we
+     * do append-only and compaction will happen later.
+     * We expose actual disk usage to users, instead of multiplying/dividing the overhead ratio by situations.
+     */
+    setStore.storageQuotaInByte =
+        storageQuotaInByte.map(addToUpdatedConfigList(updatedConfigsList, STORAGE_QUOTA_IN_BYTE))
+            .orElseGet(currStore::getStorageQuotaInByte);
+
+    setStore.accessControlled = accessControlled.map(addToUpdatedConfigList(updatedConfigsList, ACCESS_CONTROLLED))
+        .orElseGet(currStore::isAccessControlled);
+    setStore.compressionStrategy =
+        compressionStrategy.map(addToUpdatedConfigList(updatedConfigsList, COMPRESSION_STRATEGY))
+            .map(CompressionStrategy::getValue)
+            .orElse(currStore.getCompressionStrategy().getValue());
+    setStore.clientDecompressionEnabled =
+        clientDecompressionEnabled.map(addToUpdatedConfigList(updatedConfigsList, CLIENT_DECOMPRESSION_ENABLED))
+            .orElseGet(currStore::getClientDecompressionEnabled);
+    setStore.chunkingEnabled = chunkingEnabled.map(addToUpdatedConfigList(updatedConfigsList, CHUNKING_ENABLED))
+        .orElseGet(currStore::isChunkingEnabled);
+    setStore.rmdChunkingEnabled =
+        rmdChunkingEnabled.map(addToUpdatedConfigList(updatedConfigsList, RMD_CHUNKING_ENABLED))
+            .orElseGet(currStore::isRmdChunkingEnabled);
+    setStore.batchGetLimit = batchGetLimit.map(addToUpdatedConfigList(updatedConfigsList, BATCH_GET_LIMIT))
+        .orElseGet(currStore::getBatchGetLimit);
+    setStore.numVersionsToPreserve =
+        numVersionsToPreserve.map(addToUpdatedConfigList(updatedConfigsList, NUM_VERSIONS_TO_PRESERVE))
+            .orElseGet(currStore::getNumVersionsToPreserve);
+    setStore.isMigrating = storeMigration.map(addToUpdatedConfigList(updatedConfigsList, STORE_MIGRATION))
+        .orElseGet(currStore::isMigrating);
+    setStore.writeComputationEnabled =
+        writeComputationEnabled.map(addToUpdatedConfigList(updatedConfigsList, WRITE_COMPUTATION_ENABLED))
+            .orElseGet(currStore::isWriteComputationEnabled);
+    setStore.replicationMetadataVersionID = replicationMetadataVersionID
+        .map(addToUpdatedConfigList(updatedConfigsList, REPLICATION_METADATA_PROTOCOL_VERSION_ID))
+        .orElse(currStore.getRmdVersion());
+    setStore.readComputationEnabled =
+        readComputationEnabled.map(addToUpdatedConfigList(updatedConfigsList, READ_COMPUTATION_ENABLED))
+            .orElseGet(currStore::isReadComputationEnabled);
+    setStore.bootstrapToOnlineTimeoutInHours = bootstrapToOnlineTimeoutInHours
+        .map(addToUpdatedConfigList(updatedConfigsList, BOOTSTRAP_TO_ONLINE_TIMEOUT_IN_HOURS))
+        .orElseGet(currStore::getBootstrapToOnlineTimeoutInHours);
+    setStore.leaderFollowerModelEnabled = true; // do not mess up during upgrades
+    setStore.backupStrategy = (backupStrategy.map(addToUpdatedConfigList(updatedConfigsList, BACKUP_STRATEGY))
+        .orElse(currStore.getBackupStrategy())).ordinal();
+
+    setStore.schemaAutoRegisterFromPushJobEnabled = autoSchemaRegisterPushJobEnabled
+        .map(addToUpdatedConfigList(updatedConfigsList, AUTO_SCHEMA_REGISTER_FOR_PUSHJOB_ENABLED))
+        .orElse(currStore.isSchemaAutoRegisterFromPushJobEnabled());
+
+    setStore.hybridStoreDiskQuotaEnabled =
+        hybridStoreDiskQuotaEnabled.map(addToUpdatedConfigList(updatedConfigsList, HYBRID_STORE_DISK_QUOTA_ENABLED))
+            .orElse(currStore.isHybridStoreDiskQuotaEnabled());
+
+    regularVersionETLEnabled.map(addToUpdatedConfigList(updatedConfigsList, REGULAR_VERSION_ETL_ENABLED));
+    futureVersionETLEnabled.map(addToUpdatedConfigList(updatedConfigsList, FUTURE_VERSION_ETL_ENABLED));
+    etledUserProxyAccount.map(addToUpdatedConfigList(updatedConfigsList, ETLED_PROXY_USER_ACCOUNT));
+    setStore.ETLStoreConfig = mergeNewSettingIntoOldETLStoreConfig(
+        currStore,
+        regularVersionETLEnabled,
+        futureVersionETLEnabled,
+        etledUserProxyAccount);
+
+    setStore.largestUsedVersionNumber =
+        largestUsedVersionNumber.map(addToUpdatedConfigList(updatedConfigsList, LARGEST_USED_VERSION_NUMBER))
+            .orElseGet(currStore::getLargestUsedVersionNumber);
+
+    setStore.backupVersionRetentionMs =
+        backupVersionRetentionMs.map(addToUpdatedConfigList(updatedConfigsList, BACKUP_VERSION_RETENTION_MS))
+            .orElseGet(currStore::getBackupVersionRetentionMs);
+    setStore.replicationFactor = replicationFactor.map(addToUpdatedConfigList(updatedConfigsList, REPLICATION_FACTOR))
+        .orElseGet(currStore::getReplicationFactor);
+    setStore.migrationDuplicateStore =
+        migrationDuplicateStore.map(addToUpdatedConfigList(updatedConfigsList, MIGRATION_DUPLICATE_STORE))
+            .orElseGet(currStore::isMigrationDuplicateStore);
+    setStore.nativeReplicationSourceFabric = nativeReplicationSourceFabric
+        .map(addToUpdatedConfigList(updatedConfigsList, NATIVE_REPLICATION_SOURCE_FABRIC))
+        .orElseGet((currStore::getNativeReplicationSourceFabric));
+
+    setStore.disableMetaStore =
+        params.disableMetaStore().map(addToUpdatedConfigList(updatedConfigsList, DISABLE_META_STORE)).orElse(false);
+
+    setStore.disableDavinciPushStatusStore = params.disableDavinciPushStatusStore()
+        .map(addToUpdatedConfigList(updatedConfigsList, DISABLE_DAVINCI_PUSH_STATUS_STORE))
+        .orElse(false);
+
+    setStore.storagePersona = personaName.map(addToUpdatedConfigList(updatedConfigsList, PERSONA_NAME)).orElse(null);
+
+    // Check whether the passed param is valid or not
+    if (latestSupersetSchemaId.isPresent()) {
+      if (latestSupersetSchemaId.get() != SchemaData.INVALID_VALUE_SCHEMA_ID) {
+        if (veniceHelixAdmin.getValueSchema(clusterName, storeName, latestSupersetSchemaId.get()) == null) {
+          throw new VeniceException(
+              "Unknown value schema id: " + latestSupersetSchemaId.get() + " in store: " + storeName);
         }
-      } else if (existingPersona != null) {
-        personaToValidate = existingPersona;
       }
+    }
+    setStore.latestSuperSetValueSchemaId =
+        latestSupersetSchemaId.map(addToUpdatedConfigList(updatedConfigsList, LATEST_SUPERSET_SCHEMA_ID))
+            .orElseGet(currStore::getLatestSuperSetValueSchemaId);
+    setStore.storageNodeReadQuotaEnabled =
+        storageNodeReadQuotaEnabled.map(addToUpdatedConfigList(updatedConfigsList, STORAGE_NODE_READ_QUOTA_ENABLED))
+            .orElseGet(currStore::isStorageNodeReadQuotaEnabled);
+    setStore.minCompactionLagSeconds =
+        minCompactionLagSeconds.map(addToUpdatedConfigList(updatedConfigsList, MIN_COMPACTION_LAG_SECONDS))
+            .orElseGet(currStore::getMinCompactionLagSeconds);
 
-      if (personaToValidate != null) {
-        /**
-         * Create a new copy of the store with an updated quota, and validate this.
-         */
-        Store updatedQuotaStore = getVeniceHelixAdmin().getStore(clusterName, storeName);
-        updatedQuotaStore.setStorageQuotaInByte(setStore.getStorageQuotaInByte());
-        repository.validateAddUpdatedStore(personaToValidate, Optional.of(updatedQuotaStore));
+    StoragePersonaRepository repository =
+        getVeniceHelixAdmin().getHelixVeniceClusterResources(clusterName).getStoragePersonaRepository();
+    StoragePersona personaToValidate = null;
+    StoragePersona existingPersona = repository.getPersonaContainingStore(currStore.getName());
+
+    if (params.getStoragePersona().isPresent()) {
+      personaToValidate = getVeniceHelixAdmin().getStoragePersona(clusterName, params.getStoragePersona().get());
+      if (personaToValidate == null) {
+        String errMsg = "UpdateStore command failed for store " + storeName + ".  The provided StoragePersona "
+            + params.getStoragePersona().get() + " does not exist.";
+        throw new VeniceException(errMsg);
       }
+    } else if (existingPersona != null) {
+      personaToValidate = existingPersona;
+    }
 
+    if (personaToValidate != null) {
       /**
-       * By default, parent controllers will not try to replicate the unchanged store configs to child controllers;
-       * an updatedConfigsList will be used to represent which configs are updated by users.
+       * Create a new copy of the store with an updated quota, and validate this.
        */
-      setStore.replicateAllConfigs = replicateAllConfigs;
-      if (!replicateAllConfigs) {
-        if (updatedConfigsList.size() == 0) {
-          String errMsg =
-              "UpdateStore command failed for store " + storeName + ". The command didn't change any specific"
-                  + " store config and didn't specify \"--replicate-all-configs\" flag.";
-          LOGGER.error(errMsg);
-          throw new VeniceException(errMsg);
-        }
-        setStore.updatedConfigsList = updatedConfigsList;
-      } else {
-        setStore.updatedConfigsList = Collections.emptyList();
-      }
+      Store updatedQuotaStore = getVeniceHelixAdmin().getStore(clusterName, storeName);
+      updatedQuotaStore.setStorageQuotaInByte(setStore.getStorageQuotaInByte());
+      repository.validateAddUpdatedStore(personaToValidate, Optional.of(updatedQuotaStore));
+    }
 
-      /**
-       * Fabrics filter is not a store config, so we don't need to add it into {@link UpdateStore#updatedConfigsList}
-       */
-      setStore.regionsFilter = regionsFilter.orElse(null);
-
-      if ((setStore.getActiveActiveReplicationEnabled() || setStore.getWriteComputationEnabled())
-          && updatedPartitionerConfig.getAmplificationFactor() > 1) {
-        throw new VeniceHttpException(
-            HttpStatus.SC_BAD_REQUEST,
-            "Non-default amplification factor is not compatible with active-active replication and/or write compute.",
-            ErrorType.BAD_REQUEST);
+    /**
+     * By default, parent controllers will not try to replicate the unchanged store configs to child controllers;
+     * an updatedConfigsList will be used to represent which configs are updated by users.
+     */
+    setStore.replicateAllConfigs = replicateAllConfigs;
+    if (!replicateAllConfigs) {
+      if (updatedConfigsList.size() == 0) {
+        String errMsg =
+            "UpdateStore command failed for store " + storeName + ". The command didn't change any specific"
+                + " store config and didn't specify \"--replicate-all-configs\" flag.";
+        LOGGER.error(errMsg);
+        throw new VeniceException(errMsg);
       }
+      setStore.updatedConfigsList = updatedConfigsList;
+    } else {
+      setStore.updatedConfigsList = Collections.emptyList();
+    }
 
-      final boolean writeComputeJustEnabled =
-          writeComputationEnabled.orElse(false) && !currStore.isWriteComputationEnabled();
-      if (writeComputeJustEnabled) {
-        // Dry-run generating Write Compute schemas before sending admin messages to enable Write Compute because Write
-        // Compute schema generation may fail due to some reasons. If that happens, abort the store update process.
-        addWriteComputeSchemaForStore(clusterName, storeName, true);
-      }
+    /**
+     * Fabrics filter is not a store config, so we don't need to add it into {@link UpdateStore#updatedConfigsList}
+     */
+    setStore.regionsFilter = regionsFilter.orElse(null);
 
-      if (!veniceHelixAdmin.isHybrid(currStore.getHybridStoreConfig())
-          && veniceHelixAdmin.isHybrid(setStore.getHybridStoreConfig()) && setStore.getPartitionNum() == 0) {
-        // This is a new hybrid store and partition count is not specified.
-        VeniceControllerClusterConfig config =
-            getVeniceHelixAdmin().getHelixVeniceClusterResources(clusterName).getConfig();
-        setStore.setPartitionNum(
-            PartitionUtils.calculatePartitionCount(
-                storeName,
-                setStore.getStorageQuotaInByte(),
-                0,
-                config.getPartitionSize(),
-                config.getMinNumberOfPartitionsForHybrid(),
-                config.getMaxNumberOfPartitions(),
-                config.isPartitionCountRoundUpEnabled(),
-                config.getPartitionCountRoundUpSize()));
-        LOGGER.info(
-            "Enforcing default hybrid partition count:{} for a new hybrid store:{}.",
-            setStore.getPartitionNum(),
-            storeName);
-        updatedConfigsList.add(PARTITION_COUNT);
-      }
+    if ((setStore.getActiveActiveReplicationEnabled() || setStore.getWriteComputationEnabled())
+        && updatedPartitionerConfig.getAmplificationFactor() > 1) {
+      throw new VeniceHttpException(
+          HttpStatus.SC_BAD_REQUEST,
+          "Non-default amplification factor is not compatible with active-active replication and/or write compute.",
+          ErrorType.BAD_REQUEST);
+    }
 
-      AdminOperation message = new AdminOperation();
-      message.operationType = AdminMessageType.UPDATE_STORE.getValue();
-      message.payloadUnion = setStore;
-      sendAdminMessageAndWaitForConsumed(clusterName, storeName, message);
+    final boolean writeComputeJustEnabled =
+        writeComputationEnabled.orElse(false) && !currStore.isWriteComputationEnabled();
+    if (writeComputeJustEnabled) {
+      // Dry-run generating Write Compute schemas before sending admin messages to enable Write Compute because Write
+      // Compute schema generation may fail due to some reasons. If that happens, abort the store update process.
+      addWriteComputeSchemaForStore(clusterName, storeName, true);
+    }
 
-      final boolean readComputeJustEnabled =
-          readComputationEnabled.orElse(false) && !currStore.isReadComputationEnabled();
-      if ((!currStore.isSystemStore()) && (readComputeJustEnabled || writeComputeJustEnabled)) {
-        addSupersetSchemaForStore(clusterName, storeName, currStore.isActiveActiveReplicationEnabled());
-      }
-      if (writeComputeJustEnabled) {
-        LOGGER.info("Enabling write compute for the first time on store {} in cluster {}", storeName, clusterName);
-        addWriteComputeSchemaForStore(clusterName, storeName, false);
-      }
+    if (!veniceHelixAdmin.isHybrid(currStore.getHybridStoreConfig())
+        && veniceHelixAdmin.isHybrid(setStore.getHybridStoreConfig()) && setStore.getPartitionNum() == 0) {
+      // This is a new hybrid store and partition count is not specified.
+      VeniceControllerClusterConfig config =
+          getVeniceHelixAdmin().getHelixVeniceClusterResources(clusterName).getConfig();
+      setStore.setPartitionNum(
+          PartitionUtils.calculatePartitionCount(
+              storeName,
+              setStore.getStorageQuotaInByte(),
+              0,
+              config.getPartitionSize(),
+              config.getMinNumberOfPartitionsForHybrid(),
+              config.getMaxNumberOfPartitions(),
+              config.isPartitionCountRoundUpEnabled(),
+              config.getPartitionCountRoundUpSize()));
+      LOGGER.info(
+          "Enforcing default hybrid partition count:{} for a new hybrid store:{}.",
+          setStore.getPartitionNum(),
+          storeName);
+      updatedConfigsList.add(PARTITION_COUNT);
+    }
 
-      /**
-       * If active-active replication is getting enabled for the store, generate and register the Replication metadata schema
-       * for all existing value schemas.
-       */
-      final boolean activeActiveReplicationJustEnabled =
-          activeActiveReplicationEnabled.orElse(false) && !currStore.isActiveActiveReplicationEnabled();
-      if (activeActiveReplicationJustEnabled) {
-        updateReplicationMetadataSchemaForAllValueSchema(clusterName, storeName);
-      }
-    } finally {
-      releaseAdminMessageLock(clusterName, storeName);
+    return setStore;
+  }
+
+  /**
+   * Register the schemas required by the features which have just been enabled by an executed store update.
+   */
+  private void handleStoreUpdated(
+      String clusterName,
+      String storeName,
+      UpdateStoreQueryParams params,
+      Store currStore) {
+    final boolean writeComputeJustEnabled =
+        params.getWriteComputationEnabled().orElse(false) && !currStore.isWriteComputationEnabled();
+    final boolean readComputeJustEnabled =
+        params.getReadComputationEnabled().orElse(false) && !currStore.isReadComputationEnabled();
+    if ((!currStore.isSystemStore()) && (readComputeJustEnabled || writeComputeJustEnabled)) {
+      addSupersetSchemaForStore(clusterName, storeName, currStore.isActiveActiveReplicationEnabled());
+    }
+    if (writeComputeJustEnabled) {
+      LOGGER.info("Enabling write compute for the first time on store {} in cluster {}", storeName, clusterName);
+      addWriteComputeSchemaForStore(clusterName, storeName, false);
+    }
+
+    /**
+     * If active-active replication is getting enabled for the store, generate and register the Replication metadata schema
+     * for all existing value schemas.
+     */
+    final boolean activeActiveReplicationJustEnabled =
+        params.getActiveActiveReplicationEnabled().orElse(false) && !currStore.isActiveActiveReplicationEnabled();
+    if (activeActiveReplicationJustEnabled) {
+      updateReplicationMetadataSchemaForAllValueSchema(clusterName, storeName);
     }
   }
 
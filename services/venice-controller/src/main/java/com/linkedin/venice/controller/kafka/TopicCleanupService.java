@@ -13,6 +13,9 @@ import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.Time;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -22,6 +25,7 @@ import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -56,6 +60,7 @@ import org.apache.logging.log4j.Logger;
  *    2.2 Collect all the topics and categorize them based on store names;
  *    2.3 For deprecated real-time topic, will remove it right away;
  *    2.4 For deprecated version topics, will keep pre-configured minimal unused topics to avoid MM crash and remove others;
+ *    2.5 For deleted version topics, will remove the SST files staged by the bulk load push of the version, if any.
  */
 public class TopicCleanupService extends AbstractVeniceService {
   private static final Logger LOGGER = LogManager.getLogger(TopicCleanupService.class);
@@ -66,6 +71,7 @@ public class TopicCleanupService extends AbstractVeniceService {
   protected final long sleepIntervalBetweenTopicListFetchMs;
   protected final int delayFactor;
   private final int minNumberOfUnusedKafkaTopicsToPreserve;
+  private final String sstBulkLoadStagingDir;
   private final AtomicBoolean stop = new AtomicBoolean(false);
   private boolean isLeaderControllerOfControllerCluster = false;
   private long refreshQueueCycle = Time.MS_PER_MINUTE;
@@ -82,6 +88,7 @@ public class TopicCleanupService extends AbstractVeniceService {
         multiClusterConfigs.getTopicCleanupSleepIntervalBetweenTopicListFetchMs();
     this.delayFactor = multiClusterConfigs.getTopicCleanupDelayFactor();
     this.minNumberOfUnusedKafkaTopicsToPreserve = multiClusterConfigs.getMinNumberOfUnusedKafkaTopicsToPreserve();
+    this.sstBulkLoadStagingDir = multiClusterConfigs.getSstBulkLoadStagingDir();
     this.cleanupThread = new Thread(new TopicCleanupTask(), "TopicCleanupTask");
     this.multiClusterConfigs = multiClusterConfigs;
     this.pubSubTopicRepository = pubSubTopicRepository;
@@ -152,6 +159,30 @@ public class TopicCleanupService extends AbstractVeniceService {
    * The following will delete topics based on their priority. Real-time topics are given higher priority than version topics.
    * If version topic deletion takes more than certain time it refreshes the entire topic list and start deleting from RT topics again.
     */
+  /**
+   * The staged SST files of a bulk load push are loaded again by every replay of the version topic, so they can only be
+   * removed once the version topic is gone.
+   */
+  void cleanupStagedSstFiles(PubSubTopic versionTopic) {
+    if (sstBulkLoadStagingDir == null) {
+      return;
+    }
+    File stagingDir = sstBulkLoadStagingDir.startsWith("file:")
+        ? new File(URI.create(sstBulkLoadStagingDir))
+        : new File(sstBulkLoadStagingDir);
+    File topicStagingDir = new File(stagingDir, versionTopic.getName());
+    if (!topicStagingDir.exists()) {
+      return;
+    }
+    try {
+      FileUtils.deleteDirectory(topicStagingDir);
+      LOGGER.info("Deleted the staged SST files of topic: {} under {}", versionTopic, topicStagingDir);
+    } catch (IOException e) {
+      // No op, will try again when the topic cleanup is retried.
+      LOGGER.warn("Caught exception when trying to delete the staged SST files under: {}", topicStagingDir, e);
+    }
+  }
+
   void cleanupVeniceTopics() {
     PriorityQueue<PubSubTopic> allTopics = new PriorityQueue<>((s1, s2) -> s1.isRealTime() ? -1 : 0);
     populateDeprecatedTopicQueue(allTopics);
@@ -179,6 +210,9 @@ public class TopicCleanupService extends AbstractVeniceService {
               topic);
         }
         getTopicManager().ensureTopicIsDeletedAndBlockWithRetry(topic);
+        if (topic.isVersionTopic()) {
+          cleanupStagedSstFiles(topic);
+        }
       } catch (VeniceException e) {
         LOGGER.warn("Caught exception when trying to delete topic: {} - {}", topic, e.toString());
         // No op, will try again in the next cleanup cycle.
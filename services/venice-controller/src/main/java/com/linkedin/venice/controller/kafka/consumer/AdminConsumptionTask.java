@@ -6,7 +6,9 @@ import com.linkedin.venice.controller.ExecutionIdAccessor;
 import com.linkedin.venice.controller.VeniceHelixAdmin;
 import com.linkedin.venice.controller.kafka.AdminTopicUtils;
 import com.linkedin.venice.controller.kafka.protocol.admin.AdminOperation;
+import com.linkedin.venice.controller.kafka.protocol.admin.BulkUpdateStore;
 import com.linkedin.venice.controller.kafka.protocol.admin.KillOfflinePushJob;
+import com.linkedin.venice.controller.kafka.protocol.admin.UpdateStore;
 import com.linkedin.venice.controller.kafka.protocol.enums.AdminMessageType;
 import com.linkedin.venice.controller.kafka.protocol.serializer.AdminOperationSerializer;
 import com.linkedin.venice.controller.stats.AdminConsumptionStats;
@@ -39,11 +41,13 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
@@ -689,51 +693,55 @@ public class AdminConsumptionTask implements Runnable, Closeable {
     }
 
     AdminMessageType adminMessageType = AdminMessageType.valueOf(adminOperation);
+    long producerTimestamp = kafkaValue.producerMetadata.messageTimestamp;
+    long brokerTimestamp = record.getPubSubMessageTime();
     if (adminMessageType.isBatchUpdate()) {
-      long producerTimestamp = kafkaValue.producerMetadata.messageTimestamp;
-      long brokerTimestamp = record.getPubSubMessageTime();
       List<Store> stores = admin.getAllStores(clusterName);
       for (Store store: stores) {
-        String storeName = store.getName();
-        Queue<AdminOperationWrapper> operationQueue =
-            storeAdminOperationsMapWithOffset.computeIfAbsent(storeName, n -> new LinkedList<>());
-        AdminOperationWrapper adminOperationWrapper = new AdminOperationWrapper(
-            adminOperation,
-            record.getOffset(),
-            producerTimestamp,
-            brokerTimestamp,
-            System.currentTimeMillis());
-        operationQueue.add(adminOperationWrapper);
-        stats.recordAdminMessageMMLatency(
-            Math.max(
-                0,
-                adminOperationWrapper.getLocalBrokerTimestamp() - adminOperationWrapper.getProducerTimestamp()));
-        stats.recordAdminMessageDelegateLatency(
-            Math.max(
-                0,
-                adminOperationWrapper.getDelegateTimestamp() - adminOperationWrapper.getLocalBrokerTimestamp()));
+        delegateMessageToStore(store.getName(), adminOperation, record.getOffset(), producerTimestamp, brokerTimestamp);
+      }
+    } else if (adminMessageType == AdminMessageType.BULK_UPDATE_STORE) {
+      /**
+       * The message is added to the queue of every updated store, so that it's executed in order with the other admin
+       * operations of the same store, and the stores are updated in parallel by their own execution tasks.
+       */
+      Set<String> storeNames = new LinkedHashSet<>();
+      for (UpdateStore update: ((BulkUpdateStore) adminOperation.payloadUnion).updates) {
+        storeNames.add(VeniceSystemStoreType.extractUserStoreName(update.storeName.toString()));
+      }
+      for (String storeName: storeNames) {
+        delegateMessageToStore(storeName, adminOperation, record.getOffset(), producerTimestamp, brokerTimestamp);
       }
     } else {
-      long producerTimestamp = kafkaValue.producerMetadata.messageTimestamp;
-      long brokerTimestamp = record.getPubSubMessageTime();
-      AdminOperationWrapper adminOperationWrapper = new AdminOperationWrapper(
+      delegateMessageToStore(
+          extractStoreName(adminOperation),
           adminOperation,
           record.getOffset(),
           producerTimestamp,
-          brokerTimestamp,
-          System.currentTimeMillis());
-      stats.recordAdminMessageMMLatency(
-          Math.max(0, adminOperationWrapper.getLocalBrokerTimestamp() - adminOperationWrapper.getProducerTimestamp()));
-      stats.recordAdminMessageDelegateLatency(
-          Math.max(0, adminOperationWrapper.getDelegateTimestamp() - adminOperationWrapper.getLocalBrokerTimestamp()));
-      String storeName = extractStoreName(adminOperation);
-      storeAdminOperationsMapWithOffset.putIfAbsent(storeName, new LinkedList<>());
-      storeAdminOperationsMapWithOffset.get(storeName).add(adminOperationWrapper);
-
+          brokerTimestamp);
     }
     return executionId;
   }
 
+  private void delegateMessageToStore(
+      String storeName,
+      AdminOperation adminOperation,
+      long offset,
+      long producerTimestamp,
+      long brokerTimestamp) {
+    AdminOperationWrapper adminOperationWrapper = new AdminOperationWrapper(
+        adminOperation,
+        offset,
+        producerTimestamp,
+        brokerTimestamp,
+        System.currentTimeMillis());
+    storeAdminOperationsMapWithOffset.computeIfAbsent(storeName, n -> new LinkedList<>()).add(adminOperationWrapper);
+    stats.recordAdminMessageMMLatency(
+        Math.max(0, adminOperationWrapper.getLocalBrokerTimestamp() - adminOperationWrapper.getProducerTimestamp()));
+    stats.recordAdminMessageDelegateLatency(
+        Math.max(0, adminOperationWrapper.getDelegateTimestamp() - adminOperationWrapper.getLocalBrokerTimestamp()));
+  }
+
   private void checkAndValidateMessage(
       AdminOperation message,
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record) {
@@ -818,6 +826,10 @@ public class AdminConsumptionTask implements Runnable, Closeable {
             "Operation " + AdminMessageType.CONFIGURE_INCREMENTAL_PUSH_FOR_CLUSTER + " is a batch "
                 + "update that affects all existing store in cluster " + clusterName
                 + ". Cannot extract a specific store name.");
+      case BULK_UPDATE_STORE:
+        throw new VeniceException(
+            "Operation " + AdminMessageType.BULK_UPDATE_STORE + " updates multiple stores in cluster " + clusterName
+                + ". Cannot extract a specific store name.");
       default:
         try {
           GenericRecord payload = (GenericRecord) adminOperation.payloadUnion;
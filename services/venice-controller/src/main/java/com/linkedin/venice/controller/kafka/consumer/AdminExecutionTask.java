@@ -10,6 +10,7 @@ import com.linkedin.venice.controller.VeniceHelixAdmin;
 import com.linkedin.venice.controller.kafka.protocol.admin.AbortMigration;
 import com.linkedin.venice.controller.kafka.protocol.admin.AddVersion;
 import com.linkedin.venice.controller.kafka.protocol.admin.AdminOperation;
+import com.linkedin.venice.controller.kafka.protocol.admin.BulkUpdateStore;
 import com.linkedin.venice.controller.kafka.protocol.admin.ConfigureActiveActiveReplicationForCluster;
 import com.linkedin.venice.controller.kafka.protocol.admin.ConfigureNativeReplicationForCluster;
 import com.linkedin.venice.controller.kafka.protocol.admin.CreateStoragePersona;
@@ -257,6 +258,9 @@ public class AdminExecutionTask implements Callable<Void> {
         case UPDATE_STORAGE_PERSONA:
           handleUpdateStoragePersona((UpdateStoragePersona) adminOperation.payloadUnion);
           break;
+        case BULK_UPDATE_STORE:
+          handleBulkUpdateStore((BulkUpdateStore) adminOperation.payloadUnion);
+          break;
         default:
           throw new VeniceException("Unknown admin operation type: " + adminOperation.operationType);
       }
@@ -553,6 +557,18 @@ public class AdminExecutionTask implements Callable<Void> {
     LOGGER.info("Set store: {} in cluster: {}", storeName, clusterName);
   }
 
+  /**
+   * Only the updates of the store of this task are executed here, and the updates of the other stores are executed by
+   * their own tasks.
+   */
+  private void handleBulkUpdateStore(BulkUpdateStore message) {
+    for (UpdateStore update: message.updates) {
+      if (VeniceSystemStoreType.extractUserStoreName(update.storeName.toString()).equals(storeName)) {
+        handleSetStore(update);
+      }
+    }
+  }
+
   private void handleDeleteStore(DeleteStore message) {
     String clusterName = message.clusterName.toString();
     String storeName = message.storeName.toString();
@@ -3,6 +3,7 @@ package com.linkedin.venice.controller.kafka.protocol.enums;
 import com.linkedin.venice.controller.kafka.protocol.admin.AbortMigration;
 import com.linkedin.venice.controller.kafka.protocol.admin.AddVersion;
 import com.linkedin.venice.controller.kafka.protocol.admin.AdminOperation;
+import com.linkedin.venice.controller.kafka.protocol.admin.BulkUpdateStore;
 import com.linkedin.venice.controller.kafka.protocol.admin.ConfigureActiveActiveReplicationForCluster;
 import com.linkedin.venice.controller.kafka.protocol.admin.ConfigureNativeReplicationForCluster;
 import com.linkedin.venice.controller.kafka.protocol.admin.CreateStoragePersona;
@@ -48,7 +49,7 @@ public enum AdminMessageType {
   @Deprecated
   CONFIGURE_INCREMENTAL_PUSH_FOR_CLUSTER(22, true), META_SYSTEM_STORE_AUTO_CREATION_VALIDATION(23, false),
   PUSH_STATUS_SYSTEM_STORE_AUTO_CREATION_VALIDATION(24, false), CREATE_STORAGE_PERSONA(25, false),
-  DELETE_STORAGE_PERSONA(26, false), UPDATE_STORAGE_PERSONA(27, false);
+  DELETE_STORAGE_PERSONA(26, false), UPDATE_STORAGE_PERSONA(27, false), BULK_UPDATE_STORE(28, false);
 
   private final int value;
   private final boolean batchUpdate;
@@ -115,6 +116,8 @@ public enum AdminMessageType {
         return new DeleteStoragePersona();
       case UPDATE_STORAGE_PERSONA:
         return new UpdateStoragePersona();
+      case BULK_UPDATE_STORE:
+        return new BulkUpdateStore();
       default:
         throw new VeniceException("Unsupported " + getClass().getSimpleName() + " value: " + value);
     }
@@ -97,6 +97,7 @@ import static com.linkedin.venice.controllerapi.ControllerRoute.UPDATE_KAFKA_TOP
 import static com.linkedin.venice.controllerapi.ControllerRoute.UPDATE_KAFKA_TOPIC_RETENTION;
 import static com.linkedin.venice.controllerapi.ControllerRoute.UPDATE_STORAGE_PERSONA;
 import static com.linkedin.venice.controllerapi.ControllerRoute.UPDATE_STORE;
+import static com.linkedin.venice.controllerapi.ControllerRoute.UPDATE_STORES;
 import static com.linkedin.venice.controllerapi.ControllerRoute.UPLOAD_PUSH_JOB_STATUS;
 import static com.linkedin.venice.controllerapi.ControllerRoute.WIPE_CLUSTER;
 
@@ -328,6 +329,7 @@ public class AdminSparkServer extends AbstractVeniceService {
         createStoreRoute.checkResourceCleanupForStoreCreation(admin));
     httpService.post(DELETE_STORE.getPath(), storesRoutes.deleteStore(admin));
     httpService.post(UPDATE_STORE.getPath(), storesRoutes.updateStore(admin));
+    httpService.post(UPDATE_STORES.getPath(), storesRoutes.updateStores(admin));
 
     httpService.get(STORE_MIGRATION_ALLOWED.getPath(), clusterRoutes.isStoreMigrationAllowed(admin));
     httpService.post(MIGRATE_STORE.getPath(), storesRoutes.migrateStore(admin));
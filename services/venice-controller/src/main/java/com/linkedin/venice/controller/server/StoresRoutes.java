@@ -18,6 +18,7 @@ import static com.linkedin.venice.controllerapi.ControllerApiConstants.REGIONS_F
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.STATUS;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.STORE_CONFIG_NAME_FILTER;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.STORE_CONFIG_VALUE_FILTER;
+import static com.linkedin.venice.controllerapi.ControllerApiConstants.STORE_NAMES;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.STORE_TYPE;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.TOPIC;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.TOPIC_COMPACTION_POLICY;
@@ -50,6 +51,7 @@ import static com.linkedin.venice.controllerapi.ControllerRoute.SET_VERSION;
 import static com.linkedin.venice.controllerapi.ControllerRoute.STORAGE_ENGINE_OVERHEAD_RATIO;
 import static com.linkedin.venice.controllerapi.ControllerRoute.STORE;
 import static com.linkedin.venice.controllerapi.ControllerRoute.UPDATE_STORE;
+import static com.linkedin.venice.controllerapi.ControllerRoute.UPDATE_STORES;
 
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.acl.DynamicAccessController;
@@ -521,6 +523,37 @@ public class StoresRoutes extends AbstractRoute {
     };
   }
 
+  /**
+   * @see Admin#updateStores(String, List, UpdateStoreQueryParams)
+   */
+  public Route updateStores(Admin admin) {
+    return new VeniceRouteHandler<ControllerResponse>(ControllerResponse.class) {
+      @Override
+      public void internalHandle(Request request, ControllerResponse veniceResponse) {
+        // Only allow allowlist users to run this command
+        if (!checkIsAllowListUser(request, veniceResponse, () -> isAllowListUser(request))) {
+          return;
+        }
+        AdminSparkServer.validateParams(request, UPDATE_STORES.getParams(), admin);
+        String clusterName = request.queryParams(CLUSTER);
+        List<String> storeNames = Utils.parseCommaSeparatedStringToList(request.queryParams(STORE_NAMES));
+
+        veniceResponse.setCluster(clusterName);
+
+        Map<String, String> params = Utils.extractQueryParamsFromRequest(request.queryMap().toMap(), veniceResponse);
+
+        try {
+          admin.updateStores(clusterName, storeNames, new UpdateStoreQueryParams(params));
+        } catch (Exception e) {
+          veniceResponse.setError(
+              "Failed when updating stores " + storeNames + ". Exception type: " + e.getClass().toString()
+                  + ". Detailed message = " + e.getMessage(),
+              e);
+        }
+      }
+    };
+  }
+
   /**
    * @see Admin#setStoreOwner(String, String, String)
    */
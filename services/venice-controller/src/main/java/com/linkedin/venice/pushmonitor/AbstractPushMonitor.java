@@ -72,6 +72,12 @@ public abstract class AbstractPushMonitor
   private final StoreCleaner storeCleaner;
   private final AggPushHealthStats aggPushHealthStats;
   private final Map<String, OfflinePushStatus> topicToPushMap = new VeniceConcurrentHashMap<>();
+  /**
+   * The statuses of the partitions of the ongoing pushes, which are updated for the changed partition only. They're
+   * reset whenever the partition assignment of the topic changes, since the status of every partition depends on it.
+   */
+  private final Map<String, PartitionStatusAggregator> topicToPartitionStatusAggregator =
+      new VeniceConcurrentHashMap<>();
   private RealTimeTopicSwitcher realTimeTopicSwitcher;
   private final ClusterLockManager clusterLockManager;
   private final String aggregateRealTimeSourceKafkaUrl;
@@ -130,14 +136,17 @@ public abstract class AbstractPushMonitor
 
   @Override
   public void loadAllPushes() {
-    try (AutoCloseableLock ignore = clusterLockManager.createClusterWriteLock()) {
-      List<OfflinePushStatus> offlinePushStatuses = offlinePushAccessor.loadOfflinePushStatusesAndPartitionStatuses();
-      loadAllPushes(offlinePushStatuses);
-    }
+    /**
+     * Every push is read again after subscribing to its changes, so reading all the pushes from ZK doesn't need to
+     * block the store operations of the cluster.
+     */
+    List<OfflinePushStatus> offlinePushStatuses = offlinePushAccessor.loadOfflinePushStatusesAndPartitionStatuses();
+    loadAllPushes(offlinePushStatuses);
   }
 
   private void loadAllPushes(List<OfflinePushStatus> offlinePushStatusList) {
     pushStatusCollector.start();
+    // The cluster lock is needed since the pushes of all the stores are subscribed and checked at once.
     try (AutoCloseableLock ignore = clusterLockManager.createClusterWriteLock()) {
       LOGGER.info("Load all pushes started for cluster {}'s {}", clusterName, getClass().getSimpleName());
       // Subscribe to changes first
@@ -243,6 +252,7 @@ public abstract class AbstractPushMonitor
       OfflinePushStatus pushStatus = new OfflinePushStatus(kafkaTopic, numberOfPartition, replicaFactor, strategy);
       offlinePushAccessor.createOfflinePushStatusAndItsPartitionStatuses(pushStatus);
       topicToPushMap.put(kafkaTopic, pushStatus);
+      topicToPartitionStatusAggregator.remove(kafkaTopic);
       offlinePushAccessor.subscribePartitionStatusChange(pushStatus, this);
       routingDataRepository.subscribeRoutingDataChange(kafkaTopic, this);
       pushStatusCollector.subscribeTopic(kafkaTopic, numberOfPartition);
@@ -262,6 +272,7 @@ public abstract class AbstractPushMonitor
       OfflinePushStatus pushStatus = getOfflinePush(kafkaTopic);
       offlinePushAccessor.unsubscribePartitionsStatusChange(pushStatus, this);
       routingDataRepository.unSubscribeRoutingDataChange(kafkaTopic, this);
+      topicToPartitionStatusAggregator.remove(kafkaTopic);
       if (pushStatus.getCurrentStatus().equals(ExecutionStatus.ERROR) && !isForcedDelete) {
         retireOldErrorPushes(storeName);
       } else {
@@ -275,6 +286,7 @@ public abstract class AbstractPushMonitor
   @Override
   public void stopAllMonitoring() {
     LOGGER.info("Stopping monitoring push for all topics.");
+    // The cluster lock is needed so that no push is started while the pushes of all the stores are being stopped.
     try (AutoCloseableLock ignore = clusterLockManager.createClusterWriteLock()) {
       for (Map.Entry<String, OfflinePushStatus> entry: topicToPushMap.entrySet()) {
         String kafkaTopic = entry.getKey();
@@ -589,6 +601,7 @@ public abstract class AbstractPushMonitor
     String storeName = Version.parseStoreFromKafkaTopicName(offlinePushStatus.getKafkaTopic());
     try (AutoCloseableLock ignore = clusterLockManager.createStoreWriteLock(storeName)) {
       topicToPushMap.remove(offlinePushStatus.getKafkaTopic());
+      topicToPartitionStatusAggregator.remove(offlinePushStatus.getKafkaTopic());
       if (deletePushStatus) {
         offlinePushAccessor.deleteOfflinePushStatusAndItsPartitionStatuses(offlinePushStatus.getKafkaTopic());
       }
@@ -726,14 +739,33 @@ public abstract class AbstractPushMonitor
       pushStatus.setPartitionStatus(partitionStatus);
       this.topicToPushMap.put(pushStatus.getKafkaTopic(), pushStatus);
 
-      onPartitionStatusChange(pushStatus);
+      onPartitionStatusChange(pushStatus, partitionStatus.getPartitionId());
     }
   }
 
+  /**
+   * Called with the write lock of the store after the status of the given partition has changed.
+   */
+  protected void onPartitionStatusChange(OfflinePushStatus offlinePushStatus, int partitionId) {
+    onPartitionStatusChange(offlinePushStatus);
+  }
+
   protected void onPartitionStatusChange(OfflinePushStatus offlinePushStatus) {
     checkWhetherToStartBufferReplayForHybrid(offlinePushStatus);
   }
 
+  /**
+   * @return the statuses of the partitions of the given topic which have been aggregated so far, or null if they need
+   *         to be checked again from scratch.
+   */
+  PartitionStatusAggregator getPartitionStatusAggregator(String kafkaTopic) {
+    return topicToPartitionStatusAggregator.get(kafkaTopic);
+  }
+
+  void setPartitionStatusAggregator(String kafkaTopic, PartitionStatusAggregator aggregator) {
+    topicToPartitionStatusAggregator.put(kafkaTopic, aggregator);
+  }
+
   protected DisableReplicaCallback getDisableReplicaCallback(String kafkaTopic) {
     if (!disableErrorLeaderReplica) {
       return null;
@@ -781,6 +813,8 @@ public abstract class AbstractPushMonitor
 
     try (AutoCloseableLock ignore = clusterLockManager.createStoreWriteLock(storeName)) {
       String kafkaTopic = partitionAssignment.getTopic();
+      // The replicas of the partitions might have moved, so the partition statuses need to be checked again.
+      topicToPartitionStatusAggregator.remove(kafkaTopic);
       OfflinePushStatus pushStatus = getOfflinePush(kafkaTopic);
 
       if (pushStatus != null) {
@@ -914,6 +948,7 @@ public abstract class AbstractPushMonitor
 
   protected void handleCompletedPush(String topic) {
     routingDataRepository.unSubscribeRoutingDataChange(topic, this);
+    topicToPartitionStatusAggregator.remove(topic);
     OfflinePushStatus pushStatus = getOfflinePush(topic);
     if (pushStatus == null) {
       LOGGER.warn("Could not find OfflinePushStatus for topic: {}, will skip push completion handling", topic);
@@ -957,6 +992,7 @@ public abstract class AbstractPushMonitor
 
   protected void handleErrorPush(String topic, String statusDetails) {
     routingDataRepository.unSubscribeRoutingDataChange(topic, this);
+    topicToPartitionStatusAggregator.remove(topic);
     OfflinePushStatus pushStatus = getOfflinePush(topic);
     if (pushStatus == null) {
       LOGGER.warn("Could not find OfflinePushStatus for topic: {}, will skip push error handling", topic);
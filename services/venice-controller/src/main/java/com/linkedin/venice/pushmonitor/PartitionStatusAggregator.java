@@ -0,0 +1,78 @@
+package com.linkedin.venice.pushmonitor;
+
+import static com.linkedin.venice.pushmonitor.ExecutionStatus.COMPLETED;
+import static com.linkedin.venice.pushmonitor.ExecutionStatus.END_OF_PUSH_RECEIVED;
+import static com.linkedin.venice.pushmonitor.ExecutionStatus.ERROR;
+import static com.linkedin.venice.pushmonitor.ExecutionStatus.STARTED;
+
+import java.util.BitSet;
+
+
+/**
+ * Keeps the status of every partition of one push, as decided by {@link PushStatusDecider}, along with the number of
+ * partitions in every status, so that the status of the entire push is known in constant time after a single
+ * partition status changes, instead of checking all the replicas of all the partitions again.
+ *
+ * This class isn't thread-safe, and it's only accessed while holding the write lock of the store.
+ */
+class PartitionStatusAggregator {
+  private final ExecutionStatus[] partitionStatuses;
+  private final BitSet errorPartitions;
+  private int completedPartitionCount = 0;
+  /**
+   * The partitions which have received end of push, including the completed ones.
+   */
+  private int endOfPushReceivedPartitionCount = 0;
+
+  PartitionStatusAggregator(int numberOfPartitions) {
+    this.partitionStatuses = new ExecutionStatus[numberOfPartitions];
+    this.errorPartitions = new BitSet(numberOfPartitions);
+  }
+
+  void updatePartitionStatus(int partitionId, ExecutionStatus status) {
+    ExecutionStatus previousStatus = partitionStatuses[partitionId];
+    if (previousStatus == status) {
+      return;
+    }
+    if (previousStatus != null) {
+      updateCounts(partitionId, previousStatus, -1);
+    }
+    partitionStatuses[partitionId] = status;
+    updateCounts(partitionId, status, 1);
+  }
+
+  private void updateCounts(int partitionId, ExecutionStatus status, int delta) {
+    if (status == COMPLETED) {
+      completedPartitionCount += delta;
+      endOfPushReceivedPartitionCount += delta;
+    } else if (status == END_OF_PUSH_RECEIVED) {
+      endOfPushReceivedPartitionCount += delta;
+    } else if (status == ERROR) {
+      errorPartitions.set(partitionId, delta > 0);
+    }
+  }
+
+  /**
+   * @return the status of the push, which is the same as the one {@link PushStatusDecider} decides based on all the
+   *         partitions.
+   */
+  ExecutionStatus getPushStatus() {
+    if (!errorPartitions.isEmpty()) {
+      return ERROR;
+    }
+    if (completedPartitionCount == partitionStatuses.length) {
+      return COMPLETED;
+    }
+    if (endOfPushReceivedPartitionCount == partitionStatuses.length) {
+      return END_OF_PUSH_RECEIVED;
+    }
+    return STARTED;
+  }
+
+  /**
+   * @return the lowest id of the partitions in {@link ExecutionStatus#ERROR}, or -1 if there is none.
+   */
+  int getFirstErrorPartition() {
+    return errorPartitions.nextSetBit(0);
+  }
+}
@@ -54,7 +54,7 @@ public class PartitionStatusBasedPushMonitor extends AbstractPushMonitor {
   }
 
   @Override
-  public void onPartitionStatusChange(OfflinePushStatus offlinePushStatus) {
+  protected void onPartitionStatusChange(OfflinePushStatus offlinePushStatus, int partitionId) {
     String kafkaTopic = offlinePushStatus.getKafkaTopic();
     /**
      * If the current push status is not terminal, we need the special check inside PartitionStatusBasedPushMonitor
@@ -65,18 +65,21 @@ public class PartitionStatusBasedPushMonitor extends AbstractPushMonitor {
       if (!isTerminalStatus) {
         updatePushStatusByPartitionStatus(
             offlinePushStatus,
+            partitionId,
             getRoutingDataRepository().getPartitionAssignments(kafkaTopic));
       }
 
-      super.onPartitionStatusChange(offlinePushStatus);
+      super.onPartitionStatusChange(offlinePushStatus, partitionId);
     }
   }
 
   private void updatePushStatusByPartitionStatus(
       OfflinePushStatus offlinePushStatus,
+      int partitionId,
       PartitionAssignment partitionAssignment) {
-    ExecutionStatusWithDetails statusWithDetails = checkPushStatus(
+    ExecutionStatusWithDetails statusWithDetails = aggregatePushStatus(
         offlinePushStatus,
+        partitionId,
         partitionAssignment,
         getDisableReplicaCallback(partitionAssignment.getTopic()));
     if (statusWithDetails.getStatus().isTerminal()) {
@@ -88,6 +91,49 @@ public class PartitionStatusBasedPushMonitor extends AbstractPushMonitor {
     }
   }
 
+  /**
+   * Only the changed partition is checked and aggregated with the statuses of the other partitions, which have been
+   * checked before, so a partition status change doesn't need to check all the replicas of all the partitions. All the
+   * partitions are checked when there is no aggregated status yet, and once more before the push is completed.
+   */
+  private ExecutionStatusWithDetails aggregatePushStatus(
+      OfflinePushStatus offlinePushStatus,
+      int partitionId,
+      PartitionAssignment partitionAssignment,
+      DisableReplicaCallback callback) {
+    if (partitionAssignment == null || partitionAssignment.isMissingAssignedPartitions()
+        || offlinePushStatus.getPartitionStatuses().size() != offlinePushStatus.getNumberOfPartition()) {
+      return checkPushStatus(offlinePushStatus, partitionAssignment, callback);
+    }
+    String kafkaTopic = offlinePushStatus.getKafkaTopic();
+    PushStatusDecider decider = offlinePushStatus.getStrategy().getPushStatusDecider();
+    PartitionStatusAggregator aggregator = getPartitionStatusAggregator(kafkaTopic);
+    if (aggregator == null) {
+      aggregator = new PartitionStatusAggregator(offlinePushStatus.getNumberOfPartition());
+      for (int i = 0; i < offlinePushStatus.getNumberOfPartition(); i++) {
+        aggregator.updatePartitionStatus(
+            i,
+            decider.checkPartitionStatus(offlinePushStatus, i, partitionAssignment, callback));
+      }
+      setPartitionStatusAggregator(kafkaTopic, aggregator);
+    } else {
+      aggregator.updatePartitionStatus(
+          partitionId,
+          decider.checkPartitionStatus(offlinePushStatus, partitionId, partitionAssignment, callback));
+    }
+
+    ExecutionStatus status = aggregator.getPushStatus();
+    if (status == ExecutionStatus.ERROR) {
+      return new ExecutionStatusWithDetails(
+          status,
+          decider.getErrorPartitionDetails(aggregator.getFirstErrorPartition()));
+    }
+    if (status == ExecutionStatus.COMPLETED) {
+      return checkPushStatus(offlinePushStatus, partitionAssignment, callback);
+    }
+    return new ExecutionStatusWithDetails(status);
+  }
+
   /**
    * Checking push status based on Venice offlinePush status
    */
@@ -3,6 +3,7 @@ package com.linkedin.venice.pushmonitor;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -33,6 +34,31 @@ public class PushMonitorUtils {
       int partitionCount,
       Optional<String> incrementalPushVersion,
       int maxOfflineInstance) {
+    return getDaVinciPushStatusAndDetails(
+        reader,
+        topicName,
+        partitionCount,
+        incrementalPushVersion,
+        maxOfflineInstance,
+        null);
+  }
+
+  /**
+   * Same as {@link #getDaVinciPushStatusAndDetails(PushStatusStoreReader, String, int, Optional, int)}, except that
+   * the partitions found completed by all their live instances are kept in {@code cachedCompletedPartitions}, along
+   * with the statuses of their instances, so that their statuses aren't read from the push status store again when the
+   * caller checks the same push repeatedly. The liveness of their instances is still checked, so that their dead
+   * instances are counted, and a partition is read again if one of its instances which didn't complete it is alive
+   * again. Instances which join or regress in a cached partition are only seen when it's read again, so all the
+   * partitions are read once more before the push is reported completed. The map is ignored for incremental pushes.
+   */
+  public static ExecutionStatusWithDetails getDaVinciPushStatusAndDetails(
+      PushStatusStoreReader reader,
+      String topicName,
+      int partitionCount,
+      Optional<String> incrementalPushVersion,
+      int maxOfflineInstance,
+      Map<Integer, Map<CharSequence, Integer>> cachedCompletedPartitions) {
     if (reader == null) {
       throw new VeniceException("PushStatusStoreReader is null");
     }
@@ -52,19 +78,46 @@ public class PushMonitorUtils {
     int totalReplicaCount = 0;
     int liveReplicaCount = 0;
     Set<Integer> incompletePartition = new HashSet<>();
+    Map<Integer, Map<CharSequence, Integer>> knownCompletedPartitions =
+        incrementalPushVersion.isPresent() ? null : cachedCompletedPartitions;
+    int skippedPartitions = 0;
+    // The same instance usually hosts many partitions, so its liveness is only checked once.
+    Map<String, Boolean> instanceLiveness = new HashMap<>();
     for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+      Map<CharSequence, Integer> cachedInstances =
+          knownCompletedPartitions == null ? null : knownCompletedPartitions.get(partitionId);
+      if (cachedInstances != null) {
+        int cachedLiveReplicaCount = 0;
+        boolean allLiveInstancesCompleted = true;
+        for (Map.Entry<CharSequence, Integer> entry: cachedInstances.entrySet()) {
+          if (isInstanceAlive(reader, storeName, entry.getKey().toString(), instanceLiveness)) {
+            cachedLiveReplicaCount++;
+            allLiveInstancesCompleted &= ExecutionStatus.fromInt(entry.getValue()) == completeStatus;
+          }
+        }
+        if (allLiveInstancesCompleted && cachedLiveReplicaCount > 0) {
+          skippedPartitions++;
+          completedPartitions++;
+          totalReplicaCount += cachedInstances.size();
+          liveReplicaCount += cachedLiveReplicaCount;
+          continue;
+        }
+        knownCompletedPartitions.remove(partitionId);
+      }
+      int partitionLiveReplicaCount = 0;
       Map<CharSequence, Integer> instances =
           reader.getPartitionStatus(storeName, version, partitionId, incrementalPushVersion);
       boolean allInstancesCompleted = true;
       totalReplicaCount += instances.size();
       for (Map.Entry<CharSequence, Integer> entry: instances.entrySet()) {
         ExecutionStatus status = ExecutionStatus.fromInt(entry.getValue());
-        boolean isInstanceAlive = reader.isInstanceAlive(storeName, entry.getKey().toString());
+        boolean isInstanceAlive = isInstanceAlive(reader, storeName, entry.getKey().toString(), instanceLiveness);
         if (!isInstanceAlive) {
           continue;
         }
         // We only compute status based on live instances.
         liveReplicaCount++;
+        partitionLiveReplicaCount++;
         if (status == completeStatus) {
           continue;
         }
@@ -82,11 +135,24 @@ public class PushMonitorUtils {
       }
       if (allInstancesCompleted) {
         completedPartitions++;
+        if (knownCompletedPartitions != null && partitionLiveReplicaCount > 0) {
+          knownCompletedPartitions.put(partitionId, new HashMap<>(instances));
+        }
       } else {
         incompletePartition.add(partitionId);
       }
     }
-    boolean noDaVinciStatusReported = totalReplicaCount == 0;
+    if (completedPartitions == partitionCount && skippedPartitions > 0) {
+      knownCompletedPartitions.clear();
+      return getDaVinciPushStatusAndDetails(
+          reader,
+          topicName,
+          partitionCount,
+          incrementalPushVersion,
+          maxOfflineInstance,
+          knownCompletedPartitions);
+    }
+    boolean noDaVinciStatusReported = totalReplicaCount == 0 && skippedPartitions == 0;
 
     // Report error if too many davinci instances are not alive for over 5 mins
     if (totalReplicaCount - liveReplicaCount > maxOfflineInstance) {
@@ -151,6 +217,14 @@ public class PushMonitorUtils {
     return new ExecutionStatusWithDetails(ExecutionStatus.STARTED, statusDetail, noDaVinciStatusReported);
   }
 
+  private static boolean isInstanceAlive(
+      PushStatusStoreReader reader,
+      String storeName,
+      String instanceName,
+      Map<String, Boolean> instanceLiveness) {
+    return instanceLiveness.computeIfAbsent(instanceName, instance -> reader.isInstanceAlive(storeName, instance));
+  }
+
   static void setDaVinciErrorInstanceWaitTime(int time) {
     daVinciErrorInstanceWaitTime = time;
   }
@@ -121,8 +121,7 @@ public class PushStatusCollector {
       if (!pushStatus.isMonitoring()) {
         continue;
       }
-      if (pushStatus.getDaVinciStatus() != null && pushStatus.getDaVinciStatus().getStatus().isTerminal()
-          && !pushStatus.getDaVinciStatus().isNoDaVinciStatusReport()) {
+      if (pushStatus.isDaVinciStatusFinal()) {
         resultList.add(CompletableFuture.completedFuture(pushStatus));
       } else {
         resultList.add(CompletableFuture.supplyAsync(() -> {
@@ -131,7 +130,8 @@ public class PushStatusCollector {
               topicName,
               pushStatus.getPartitionCount(),
               Optional.empty(),
-              daVinciPushStatusScanMaxOfflineInstance);
+              daVinciPushStatusScanMaxOfflineInstance,
+              pushStatus.getCompletedDaVinciPartitions());
           pushStatus.setDaVinciStatus(statusWithDetails);
           return pushStatus;
         }, pushStatusStoreScanExecutor));
@@ -170,40 +170,51 @@ public class PushStatusCollector {
           daVinciStatus.getStatus(),
           daVinciStatus.getDetails(),
           pushStatus.topicName);
-      ExecutionStatusWithDetails serverStatus = pushStatus.getServerStatus();
-      if (serverStatus == null) {
-        continue;
-      }
-      LOGGER.info(
-          "Topic {} server push status: {}, Da Vinci push status: {}",
-          pushStatus.getTopicName(),
-          serverStatus.getStatus(),
-          daVinciStatus.getStatus());
-      try {
-        if (serverStatus.getStatus().equals(ExecutionStatus.COMPLETED)
-            && daVinciStatus.getStatus().equals(ExecutionStatus.COMPLETED)) {
-          pushStatus.setMonitoring(false);
+      handleAggregatedPushStatus(pushStatus);
+    }
+  }
+
+  /**
+   * Reports the push once the aggregated status of the server status and the Da Vinci status is terminal. The
+   * handlers are called only once for every push, even if both the scan thread and a server status update find the
+   * terminal status at the same time.
+   */
+  private void handleAggregatedPushStatus(TopicPushStatus pushStatus) {
+    ExecutionStatusWithDetails serverStatus = pushStatus.getServerStatus();
+    ExecutionStatusWithDetails daVinciStatus = pushStatus.getDaVinciStatus();
+    if (serverStatus == null || daVinciStatus == null) {
+      return;
+    }
+    LOGGER.info(
+        "Topic {} server push status: {}, Da Vinci push status: {}",
+        pushStatus.getTopicName(),
+        serverStatus.getStatus(),
+        daVinciStatus.getStatus());
+    try {
+      if (serverStatus.getStatus().equals(ExecutionStatus.COMPLETED)
+          && daVinciStatus.getStatus().equals(ExecutionStatus.COMPLETED)) {
+        if (pushStatus.stopMonitoring()) {
           pushCompletedHandler.accept(pushStatus.getTopicName());
-        } else if (serverStatus.getStatus().equals(ExecutionStatus.ERROR)
-            || daVinciStatus.getStatus().equals(ExecutionStatus.ERROR)) {
-          pushStatus.setMonitoring(false);
-          StringBuilder pushErrorDetailStringBuilder = new StringBuilder();
-          if (serverStatus.getStatus().equals(ExecutionStatus.ERROR)) {
-            pushErrorDetailStringBuilder.append("Server push error: ").append(serverStatus.getDetails()).append("\n");
-          }
-          if (daVinciStatus.getStatus().equals(ExecutionStatus.ERROR)) {
-            pushErrorDetailStringBuilder.append("Da Vinci push error: ")
-                .append(daVinciStatus.getDetails())
-                .append("\n");
-          }
-          pushErrorHandler.accept(pushStatus.getTopicName(), pushErrorDetailStringBuilder.toString());
         }
-      } catch (Exception e) {
-        LOGGER.error(
-            "Caught exception when calling handler for terminal push status for topic: {}",
-            pushStatus.getTopicName(),
-            e);
+      } else if (serverStatus.getStatus().equals(ExecutionStatus.ERROR)
+          || daVinciStatus.getStatus().equals(ExecutionStatus.ERROR)) {
+        if (!pushStatus.stopMonitoring()) {
+          return;
+        }
+        StringBuilder pushErrorDetailStringBuilder = new StringBuilder();
+        if (serverStatus.getStatus().equals(ExecutionStatus.ERROR)) {
+          pushErrorDetailStringBuilder.append("Server push error: ").append(serverStatus.getDetails()).append("\n");
+        }
+        if (daVinciStatus.getStatus().equals(ExecutionStatus.ERROR)) {
+          pushErrorDetailStringBuilder.append("Da Vinci push error: ").append(daVinciStatus.getDetails()).append("\n");
+        }
+        pushErrorHandler.accept(pushStatus.getTopicName(), pushErrorDetailStringBuilder.toString());
       }
+    } catch (Exception e) {
+      LOGGER.error(
+          "Caught exception when calling handler for terminal push status for topic: {}",
+          pushStatus.getTopicName(),
+          e);
     }
   }
 
@@ -221,6 +232,10 @@ public class PushStatusCollector {
       } else if (executionStatus.equals(ExecutionStatus.ERROR)) {
         pushErrorHandler.accept(topicName, detailsString);
       }
+    } else if (executionStatus.isTerminal() && topicPushStatus.isMonitoring()
+        && topicPushStatus.isDaVinciStatusFinal()) {
+      // The Da Vinci status won't be scanned again, so there is no need to wait for the next scan to report the push.
+      handleAggregatedPushStatus(topicPushStatus);
     }
   }
 
@@ -256,14 +271,19 @@ public class PushStatusCollector {
   static class TopicPushStatus {
     private final String topicName;
     private final int partitionCount;
-    private ExecutionStatusWithDetails serverStatus;
-    private ExecutionStatusWithDetails daVinciStatus;
+    private volatile ExecutionStatusWithDetails serverStatus;
+    private volatile ExecutionStatusWithDetails daVinciStatus;
+    /**
+     * The partitions completed by all the live Da Vinci instances, along with the statuses of their instances, which
+     * don't need to be read again.
+     */
+    private final Map<Integer, Map<CharSequence, Integer>> completedDaVinciPartitions = new VeniceConcurrentHashMap<>();
 
-    private boolean isMonitoring;
+    private final AtomicBoolean isMonitoring;
 
     public TopicPushStatus(String topicName, int partitionCount) {
       this.partitionCount = partitionCount;
-      this.isMonitoring = true;
+      this.isMonitoring = new AtomicBoolean(true);
       this.topicName = topicName;
     }
 
@@ -272,11 +292,30 @@ public class PushStatusCollector {
     }
 
     public void setMonitoring(boolean monitoring) {
-      isMonitoring = monitoring;
+      isMonitoring.set(monitoring);
     }
 
     public boolean isMonitoring() {
-      return isMonitoring;
+      return isMonitoring.get();
+    }
+
+    /**
+     * @return true if the push was being monitored, and this is the call that stopped it.
+     */
+    public boolean stopMonitoring() {
+      return isMonitoring.compareAndSet(true, false);
+    }
+
+    public Map<Integer, Map<CharSequence, Integer>> getCompletedDaVinciPartitions() {
+      return completedDaVinciPartitions;
+    }
+
+    /**
+     * @return true if the Da Vinci status is terminal and won't be scanned again.
+     */
+    public boolean isDaVinciStatusFinal() {
+      ExecutionStatusWithDetails status = daVinciStatus;
+      return status != null && status.getStatus().isTerminal() && !status.isNoDaVinciStatusReport();
     }
 
     public void setServerStatus(ExecutionStatusWithDetails serverStatus) {
@@ -24,6 +24,7 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.controller.kafka.AdminTopicUtils;
 import com.linkedin.venice.controller.kafka.consumer.AdminConsumptionTask;
 import com.linkedin.venice.controller.kafka.protocol.admin.AdminOperation;
+import com.linkedin.venice.controller.kafka.protocol.admin.BulkUpdateStore;
 import com.linkedin.venice.controller.kafka.protocol.admin.DeleteStore;
 import com.linkedin.venice.controller.kafka.protocol.admin.DerivedSchemaCreation;
 import com.linkedin.venice.controller.kafka.protocol.admin.DisableStoreRead;
@@ -1686,6 +1687,47 @@ public class TestVeniceParentHelixAdmin extends AbstractTestVeniceParentHelixAdm
 
   }
 
+  @Test
+  public void testUpdateStores() {
+    String storeNameA = Utils.getUniqueString("testUpdateStoresA");
+    String storeNameB = Utils.getUniqueString("testUpdateStoresB");
+    doReturn(TestUtils.createTestStore(storeNameA, "test", System.currentTimeMillis())).when(internalAdmin)
+        .getStore(clusterName, storeNameA);
+    doReturn(TestUtils.createTestStore(storeNameB, "test", System.currentTimeMillis())).when(internalAdmin)
+        .getStore(clusterName, storeNameB);
+
+    doReturn(CompletableFuture.completedFuture(new SimplePubSubProduceResultImpl(topicName, partitionId, 1, -1)))
+        .when(veniceWriter)
+        .put(any(), any(), anyInt());
+
+    when(zkClient.readData(zkMetadataNodePath, null)).thenReturn(null)
+        .thenReturn(AdminTopicMetadataAccessor.generateMetadataMap(1, -1, 1));
+
+    parentAdmin.initStorageCluster(clusterName);
+    parentAdmin.updateStores(
+        clusterName,
+        Arrays.asList(storeNameB, storeNameA, storeNameB),
+        new UpdateStoreQueryParams().setReadQuotaInCU(100L));
+
+    // All the stores should be updated by a single admin message.
+    ArgumentCaptor<byte[]> valueCaptor = ArgumentCaptor.forClass(byte[].class);
+    ArgumentCaptor<Integer> schemaCaptor = ArgumentCaptor.forClass(Integer.class);
+    verify(veniceWriter).put(any(), valueCaptor.capture(), schemaCaptor.capture());
+    AdminOperation adminMessage =
+        adminOperationSerializer.deserialize(ByteBuffer.wrap(valueCaptor.getValue()), schemaCaptor.getValue());
+    Assert.assertEquals(adminMessage.operationType, AdminMessageType.BULK_UPDATE_STORE.getValue());
+
+    BulkUpdateStore bulkUpdateStore = (BulkUpdateStore) adminMessage.payloadUnion;
+    Assert.assertEquals(bulkUpdateStore.clusterName.toString(), clusterName);
+    Assert.assertEquals(bulkUpdateStore.updates.size(), 2);
+    // The stores are updated in the order of their names.
+    Assert.assertEquals(bulkUpdateStore.updates.get(0).storeName.toString(), storeNameA);
+    Assert.assertEquals(bulkUpdateStore.updates.get(1).storeName.toString(), storeNameB);
+    for (UpdateStore updateStore: bulkUpdateStore.updates) {
+      Assert.assertEquals(updateStore.readQuotaInCU, 100L);
+    }
+  }
+
   @Test
   public void testUpdateStore() {
     String storeName = Utils.getUniqueString("testUpdateStore");
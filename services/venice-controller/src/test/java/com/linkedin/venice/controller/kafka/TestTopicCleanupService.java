@@ -24,6 +24,7 @@ import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -181,6 +182,34 @@ public class TestTopicCleanupService {
     verify(topicManager, atLeastOnce()).ensureTopicIsDeletedAndBlockWithRetry(getPubSubTopic(storeName1, "_rt"));
   }
 
+  @Test
+  public void testCleanupStagedSstFilesWithVersionTopic() throws Exception {
+    String storeName = Utils.getUniqueString("store");
+    File stagingDir = Utils.getTempDataDirectory();
+    File deletedVersionDir = new File(stagingDir, storeName + "_v1");
+    File currentVersionDir = new File(stagingDir, storeName + "_v2");
+    assertTrue(new File(deletedVersionDir, "sst_0").mkdirs());
+    assertTrue(currentVersionDir.mkdirs());
+
+    VeniceControllerMultiClusterConfig config = mock(VeniceControllerMultiClusterConfig.class);
+    doReturn(stagingDir.toURI().toString()).when(config).getSstBulkLoadStagingDir();
+    TopicCleanupService service = new TopicCleanupService(admin, config, pubSubTopicRepository);
+
+    Map<PubSubTopic, Long> storeTopics = new HashMap<>();
+    storeTopics.put(getPubSubTopic(storeName, "_v1"), 1000L);
+    storeTopics.put(getPubSubTopic(storeName, "_v2"), Long.MAX_VALUE);
+    doReturn(storeTopics).when(topicManager).getAllTopicRetentions();
+    doReturn(false).when(admin).isTopicTruncatedBasedOnRetention(Long.MAX_VALUE);
+    doReturn(true).when(admin).isTopicTruncatedBasedOnRetention(1000L);
+    doReturn(Optional.of(new StoreConfig(storeName))).when(storeConfigRepository).getStoreConfig(storeName);
+
+    service.cleanupVeniceTopics();
+
+    verify(topicManager).ensureTopicIsDeletedAndBlockWithRetry(getPubSubTopic(storeName, "_v1"));
+    assertFalse(deletedVersionDir.exists());
+    assertTrue(currentVersionDir.exists());
+  }
+
   private PubSubTopic getPubSubTopic(String storeName, String suffix) {
     return pubSubTopicRepository.getTopic(storeName + suffix);
   }
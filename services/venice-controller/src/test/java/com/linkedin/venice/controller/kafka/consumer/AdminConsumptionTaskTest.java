@@ -13,6 +13,7 @@ import static com.linkedin.venice.controllerapi.ControllerApiConstants.PARTITION
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.PARTITIONER_PARAMS;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.PARTITION_COUNT;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.READ_COMPUTATION_ENABLED;
+import static com.linkedin.venice.controllerapi.ControllerApiConstants.READ_QUOTA_IN_CU;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.REWIND_TIME_IN_SECONDS;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.STORE_MIGRATION;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.TIME_LAG_TO_GO_ONLINE;
@@ -45,6 +46,7 @@ import com.linkedin.venice.controller.VeniceHelixAdmin;
 import com.linkedin.venice.controller.kafka.AdminTopicUtils;
 import com.linkedin.venice.controller.kafka.protocol.admin.AddVersion;
 import com.linkedin.venice.controller.kafka.protocol.admin.AdminOperation;
+import com.linkedin.venice.controller.kafka.protocol.admin.BulkUpdateStore;
 import com.linkedin.venice.controller.kafka.protocol.admin.DerivedSchemaCreation;
 import com.linkedin.venice.controller.kafka.protocol.admin.ETLStoreConfigRecord;
 import com.linkedin.venice.controller.kafka.protocol.admin.HybridStoreConfigRecord;
@@ -110,6 +112,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -1051,6 +1054,56 @@ public class AdminConsumptionTaskTest {
     verify(admin, times(1)).createStore(clusterName, storeName2, owner, keySchema, valueSchema, false);
   }
 
+  @Test(timeOut = TIMEOUT)
+  public void testBulkUpdateStore() throws Exception {
+    String storeName1 = Utils.getUniqueString("test_store1");
+    String storeName2 = Utils.getUniqueString("test_store2");
+    veniceWriter.put(
+        emptyKeyBytes,
+        getStoreCreationMessage(clusterName, storeName1, owner, keySchema, valueSchema, 1),
+        AdminOperationSerializer.LATEST_SCHEMA_ID_FOR_ADMIN_OPERATION);
+    veniceWriter.put(
+        emptyKeyBytes,
+        getStoreCreationMessage(clusterName, storeName2, owner, keySchema, valueSchema, 2),
+        AdminOperationSerializer.LATEST_SCHEMA_ID_FOR_ADMIN_OPERATION);
+    veniceWriter.put(
+        emptyKeyBytes,
+        getBulkUpdateStoreMessage(clusterName, Arrays.asList(storeName1, storeName2), 100L, 3),
+        AdminOperationSerializer.LATEST_SCHEMA_ID_FOR_ADMIN_OPERATION);
+
+    // The update of the first store keeps failing, which shouldn't block the update of the second store.
+    doThrow(new VeniceException("Mock store update exception")).when(admin)
+        .updateStore(eq(clusterName), eq(storeName1), any());
+
+    AdminConsumptionTask task = getAdminConsumptionTask(new RandomPollStrategy(), false);
+    executor.submit(task);
+    TestUtils.waitForNonDeterministicAssertion(
+        TIMEOUT,
+        TimeUnit.MILLISECONDS,
+        () -> Assert.assertEquals(
+            executionIdAccessor.getLastSucceededExecutionIdMap(clusterName).getOrDefault(storeName2, -1L).longValue(),
+            3L));
+    TestUtils.waitForNonDeterministicAssertion(
+        TIMEOUT,
+        TimeUnit.MILLISECONDS,
+        () -> Assert.assertEquals(task.getFailingOffset(), 3L));
+    Assert.assertEquals(
+        executionIdAccessor.getLastSucceededExecutionIdMap(clusterName).getOrDefault(storeName1, -1L).longValue(),
+        1L);
+    task.close();
+    executor.shutdown();
+    executor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS);
+
+    verify(admin, atLeastOnce()).updateStore(
+        eq(clusterName),
+        eq(storeName1),
+        argThat(updateStoreQueryParams -> updateStoreQueryParams.getReadQuotaInCU().get() == 100L));
+    verify(admin, times(1)).updateStore(
+        eq(clusterName),
+        eq(storeName2),
+        argThat(updateStoreQueryParams -> updateStoreQueryParams.getReadQuotaInCU().get() == 100L));
+  }
+
   @Test
   public void testResubscribe() throws IOException, InterruptedException, TimeoutException, ExecutionException {
     AdminConsumptionTask task = getAdminConsumptionTask(new RandomPollStrategy(), false);
@@ -1452,6 +1505,31 @@ public class AdminConsumptionTaskTest {
     return adminOperationSerializer.serialize(adminMessage);
   }
 
+  private byte[] getBulkUpdateStoreMessage(
+      String clusterName,
+      List<String> storeNames,
+      long readQuotaInCU,
+      long executionId) {
+    BulkUpdateStore bulkUpdateStore = (BulkUpdateStore) AdminMessageType.BULK_UPDATE_STORE.getNewInstance();
+    bulkUpdateStore.clusterName = clusterName;
+    bulkUpdateStore.updates = new ArrayList<>();
+    for (String storeName: storeNames) {
+      UpdateStore updateStore = (UpdateStore) AdminMessageType.UPDATE_STORE.getNewInstance();
+      updateStore.clusterName = clusterName;
+      updateStore.storeName = storeName;
+      updateStore.owner = owner;
+      updateStore.readQuotaInCU = readQuotaInCU;
+      updateStore.replicateAllConfigs = false;
+      updateStore.updatedConfigsList = Collections.singletonList(READ_QUOTA_IN_CU);
+      bulkUpdateStore.updates.add(updateStore);
+    }
+    AdminOperation adminMessage = new AdminOperation();
+    adminMessage.operationType = AdminMessageType.BULK_UPDATE_STORE.getValue();
+    adminMessage.payloadUnion = bulkUpdateStore;
+    adminMessage.executionId = executionId;
+    return adminOperationSerializer.serialize(adminMessage);
+  }
+
   private byte[] getKillOfflinePushJobMessage(String clusterName, String kafkaTopic, long executionId) {
     KillOfflinePushJob killJob = (KillOfflinePushJob) AdminMessageType.KILL_OFFLINE_PUSH_JOB.getNewInstance();
     killJob.clusterName = clusterName;
@@ -0,0 +1,54 @@
+package com.linkedin.venice.pushmonitor;
+
+import static com.linkedin.venice.pushmonitor.ExecutionStatus.COMPLETED;
+import static com.linkedin.venice.pushmonitor.ExecutionStatus.END_OF_PUSH_RECEIVED;
+import static com.linkedin.venice.pushmonitor.ExecutionStatus.ERROR;
+import static com.linkedin.venice.pushmonitor.ExecutionStatus.STARTED;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class PartitionStatusAggregatorTest {
+  @Test
+  public void testAggregatePartitionStatuses() {
+    PartitionStatusAggregator aggregator = new PartitionStatusAggregator(3);
+    aggregator.updatePartitionStatus(0, STARTED);
+    aggregator.updatePartitionStatus(1, STARTED);
+    aggregator.updatePartitionStatus(2, STARTED);
+    Assert.assertEquals(aggregator.getPushStatus(), STARTED);
+
+    aggregator.updatePartitionStatus(0, COMPLETED);
+    aggregator.updatePartitionStatus(1, END_OF_PUSH_RECEIVED);
+    Assert.assertEquals(aggregator.getPushStatus(), STARTED);
+    aggregator.updatePartitionStatus(2, END_OF_PUSH_RECEIVED);
+    Assert.assertEquals(aggregator.getPushStatus(), END_OF_PUSH_RECEIVED);
+
+    aggregator.updatePartitionStatus(1, COMPLETED);
+    // Updating a partition to the same status again shouldn't change the counts.
+    aggregator.updatePartitionStatus(1, COMPLETED);
+    Assert.assertEquals(aggregator.getPushStatus(), END_OF_PUSH_RECEIVED);
+    aggregator.updatePartitionStatus(2, COMPLETED);
+    Assert.assertEquals(aggregator.getPushStatus(), COMPLETED);
+    Assert.assertEquals(aggregator.getFirstErrorPartition(), -1);
+  }
+
+  @Test
+  public void testErrorPartitions() {
+    PartitionStatusAggregator aggregator = new PartitionStatusAggregator(3);
+    aggregator.updatePartitionStatus(0, COMPLETED);
+    aggregator.updatePartitionStatus(1, STARTED);
+    aggregator.updatePartitionStatus(2, ERROR);
+    Assert.assertEquals(aggregator.getPushStatus(), ERROR);
+    Assert.assertEquals(aggregator.getFirstErrorPartition(), 2);
+
+    aggregator.updatePartitionStatus(1, ERROR);
+    Assert.assertEquals(aggregator.getFirstErrorPartition(), 1);
+
+    // The partitions could recover once the errored replicas are disabled.
+    aggregator.updatePartitionStatus(1, COMPLETED);
+    aggregator.updatePartitionStatus(2, COMPLETED);
+    Assert.assertEquals(aggregator.getPushStatus(), COMPLETED);
+    Assert.assertEquals(aggregator.getFirstErrorPartition(), -1);
+  }
+}
@@ -3,9 +3,14 @@ package com.linkedin.venice.pushmonitor;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import org.testng.Assert;
@@ -37,4 +42,84 @@ public class PushMonitorUtilsTest {
     Assert.assertEquals(executionStatusWithDetails.getStatus(), ExecutionStatus.ERROR);
     Assert.assertEquals(executionStatusWithDetails.getDetails(), " Too many dead instances: 3, total instances: 4");
   }
+
+  @Test
+  public void testDaVinciPushStatusScanSkipsCompletedPartitions() {
+    String topicName = "store_v1";
+    PushStatusStoreReader reader = mock(PushStatusStoreReader.class);
+    doReturn(Collections.singletonMap("a", ExecutionStatus.COMPLETED.getValue())).when(reader)
+        .getPartitionStatus("store", 1, 0, Optional.empty());
+    doReturn(Collections.singletonMap("a", ExecutionStatus.STARTED.getValue())).when(reader)
+        .getPartitionStatus("store", 1, 1, Optional.empty());
+    doReturn(true).when(reader).isInstanceAlive(eq("store"), eq("a"));
+
+    Map<Integer, Map<CharSequence, Integer>> completedPartitions = new HashMap<>();
+    ExecutionStatusWithDetails executionStatusWithDetails = PushMonitorUtils
+        .getDaVinciPushStatusAndDetails(reader, topicName, 2, Optional.empty(), 2, completedPartitions);
+    Assert.assertEquals(executionStatusWithDetails.getStatus(), ExecutionStatus.STARTED);
+    Assert.assertEquals(completedPartitions.keySet(), Collections.singleton(0));
+
+    executionStatusWithDetails = PushMonitorUtils
+        .getDaVinciPushStatusAndDetails(reader, topicName, 2, Optional.empty(), 2, completedPartitions);
+    Assert.assertEquals(executionStatusWithDetails.getStatus(), ExecutionStatus.STARTED);
+    // The completed partition isn't read again.
+    verify(reader, times(1)).getPartitionStatus("store", 1, 0, Optional.empty());
+    verify(reader, times(2)).getPartitionStatus("store", 1, 1, Optional.empty());
+
+    // All the partitions are read once more before the push is reported completed.
+    doReturn(Collections.singletonMap("a", ExecutionStatus.COMPLETED.getValue())).when(reader)
+        .getPartitionStatus("store", 1, 1, Optional.empty());
+    executionStatusWithDetails = PushMonitorUtils
+        .getDaVinciPushStatusAndDetails(reader, topicName, 2, Optional.empty(), 2, completedPartitions);
+    Assert.assertEquals(executionStatusWithDetails.getStatus(), ExecutionStatus.COMPLETED);
+    Assert.assertFalse(executionStatusWithDetails.isNoDaVinciStatusReport());
+    Assert.assertEquals(completedPartitions.keySet(), new HashSet<>(Arrays.asList(0, 1)));
+    verify(reader, times(2)).getPartitionStatus("store", 1, 0, Optional.empty());
+    verify(reader, times(4)).getPartitionStatus("store", 1, 1, Optional.empty());
+  }
+
+  @Test
+  public void testDaVinciPushStatusScanChecksLivenessOfCompletedPartitions() {
+    String topicName = "store_v1";
+    PushMonitorUtils.setDaVinciErrorInstanceWaitTime(0);
+    PushStatusStoreReader reader = mock(PushStatusStoreReader.class);
+    Map<CharSequence, Integer> instances = new HashMap<>();
+    instances.put("a", ExecutionStatus.COMPLETED.getValue());
+    instances.put("b", ExecutionStatus.COMPLETED.getValue());
+    instances.put("c", ExecutionStatus.COMPLETED.getValue());
+    instances.put("d", ExecutionStatus.STARTED.getValue());
+    doReturn(instances).when(reader).getPartitionStatus("store", 1, 0, Optional.empty());
+    doReturn(Collections.singletonMap("a", ExecutionStatus.STARTED.getValue())).when(reader)
+        .getPartitionStatus("store", 1, 1, Optional.empty());
+    doReturn(true).when(reader).isInstanceAlive(eq("store"), eq("a"));
+    doReturn(true).when(reader).isInstanceAlive(eq("store"), eq("b"));
+    doReturn(true).when(reader).isInstanceAlive(eq("store"), eq("c"));
+    doReturn(false).when(reader).isInstanceAlive(eq("store"), eq("d"));
+
+    Map<Integer, Map<CharSequence, Integer>> completedPartitions = new HashMap<>();
+    ExecutionStatusWithDetails executionStatusWithDetails = PushMonitorUtils
+        .getDaVinciPushStatusAndDetails(reader, topicName, 2, Optional.empty(), 1, completedPartitions);
+    Assert.assertEquals(executionStatusWithDetails.getStatus(), ExecutionStatus.STARTED);
+    Assert.assertEquals(completedPartitions.keySet(), Collections.singleton(0));
+    // The liveness of every instance is only checked once per scan.
+    verify(reader, times(1)).isInstanceAlive("store", "a");
+
+    // The instances of the cached partition which died are still counted as dead instances.
+    doReturn(false).when(reader).isInstanceAlive(eq("store"), eq("b"));
+    PushMonitorUtils.getDaVinciPushStatusAndDetails(reader, topicName, 2, Optional.empty(), 1, completedPartitions);
+    executionStatusWithDetails = PushMonitorUtils
+        .getDaVinciPushStatusAndDetails(reader, topicName, 2, Optional.empty(), 1, completedPartitions);
+    Assert.assertEquals(executionStatusWithDetails.getStatus(), ExecutionStatus.ERROR);
+    Assert.assertEquals(executionStatusWithDetails.getDetails(), " Too many dead instances: 2, total instances: 5");
+    verify(reader, times(1)).getPartitionStatus("store", 1, 0, Optional.empty());
+
+    // The cached partition is read again once the instance which didn't complete it is alive again.
+    doReturn(true).when(reader).isInstanceAlive(eq("store"), eq("b"));
+    doReturn(true).when(reader).isInstanceAlive(eq("store"), eq("d"));
+    executionStatusWithDetails = PushMonitorUtils
+        .getDaVinciPushStatusAndDetails(reader, topicName, 2, Optional.empty(), 1, completedPartitions);
+    Assert.assertEquals(executionStatusWithDetails.getStatus(), ExecutionStatus.STARTED);
+    Assert.assertTrue(completedPartitions.isEmpty());
+    verify(reader, times(2)).getPartitionStatus("store", 1, 0, Optional.empty());
+  }
 }
@@ -40,6 +40,7 @@ import com.linkedin.venice.router.api.MetaStoreShadowReader;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
 import com.linkedin.venice.router.api.RouterHeartbeat;
 import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.api.SingleGetRequestCoalescer;
 import com.linkedin.venice.router.api.VeniceDelegateMode;
 import com.linkedin.venice.router.api.VeniceDispatcher;
 import com.linkedin.venice.router.api.VeniceHostFinder;
@@ -53,8 +54,10 @@ import com.linkedin.venice.router.api.VeniceRoleFinder;
 import com.linkedin.venice.router.api.VeniceVersionFinder;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
+import com.linkedin.venice.router.cache.RouterCache;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
 import com.linkedin.venice.router.httpclient.HttpClient5StorageNodeClient;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AdminOperationsStats;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -69,10 +72,12 @@ import com.linkedin.venice.router.stats.StaleVersionStats;
 import com.linkedin.venice.router.streaming.VeniceChunkedWriteHandler;
 import com.linkedin.venice.router.throttle.ReadRequestThrottler;
 import com.linkedin.venice.router.throttle.RouterThrottler;
+import com.linkedin.venice.router.throttle.StorageNodeConcurrencyLimiter;
 import com.linkedin.venice.router.utils.VeniceRouterUtils;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.servicediscovery.ServiceDiscoveryAnnouncer;
+import com.linkedin.venice.stats.RateLimitedLogStats;
 import com.linkedin.venice.stats.TehutiUtils;
 import com.linkedin.venice.stats.VeniceJVMStats;
 import com.linkedin.venice.stats.ZkClientStatusStats;
@@ -88,8 +93,10 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultithreadEventLoopGroup;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.net.InetSocketAddress;
@@ -159,6 +166,7 @@ public class RouterServer extends AbstractVeniceService {
   private Router secureRouter;
   private DictionaryRetrievalService dictionaryRetrievalService;
   private RouterThrottler readRequestThrottler;
+  private RouterCache routerCache;
 
   private MultithreadEventLoopGroup workerEventLoopGroup;
   private MultithreadEventLoopGroup serverEventLoopGroup;
@@ -281,7 +289,8 @@ public class RouterServer extends AbstractVeniceService {
             requestType,
             config.isKeyValueProfilingEnabled(),
             metadataRepository,
-            config.isUnregisterMetricForDeletedStoreEnabled()));
+            config.isUnregisterMetricForDeletedStoreEnabled(),
+            config.isConcurrentHistogramStatsEnabled()));
     this.schemaRepository = new HelixReadOnlySchemaRepositoryAdapter(
         new HelixReadOnlyZKSharedSchemaRepository(
             readOnlyZKSharedSystemStoreRepository,
@@ -369,7 +378,8 @@ public class RouterServer extends AbstractVeniceService {
             requestType,
             config.isKeyValueProfilingEnabled(),
             metadataRepository,
-            config.isUnregisterMetricForDeletedStoreEnabled()));
+            config.isUnregisterMetricForDeletedStoreEnabled(),
+            config.isConcurrentHistogramStatsEnabled()));
     this.schemaRepository = schemaRepository;
     this.storeConfigRepository = storeConfigRepository;
     this.liveInstanceMonitor = liveInstanceMonitor;
@@ -388,6 +398,9 @@ public class RouterServer extends AbstractVeniceService {
         TimeUnit.SECONDS.toMillis(config.getRouterNettyGracefulShutdownPeriodSeconds() * 2L));
 
     jvmStats = new VeniceJVMStats(metricsRepository, "VeniceJVMStats");
+    RateLimitedLogStats rateLimitedLogStats = new RateLimitedLogStats(metricsRepository, "router_rate_limited_log");
+    rateLimitedLogStats.registerLog("no_ready_host", VeniceHostFinder.NO_READY_HOST_LOG);
+    rateLimitedLogStats.registerLog("no_healthy_host", VeniceHostFinder.NO_HEALTHY_HOST_LOG);
 
     metadataRepository.refresh();
     storeConfigRepository.refresh();
@@ -413,7 +426,10 @@ public class RouterServer extends AbstractVeniceService {
         sslFactoryForRequests = sslFactory;
       }
     }
-    VenicePartitionFinder partitionFinder = new VenicePartitionFinder(routingDataRepository, metadataRepository);
+    VenicePartitionFinder partitionFinder = new VenicePartitionFinder(
+        routingDataRepository,
+        metadataRepository,
+        config.isMultiKeySubPartitionResolutionEnabled());
     Class<? extends AbstractChannel> serverSocketChannelClass;
     boolean useEpoll = true;
     try {
@@ -438,6 +454,14 @@ public class RouterServer extends AbstractVeniceService {
         LOGGER.info("Router will use HTTP CLIENT5");
         storageNodeClient = new HttpClient5StorageNodeClient(sslFactoryForRequests, config);
         break;
+      case NETTY_HTTP2_CLIENT:
+        LOGGER.info("Router will use Netty HTTP/2 client");
+        storageNodeClient = new NettyHttp2StorageNodeClient(
+            sslFactoryForRequests,
+            config,
+            workerEventLoopGroup,
+            useEpoll ? EpollSocketChannel.class : NioSocketChannel.class);
+        break;
       default:
         throw new VeniceException(
             "Router client type " + config.getStorageNodeClientType().toString() + " is not supported!");
@@ -458,6 +482,27 @@ public class RouterServer extends AbstractVeniceService {
         routerStats);
     scatterGatherMode = new VeniceDelegateMode(config, routerStats, routeHttpRequestStats);
 
+    if (config.isSingleGetCacheEnabled()) {
+      routerCache = new RouterCache(config, metadataRepository, metricsRepository);
+      dispatcher.initRouterCache(routerCache);
+      scatterGatherMode.initRouterCache(routerCache);
+    }
+
+    if (config.isSingleGetCoalescingEnabled()) {
+      dispatcher.initSingleGetRequestCoalescer(
+          new SingleGetRequestCoalescer(routerStats.getStatsByType(RequestType.SINGLE_GET)));
+    }
+
+    if (config.isAdaptiveConcurrencyLimitEnabled()) {
+      StorageNodeConcurrencyLimiter concurrencyLimiter = new StorageNodeConcurrencyLimiter(
+          config.getAdaptiveConcurrencyLimitInitial(),
+          config.getAdaptiveConcurrencyLimitMin(),
+          config.getAdaptiveConcurrencyLimitMax(),
+          config.getAdaptiveConcurrencyLimitLatencyTolerance());
+      dispatcher.initConcurrencyLimiter(concurrencyLimiter);
+      healthMonitor.initConcurrencyLimiter(concurrencyLimiter);
+    }
+
     if (config.isRouterHeartBeatEnabled()) {
       heartbeat =
           new RouterHeartbeat(liveInstanceMonitor, healthMonitor, config, sslFactoryForRequests, storageNodeClient);
@@ -787,6 +832,9 @@ public class RouterServer extends AbstractVeniceService {
     }
 
     dispatcher.stop();
+    if (routerCache != null) {
+      routerCache.close();
+    }
 
     router.ifPresent(Router::shutdown);
     secureRouter.shutdown();
@@ -900,6 +948,7 @@ public class RouterServer extends AbstractVeniceService {
 
       // Setup read requests throttler.
       scatterGatherMode.initReadRequestThrottler(readRequestThrottler);
+      responseAggregator.initReadRequestThrottler(readRequestThrottler);
       setReadRequestThrottling(config.isReadThrottlingEnabled());
 
       if (config.getMultiKeyRoutingStrategy().equals(VeniceMultiKeyRoutingStrategy.HELIX_ASSISTED_ROUTING)) {
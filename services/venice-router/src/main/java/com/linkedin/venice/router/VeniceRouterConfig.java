@@ -16,6 +16,11 @@ import static com.linkedin.venice.ConfigKeys.LISTENER_SSL_PORT;
 import static com.linkedin.venice.ConfigKeys.MAX_READ_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.REFRESH_ATTEMPTS_FOR_ZK_RECONNECT;
 import static com.linkedin.venice.ConfigKeys.REFRESH_INTERVAL_FOR_ZK_RECONNECT_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_LATENCY_TOLERANCE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MAX;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MIN;
 import static com.linkedin.venice.ConfigKeys.ROUTER_ASYNC_START_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_DECOMPRESSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_ATTEMPTS;
@@ -23,6 +28,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_BACKOFF
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_THREADS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_COMPUTE_FAST_AVRO_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_COMPUTE_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_CONCURRENT_HISTOGRAM_STATS_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CONNECTION_LIMIT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CONNECTION_TIMEOUT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_DICTIONARY_PROCESSING_THREADS;
@@ -70,6 +76,8 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_READ_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_META_STORE_SHADOW_READ_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTIGET_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_ROUTING_STRATEGY;
+import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_SUB_PARTITION_RESOLUTION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_CLIENT_MAX_PENDING_ACQUIRES;
 import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_ENABLED;
@@ -78,6 +86,10 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORE_ROUTER_QUOTA_BUFFE
 import static com.linkedin.venice.ConfigKeys.ROUTER_QUOTA_CHECK_WINDOW;
 import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_CACHE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_CACHE_HYBRID_STORE_TTL_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_CACHE_STORE_SIZE_MAP;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_COALESCING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SOCKET_TIMEOUT;
@@ -105,6 +117,7 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -198,6 +211,7 @@ public class VeniceRouterConfig {
   private int httpClient5PoolSize;
   private int httpClient5TotalIOThreadCount;
   private boolean httpClient5SkipCipherCheck;
+  private int nettyClientMaxPendingAcquires;
   private boolean http2InboundEnabled;
   private int http2MaxConcurrentStreams;
   private int http2MaxFrameSize;
@@ -206,9 +220,20 @@ public class VeniceRouterConfig {
   private int http2MaxHeaderListSize;
   private boolean metaStoreShadowReadEnabled;
   private boolean unregisterMetricForDeletedStoreEnabled;
+  private boolean concurrentHistogramStatsEnabled;
   private int routerIOWorkerCount;
   private double perStoreRouterQuotaBuffer;
   private boolean httpClientOpensslEnabled;
+  private boolean singleGetCacheEnabled;
+  private Map<String, Long> singleGetCacheStoreSizeMap;
+  private long singleGetCacheHybridStoreTtlMs;
+  private boolean singleGetCoalescingEnabled;
+  private boolean multiKeySubPartitionResolutionEnabled;
+  private boolean adaptiveConcurrencyLimitEnabled;
+  private int adaptiveConcurrencyLimitInitial;
+  private int adaptiveConcurrencyLimitMin;
+  private int adaptiveConcurrencyLimitMax;
+  private double adaptiveConcurrencyLimitLatencyTolerance;
 
   public VeniceRouterConfig(VeniceProperties props) {
     try {
@@ -370,6 +395,7 @@ public class VeniceRouterConfig {
     httpClient5TotalIOThreadCount =
         props.getInt(ROUTER_HTTP_CLIENT5_TOTAL_IO_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
     httpClient5SkipCipherCheck = props.getBoolean(ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED, false);
+    nettyClientMaxPendingAcquires = props.getInt(ROUTER_NETTY_CLIENT_MAX_PENDING_ACQUIRES, 1000);
     http2InboundEnabled = props.getBoolean(ROUTER_HTTP2_INBOUND_ENABLED, false);
     http2MaxConcurrentStreams = props.getInt(ROUTER_HTTP2_MAX_CONCURRENT_STREAMS, 100);
     http2MaxFrameSize = props.getInt(ROUTER_HTTP2_MAX_FRAME_SIZE, 8 * 1024 * 1024);
@@ -379,6 +405,7 @@ public class VeniceRouterConfig {
 
     metaStoreShadowReadEnabled = props.getBoolean(ROUTER_META_STORE_SHADOW_READ_ENABLED, false);
     unregisterMetricForDeletedStoreEnabled = props.getBoolean(UNREGISTER_METRIC_FOR_DELETED_STORE_ENABLED, false);
+    concurrentHistogramStatsEnabled = props.getBoolean(ROUTER_CONCURRENT_HISTOGRAM_STATS_ENABLED, false);
     /**
      * This config is used to maintain the existing io thread count being used by Router, and we
      * should consider to use some number, which is proportional to the available cores.
@@ -386,6 +413,19 @@ public class VeniceRouterConfig {
     routerIOWorkerCount = props.getInt(ROUTER_IO_WORKER_COUNT, 24);
     perStoreRouterQuotaBuffer = props.getDouble(ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER, 1.5);
     httpClientOpensslEnabled = props.getBoolean(ROUTER_HTTP_CLIENT_OPENSSL_ENABLED, true);
+    singleGetCacheEnabled = props.getBoolean(ROUTER_SINGLE_GET_CACHE_ENABLED, false);
+    singleGetCacheStoreSizeMap =
+        parseSingleGetCacheStoreSizeMap(props.getMap(ROUTER_SINGLE_GET_CACHE_STORE_SIZE_MAP, Collections.emptyMap()));
+    singleGetCacheHybridStoreTtlMs =
+        props.getLong(ROUTER_SINGLE_GET_CACHE_HYBRID_STORE_TTL_MS, TimeUnit.SECONDS.toMillis(10));
+    singleGetCoalescingEnabled = props.getBoolean(ROUTER_SINGLE_GET_COALESCING_ENABLED, false);
+    multiKeySubPartitionResolutionEnabled = props.getBoolean(ROUTER_MULTI_KEY_SUB_PARTITION_RESOLUTION_ENABLED, false);
+    adaptiveConcurrencyLimitEnabled = props.getBoolean(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED, false);
+    adaptiveConcurrencyLimitInitial = props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL, 100);
+    adaptiveConcurrencyLimitMin = props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MIN, 10);
+    adaptiveConcurrencyLimitMax = props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MAX, 1000);
+    adaptiveConcurrencyLimitLatencyTolerance =
+        props.getDouble(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_LATENCY_TOLERANCE, 2.0);
   }
 
   public double getPerStoreRouterQuotaBuffer() {
@@ -789,6 +829,10 @@ public class VeniceRouterConfig {
     return httpClient5SkipCipherCheck;
   }
 
+  public int getNettyClientMaxPendingAcquires() {
+    return nettyClientMaxPendingAcquires;
+  }
+
   public boolean isHttp2InboundEnabled() {
     return http2InboundEnabled;
   }
@@ -821,6 +865,10 @@ public class VeniceRouterConfig {
     return unregisterMetricForDeletedStoreEnabled;
   }
 
+  public boolean isConcurrentHistogramStatsEnabled() {
+    return concurrentHistogramStatsEnabled;
+  }
+
   public int getRouterIOWorkerCount() {
     return routerIOWorkerCount;
   }
@@ -828,4 +876,58 @@ public class VeniceRouterConfig {
   public boolean isHttpClientOpensslEnabled() {
     return httpClientOpensslEnabled;
   }
+
+  public boolean isSingleGetCacheEnabled() {
+    return singleGetCacheEnabled;
+  }
+
+  public Map<String, Long> getSingleGetCacheStoreSizeMap() {
+    return singleGetCacheStoreSizeMap;
+  }
+
+  public long getSingleGetCacheHybridStoreTtlMs() {
+    return singleGetCacheHybridStoreTtlMs;
+  }
+
+  public boolean isSingleGetCoalescingEnabled() {
+    return singleGetCoalescingEnabled;
+  }
+
+  public boolean isMultiKeySubPartitionResolutionEnabled() {
+    return multiKeySubPartitionResolutionEnabled;
+  }
+
+  public boolean isAdaptiveConcurrencyLimitEnabled() {
+    return adaptiveConcurrencyLimitEnabled;
+  }
+
+  public int getAdaptiveConcurrencyLimitInitial() {
+    return adaptiveConcurrencyLimitInitial;
+  }
+
+  public int getAdaptiveConcurrencyLimitMin() {
+    return adaptiveConcurrencyLimitMin;
+  }
+
+  public int getAdaptiveConcurrencyLimitMax() {
+    return adaptiveConcurrencyLimitMax;
+  }
+
+  public double getAdaptiveConcurrencyLimitLatencyTolerance() {
+    return adaptiveConcurrencyLimitLatencyTolerance;
+  }
+
+  private static Map<String, Long> parseSingleGetCacheStoreSizeMap(Map<String, String> storeToSizeMap) {
+    Map<String, Long> storeSizeMap = new HashMap<>();
+    storeToSizeMap.forEach((storeName, size) -> {
+      try {
+        storeSizeMap.put(storeName, Long.parseLong(size.trim()));
+      } catch (NumberFormatException e) {
+        throw new VeniceException(
+            "Invalid cache size: " + size + " for store: " + storeName + " in config: "
+                + ROUTER_SINGLE_GET_CACHE_STORE_SIZE_MAP);
+      }
+    });
+    return storeSizeMap;
+  }
 }
@@ -235,6 +235,7 @@ public class DictionaryRetrievalService extends AbstractVeniceService {
         QueryAction.DICTIONARY.toString().toLowerCase() + "/" + store + "/" + version,
         HTTP_GET,
         sslFactory.isPresent());
+    request.setTimeout(dictionaryRetrievalTimeMs);
     CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
 
     storageNodeClient.sendRequest(request, responseFuture);
@@ -261,6 +262,8 @@ public class DictionaryRetrievalService extends AbstractVeniceService {
             "ExecutionException encountered when downloading dictionary for resource: " + kafkaTopic + " from: "
                 + instanceUrl + " : " + e.getMessage());
       } catch (TimeoutException e) {
+        // The response could still arrive, and its content could be a pooled buffer.
+        responseFuture.thenAccept(VeniceDispatcher::releaseResponseContent);
         exception = new VeniceException(
             "Dictionary download for resource: " + kafkaTopic + " from: " + instanceUrl + " timed out : "
                 + e.getMessage());
@@ -286,6 +289,8 @@ public class DictionaryRetrievalService extends AbstractVeniceService {
       logWithRedundantFilter(
           Level.WARN,
           "Dictionary fetch HTTP response error: " + e.getMessage() + " for " + instanceUrl);
+    } finally {
+      VeniceDispatcher.releaseResponseContent(response);
     }
 
     return null;
@@ -0,0 +1,195 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.alpini.base.concurrency.AsyncPromise;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.cache.CachedStorageNodeResponse;
+import com.linkedin.venice.router.cache.RouterCache;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * This class collapses concurrent single-get requests for the same (resource, partition, key) into a single storage
+ * node request, and the later requests will be attached to the pending response of the in-flight one.
+ *
+ * There is no caching involved: the in-flight request will be removed as soon as its response arrives, so any request
+ * issued afterwards will reach the storage node again.
+ *
+ * The attached requests don't reach any storage node by themselves, so they report the storage node of the in-flight
+ * request, and their responses are {@link CoalescedResponse}s, which don't carry the RCU charged by the storage node
+ * for the in-flight request.
+ */
+public class SingleGetRequestCoalescer {
+  private final AggRouterHttpRequestStats singleGetStats;
+  private final Map<InFlightRequestKey, InFlightRequest> inFlightRequestMap = new VeniceConcurrentHashMap<>();
+
+  public SingleGetRequestCoalescer(AggRouterHttpRequestStats singleGetStats) {
+    this.singleGetStats = singleGetStats;
+  }
+
+  /**
+   * Sends the request to the given storage node via the given loader if there is no in-flight request for the same
+   * key, otherwise returns the pending response of the in-flight request. Either way, the storage node which serves
+   * the request is reported through the given host selected promise.
+   */
+  public CompletableFuture<PortableHttpResponse> coalesce(
+      String storeName,
+      String resourceName,
+      RouterKey key,
+      Instance storageNode,
+      AsyncPromise<Instance> hostSelected,
+      RouterCache.ResponseLoader loader) throws RouterException {
+    InFlightRequestKey requestKey = new InFlightRequestKey(resourceName, key.getPartitionId(), key);
+    InFlightRequest newRequest = new InFlightRequest(storageNode);
+    InFlightRequest inFlightRequest = inFlightRequestMap.compute(requestKey, (k, existingRequest) -> {
+      if (existingRequest == null) {
+        return newRequest;
+      }
+      existingRequest.waiterCount++;
+      return existingRequest;
+    });
+    if (inFlightRequest != newRequest) {
+      singleGetStats.recordCoalescedRequest(storeName);
+      hostSelected.setSuccess(inFlightRequest.storageNode);
+      CompletableFuture<PortableHttpResponse> coalescedResponseFuture = new CompletableFuture<>();
+      inFlightRequest.responseFuture.whenComplete((response, throwable) -> {
+        if (throwable != null) {
+          coalescedResponseFuture.completeExceptionally(throwable);
+        } else {
+          coalescedResponseFuture.complete(new CoalescedResponse(response, inFlightRequest.storageNode));
+        }
+      });
+      return coalescedResponseFuture;
+    }
+
+    hostSelected.setSuccess(storageNode);
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture;
+    try {
+      storageNodeResponseFuture = loader.load();
+    } catch (RouterException | RuntimeException e) {
+      inFlightRequestMap.remove(requestKey, newRequest);
+      newRequest.responseFuture.completeExceptionally(e);
+      throw e;
+    }
+    storageNodeResponseFuture.whenComplete((response, throwable) -> {
+      /**
+       * No request could join after the removal, and the removal happens under the same lock as the joining,
+       * so the waiter count is final from here on.
+       */
+      inFlightRequestMap.remove(requestKey, newRequest);
+      if (throwable != null) {
+        newRequest.responseFuture.completeExceptionally(throwable);
+        return;
+      }
+      if (newRequest.waiterCount == 0) {
+        newRequest.responseFuture.complete(response);
+        return;
+      }
+      try {
+        // The response content will be consumed by every waiter, so each of them needs its own buffer.
+        newRequest.responseFuture
+            .complete(CachedStorageNodeResponse.fromResponse(response, System.currentTimeMillis()));
+      } catch (Throwable t) {
+        newRequest.responseFuture.completeExceptionally(t);
+      }
+    });
+    return newRequest.responseFuture;
+  }
+
+  public int getInFlightRequestCount() {
+    return inFlightRequestMap.size();
+  }
+
+  /**
+   * The response of a request attached to an in-flight request, which hides the RCU header of the shared response,
+   * since the RCU has been charged for the in-flight request already.
+   */
+  static final class CoalescedResponse implements PortableHttpResponse {
+    private final PortableHttpResponse response;
+    private final Instance storageNode;
+
+    private CoalescedResponse(PortableHttpResponse response, Instance storageNode) {
+      this.response = response;
+      this.storageNode = storageNode;
+    }
+
+    /**
+     * @return the storage node which served the in-flight request.
+     */
+    Instance getStorageNode() {
+      return storageNode;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return response.getStatusCode();
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() throws IOException {
+      return response.getContentInByteBuf();
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return !HttpConstants.VENICE_REQUEST_RCU.equals(headerName) && response.containsHeader(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return HttpConstants.VENICE_REQUEST_RCU.equals(headerName) ? null : response.getFirstHeader(headerName);
+    }
+  }
+
+  private static class InFlightRequest {
+    private final CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    private final Instance storageNode;
+    /**
+     * Only updated while holding the lock of the map entry.
+     */
+    private int waiterCount = 0;
+
+    private InFlightRequest(Instance storageNode) {
+      this.storageNode = storageNode;
+    }
+  }
+
+  private static class InFlightRequestKey {
+    private final String resourceName;
+    private final int partitionId;
+    private final RouterKey key;
+    private final int hashCode;
+
+    private InFlightRequestKey(String resourceName, int partitionId, RouterKey key) {
+      this.resourceName = resourceName;
+      this.partitionId = partitionId;
+      this.key = key;
+      this.hashCode = Objects.hash(resourceName, partitionId, key);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof InFlightRequestKey)) {
+        return false;
+      }
+      InFlightRequestKey other = (InFlightRequestKey) o;
+      return partitionId == other.partitionId && resourceName.equals(other.resourceName) && key.equals(other.key);
+    }
+  }
+}
@@ -18,9 +18,13 @@ import com.linkedin.alpini.router.api.ScatterGatherRequest;
 import com.linkedin.venice.exceptions.QuotaExceededException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.api.path.VeniceSingleGetPath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
+import com.linkedin.venice.router.cache.RouterCache;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
@@ -89,6 +93,8 @@ public class VeniceDelegateMode extends ScatterGatherMode {
 
   private HelixGroupSelector helixGroupSelector;
 
+  private RouterCache routerCache;
+
   private final VeniceMultiKeyRoutingStrategy multiKeyRoutingStrategy;
   private final ScatterGatherMode scatterGatherModeForMultiKeyRequest;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
@@ -123,6 +129,10 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     this.readRequestThrottler = requestThrottler;
   }
 
+  public void initRouterCache(RouterCache routerCache) {
+    this.routerCache = routerCache;
+  }
+
   public void initHelixGroupSelector(HelixGroupSelector helixGroupSelector) {
     if (this.helixGroupSelector != null) {
       throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
@@ -265,7 +275,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       }
       Instance veniceInstance = (Instance) host;
 
-      if (!venicePath.isRetryRequest()) {
+      if (!venicePath.isRetryRequest() && !isCachedSingleGet(venicePath)) {
         /**
          * Here is the only suitable place to throttle multi-get/compute request since we want to fail the whole request
          * if some scatter request gets throttled.
@@ -309,6 +319,22 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     return finalScatter;
   }
 
+  /**
+   * Cache hits won't be sent to storage nodes, so they don't need to consume any read quota. The cached response is
+   * kept in the path, so that the request is served by the very entry which exempted it from the quota, even if the
+   * entry is evicted or expires before {@link VeniceDispatcher} serves it.
+   */
+  private boolean isCachedSingleGet(VenicePath venicePath) {
+    if (routerCache == null || !(venicePath instanceof VeniceSingleGetPath)
+        || !routerCache.isCacheEnabled(venicePath.getStoreName())) {
+      return false;
+    }
+    PortableHttpResponse cachedResponse = routerCache
+        .get(venicePath.getStoreName(), venicePath.getVersionNumber(), venicePath.getPartitionKey());
+    ((VeniceSingleGetPath) venicePath).setCachedResponse(cachedResponse);
+    return cachedResponse != null;
+  }
+
   // Select host with the least pending queue depth.
   private <H> H selectLeastLoadedHost(List<H> hosts, VenicePath path) throws RouterException {
     H host;
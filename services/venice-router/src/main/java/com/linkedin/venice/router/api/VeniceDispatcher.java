@@ -21,6 +21,8 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.api.path.VeniceSingleGetPath;
+import com.linkedin.venice.router.cache.RouterCache;
 import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -30,8 +32,10 @@ import com.linkedin.venice.router.stats.RouteHttpStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
 import com.linkedin.venice.router.throttle.PendingRequestThrottler;
+import com.linkedin.venice.router.throttle.StorageNodeConcurrencyLimiter;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
+import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.buffer.ByteBuf;
@@ -40,12 +44,14 @@ import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
@@ -91,6 +97,10 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  private RouterCache routerCache;
+  private SingleGetRequestCoalescer singleGetRequestCoalescer;
+  private StorageNodeConcurrencyLimiter concurrencyLimiter;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -116,6 +126,18 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.routerStats = routerStats;
   }
 
+  public void initRouterCache(RouterCache routerCache) {
+    this.routerCache = routerCache;
+  }
+
+  public void initSingleGetRequestCoalescer(SingleGetRequestCoalescer singleGetRequestCoalescer) {
+    this.singleGetRequestCoalescer = singleGetRequestCoalescer;
+  }
+
+  public void initConcurrencyLimiter(StorageNodeConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
   @Override
   public void dispatch(
       @Nonnull Scatter<Instance, VenicePath, RouterKey> scatter,
@@ -141,14 +163,48 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     }
 
     Instance storageNode = part.getHosts().get(0);
-    hostSelected.setSuccess(storageNode);
+    boolean isCoalescable = isCoalescable(path);
+    if (!isCoalescable) {
+      hostSelected.setSuccess(storageNode);
+    }
 
     // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
+    RouterCache.ResponseLoader responseLoader = () -> sendRequest(storageNode, path, retryFuture);
+    if (isCoalescable) {
+      // The coalesced requests report the storage node of the in-flight request they're attached to.
+      RouterCache.ResponseLoader storageNodeLoader = responseLoader;
+      responseLoader = () -> singleGetRequestCoalescer.coalesce(
+          storeName,
+          path.getResourceName(),
+          path.getPartitionKey(),
+          storageNode,
+          hostSelected,
+          storageNodeLoader);
+    }
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture;
+    try {
+      PortableHttpResponse cachedResponse = getCachedResponse(path);
+      if (cachedResponse != null) {
+        routerCache.recordCacheHit(storeName);
+        storageNodeResponseFuture = CompletableFuture.completedFuture(cachedResponse);
+      } else if (isCacheable(path)) {
+        storageNodeResponseFuture =
+            routerCache.getOrLoad(storeName, path.getVersionNumber(), path.getPartitionKey(), responseLoader);
+      } else {
+        storageNodeResponseFuture = responseLoader.load();
+      }
+    } finally {
+      if (!hostSelected.isDone()) {
+        // The request has been served by the router cache, or has failed before reaching the coalescer.
+        hostSelected.setSuccess(storageNode);
+      }
+    }
+    storageNodeResponseFuture.whenComplete((response, throwable) -> {
       try {
         int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
         if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
           retryFuture.setSuccess(HttpResponseStatus.valueOf(statusCode));
+          releaseResponseContent(response);
           return;
         }
 
@@ -156,7 +212,9 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
           throw throwable;
         }
 
-        if (statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+        // The response of a coalesced request says nothing about the storage node it was supposed to reach.
+        if (statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR
+            && !(response instanceof SingleGetRequestCoalescer.CoalescedResponse)) {
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
@@ -167,6 +225,47 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     });
   }
 
+  /**
+   * The content of the discarded response could be a pooled buffer, e.g. with
+   * {@link com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient}.
+   */
+  static void releaseResponseContent(PortableHttpResponse response) {
+    if (response == null) {
+      return;
+    }
+    try {
+      ReferenceCountUtil.release(response.getContentInByteBuf());
+    } catch (Exception e) {
+      LOGGER.warn("Failed to release the content of a discarded storage node response", e);
+    }
+  }
+
+  /**
+   * Retry requests will bypass the cache since they are supposed to reach a different storage node.
+   */
+  private boolean isCacheable(VenicePath path) {
+    return routerCache != null && path.getRequestType() == RequestType.SINGLE_GET && !path.isRetryRequest()
+        && routerCache.isCacheEnabled(path.getStoreName());
+  }
+
+  /**
+   * @return the response which was found in the cache when the request was admitted by {@link VeniceDelegateMode}.
+   */
+  private PortableHttpResponse getCachedResponse(VenicePath path) {
+    return isCacheable(path) && path instanceof VeniceSingleGetPath
+        ? ((VeniceSingleGetPath) path).getCachedResponse()
+        : null;
+  }
+
+  /**
+   * Retry requests won't be coalesced since they are supposed to reach a different storage node, and the original
+   * request could be the one being slow.
+   */
+  private boolean isCoalescable(VenicePath path) {
+    return singleGetRequestCoalescer != null && path.getRequestType() == RequestType.SINGLE_GET
+        && !path.isRetryRequest();
+  }
+
   protected CompletableFuture<PortableHttpResponse> sendRequest(
       Instance storageNode,
       VenicePath path,
@@ -174,6 +273,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
     String storeName = path.getStoreName();
     String hostName = storageNode.getHost();
+    String nodeId = storageNode.getNodeId();
     RequestType requestType = path.getRequestType();
 
     long startTime = System.nanoTime();
@@ -200,28 +300,18 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     boolean isRequestThrottled = false;
     lock.lock();
     try {
-      long pendingRequestCount = routeHttpRequestStats.getPendingRequestCount(storageNode.getNodeId());
+      long pendingRequestCount = routeHttpRequestStats.getPendingRequestCount(nodeId);
 
       if (isStatefulHealthCheckEnabled && pendingRequestCount > routerUnhealthyPendingConnThresholdPerRoute) {
         isRequestThrottled = true;
-        // try to trigger error retry if its not cancelled already. if retry is cancelled throw exception which
-        // increases the unhealthy request metric.
-        if (!retryFuture.isCancelled()) {
-          retryFuture.setSuccess(INTERNAL_SERVER_ERROR);
-          responseFuture.completeExceptionally(
-              new VeniceException("Triggering error retry, too many pending request to storage node :" + hostName));
-          perStoreStatsByType.getStatsByType(path.getRequestType())
-              .recordErrorRetryAttemptTriggeredByPendingRequestCheck(storeName);
-          return responseFuture;
-        } else {
-          throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Too many pending request to storage node : " + hostName);
-        }
+        return rejectTooManyPendingRequests(path, hostName, retryFuture, responseFuture);
+      }
+      if (concurrencyLimiter != null && !concurrencyLimiter.tryAcquire(nodeId)) {
+        isRequestThrottled = true;
+        aggHostHealthStats.recordConcurrencyLimitRejectedRequest(nodeId);
+        return rejectTooManyPendingRequests(path, hostName, retryFuture, responseFuture);
       }
-      routeHttpRequestStats.recordPendingRequest(storageNode.getNodeId());
+      routeHttpRequestStats.recordPendingRequest(nodeId);
 
       long requestId = uniqueRequestId.getAndIncrement();
       responseFutureMap.put(requestId, responseFuture);
@@ -231,21 +321,24 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
          * to decide whether a storage node is suitable for retry request.
          */
         path.requestStorageNode(storageNode.getNodeId());
-        storageNodeClient.query(
-            storageNode,
-            path,
-            responseFuture::complete,
-            responseFuture::completeExceptionally,
-            () -> responseFuture.cancel(false));
+        storageNodeClient.query(storageNode, path, response -> {
+          if (!responseFuture.complete(response)) {
+            // The future has been completed already, e.g. by LeakedCompletableFutureCleanupService.
+            releaseResponseContent(response);
+          }
+        }, responseFuture::completeExceptionally, () -> responseFuture.cancel(false));
       } catch (Throwable throwable) {
         responseFuture.completeExceptionally(throwable);
       }
       return responseFuture.whenComplete((response, throwable) -> {
         RouteHttpStats perRouteStats = perRouteStatsByType.getStatsByType(requestType);
         perRouteStats.recordResponseWaitingTime(storageNode.getHost(), LatencyUtils.getLatencyInMS(startTime));
-        routeHttpRequestStats.recordFinishedRequest(storageNode.getNodeId());
+        routeHttpRequestStats.recordFinishedRequest(nodeId);
         pendingRequestThrottler.take();
         responseFutureMap.remove(requestId);
+        if (concurrencyLimiter != null) {
+          onConcurrencyLimitedResponse(nodeId, System.nanoTime() - startTime, response, throwable);
+        }
       });
     } finally {
       if (isRequestThrottled) {
@@ -255,6 +348,53 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     }
   }
 
+  /**
+   * Tries to trigger an error retry if it's not cancelled already, so that the request is sent to another replica.
+   * If the retry is cancelled, the request fails, which increases the unhealthy request metric.
+   */
+  private CompletableFuture<PortableHttpResponse> rejectTooManyPendingRequests(
+      VenicePath path,
+      String hostName,
+      AsyncPromise<HttpResponseStatus> retryFuture,
+      CompletableFuture<PortableHttpResponse> responseFuture) throws RouterException {
+    String storeName = path.getStoreName();
+    if (!retryFuture.isCancelled()) {
+      retryFuture.setSuccess(INTERNAL_SERVER_ERROR);
+      responseFuture.completeExceptionally(
+          new VeniceException("Triggering error retry, too many pending request to storage node :" + hostName));
+      perStoreStatsByType.getStatsByType(path.getRequestType())
+          .recordErrorRetryAttemptTriggeredByPendingRequestCheck(storeName);
+      return responseFuture;
+    } else {
+      throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          Optional.of(storeName),
+          Optional.of(path.getRequestType()),
+          SERVICE_UNAVAILABLE,
+          "Too many pending request to storage node : " + hostName);
+    }
+  }
+
+  /**
+   * The timeouts and the retriable errors tell that the storage node is overloaded, while the cancelled requests,
+   * e.g. the ones whose retry completed first, say nothing about its latency.
+   */
+  private void onConcurrencyLimitedResponse(
+      String nodeId,
+      long latencyNanos,
+      PortableHttpResponse response,
+      Throwable throwable) {
+    if (throwable instanceof CancellationException) {
+      concurrencyLimiter.release(nodeId);
+      return;
+    }
+    boolean failed = throwable != null || response == null || RETRIABLE_ERROR_CODES.contains(response.getStatusCode());
+    concurrencyLimiter.onResponse(nodeId, latencyNanos, failed);
+    aggHostHealthStats.recordConcurrencyLimit(
+        nodeId,
+        concurrencyLimiter.getLimit(nodeId),
+        concurrencyLimiter.getShortTermLatencyNanos(nodeId) / Time.NS_PER_MS);
+  }
+
   protected VeniceFullHttpResponse buildResponse(VenicePath path, PortableHttpResponse serverResponse)
       throws IOException {
     int statusCode = serverResponse.getStatusCode();
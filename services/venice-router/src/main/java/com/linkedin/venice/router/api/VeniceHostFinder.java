@@ -3,6 +3,7 @@ package com.linkedin.venice.router.api;
 import static com.linkedin.venice.read.RequestType.MULTI_GET;
 import static com.linkedin.venice.read.RequestType.SINGLE_GET;
 
+import com.linkedin.alpini.log.RateLimitedLog;
 import com.linkedin.alpini.router.api.HostFinder;
 import com.linkedin.alpini.router.api.HostHealthMonitor;
 import com.linkedin.alpini.router.api.RouterException;
@@ -18,8 +19,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Unbox;
 
 
 /**
@@ -27,6 +31,24 @@ import org.apache.logging.log4j.Logger;
  */
 public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
   private static final Logger LOGGER = LogManager.getLogger(VeniceHostFinder.class);
+  /**
+   * These are logged for every request of the partition while it has no healthy host, so they're logged at most 10
+   * times per second to avoid flooding the logs.
+   */
+  public static final RateLimitedLog NO_READY_HOST_LOG = new RateLimitedLog(
+      LOGGER,
+      Level.WARN,
+      "No ready-to-serve host for resource:{} with partition: {}",
+      10,
+      1,
+      TimeUnit.SECONDS);
+  public static final RateLimitedLog NO_HEALTHY_HOST_LOG = new RateLimitedLog(
+      LOGGER,
+      Level.WARN,
+      "All host(s) for resource: {} with partition: {} are not healthy: {}",
+      10,
+      1,
+      TimeUnit.SECONDS);
 
   private final OnlineInstanceFinder onlineInstanceFinder;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
@@ -76,7 +98,7 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
       /**
        * Zero available host issue is handled by {@link VeniceDelegateMode} by checking whether there is any 'offline request'.
        */
-      LOGGER.warn("No ready-to-serve host for resource:{} with partition: {}", resourceName, partitionNumber);
+      NO_READY_HOST_LOG.log(resourceName, Unbox.box(partitionNumber));
       return hosts;
     }
     /**
@@ -113,11 +135,7 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
     }
     final int hostCount = newHosts.size();
     if (hostCount == 0) {
-      LOGGER.warn(
-          "All host(s) for resource: {} with partition: {} are not healthy: {}",
-          resourceName,
-          partitionNumber,
-          hosts);
+      NO_HEALTHY_HOST_LOG.log(resourceName, Unbox.box(partitionNumber), hosts);
     }
     if (hostCount <= 1) {
       /**
@@ -8,6 +8,7 @@ import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
 import com.linkedin.venice.router.stats.HostHealthStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.router.throttle.StorageNodeConcurrencyLimiter;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -33,6 +34,7 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
   private final StorageNodeClient storageNodeClient;
   private final RouteHttpRequestStats routeHttpRequestStats;
   private final AggHostHealthStats aggHostHealthStats;
+  private StorageNodeConcurrencyLimiter concurrencyLimiter;
 
   public VeniceHostHealth(
       LiveInstanceMonitor liveInstanceMonitor,
@@ -50,6 +52,14 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
     this.aggHostHealthStats = aggHostHealthStats;
   }
 
+  /**
+   * The storage nodes at their adaptive concurrency limit will be considered unhealthy, so that the requests are routed
+   * to the other replicas.
+   */
+  public void initConcurrencyLimiter(StorageNodeConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
   /**
    * Mark that something is wrong with an entire host and it should not be used for queries.
    *
@@ -102,6 +112,11 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
       return false;
     }
 
+    if (concurrencyLimiter != null && concurrencyLimiter.isAtLimit(nodeId)) {
+      aggHostHealthStats.recordUnhealthyHostConcurrencyLimit(nodeId);
+      return false;
+    }
+
     return true;
   }
 
@@ -27,14 +27,23 @@ import java.util.stream.Collectors;
 public class VenicePartitionFinder implements PartitionFinder<RouterKey> {
   private final RoutingDataRepository dataRepository;
   private final ReadOnlyStoreRepository metadataRepository;
+  private final boolean subPartitionResolutionEnabled;
 
   // a map of map: each store could have multiple versions and each version has a specific partitioner
   private final Map<String, Map<Integer, VenicePartitioner>> storeByVersionByPartitionerMap =
       new VeniceConcurrentHashMap<>();
 
   public VenicePartitionFinder(RoutingDataRepository dataRepository, ReadOnlyStoreRepository metadataRepository) {
+    this(dataRepository, metadataRepository, false);
+  }
+
+  public VenicePartitionFinder(
+      RoutingDataRepository dataRepository,
+      ReadOnlyStoreRepository metadataRepository,
+      boolean subPartitionResolutionEnabled) {
     this.dataRepository = dataRepository;
     this.metadataRepository = metadataRepository;
+    this.subPartitionResolutionEnabled = subPartitionResolutionEnabled;
     this.metadataRepository.registerStoreDataChangedListener(storeChangeListener);
   }
 
@@ -83,7 +92,40 @@ public class VenicePartitionFinder implements PartitionFinder<RouterKey> {
     return versionByPartitionerMap.computeIfAbsent(versionNum, k -> searchPartitioner(storeName, versionNum));
   }
 
-  private VenicePartitioner searchPartitioner(String storeName, int versionNum) {
+  /**
+   * Whether multi-key requests should carry the sub-partition ids resolved by Router instead of the user partition ids,
+   * check {@link #findSubPartitionNumber} for more details.
+   */
+  public boolean isSubPartitionResolutionEnabled() {
+    return subPartitionResolutionEnabled;
+  }
+
+  public int getAmplificationFactor(String storeName, int versionNum) {
+    PartitionerConfig partitionerConfig = getPartitionerConfig(storeName, versionNum);
+    return partitionerConfig == null ? 1 : partitionerConfig.getAmplificationFactor();
+  }
+
+  /**
+   * Router and Helix only deal with user partitions, while storage nodes persist the data by sub-partitions when the
+   * amplification factor is greater than 1. Resolving the sub-partition in Router saves the storage node from
+   * hashing every key again.
+   *
+   * @param partitioner the partitioner returned by {@link #findPartitioner}
+   * @param userPartition the user partition of the key
+   */
+  public static int findSubPartitionNumber(
+      RouterKey partitionKey,
+      int userPartition,
+      VenicePartitioner partitioner,
+      int amplificationFactor) {
+    if (amplificationFactor <= 1) {
+      return userPartition;
+    }
+    int subPartitionOffset = partitioner.getPartitionId(partitionKey.getKeyBuffer(), amplificationFactor);
+    return userPartition * amplificationFactor + subPartitionOffset;
+  }
+
+  private PartitionerConfig getPartitionerConfig(String storeName, int versionNum) {
     Store store = metadataRepository.getStore(storeName);
     if (store == null) {
       throw new VeniceException("Unknown store: " + storeName);
@@ -92,7 +134,11 @@ public class VenicePartitionFinder implements PartitionFinder<RouterKey> {
     if (!version.isPresent()) {
       throw new VeniceException("Unknown version: " + versionNum + " in store: " + storeName);
     }
-    PartitionerConfig partitionerConfig = version.get().getPartitionerConfig();
+    return version.get().getPartitionerConfig();
+  }
+
+  private VenicePartitioner searchPartitioner(String storeName, int versionNum) {
+    PartitionerConfig partitionerConfig = getPartitionerConfig(storeName, versionNum);
     Properties params = new Properties();
     params.putAll(partitionerConfig.getPartitionerParams());
     VeniceProperties partitionerProperties = new VeniceProperties(params);
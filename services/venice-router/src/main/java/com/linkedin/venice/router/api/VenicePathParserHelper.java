@@ -20,6 +20,28 @@ import org.apache.logging.log4j.Logger;
 public class VenicePathParserHelper {
   private static final Logger LOGGER = LogManager.getLogger(VenicePathParserHelper.class);
 
+  /**
+   * The characters which {@link URI} accepts as is in a path or a query, except '%' which starts an escaped octet.
+   */
+  private static final boolean[] PLAIN_URI_CHARS = new boolean[128];
+  static {
+    for (char c = 'a'; c <= 'z'; c++) {
+      PLAIN_URI_CHARS[c] = true;
+      PLAIN_URI_CHARS[Character.toUpperCase(c)] = true;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      PLAIN_URI_CHARS[c] = true;
+    }
+    for (char c: "-._~!$&'()*+,;=:@/?".toCharArray()) {
+      PLAIN_URI_CHARS[c] = true;
+    }
+  }
+
+  /**
+   * Racy cache of the resource names, which is safe since Strings are immutable.
+   */
+  private static final String[] RESOURCE_NAME_CACHE = new String[1024];
+
   private RouterResourceType resourceType = null;
   private String resourceName = null;
   private String key = null;
@@ -70,6 +92,116 @@ public class VenicePathParserHelper {
   }
 
   private VenicePathParserHelper(String uri) {
+    if (!parsePath(uri)) {
+      parseUri(uri);
+    }
+  }
+
+  /**
+   * Parses the path of the uri in a single pass over its characters, without creating a {@link URI} or splitting it
+   * into an array. The resource name is interned, so only the key is copied out of the uri.
+   *
+   * @return false if the uri has characters which {@link URI} would decode or reject, such as a percent-encoded
+   *         octet, in which case it must be parsed by {@link #parseUri(String)}.
+   */
+  private boolean parsePath(String uri) {
+    int length = uri.length();
+    for (int i = 0; i < length; i++) {
+      char c = uri.charAt(i);
+      if (c >= PLAIN_URI_CHARS.length || !PLAIN_URI_CHARS[c]) {
+        return false;
+      }
+    }
+    int pathStart = pathStart(uri);
+    if (pathStart < 0) {
+      return false;
+    }
+    int pathEnd = uri.indexOf('?', pathStart);
+    if (pathEnd < 0) {
+      pathEnd = length;
+    }
+    if (pathStart < pathEnd && uri.charAt(pathStart) == '/') {
+      pathStart++; // leading slash in uri splits to an empty path section
+    }
+    while (pathEnd > pathStart && uri.charAt(pathEnd - 1) == '/') {
+      pathEnd--; // trailing empty path sections are ignored, like String#split does
+    }
+
+    String typeName = null;
+    if (pathStart < pathEnd) {
+      int typeEnd = indexOfSlash(uri, pathStart, pathEnd);
+      typeName = uri.substring(pathStart, typeEnd);
+      if (typeEnd < pathEnd) {
+        int resourceEnd = indexOfSlash(uri, typeEnd + 1, pathEnd);
+        resourceName = internResourceName(uri, typeEnd + 1, resourceEnd);
+        if (resourceEnd < pathEnd) {
+          key = uri.substring(resourceEnd + 1, indexOfSlash(uri, resourceEnd + 1, pathEnd));
+        }
+      }
+    }
+    this.resourceType = RouterResourceType.getTypeResourceType(typeName);
+    return true;
+  }
+
+  /**
+   * @return the index where the path of the uri starts, or -1 if it can't be found without parsing the uri fully.
+   */
+  private static int pathStart(String uri) {
+    if (uri.startsWith("//")) {
+      return -1; // network-path reference, whose first section is the authority
+    }
+    if (uri.startsWith("/")) {
+      return 0;
+    }
+    int pathEnd = uri.indexOf('?');
+    int colon = uri.indexOf(':');
+    int slash = uri.indexOf('/');
+    if (colon < 0 || (pathEnd >= 0 && colon > pathEnd) || (slash >= 0 && colon > slash)) {
+      return 0; // relative path
+    }
+    if (!uri.startsWith("//", colon + 1) || !Character.isLetter(uri.charAt(0))) {
+      return -1;
+    }
+    for (int i = 1; i < colon; i++) {
+      char c = uri.charAt(i);
+      if (!Character.isLetterOrDigit(c) && c != '+' && c != '-' && c != '.') {
+        return -1; // not a valid scheme
+      }
+    }
+    // Absolute uri, e.g. http://host:port/path, whose path starts after the authority.
+    int authorityStart = colon + 3;
+    int authorityEnd = authorityStart;
+    while (authorityEnd < uri.length() && uri.charAt(authorityEnd) != '/' && uri.charAt(authorityEnd) != '?') {
+      authorityEnd++;
+    }
+    return authorityEnd;
+  }
+
+  private static int indexOfSlash(String uri, int from, int to) {
+    int index = uri.indexOf('/', from);
+    return index < 0 || index > to ? to : index;
+  }
+
+  /**
+   * Returns the resource name, which is the store name for the data path requests, from a cache indexed by its hash,
+   * so that the same String is returned for every request of a store without copying it out of the uri.
+   */
+  private static String internResourceName(String uri, int start, int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + uri.charAt(i);
+    }
+    int slot = (hash ^ (hash >>> 16)) & (RESOURCE_NAME_CACHE.length - 1);
+    String cached = RESOURCE_NAME_CACHE[slot];
+    if (cached != null && cached.length() == end - start && uri.regionMatches(start, cached, 0, end - start)) {
+      return cached;
+    }
+    String resourceName = uri.substring(start, end);
+    RESOURCE_NAME_CACHE[slot] = resourceName;
+    return resourceName;
+  }
+
+  private void parseUri(String uri) {
     try {
       URI uriObject = new URI(uri);
       String typeName = null;
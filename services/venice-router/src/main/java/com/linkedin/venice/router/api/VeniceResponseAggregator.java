@@ -30,8 +30,10 @@ import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.SuccessfulStreamingResponse;
+import com.linkedin.venice.router.throttle.RouterThrottler;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.utils.LatencyUtils;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -67,12 +69,20 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
   private final Optional<MetaStoreShadowReader> metaStoreShadowReaderOptional;
 
   private HelixGroupSelector helixGroupSelector;
+  private RouterThrottler readRequestThrottler;
 
   // timeout is configurable and should be overwritten elsewhere
   private long singleGetTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
   private long multiGetTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
   private long computeTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
 
+  /**
+   * {@link CompositeByteBuf} will consolidate all its components into a newly allocated buffer once the component
+   * count exceeds the limit, which is 16 by default, and that would copy the whole response body for requests fanning
+   * out to many partitions. The sub-responses are always spliced together as is, so the limit is lifted here.
+   */
+  private static final int MAX_AGGREGATED_RESPONSE_COMPONENTS = Integer.MAX_VALUE;
+
   // Headers expected in each storage node multi-get response
   public static final Map<CharSequence, String> MULTI_GET_VALID_HEADER_MAP = new HashMap<>();
   public static final Map<CharSequence, String> COMPUTE_VALID_HEADER_MAP = new HashMap<>();
@@ -116,6 +126,10 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return this;
   }
 
+  public void initReadRequestThrottler(RouterThrottler readRequestThrottler) {
+    this.readRequestThrottler = readRequestThrottler;
+  }
+
   public void initHelixGroupSelector(HelixGroupSelector helixGroupSelector) {
     if (this.helixGroupSelector != null) {
       throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
@@ -277,12 +291,28 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     if (HEALTHY_STATUSES.contains(responseStatus) && !venicePath.isStreamingRequest()) {
       // Only record successful response
       stats.recordResponseSize(storeName, finalResponse.content().readableBytes());
+      if (readRequestThrottler != null && !venicePath.isRetryRequest()) {
+        chargeResponseRcu(venicePath, finalResponse);
+      }
     }
     stats.recordResponse(storeName);
 
     return finalResponse;
   }
 
+  /**
+   * The requests are admitted with one RCU per key by {@link RouterThrottler#mayThrottleRead}, but the storage nodes
+   * may charge more RCU for the bytes of the values they read, which are returned in the RCU header. The difference is
+   * charged to the quota of the store as well. Like on admission, retry requests aren't charged.
+   */
+  private void chargeResponseRcu(VenicePath venicePath, FullHttpResponse response) {
+    int admittedRcu = venicePath.getPartitionKeys().size() * readRequestThrottler.getReadCapacity();
+    int extraRcu = getRCU(response) - admittedRcu;
+    if (extraRcu > 0) {
+      readRequestThrottler.chargeRead(venicePath.getStoreName(), extraRcu);
+    }
+  }
+
   private FullHttpResponse buildStreamingResponse(
       List<FullHttpResponse> gatheredResponses,
       String storeName,
@@ -364,7 +394,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
      * 1. {@link HttpHeaderNames.CONTENT_TYPE}
      * 2. {@link HttpConstants.VENICE_SCHEMA_ID}
      */
-    CompositeByteBuf content = Unpooled.compositeBuffer();
+    CompositeByteBuf content = Unpooled.compositeBuffer(MAX_AGGREGATED_RESPONSE_COMPONENTS);
     int totalRequestRcu = 0;
     for (FullHttpResponse response: responses) {
       if (response.status() != OK) {
@@ -390,7 +420,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
       });
 
       totalRequestRcu += getRCU(response);
-      content.addComponent(true, response.content());
+      addResponseContent(content, response.content());
     }
 
     FullHttpResponse computeResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, OK, content);
@@ -402,6 +432,18 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return computeResponse;
   }
 
+  /**
+   * Splices the sub-response content into the aggregated response without copying, and the nested composite buffers
+   * (e.g. the decompressed multi-get records) are flattened to keep the component lookup cheap.
+   */
+  private static void addResponseContent(CompositeByteBuf aggregatedContent, ByteBuf content) {
+    if (content instanceof CompositeByteBuf && content.isReadable()) {
+      aggregatedContent.addFlattenedComponents(true, content);
+    } else {
+      aggregatedContent.addComponent(true, content);
+    }
+  }
+
   private int getRCU(FullHttpResponse response) {
     String rcuHeader = response.headers().get(VENICE_REQUEST_RCU);
     if (NumberUtils.isCreatable(rcuHeader)) {
@@ -424,7 +466,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     long decompressedSize = 0;
     long decompressionTimeInNs = 0;
     int totalRequestRcu = 0;
-    CompositeByteBuf content = Unpooled.compositeBuffer();
+    CompositeByteBuf content = Unpooled.compositeBuffer(MAX_AGGREGATED_RESPONSE_COMPONENTS);
     CompressionStrategy compressionStrategy = null;
 
     for (FullHttpResponse response: responses) {
@@ -435,7 +477,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
       }
       compressionStrategy = validateAndExtractCompressionStrategy(storeName, version, compressionStrategy, response);
 
-      content.addComponent(true, response.content());
+      addResponseContent(content, response.content());
 
       /**
        * Here we will check the consistency of the following headers among all the responses:
@@ -74,6 +74,10 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
     if (request.hasAttr(RouterThrottleHandler.THROTTLE_HANDLER_BYTE_ATTRIBUTE_KEY)) {
       content = request.attr(RouterThrottleHandler.THROTTLE_HANDLER_BYTE_ATTRIBUTE_KEY).get();
     } else {
+      /**
+       * The body is copied once, since the request buffer may be pooled and released before this path is done with
+       * its keys. The keys are not copied again: they're deserialized into buffers which wrap slices of the copy.
+       */
       content = new byte[request.content().readableBytes()];
       request.content().readBytes(content);
     }
@@ -4,6 +4,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_GATEWAY;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoHelixResourceException;
 import com.linkedin.venice.partitioner.VenicePartitioner;
@@ -21,6 +22,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import javax.annotation.Nonnull;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
@@ -32,6 +34,7 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
   protected final Map<RouterKey, K> routerKeyMap;
   private final int longTailRetryMaxRouteForMultiKeyReq;
   private AtomicInteger currentAllowedRetryRouteCnt = new AtomicInteger(0);
+  private boolean subPartitionResolved = false;
 
   public VeniceMultiKeyPath(
       String storeName,
@@ -86,9 +89,14 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
     int keyIdx = 0;
     int partitionNum;
     VenicePartitioner partitioner;
+    int amplificationFactor = 1;
     try {
       partitionNum = partitionFinder.getNumPartitions(resourceName);
       partitioner = partitionFinder.findPartitioner(getStoreName(), getVersionNumber());
+      if (partitionFinder.isSubPartitionResolutionEnabled()) {
+        amplificationFactor = partitionFinder.getAmplificationFactor(getStoreName(), getVersionNumber());
+        subPartitionResolved = true;
+      }
     } catch (VeniceNoHelixResourceException e) {
       throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
           Optional.of(getStoreName()),
@@ -109,7 +117,11 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
       // partition lookup
       int partitionId = partitioner.getPartitionId(routerKey.getKeyBuffer(), partitionNum);
       routerKey.setPartitionId(partitionId);
-      K routerRequestKey = createRouterRequestKey(key, keyIdx, partitionId);
+      // Scattering is still based on the user partition, and only the storage node cares about the sub-partition.
+      int requestPartitionId = subPartitionResolved
+          ? VenicePartitionFinder.findSubPartitionNumber(routerKey, partitionId, partitioner, amplificationFactor)
+          : partitionId;
+      K routerRequestKey = createRouterRequestKey(key, keyIdx, requestPartitionId);
       this.routerKeyMap.put(routerKey, routerRequestKey);
       ++keyIdx;
     }
@@ -250,6 +262,20 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
      * We need to share the {@link #currentAllowedRetryRouteCnt} across all the sub paths.
      */
     this.currentAllowedRetryRouteCnt = ((VeniceMultiKeyPath) originalPath).currentAllowedRetryRouteCnt;
+    // The sub paths share the router request keys with the original path.
+    this.subPartitionResolved = ((VeniceMultiKeyPath) originalPath).subPartitionResolved;
+  }
+
+  public boolean isSubPartitionResolved() {
+    return subPartitionResolved;
+  }
+
+  @Override
+  public void setupVeniceHeaders(BiConsumer<String, String> setupHeaderFunc) {
+    super.setupVeniceHeaders(setupHeaderFunc);
+    if (subPartitionResolved) {
+      setupHeaderFunc.accept(HttpConstants.VENICE_SUB_PARTITION_RESOLVED, "1");
+    }
   }
 
   /**
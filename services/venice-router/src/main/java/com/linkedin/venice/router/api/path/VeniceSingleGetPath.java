@@ -13,6 +13,7 @@ import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
 import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
 import com.linkedin.venice.router.api.VenicePathParser;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
@@ -33,6 +34,11 @@ public class VeniceSingleGetPath extends VenicePath {
 
   private final RouterKey routerKey;
   private final String partition;
+  /**
+   * The response which was looked up in {@link com.linkedin.venice.router.cache.RouterCache} when the request was
+   * admitted without being charged any read quota, which must be served even if the entry has been evicted since.
+   */
+  private PortableHttpResponse cachedResponse;
 
   public VeniceSingleGetPath(
       String storeName,
@@ -136,6 +142,31 @@ public class VeniceSingleGetPath extends VenicePath {
   }
 
   protected static boolean isFormatB64(String key) {
+    int queryStart = key.indexOf('?') + 1;
+    if (queryStart == 0) {
+      return false;
+    }
+    if (!hasEncodedQueryParameter(key, queryStart)) {
+      // Look for the first format parameter in place, instead of decoding all the parameters into a map.
+      int pos = queryStart;
+      while (pos < key.length()) {
+        int end = key.indexOf('&', pos);
+        if (end < 0) {
+          end = key.length();
+        }
+        int nameEnd = key.indexOf('=', pos);
+        if (nameEnd < 0 || nameEnd > end) {
+          nameEnd = end;
+        }
+        if (nameEnd - pos == RequestConstants.FORMAT_KEY.length() && key.startsWith(RequestConstants.FORMAT_KEY, pos)) {
+          int valueStart = Math.min(nameEnd + 1, end);
+          return end - valueStart == RequestConstants.B64_FORMAT.length()
+              && key.startsWith(RequestConstants.B64_FORMAT, valueStart);
+        }
+        pos = end + 1;
+      }
+      return false;
+    }
     String format = RequestConstants.DEFAULT_FORMAT; // "string"
     QueryStringDecoder queryStringParser = new QueryStringDecoder(key, StandardCharsets.UTF_8);
     if (queryStringParser.getParameters().keySet().contains(RequestConstants.FORMAT_KEY)) {
@@ -144,10 +175,33 @@ public class VeniceSingleGetPath extends VenicePath {
     return format.equals(RequestConstants.B64_FORMAT);
   }
 
+  /**
+   * @return true if a parameter of the query may need to be decoded, or has an empty name, or the query has a ';'
+   *         separator or a '#' fragment, in which case the query is parsed by {@link QueryStringDecoder}.
+   */
+  private static boolean hasEncodedQueryParameter(String uri, int queryStart) {
+    for (int i = queryStart; i < uri.length(); i++) {
+      char c = uri.charAt(i);
+      if (c == '%' || c == '+' || c == ';' || c == '#'
+          || (c == '=' && (i == queryStart || uri.charAt(i - 1) == '&'))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public String getPartition() {
     return this.partition;
   }
 
+  public PortableHttpResponse getCachedResponse() {
+    return cachedResponse;
+  }
+
+  public void setCachedResponse(PortableHttpResponse cachedResponse) {
+    this.cachedResponse = cachedResponse;
+  }
+
   @Override
   public HttpMethod getHttpMethod() {
     return HttpMethod.GET;
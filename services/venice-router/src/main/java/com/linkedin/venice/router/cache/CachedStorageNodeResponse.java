@@ -0,0 +1,125 @@
+package com.linkedin.venice.router.cache;
+
+import static com.linkedin.venice.HttpConstants.VENICE_COMPRESSION_STRATEGY;
+import static com.linkedin.venice.HttpConstants.VENICE_REQUEST_RCU;
+import static com.linkedin.venice.HttpConstants.VENICE_SCHEMA_ID;
+
+import com.linkedin.alpini.base.cache.ByteBufHashMap;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import org.apache.http.HttpHeaders;
+
+
+/**
+ * A self-contained copy of a storage node response, which could be stored in {@link RouterCache} and shared by
+ * multiple requests since every {@link #getContentInByteBuf()} invocation will return a new wrapper of the content.
+ */
+public class CachedStorageNodeResponse implements PortableHttpResponse {
+  /**
+   * Only the headers consumed by {@link com.linkedin.venice.router.api.VeniceDispatcher} will be retained.
+   */
+  private static final String[] RETAINED_HEADERS =
+      { HttpHeaders.CONTENT_TYPE, VENICE_SCHEMA_ID, VENICE_COMPRESSION_STRATEGY, VENICE_REQUEST_RCU };
+
+  static final ByteBufHashMap.SerDes<CachedStorageNodeResponse> SERDES = new CachedStorageNodeResponseSerDes();
+
+  private final int statusCode;
+  private final Map<String, String> headers;
+  private final byte[] content;
+  private final long creationTimeMs;
+
+  CachedStorageNodeResponse(int statusCode, Map<String, String> headers, byte[] content, long creationTimeMs) {
+    this.statusCode = statusCode;
+    this.headers = headers;
+    this.content = content;
+    this.creationTimeMs = creationTimeMs;
+  }
+
+  public static CachedStorageNodeResponse fromResponse(PortableHttpResponse response, long creationTimeMs)
+      throws IOException {
+    if (response instanceof CachedStorageNodeResponse) {
+      return (CachedStorageNodeResponse) response;
+    }
+    Map<String, String> headers = new HashMap<>(RETAINED_HEADERS.length);
+    for (String headerName: RETAINED_HEADERS) {
+      if (response.containsHeader(headerName)) {
+        headers.put(headerName, response.getFirstHeader(headerName));
+      }
+    }
+    ByteBuf contentBuf = response.getContentInByteBuf();
+    byte[] content = new byte[contentBuf.readableBytes()];
+    contentBuf.getBytes(contentBuf.readerIndex(), content);
+    // The content of the original response has been consumed, and it could be a pooled buffer.
+    contentBuf.release();
+    return new CachedStorageNodeResponse(response.getStatusCode(), headers, content, creationTimeMs);
+  }
+
+  public long getCreationTimeMs() {
+    return creationTimeMs;
+  }
+
+  @Override
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  @Override
+  public ByteBuf getContentInByteBuf() {
+    return content.length == 0 ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(content);
+  }
+
+  @Override
+  public boolean containsHeader(String headerName) {
+    return headers.containsKey(headerName);
+  }
+
+  @Override
+  public String getFirstHeader(String headerName) {
+    return headers.get(headerName);
+  }
+
+  private static class CachedStorageNodeResponseSerDes implements ByteBufHashMap.SerDes<CachedStorageNodeResponse> {
+    @Override
+    public CachedStorageNodeResponse deserialize(@Nonnull ByteBufInputStream inputStream) {
+      try {
+        int statusCode = inputStream.readInt();
+        long creationTimeMs = inputStream.readLong();
+        int headerCount = inputStream.readInt();
+        Map<String, String> headers = new HashMap<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+          headers.put(inputStream.readUTF(), inputStream.readUTF());
+        }
+        byte[] content = new byte[inputStream.readInt()];
+        inputStream.readFully(content);
+        return new CachedStorageNodeResponse(statusCode, headers, content, creationTimeMs);
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to deserialize the cached response", e);
+      }
+    }
+
+    @Override
+    public boolean serialize(@Nonnull ByteBufOutputStream outputStream, @Nonnull CachedStorageNodeResponse value) {
+      try {
+        outputStream.writeInt(value.statusCode);
+        outputStream.writeLong(value.creationTimeMs);
+        outputStream.writeInt(value.headers.size());
+        for (Map.Entry<String, String> entry: value.headers.entrySet()) {
+          outputStream.writeUTF(entry.getKey());
+          outputStream.writeUTF(entry.getValue());
+        }
+        outputStream.writeInt(value.content.length);
+        outputStream.write(value.content);
+        return true;
+      } catch (IOException e) {
+        return false;
+      }
+    }
+  }
+}
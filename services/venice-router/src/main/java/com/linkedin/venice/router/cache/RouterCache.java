@@ -0,0 +1,305 @@
+package com.linkedin.venice.router.cache;
+
+import com.linkedin.alpini.base.cache.ByteBufHashMap;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.stats.AggRouterCacheStats;
+import com.linkedin.venice.stats.AbstractVeniceAggStats;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpStatus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * An optional off-heap cache for single-get responses in Router, which is backed by {@link ByteBufHashMap}.
+ *
+ * The cache is maintained per store, and each store cache is bound to a single store version, so that the
+ * cached entries are keyed by (store version, key bytes) and the whole store cache will be flushed once the current
+ * version swaps. For hybrid stores, the cached entries will expire after
+ * {@link VeniceRouterConfig#getSingleGetCacheHybridStoreTtlMs()} since the current version could keep receiving
+ * updates.
+ *
+ * Concurrent misses of the same key will be collapsed into a single storage node request by {@link #getOrLoad}.
+ */
+public class RouterCache implements StoreDataChangedListener {
+  private static final Logger LOGGER = LogManager.getLogger(RouterCache.class);
+
+  /**
+   * Loads the response from storage nodes when the key is not in the cache.
+   */
+  @FunctionalInterface
+  public interface ResponseLoader {
+    CompletableFuture<PortableHttpResponse> load() throws RouterException;
+  }
+
+  private final ReadOnlyStoreRepository storeRepository;
+  private final Map<String, Long> storeCacheSizeMap;
+  private final long hybridStoreTtlMs;
+  private final Time time;
+  private final AggRouterCacheStats stats;
+
+  private final Map<String, StoreVersionCache> storeCacheMap = new VeniceConcurrentHashMap<>();
+  private final Map<PendingLoadKey, CompletableFuture<PortableHttpResponse>> pendingLoadMap =
+      new VeniceConcurrentHashMap<>();
+
+  public RouterCache(
+      VeniceRouterConfig config,
+      ReadOnlyStoreRepository storeRepository,
+      MetricsRepository metricsRepository) {
+    this(
+        storeRepository,
+        config.getSingleGetCacheStoreSizeMap(),
+        config.getSingleGetCacheHybridStoreTtlMs(),
+        metricsRepository,
+        new SystemTime());
+  }
+
+  public RouterCache(
+      ReadOnlyStoreRepository storeRepository,
+      Map<String, Long> storeCacheSizeMap,
+      long hybridStoreTtlMs,
+      MetricsRepository metricsRepository,
+      Time time) {
+    this.storeRepository = storeRepository;
+    this.storeCacheSizeMap = storeCacheSizeMap;
+    this.hybridStoreTtlMs = hybridStoreTtlMs;
+    this.time = time;
+    this.stats = new AggRouterCacheStats(metricsRepository, this::getAllocatedBytes);
+    this.storeRepository.registerStoreDataChangedListener(this);
+    LOGGER.info("Router single-get cache is enabled for stores: {}", storeCacheSizeMap);
+  }
+
+  public boolean isCacheEnabled(String storeName) {
+    return storeCacheSizeMap.containsKey(storeName);
+  }
+
+  /**
+   * @return true if the key is cached for the given store version and its entry hasn't expired.
+   */
+  public boolean contains(String storeName, int version, RouterKey key) {
+    return get(storeName, version, key) != null;
+  }
+
+  /**
+   * @return the cached response or null if the key is not cached for the given store version.
+   */
+  public PortableHttpResponse get(String storeName, int version, RouterKey key) {
+    StoreVersionCache storeCache = storeCacheMap.get(storeName);
+    if (storeCache == null || storeCache.version != version) {
+      return null;
+    }
+    CachedStorageNodeResponse response = storeCache.cache.get(key);
+    if (response == null || (storeCache.isHybrid && isExpired(response))) {
+      return null;
+    }
+    return response;
+  }
+
+  /**
+   * Returns the cached response if present, otherwise loads it via the given {@link ResponseLoader} and caches the
+   * result. Concurrent misses for the same key of the same store version will share the same load.
+   */
+  public CompletableFuture<PortableHttpResponse> getOrLoad(
+      String storeName,
+      int version,
+      RouterKey key,
+      ResponseLoader loader) throws RouterException {
+    PortableHttpResponse cachedResponse = get(storeName, version, key);
+    if (cachedResponse != null) {
+      stats.recordCacheHitRequest(storeName);
+      return CompletableFuture.completedFuture(cachedResponse);
+    }
+    stats.recordCacheMissRequest(storeName);
+
+    PendingLoadKey pendingLoadKey = new PendingLoadKey(storeName, version, key);
+    CompletableFuture<PortableHttpResponse> newLoadFuture = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> pendingLoadFuture =
+        pendingLoadMap.putIfAbsent(pendingLoadKey, newLoadFuture);
+    if (pendingLoadFuture != null) {
+      stats.recordCacheCollapsedRequest(storeName);
+      return pendingLoadFuture;
+    }
+
+    CompletableFuture<PortableHttpResponse> loadFuture;
+    try {
+      loadFuture = loader.load();
+    } catch (RouterException | RuntimeException e) {
+      pendingLoadMap.remove(pendingLoadKey, newLoadFuture);
+      newLoadFuture.completeExceptionally(e);
+      throw e;
+    }
+    loadFuture.whenComplete((response, throwable) -> {
+      try {
+        if (throwable != null) {
+          newLoadFuture.completeExceptionally(throwable);
+          return;
+        }
+        CachedStorageNodeResponse copiedResponse =
+            CachedStorageNodeResponse.fromResponse(response, time.getMilliseconds());
+        put(storeName, version, key, copiedResponse);
+        newLoadFuture.complete(copiedResponse);
+      } catch (Throwable t) {
+        newLoadFuture.completeExceptionally(t);
+      } finally {
+        pendingLoadMap.remove(pendingLoadKey, newLoadFuture);
+      }
+    });
+    return newLoadFuture;
+  }
+
+  /**
+   * Records a cache hit for a response which was looked up by {@link #get} before the request was sent, see
+   * {@link com.linkedin.venice.router.api.VeniceDelegateMode}.
+   */
+  public void recordCacheHit(String storeName) {
+    stats.recordCacheHitRequest(storeName);
+  }
+
+  void put(String storeName, int version, RouterKey key, CachedStorageNodeResponse response) {
+    int statusCode = response.getStatusCode();
+    if (statusCode != HttpStatus.SC_OK && statusCode != HttpStatus.SC_NOT_FOUND) {
+      // Only successful lookups are cacheable.
+      return;
+    }
+    StoreVersionCache storeCache = getOrCreateStoreCache(storeName, version);
+    if (storeCache == null) {
+      return;
+    }
+    storeCache.cache.put(key, response);
+    stats.recordCachePutRequest(storeName);
+  }
+
+  private StoreVersionCache getOrCreateStoreCache(String storeName, int version) {
+    Long cacheSize = storeCacheSizeMap.get(storeName);
+    if (cacheSize == null) {
+      return null;
+    }
+    StoreVersionCache storeCache = storeCacheMap.compute(storeName, (k, oldCache) -> {
+      if (oldCache != null && oldCache.version >= version) {
+        return oldCache;
+      }
+      if (oldCache != null) {
+        // A newer version is being served, so the old one is not useful anymore.
+        oldCache.clear();
+        stats.recordCacheInvalidation(storeName);
+      }
+      Store store = storeRepository.getStore(storeName);
+      boolean isHybrid = store != null && store.isHybrid();
+      return new StoreVersionCache(version, isHybrid, cacheSize, isHybrid ? hybridStoreTtlMs : -1);
+    });
+    // The request could be for a backup version during version swap, which shouldn't pollute the cache.
+    return storeCache.version == version ? storeCache : null;
+  }
+
+  private boolean isExpired(CachedStorageNodeResponse response) {
+    return time.getMilliseconds() - response.getCreationTimeMs() >= hybridStoreTtlMs;
+  }
+
+  private long getAllocatedBytes(String storeName) {
+    if (storeName.equals(AbstractVeniceAggStats.STORE_NAME_FOR_TOTAL_STAT)) {
+      return storeCacheMap.values().stream().mapToLong(storeCache -> storeCache.cache.getAllocatedBytes()).sum();
+    }
+    StoreVersionCache storeCache = storeCacheMap.get(storeName);
+    return storeCache == null ? 0 : storeCache.cache.getAllocatedBytes();
+  }
+
+  private void invalidate(String storeName) {
+    StoreVersionCache storeCache = storeCacheMap.remove(storeName);
+    if (storeCache != null) {
+      storeCache.clear();
+      stats.recordCacheInvalidation(storeName);
+      LOGGER.info("Flushed Router cache for store: {}, version: {}", storeName, storeCache.version);
+    }
+  }
+
+  @Override
+  public void handleStoreChanged(Store store) {
+    StoreVersionCache storeCache = storeCacheMap.get(store.getName());
+    if (storeCache == null) {
+      return;
+    }
+    if (storeCache.version != store.getCurrentVersion() || storeCache.isHybrid != store.isHybrid()) {
+      invalidate(store.getName());
+    }
+  }
+
+  @Override
+  public void handleStoreDeleted(String storeName) {
+    invalidate(storeName);
+  }
+
+  public void close() {
+    storeRepository.unregisterStoreDataChangedListener(this);
+    storeCacheMap.keySet().forEach(this::invalidate);
+  }
+
+  private static class StoreVersionCache {
+    private final int version;
+    private final boolean isHybrid;
+    private final ByteBufHashMap<RouterKey, CachedStorageNodeResponse> cache;
+
+    private StoreVersionCache(int version, boolean isHybrid, long maxAllocatedMemory, long ttlMs) {
+      this.version = version;
+      this.isHybrid = isHybrid;
+      this.cache =
+          new ByteBufHashMap<>(CachedStorageNodeResponse.SERDES, PooledByteBufAllocator.DEFAULT::directBuffer);
+      this.cache.setMaxAllocatedMemory(maxAllocatedMemory);
+      if (ttlMs > 0) {
+        /**
+         * Old blocks will only be purged while appending new entries, and {@link RouterCache#get} will check
+         * the entry age to guarantee the TTL.
+         */
+        this.cache.setMaxBlockAge(ttlMs, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    private void clear() {
+      cache.clear();
+    }
+  }
+
+  private static class PendingLoadKey {
+    private final String storeName;
+    private final int version;
+    private final RouterKey key;
+    private final int hashCode;
+
+    private PendingLoadKey(String storeName, int version, RouterKey key) {
+      this.storeName = storeName;
+      this.version = version;
+      this.key = key;
+      this.hashCode = Objects.hash(storeName, version, key);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PendingLoadKey)) {
+        return false;
+      }
+      PendingLoadKey other = (PendingLoadKey) o;
+      return version == other.version && storeName.equals(other.storeName) && key.equals(other.key);
+    }
+  }
+}
@@ -0,0 +1,450 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.base.concurrency.RunOnce;
+import com.linkedin.alpini.base.monitoring.NullCallTracker;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.handlers.HttpClientResponseHandler;
+import com.linkedin.alpini.netty4.misc.Http2Utils;
+import com.linkedin.alpini.netty4.pool.BasicDnsResolver;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPoolFactory;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ResolveAllBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link StorageNodeClient} built on top of the alpini Netty channel pool, which talks to storage nodes via HTTP/2
+ * (HTTP/1.1 will be used if the storage node doesn't negotiate HTTP/2 through ALPN).
+ *
+ * Compared to {@link HttpClient5StorageNodeClient}, this client:
+ * 1. Shares the Router IO worker event loops instead of running a separate IO thread pool;
+ * 2. Multiplexes all the requests to the same storage node over one connection per event loop;
+ * 3. Hands over the received Netty buffers to the response by reference instead of copying them.
+ *
+ * The content returned by {@link PortableHttpResponse#getContentInByteBuf()} of the responses produced by this client
+ * is owned by the caller, who is responsible for releasing it.
+ */
+public class NettyHttp2StorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyHttp2StorageNodeClient.class);
+
+  private static final String QUEUE_NAME = "venice-router";
+  private static final long HEALTH_CHECK_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private static final ChannelHealthChecker HEALTH_CHECKER =
+      channel -> channel.eventLoop().newSucceededFuture(channel.isActive());
+
+  private final ChannelPoolManager channelPoolManager;
+  private final int socketTimeoutMs;
+
+  public NettyHttp2StorageNodeClient(
+      Optional<SSLFactory> sslFactory,
+      VeniceRouterConfig routerConfig,
+      MultithreadEventLoopGroup eventLoopGroup,
+      Class<? extends Channel> socketChannelClass) {
+    sslFactory.orElseThrow(
+        () -> new VeniceException("Param 'sslFactory' must be present while using " + this.getClass().getSimpleName()));
+
+    Bootstrap bootstrap =
+        new ResolveAllBootstrap(NullCallTracker.INSTANCE, NullCallTracker.INSTANCE).channel(socketChannelClass)
+            .handler(new ChannelInitializer<Channel>() {
+              @Override
+              protected void initChannel(Channel ch) {
+                // Only used when the storage node doesn't support HTTP/2.
+                ch.pipeline().addLast(new HttpClientResponseHandler());
+              }
+            })
+            .attr(Http2AwareChannelPoolFactory.SSL_CONTEXT, buildSslContext(sslFactory.get()));
+
+    int maxConnectionsPerRoute = routerConfig.getMaxOutgoingConnPerRoute();
+    int maxPendingAcquires = routerConfig.getNettyClientMaxPendingAcquires();
+    Http2AwareChannelPoolFactory channelPoolFactory = new Http2AwareChannelPoolFactory(
+        bootstrap,
+        routerConfig.getConnectionTimeout(),
+        maxConnectionsPerRoute,
+        maxPendingAcquires,
+        true,
+        HEALTH_CHECK_INTERVAL_MS,
+        HEALTH_CHECKER,
+        NullCallTracker.INSTANCE);
+    /**
+     * Use {@link com.linkedin.alpini.netty4.http2.Http2ClientResponseHandler} on the parent channel instead of
+     * creating a child channel per stream, which avoids the per-request channel allocation.
+     */
+    channelPoolFactory.setUsingMultiplexHandler(false);
+    channelPoolFactory.setMaxFrameSize(routerConfig.getHttp2MaxFrameSize());
+    channelPoolFactory.setInitialWindowSize(routerConfig.getHttp2InitialWindowSize());
+    channelPoolFactory.setMaxHeaderListSize(routerConfig.getHttp2MaxHeaderListSize());
+    channelPoolFactory.setHttp1MaxConnections(() -> maxConnectionsPerRoute);
+
+    this.socketTimeoutMs = routerConfig.getSocketTimeout();
+    this.channelPoolManager =
+        new ChannelPoolManagerImpl(eventLoopGroup, channelPoolFactory, new BasicDnsResolver(), maxPendingAcquires);
+    LOGGER.info(
+        "Constructing NettyHttp2StorageNodeClient with max connections per route: {}, max pending acquires: {}",
+        maxConnectionsPerRoute,
+        maxPendingAcquires);
+  }
+
+  private static SslContext buildSslContext(SSLFactory sslFactory) {
+    ApplicationProtocolConfig applicationProtocolConfig = new ApplicationProtocolConfig(
+        ApplicationProtocolConfig.Protocol.ALPN,
+        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+        ApplicationProtocolNames.HTTP_2,
+        ApplicationProtocolNames.HTTP_1_1);
+    return new JdkSslContext(
+        sslFactory.getSSLContext(),
+        true,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        applicationProtocolConfig,
+        ClientAuth.NONE,
+        null,
+        false);
+  }
+
+  @Override
+  public void start() {
+
+  }
+
+  @Override
+  public void close() {
+    channelPoolManager.closeAll().awaitUninterruptibly();
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) throws RouterException {
+    byte[] body = path.getBody();
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(path.getHttpMethod().name()),
+        "/" + path.getLocation(),
+        body == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(body));
+    path.setupVeniceHeaders((k, v) -> request.headers().set(k, v));
+    send(host, request, socketTimeoutMs, completedCallBack, failedCallBack, cancelledCallBack);
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(request.getMethod()),
+        "/" + request.getQuery(),
+        Unpooled.EMPTY_BUFFER);
+    send(
+        request.getHost(),
+        httpRequest,
+        request.hasTimeout() ? request.getTimeout() : socketTimeoutMs,
+        responseFuture::complete,
+        responseFuture::completeExceptionally,
+        () -> responseFuture.cancel(false));
+  }
+
+  private void send(
+      Instance host,
+      FullHttpRequest request,
+      long timeoutMs,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) {
+    String hostAndPort = host.getHost() + ":" + host.getSslPort();
+    request.headers().set(HttpHeaderNames.HOST, hostAndPort);
+    HttpUtil.setContentLength(request, request.content().readableBytes());
+
+    channelPoolManager.acquire(hostAndPort, QUEUE_NAME, QOS.NORMAL).addListener((Future<Channel> channelFuture) -> {
+      if (!channelFuture.isSuccess()) {
+        request.release();
+        if (channelFuture.isCancelled()) {
+          cancelledCallBack.getAsBoolean();
+        } else {
+          failedCallBack.accept(channelFuture.cause());
+        }
+        return;
+      }
+      Channel channel = channelFuture.getNow();
+      boolean isHttp2 = Http2Utils.isHttp2ParentChannelPipeline(channel.pipeline());
+      Runnable releaseChannel = RunOnce.make(channel, channelPoolManager::release);
+      ResponseAggregator responseAggregator = new ResponseAggregator(
+          channel,
+          isHttp2,
+          releaseChannel,
+          completedCallBack,
+          failedCallBack,
+          cancelledCallBack);
+      if (timeoutMs > 0) {
+        // Scheduled before the request is sent, so that the response always finds the timeout to cancel.
+        responseAggregator.scheduleTimeout(hostAndPort, timeoutMs);
+      }
+      channel.writeAndFlush(new StorageNodeRequest(request, responseAggregator))
+          .addListener((ChannelFuture writeFuture) -> {
+            if (writeFuture.isCancelled()) {
+              responseAggregator.cancel();
+            } else if (!writeFuture.isSuccess()) {
+              responseAggregator.accept(writeFuture.cause());
+            }
+          });
+      if (isHttp2) {
+        // The parent channel could be shared by the concurrent streams right away.
+        releaseChannel.run();
+      }
+    });
+  }
+
+  /**
+   * Assembles the response objects emitted by {@link HttpClientResponseHandler} or
+   * {@link com.linkedin.alpini.netty4.http2.Http2ClientResponseHandler}, and all of them are invoked in the channel
+   * event loop, like the timeout and the cancellation.
+   */
+  private static class ResponseAggregator implements Consumer<Object> {
+    private final Channel channel;
+    private final boolean isHttp2;
+    private final Runnable releaseChannel;
+    private final Consumer<PortableHttpResponse> completedCallBack;
+    private final Consumer<Throwable> failedCallBack;
+    private final BooleanSupplier cancelledCallBack;
+
+    private HttpResponse response;
+    private ByteBuf content = Unpooled.EMPTY_BUFFER;
+    private boolean done = false;
+    private ScheduledFuture<?> timeoutFuture;
+
+    private ResponseAggregator(
+        Channel channel,
+        boolean isHttp2,
+        Runnable releaseChannel,
+        Consumer<PortableHttpResponse> completedCallBack,
+        Consumer<Throwable> failedCallBack,
+        BooleanSupplier cancelledCallBack) {
+      this.channel = channel;
+      this.isHttp2 = isHttp2;
+      this.releaseChannel = releaseChannel;
+      this.completedCallBack = completedCallBack;
+      this.failedCallBack = failedCallBack;
+      this.cancelledCallBack = cancelledCallBack;
+    }
+
+    private void scheduleTimeout(String hostAndPort, long timeoutMs) {
+      String timeoutMessage = "Request to storage node: " + hostAndPort + " timed out after " + timeoutMs + "ms";
+      timeoutFuture = channel.eventLoop().schedule(() -> {
+        timeoutFuture = null;
+        accept(new TimeoutException(timeoutMessage));
+      }, timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancel() {
+      if (channel.eventLoop().inEventLoop()) {
+        if (abort()) {
+          cancelledCallBack.getAsBoolean();
+        }
+      } else {
+        channel.eventLoop().execute(this::cancel);
+      }
+    }
+
+    /**
+     * Releases the partial response and the channel of a request which failed, timed out or was cancelled.
+     * @return false if the request has completed already.
+     */
+    private boolean abort() {
+      if (done) {
+        return false;
+      }
+      finish();
+      content.release();
+      content = null;
+      if (isHttp2) {
+        releaseChannel.run();
+      } else {
+        // The state of an HTTP/1.1 connection is unknown after a failure.
+        channel.close().addListener(closeFuture -> releaseChannel.run());
+      }
+      return true;
+    }
+
+    private void finish() {
+      done = true;
+      if (timeoutFuture != null) {
+        timeoutFuture.cancel(false);
+        timeoutFuture = null;
+      }
+    }
+
+    @Override
+    public void accept(Object o) {
+      if (done) {
+        // The request has timed out or failed already.
+        if (isHttp2 && o instanceof HttpContent) {
+          ((HttpContent) o).content().release();
+        }
+        return;
+      }
+      if (o instanceof Throwable) {
+        abort();
+        failedCallBack.accept((Throwable) o);
+        return;
+      }
+
+      if (o instanceof HttpResponse) {
+        response = (HttpResponse) o;
+      }
+
+      if (o instanceof HttpContent) {
+        /**
+         * {@link com.linkedin.alpini.netty4.http2.Http2ClientResponseHandler} hands over a retained buffer, while
+         * {@link HttpClientResponseHandler} releases the message once it is consumed.
+         */
+        ByteBuf chunk = ((HttpContent) o).content();
+        if (!isHttp2) {
+          chunk.retain();
+        }
+        if (!chunk.isReadable()) {
+          chunk.release();
+        } else if (content == Unpooled.EMPTY_BUFFER) {
+          content = chunk;
+        } else if (content instanceof CompositeByteBuf) {
+          ((CompositeByteBuf) content).addComponent(true, chunk);
+        } else {
+          content = chunk.alloc().compositeBuffer().addComponent(true, content).addComponent(true, chunk);
+        }
+      }
+
+      if (o instanceof LastHttpContent) {
+        if (response == null) {
+          accept(new VeniceException("Received no response header from storage node: " + channel.remoteAddress()));
+          return;
+        }
+        finish();
+        if (!isHttp2) {
+          if (HttpUtil.isKeepAlive(response)) {
+            releaseChannel.run();
+          } else {
+            channel.close().addListener(closeFuture -> releaseChannel.run());
+          }
+        }
+        NettyHttp2Response nettyResponse = new NettyHttp2Response(response, content);
+        content = null;
+        completedCallBack.accept(nettyResponse);
+      }
+    }
+  }
+
+  private static final class StorageNodeRequest extends DefaultFullHttpRequest
+      implements HttpClientResponseHandler.ResponseConsumer {
+    private final Consumer<Object> responseConsumer;
+
+    private StorageNodeRequest(FullHttpRequest request, Consumer<Object> responseConsumer) {
+      super(
+          request.protocolVersion(),
+          request.method(),
+          request.uri(),
+          request.content(),
+          request.headers(),
+          request.trailingHeaders());
+      this.responseConsumer = responseConsumer;
+    }
+
+    @Override
+    public Consumer<Object> responseConsumer() {
+      return responseConsumer;
+    }
+
+    @Override
+    public FullHttpRequest copy() {
+      return new StorageNodeRequest(super.copy(), responseConsumer);
+    }
+
+    @Override
+    public FullHttpRequest duplicate() {
+      return new StorageNodeRequest(super.duplicate(), responseConsumer);
+    }
+
+    @Override
+    public FullHttpRequest retainedDuplicate() {
+      return new StorageNodeRequest(super.retainedDuplicate(), responseConsumer);
+    }
+
+    @Override
+    public FullHttpRequest replace(ByteBuf content) {
+      return new StorageNodeRequest(super.replace(content), responseConsumer);
+    }
+  }
+
+  private static final class NettyHttp2Response implements PortableHttpResponse {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final ByteBuf content;
+
+    private NettyHttp2Response(HttpResponse response, ByteBuf content) {
+      this.statusCode = response.status().code();
+      this.headers = response.headers();
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return headers.contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return headers.get(headerName);
+    }
+  }
+}
@@ -34,6 +34,10 @@ public class VeniceMetaDataRequest {
     return host.getNodeId();
   }
 
+  public Instance getHost() {
+    return host;
+  }
+
   public String getUrl() {
     return host.getHostUrl(isSSL);
   }
@@ -62,4 +62,21 @@ public class AggHostHealthStats extends AbstractVeniceAggStats<HostHealthStats>
     totalStats.recordUnhealthyHostDelayJoin();
     getHostStats(hostName).recordUnhealthyHostDelayJoin();
   }
+
+  public void recordUnhealthyHostConcurrencyLimit(String hostName) {
+    totalStats.recordUnhealthyHostConcurrencyLimit();
+    getHostStats(hostName).recordUnhealthyHostConcurrencyLimit();
+  }
+
+  public void recordConcurrencyLimitRejectedRequest(String hostName) {
+    totalStats.recordConcurrencyLimitRejectedRequest();
+    getHostStats(hostName).recordConcurrencyLimitRejectedRequest();
+  }
+
+  /**
+   * The limits are only recorded per host, since they are not comparable across hosts.
+   */
+  public void recordConcurrencyLimit(String hostName, int limit, double latencyMs) {
+    getHostStats(hostName).recordConcurrencyLimit(limit, latencyMs);
+  }
 }
@@ -0,0 +1,46 @@
+package com.linkedin.venice.router.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceAggStats;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.function.ToLongFunction;
+
+
+public class AggRouterCacheStats extends AbstractVeniceAggStats<RouterCacheStats> {
+  /**
+   * @param allocatedBytesFunction returns the off-heap memory being used by the cache of the given store, and it will
+   *                               be invoked with {@link #STORE_NAME_FOR_TOTAL_STAT} for the total usage.
+   */
+  public AggRouterCacheStats(MetricsRepository metricsRepository, ToLongFunction<String> allocatedBytesFunction) {
+    super(
+        metricsRepository,
+        (repo, storeName) -> new RouterCacheStats(
+            repo,
+            storeName,
+            () -> allocatedBytesFunction.applyAsLong(storeName)));
+  }
+
+  public void recordCacheHitRequest(String storeName) {
+    totalStats.recordCacheHitRequest();
+    getStoreStats(storeName).recordCacheHitRequest();
+  }
+
+  public void recordCacheMissRequest(String storeName) {
+    totalStats.recordCacheMissRequest();
+    getStoreStats(storeName).recordCacheMissRequest();
+  }
+
+  public void recordCachePutRequest(String storeName) {
+    totalStats.recordCachePutRequest();
+    getStoreStats(storeName).recordCachePutRequest();
+  }
+
+  public void recordCacheCollapsedRequest(String storeName) {
+    totalStats.recordCacheCollapsedRequest();
+    getStoreStats(storeName).recordCacheCollapsedRequest();
+  }
+
+  public void recordCacheInvalidation(String storeName) {
+    totalStats.recordCacheInvalidation();
+    getStoreStats(storeName).recordCacheInvalidation();
+  }
+}
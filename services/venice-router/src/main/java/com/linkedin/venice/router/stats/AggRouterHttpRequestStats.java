@@ -28,6 +28,22 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
       boolean isKeyValueProfilingEnabled,
       ReadOnlyStoreRepository metadataRepository,
       boolean isUnregisterMetricForDeletedStoreEnabled) {
+    this(
+        metricsRepository,
+        requestType,
+        isKeyValueProfilingEnabled,
+        metadataRepository,
+        isUnregisterMetricForDeletedStoreEnabled,
+        false);
+  }
+
+  public AggRouterHttpRequestStats(
+      MetricsRepository metricsRepository,
+      RequestType requestType,
+      boolean isKeyValueProfilingEnabled,
+      ReadOnlyStoreRepository metadataRepository,
+      boolean isUnregisterMetricForDeletedStoreEnabled,
+      boolean isConcurrentHistogramStatsEnabled) {
     super(metricsRepository, metadataRepository, isUnregisterMetricForDeletedStoreEnabled);
     /**
      * Use a setter function to bypass the restriction that the supertype constructor could not
@@ -41,7 +57,13 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
         stats = scatterGatherStatsMap.computeIfAbsent(storeName, k -> new ScatterGatherStats());
       }
 
-      return new RouterHttpRequestStats(metricsRepo, storeName, requestType, stats, isKeyValueProfilingEnabled);
+      return new RouterHttpRequestStats(
+          metricsRepo,
+          storeName,
+          requestType,
+          stats,
+          isKeyValueProfilingEnabled,
+          isConcurrentHistogramStatsEnabled);
     });
   }
 
@@ -294,6 +316,11 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordErrorRetryAttemptTriggeredByPendingRequestCheck();
   }
 
+  public void recordCoalescedRequest(String storeName) {
+    totalStats.recordCoalescedRequest();
+    getStoreStats(storeName).recordCoalescedRequest();
+  }
+
   public void recordRetryDelay(String storeName, double delay) {
     totalStats.recordRetryDelay(delay);
     getStoreStats(storeName).recordRetryDelay(delay);
@@ -25,6 +25,10 @@ public class HostHealthStats extends AbstractVeniceStats {
   private final Sensor unhealthyPendingQueueDuration;
   private final Sensor unhealthyPendingRateSensor;
   private final Sensor unhealthyHostDelayJoinSensor;
+  private final Sensor unhealthyHostConcurrencyLimitSensor;
+  private final Sensor concurrencyLimitRejectedRequestSensor;
+  private final Sensor concurrencyLimitSensor;
+  private final Sensor concurrencyLimitLatencySensor;
   private Optional<Sensor> unhealthyHostCountCausedByPendingQueueSensor = Optional.empty();
   private Optional<Sensor> unhealthyHostCountCausedByHeartBeatSensor = Optional.empty();
 
@@ -41,6 +45,10 @@ public class HostHealthStats extends AbstractVeniceStats {
     ;
     this.unhealthyPendingRateSensor = registerSensor("unhealthy_pending_queue", new OccurrenceRate());
     this.unhealthyHostDelayJoinSensor = registerSensor("unhealthy_host_delay_join", new OccurrenceRate());
+    this.unhealthyHostConcurrencyLimitSensor = registerSensor("unhealthy_host_concurrency_limit", new Count());
+    this.concurrencyLimitRejectedRequestSensor = registerSensor("concurrency_limit_rejected_request", new Count());
+    this.concurrencyLimitSensor = registerSensor("concurrency_limit", new Avg(), new Min(), new Max());
+    this.concurrencyLimitLatencySensor = registerSensor("concurrency_limit_latency", new Avg(), new Max());
     if (name.equals(AbstractVeniceAggStats.STORE_NAME_FOR_TOTAL_STAT)) {
       // This is trying to avoid emit unnecessary metrics per route
       this.unhealthyHostCountCausedByPendingQueueSensor =
@@ -86,4 +94,21 @@ public class HostHealthStats extends AbstractVeniceStats {
   public void recordUnhealthyHostDelayJoin() {
     unhealthyHostDelayJoinSensor.record();
   }
+
+  public void recordUnhealthyHostConcurrencyLimit() {
+    unhealthyHostConcurrencyLimitSensor.record();
+  }
+
+  public void recordConcurrencyLimitRejectedRequest() {
+    concurrencyLimitRejectedRequestSensor.record();
+  }
+
+  /**
+   * @param limit the adaptive limit of in-flight requests of the host.
+   * @param latencyMs the short-term latency which the limit adapts to.
+   */
+  public void recordConcurrencyLimit(int limit, double latencyMs) {
+    concurrencyLimitSensor.record(limit);
+    concurrencyLimitLatencySensor.record(latencyMs);
+  }
 }
@@ -0,0 +1,50 @@
+package com.linkedin.venice.router.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import java.util.function.LongSupplier;
+
+
+/**
+ * This class tracks the effectiveness of the Router single-get cache.
+ */
+public class RouterCacheStats extends AbstractVeniceStats {
+  private final Sensor cacheHitRequestSensor;
+  private final Sensor cacheMissRequestSensor;
+  private final Sensor cachePutRequestSensor;
+  private final Sensor cacheCollapsedRequestSensor;
+  private final Sensor cacheInvalidationSensor;
+
+  public RouterCacheStats(MetricsRepository metricsRepository, String name, LongSupplier allocatedBytesSupplier) {
+    super(metricsRepository, name);
+    cacheHitRequestSensor = registerSensor("cache_hit_request", new OccurrenceRate());
+    cacheMissRequestSensor = registerSensor("cache_miss_request", new OccurrenceRate());
+    cachePutRequestSensor = registerSensor("cache_put_request", new OccurrenceRate());
+    cacheCollapsedRequestSensor = registerSensor("cache_collapsed_request", new OccurrenceRate());
+    cacheInvalidationSensor = registerSensor("cache_invalidation", new OccurrenceRate());
+    registerSensor("cache_allocated_bytes", new Gauge(allocatedBytesSupplier::getAsLong));
+  }
+
+  public void recordCacheHitRequest() {
+    cacheHitRequestSensor.record();
+  }
+
+  public void recordCacheMissRequest() {
+    cacheMissRequestSensor.record();
+  }
+
+  public void recordCachePutRequest() {
+    cachePutRequestSensor.record();
+  }
+
+  public void recordCacheCollapsedRequest() {
+    cacheCollapsedRequestSensor.record();
+  }
+
+  public void recordCacheInvalidation() {
+    cacheInvalidationSensor.record();
+  }
+}
@@ -6,6 +6,7 @@ import com.linkedin.alpini.router.monitoring.ScatterGatherStats;
 import com.linkedin.venice.common.VeniceSystemStoreUtils;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.stats.AbstractVeniceHttpStats;
+import com.linkedin.venice.stats.ConcurrentHistogramStat;
 import com.linkedin.venice.stats.LambdaStat;
 import com.linkedin.venice.stats.TehutiUtils;
 import io.tehuti.metrics.MeasurableStat;
@@ -20,6 +21,7 @@ import io.tehuti.metrics.stats.OccurrenceRate;
 import io.tehuti.metrics.stats.Rate;
 import io.tehuti.metrics.stats.Total;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
 
 
 public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
@@ -30,8 +32,14 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor healthyRequestRateSensor;
   private final Sensor tardyRequestRatioSensor;
   private final Sensor throttleSensor;
-  private final Sensor latencySensor;
-  private final Sensor healthyRequestLatencySensor;
+  /**
+   * The latencies and key sizes are recorded for every request. They're recorded into sensors, unless the concurrent
+   * histogram stats are enabled, in which case they're recorded into {@link ConcurrentHistogramStat}s without
+   * contention. N.B.: the metrics of a {@link ConcurrentHistogramStat} are snapshots of the values recorded in the
+   * last 30 seconds or more instead of sliding windows, and they're NaN instead of 0 when nothing was recorded.
+   */
+  private final DoubleConsumer latencyRecorder;
+  private final DoubleConsumer healthyRequestLatencyRecorder;
   private final Sensor unhealthyRequestLatencySensor;
   private final Sensor tardyRequestLatencySensor;
   private final Sensor throttledRequestLatencySensor;
@@ -66,7 +74,9 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor retryDelaySensor;
   private final Sensor multiGetFallbackSensor;
   private final Sensor metaStoreShadowReadSensor;
-  private Sensor keySizeSensor;
+  private final Sensor coalescedRequestSensor;
+  private final Sensor coalescedRequestRatioSensor;
+  private DoubleConsumer keySizeRecorder;
   private final String systemStoreName;
 
   // QPS metrics
@@ -76,6 +86,16 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
       RequestType requestType,
       ScatterGatherStats scatterGatherStats,
       boolean isKeyValueProfilingEnabled) {
+    this(metricsRepository, storeName, requestType, scatterGatherStats, isKeyValueProfilingEnabled, false);
+  }
+
+  public RouterHttpRequestStats(
+      MetricsRepository metricsRepository,
+      String storeName,
+      RequestType requestType,
+      ScatterGatherStats scatterGatherStats,
+      boolean isKeyValueProfilingEnabled,
+      boolean isConcurrentHistogramStatsEnabled) {
     super(metricsRepository, storeName, requestType);
     this.systemStoreName = VeniceSystemStoreUtils.extractSystemStoreType(storeName);
     Rate requestRate = new OccurrenceRate();
@@ -95,9 +115,9 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     badRequestKeyCountSensor = registerSensor("bad_request_key_count", new OccurrenceRate(), new Avg(), new Max());
     requestThrottledByRouterCapacitySensor = registerSensor("request_throttled_by_router_capacity", new Count());
     fanoutRequestCountSensor = registerSensor("fanout_request_count", new Avg(), new Max(0));
-    latencySensor = registerSensorWithDetailedPercentiles("latency", new Avg(), new Max(0));
-    healthyRequestLatencySensor =
-        registerSensorWithDetailedPercentiles("healthy_request_latency", new Avg(), new Max(0));
+    latencyRecorder = registerLatencySensor("latency", isConcurrentHistogramStatsEnabled);
+    healthyRequestLatencyRecorder =
+        registerLatencySensor("healthy_request_latency", isConcurrentHistogramStatsEnabled);
     unhealthyRequestLatencySensor =
         registerSensorWithDetailedPercentiles("unhealthy_request_latency", new Avg(), new Max(0));
     tardyRequestLatencySensor = registerSensorWithDetailedPercentiles("tardy_request_latency", new Avg(), new Max(0));
@@ -157,11 +177,15 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     String responseSizeSensorName = "response_size";
     if (isKeyValueProfilingEnabled && storeName.equals(STORE_NAME_FOR_TOTAL_STAT)) {
       String keySizeSensorName = "key_size_in_byte";
-      keySizeSensor = registerSensor(
-          keySizeSensorName,
-          new Avg(),
-          new Max(),
-          TehutiUtils.getFineGrainedPercentileStat(getName(), getFullMetricName(keySizeSensorName)));
+      if (isConcurrentHistogramStatsEnabled && systemStoreName == null) {
+        keySizeRecorder = registerConcurrentHistogramSensorWithFineGrainedPercentiles(keySizeSensorName)::record;
+      } else {
+        keySizeRecorder = registerSensor(
+            keySizeSensorName,
+            new Avg(),
+            new Max(),
+            TehutiUtils.getFineGrainedPercentileStat(getName(), getFullMetricName(keySizeSensorName)))::record;
+      }
       responseSizeSensor = registerSensor(
           responseSizeSensorName,
           new Avg(),
@@ -182,6 +206,15 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         registerSensor("error_retry_attempt_triggered_by_pending_request_check", new OccurrenceRate());
     retryDelaySensor = registerSensor("retry_delay", new Avg(), new Max());
     metaStoreShadowReadSensor = registerSensor("meta_store_shadow_read", new OccurrenceRate());
+
+    /**
+     * coalesced_request is the number of requests which were attached to an in-flight storage node request for the
+     * same key instead of sending a new one, and coalesced_request_ratio is the collapse ratio among all the requests.
+     */
+    Rate coalescedRequestRate = new OccurrenceRate();
+    coalescedRequestSensor = registerSensor("coalesced_request", new Count(), coalescedRequestRate);
+    coalescedRequestRatioSensor =
+        registerSensor("coalesced_request_ratio", new TehutiUtils.SimpleRatioStat(coalescedRequestRate, requestRate));
   }
 
   /**
@@ -196,7 +229,7 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   public void recordHealthyRequest(Double latency) {
     healthySensor.record();
     if (latency != null) {
-      healthyRequestLatencySensor.record(latency);
+      healthyRequestLatencyRecorder.accept(latency);
     }
   }
 
@@ -261,7 +294,7 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   }
 
   public void recordLatency(double latency) {
-    latencySensor.record(latency);
+    latencyRecorder.accept(latency);
   }
 
   public void recordResponseWaitingTime(double waitingTime) {
@@ -333,8 +366,8 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   }
 
   public void recordKeySizeInByte(long keySize) {
-    if (keySizeSensor != null) {
-      keySizeSensor.record(keySize);
+    if (keySizeRecorder != null) {
+      keySizeRecorder.accept(keySize);
     }
   }
 
@@ -366,6 +399,21 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     metaStoreShadowReadSensor.record();
   }
 
+  public void recordCoalescedRequest() {
+    coalescedRequestSensor.record();
+  }
+
+  /**
+   * The stats of the system stores are all recorded by the sensor named after their type, see
+   * {@link #registerSensor(String, MeasurableStat...)}, so they always use the tehuti stats.
+   */
+  private DoubleConsumer registerLatencySensor(String sensorName, boolean isConcurrentHistogramStatsEnabled) {
+    if (isConcurrentHistogramStatsEnabled && systemStoreName == null) {
+      return registerConcurrentHistogramSensorWithDetailedPercentiles(sensorName)::record;
+    }
+    return registerSensorWithDetailedPercentiles(sensorName, new Avg(), new Max(0))::record;
+  }
+
   @Override
   protected Sensor registerSensor(String sensorName, MeasurableStat... stats) {
     return super.registerSensor(systemStoreName == null ? sensorName : systemStoreName, null, stats);
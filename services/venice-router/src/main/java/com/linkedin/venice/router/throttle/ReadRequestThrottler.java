@@ -123,6 +123,24 @@ public class ReadRequestThrottler implements RouterThrottler, StoreDataChangedLi
     }
   }
 
+  /**
+   * The usage is recorded unless the store is already out of quota, in which case its next reads are rejected anyway.
+   */
+  @Override
+  public void chargeRead(String storeName, double readCapacityUnit) {
+    if (!zkRoutersManager.isThrottlingEnabled() || isNoopThrottlerEnabled) {
+      return;
+    }
+    EventThrottler throttler = storesThrottlers.get().get(storeName);
+    if (throttler != null) {
+      try {
+        throttler.maybeThrottle(readCapacityUnit);
+      } catch (QuotaExceededException e) {
+        // The read has already been served.
+      }
+    }
+  }
+
   // TODO will update once we complete some experiments to finalize the correlation between size and read capacity unit.
   // TODO right now read capacity unit is just QPS;
   @Override
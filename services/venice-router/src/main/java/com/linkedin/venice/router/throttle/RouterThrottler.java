@@ -13,6 +13,17 @@ public interface RouterThrottler {
    */
   void mayThrottleRead(String storeName, double readCapacityUnit) throws QuotaExceededException;
 
+  /**
+   * Charges the usage of a read which is only known once it has been served, e.g. the RCU charged by the storage nodes
+   * for the bytes of the values, on top of the usage checked by {@link #mayThrottleRead(String, double)}. The read is
+   * never rejected, but the next reads of the store are throttled sooner.
+   *
+   * @param storeName
+   * @param readCapacityUnit
+   */
+  default void chargeRead(String storeName, double readCapacityUnit) {
+  }
+
   int getReadCapacity();
 
   void setIsNoopThrottlerEnabled(boolean isNoopThrottlerEnabled);
@@ -0,0 +1,156 @@
+package com.linkedin.venice.router.throttle;
+
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * This class adapts the number of in-flight requests which Router sends to every storage node to the latency of the
+ * storage node, in the style of TCP Vegas: while the latency stays close to its long-term baseline, the limit grows
+ * by about the square root of itself per response, and once the latency rises above the baseline by more than the
+ * tolerance, the limit shrinks in proportion. A failed response shrinks the limit multiplicatively, like AIMD.
+ *
+ * So when a storage node slows down, Router stops queueing more requests on it long before the static pending request
+ * thresholds are reached, and {@link com.linkedin.venice.router.api.VeniceHostHealth} routes the excess requests to
+ * the other replicas.
+ */
+public class StorageNodeConcurrencyLimiter {
+  /**
+   * The number of responses over which the short-term and the long-term latencies are averaged.
+   */
+  private static final int SHORT_WINDOW = 10;
+  private static final int LONG_WINDOW = 600;
+  /** The limit is only moved part of the way to its new value on every response, to damp the oscillations. */
+  private static final double SMOOTHING = 0.2;
+  private static final double MIN_GRADIENT = 0.5;
+  private static final double FAILURE_BACKOFF_RATIO = 0.9;
+
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double latencyTolerance;
+  private final Map<String, HostLimit> hostLimits = new VeniceConcurrentHashMap<>();
+
+  public StorageNodeConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double latencyTolerance) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException(
+          "Invalid adaptive concurrency limit bounds, min: " + minLimit + ", max: " + maxLimit);
+    }
+    if (latencyTolerance < 1.0) {
+      throw new IllegalArgumentException("The latency tolerance must be at least 1.0, got: " + latencyTolerance);
+    }
+    this.initialLimit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyTolerance = latencyTolerance;
+  }
+
+  private HostLimit getHostLimit(String nodeId) {
+    return hostLimits.computeIfAbsent(nodeId, id -> new HostLimit());
+  }
+
+  /**
+   * @return true if a request can be sent to the storage node, in which case {@link #onResponse} must be called once
+   *         the request completes.
+   */
+  public boolean tryAcquire(String nodeId) {
+    return getHostLimit(nodeId).tryAcquire();
+  }
+
+  /**
+   * @return true if the storage node has as many in-flight requests as its limit allows.
+   */
+  public boolean isAtLimit(String nodeId) {
+    HostLimit hostLimit = hostLimits.get(nodeId);
+    return hostLimit != null && hostLimit.inFlight.get() >= hostLimit.getLimit();
+  }
+
+  /**
+   * Releases the request, and adapts the limit of the storage node to its latency.
+   *
+   * @param latencyNanos the latency of the request.
+   * @param failed whether the request failed because of the storage node, e.g. it timed out or was rejected with a
+   *               5xx, in which case its latency isn't representative.
+   */
+  public void onResponse(String nodeId, long latencyNanos, boolean failed) {
+    getHostLimit(nodeId).onResponse(latencyNanos, failed);
+  }
+
+  /**
+   * Releases a request which was cancelled, e.g. because its retry completed first, without adapting the limit since
+   * the latency of the request is unknown.
+   */
+  public void release(String nodeId) {
+    getHostLimit(nodeId).inFlight.decrementAndGet();
+  }
+
+  public int getLimit(String nodeId) {
+    HostLimit hostLimit = hostLimits.get(nodeId);
+    return hostLimit == null ? initialLimit : hostLimit.getLimit();
+  }
+
+  public int getInFlightRequestCount(String nodeId) {
+    HostLimit hostLimit = hostLimits.get(nodeId);
+    return hostLimit == null ? 0 : hostLimit.inFlight.get();
+  }
+
+  /**
+   * @return the short-term average latency of the storage node in nanoseconds, or 0 if it didn't respond yet.
+   */
+  public double getShortTermLatencyNanos(String nodeId) {
+    HostLimit hostLimit = hostLimits.get(nodeId);
+    return hostLimit == null ? 0 : hostLimit.shortLatency;
+  }
+
+  private class HostLimit {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit = initialLimit;
+    /** Exponential moving averages of the latency, only updated under the monitor of this limit. */
+    private volatile double shortLatency;
+    private double longLatency;
+
+    int getLimit() {
+      return (int) limit;
+    }
+
+    boolean tryAcquire() {
+      for (;;) {
+        int current = inFlight.get();
+        if (current >= getLimit()) {
+          return false;
+        }
+        if (inFlight.compareAndSet(current, current + 1)) {
+          return true;
+        }
+      }
+    }
+
+    synchronized void onResponse(long latencyNanos, boolean failed) {
+      int inFlightBeforeRelease = inFlight.getAndDecrement();
+      if (failed) {
+        limit = Math.max(minLimit, limit * FAILURE_BACKOFF_RATIO);
+        return;
+      }
+      if (longLatency == 0) {
+        shortLatency = latencyNanos;
+        longLatency = latencyNanos;
+        return;
+      }
+      shortLatency += (latencyNanos - shortLatency) * 2 / (SHORT_WINDOW + 1);
+      longLatency += (latencyNanos - longLatency) * 2 / (LONG_WINDOW + 1);
+      if (longLatency > shortLatency * 2) {
+        // The latency dropped well below the baseline, e.g. after a slow period, so the baseline catches up faster.
+        longLatency *= 0.95;
+      }
+
+      // The limit only grows while it's used, otherwise it would grow without bound while the load is low.
+      if (shortLatency <= longLatency * latencyTolerance && inFlightBeforeRelease < limit / 2) {
+        return;
+      }
+      double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, latencyTolerance * longLatency / shortLatency));
+      double newLimit = limit * gradient + Math.sqrt(limit);
+      limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+    }
+  }
+}
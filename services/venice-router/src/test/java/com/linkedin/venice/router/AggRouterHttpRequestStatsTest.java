@@ -50,11 +50,38 @@ public class AggRouterHttpRequestStatsTest {
     Assert.assertEquals((int) reporter.query(".total--latency.95thPercentile").value(), 95);
     Assert.assertEquals((int) reporter.query(".total--latency.99thPercentile").value(), 99);
     Assert.assertEquals((int) reporter.query(".store2--latency.50thPercentile").value(), 50);
+    Assert.assertEquals(reporter.query(".total--latency.Max").value(), 100d);
 
     stats.handleStoreDeleted("store1");
     Assert.assertNull(metricsRepository.getMetric(".store1--request.Count"));
   }
 
+  @Test
+  public void testConcurrentHistogramLatencyMetrics() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    MockTehutiReporter reporter = new MockTehutiReporter();
+    metricsRepository.addReporter(reporter);
+    AggRouterHttpRequestStats stats = new AggRouterHttpRequestStats(
+        metricsRepository,
+        RequestType.SINGLE_GET,
+        false,
+        storeMetadataRepository,
+        true,
+        true);
+
+    for (int i = 1; i <= 100; i += 1) {
+      stats.recordLatency("store2", i);
+    }
+
+    // The latency percentiles are measured by a histogram with log-linear buckets, i.e. within 1/32 of the values.
+    Assert.assertEquals(reporter.query(".total--latency.50thPercentile").value(), 50, 50 / 32d);
+    Assert.assertEquals(reporter.query(".total--latency.95thPercentile").value(), 95, 95 / 32d);
+    Assert.assertEquals(reporter.query(".total--latency.99thPercentile").value(), 99, 99 / 32d);
+    Assert.assertEquals(reporter.query(".store2--latency.50thPercentile").value(), 50, 50 / 32d);
+    Assert.assertEquals(reporter.query(".total--latency.Avg").value(), 50.5d);
+    Assert.assertEquals(reporter.query(".total--latency.Max").value(), 100d);
+  }
+
   @Test
   public void testProfilingMetrics() {
     AggRouterHttpRequestStats stats =
@@ -0,0 +1,134 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.base.concurrency.AsyncFuture;
+import com.linkedin.alpini.base.concurrency.AsyncPromise;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.cache.RouterCache;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpStatus;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class TestSingleGetRequestCoalescer {
+  private static final String STORE_NAME = "test_store";
+  private static final String RESOURCE_NAME = "test_store_v1";
+  private static final Instance FIRST_NODE = new Instance("host1_1234", "host1", 1234);
+  private static final Instance SECOND_NODE = new Instance("host2_1234", "host2", 1234);
+
+  private AggRouterHttpRequestStats stats;
+  private SingleGetRequestCoalescer coalescer;
+
+  @BeforeMethod
+  public void setUp() {
+    stats = mock(AggRouterHttpRequestStats.class);
+    coalescer = new SingleGetRequestCoalescer(stats);
+  }
+
+  private static PortableHttpResponse mockResponse(String value) throws Exception {
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(HttpStatus.SC_OK).when(response).getStatusCode();
+    byte[] content = value.getBytes(StandardCharsets.UTF_8);
+    doAnswer(invocation -> Unpooled.wrappedBuffer(content)).when(response).getContentInByteBuf();
+    doReturn(true).when(response).containsHeader(HttpConstants.VENICE_REQUEST_RCU);
+    doReturn("5").when(response).getFirstHeader(HttpConstants.VENICE_REQUEST_RCU);
+    return response;
+  }
+
+  private CompletableFuture<PortableHttpResponse> coalesce(
+      String resourceName,
+      RouterKey key,
+      RouterCache.ResponseLoader loader) throws Exception {
+    return coalescer.coalesce(STORE_NAME, resourceName, key, FIRST_NODE, AsyncFuture.deferred(false), loader);
+  }
+
+  private static RouterKey getKey(String key, int partitionId) {
+    RouterKey routerKey = RouterKey.fromString(key);
+    routerKey.setPartitionId(partitionId);
+    return routerKey;
+  }
+
+  @Test
+  public void testConcurrentRequestsAreCoalesced() throws Exception {
+    AtomicInteger loadCount = new AtomicInteger();
+    CompletableFuture<PortableHttpResponse> storageNodeResponse = new CompletableFuture<>();
+    RouterCache.ResponseLoader loader = () -> {
+      loadCount.incrementAndGet();
+      return storageNodeResponse;
+    };
+    AsyncPromise<Instance> firstHostSelected = AsyncFuture.deferred(false);
+    CompletableFuture<PortableHttpResponse> firstFuture =
+        coalescer.coalesce(STORE_NAME, RESOURCE_NAME, getKey("key", 0), FIRST_NODE, firstHostSelected, loader);
+    AsyncPromise<Instance> secondHostSelected = AsyncFuture.deferred(false);
+    CompletableFuture<PortableHttpResponse> secondFuture =
+        coalescer.coalesce(STORE_NAME, RESOURCE_NAME, getKey("key", 0), SECOND_NODE, secondHostSelected, loader);
+    Assert.assertEquals(loadCount.get(), 1);
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 1);
+    verify(stats, times(1)).recordCoalescedRequest(STORE_NAME);
+    // The coalesced request is served by the storage node of the in-flight request.
+    Assert.assertEquals(firstHostSelected.getNow(), FIRST_NODE);
+    Assert.assertEquals(secondHostSelected.getNow(), FIRST_NODE);
+
+    storageNodeResponse.complete(mockResponse("value"));
+    // Every request should be able to consume the response content by itself.
+    Assert.assertEquals(firstFuture.get().getContentInByteBuf().toString(StandardCharsets.UTF_8), "value");
+    Assert.assertEquals(secondFuture.get().getContentInByteBuf().toString(StandardCharsets.UTF_8), "value");
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 0);
+
+    // Only the in-flight request carries the RCU charged by the storage node.
+    Assert.assertEquals(firstFuture.get().getFirstHeader(HttpConstants.VENICE_REQUEST_RCU), "5");
+    Assert.assertTrue(secondFuture.get() instanceof SingleGetRequestCoalescer.CoalescedResponse);
+    Assert.assertFalse(secondFuture.get().containsHeader(HttpConstants.VENICE_REQUEST_RCU));
+    Assert.assertEquals(
+        ((SingleGetRequestCoalescer.CoalescedResponse) secondFuture.get()).getStorageNode(),
+        FIRST_NODE);
+
+    // The completed request shouldn't be reused.
+    coalesce(RESOURCE_NAME, getKey("key", 0), loader);
+    Assert.assertEquals(loadCount.get(), 2);
+  }
+
+  @Test
+  public void testDifferentKeysAreNotCoalesced() throws Exception {
+    AtomicInteger loadCount = new AtomicInteger();
+    RouterCache.ResponseLoader loader = () -> {
+      loadCount.incrementAndGet();
+      return new CompletableFuture<>();
+    };
+    coalesce(RESOURCE_NAME, getKey("key", 0), loader);
+    coalesce(RESOURCE_NAME, getKey("another_key", 0), loader);
+    coalesce("test_store_v2", getKey("key", 0), loader);
+    Assert.assertEquals(loadCount.get(), 3);
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 3);
+    verify(stats, never()).recordCoalescedRequest(STORE_NAME);
+  }
+
+  @Test
+  public void testFailureIsPropagatedToAllRequests() throws Exception {
+    CompletableFuture<PortableHttpResponse> storageNodeResponse = new CompletableFuture<>();
+    RouterCache.ResponseLoader loader = () -> storageNodeResponse;
+    CompletableFuture<PortableHttpResponse> firstFuture = coalesce(RESOURCE_NAME, getKey("key", 0), loader);
+    CompletableFuture<PortableHttpResponse> secondFuture = coalesce(RESOURCE_NAME, getKey("key", 0), loader);
+
+    storageNodeResponse.completeExceptionally(new VeniceException("Storage node is not available"));
+    Assert.assertThrows(ExecutionException.class, firstFuture::get);
+    Assert.assertThrows(ExecutionException.class, secondFuture::get);
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 0);
+  }
+}
@@ -13,6 +13,7 @@ import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.router.throttle.StorageNodeConcurrencyLimiter;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -148,4 +149,30 @@ public class TestVeniceHostHealth {
         hostHealth.isHostHealthy(slowInstance, fakePartition),
         "Host should be unhealthy when the OOR period is not over yet.");
   }
+
+  @Test
+  public void checkHostHealthByConcurrencyLimit() {
+    Instance instance = Instance.fromNodeId("host_123");
+    LiveInstanceMonitor mockLiveInstanceMonitor = mock(LiveInstanceMonitor.class);
+    doReturn(true).when(mockLiveInstanceMonitor).isInstanceAlive(instance);
+    AggHostHealthStats mockAggHostHealthStats = mock(AggHostHealthStats.class);
+    VeniceHostHealth hostHealth = new VeniceHostHealth(
+        mockLiveInstanceMonitor,
+        mockStorageNodeClient(true),
+        mock(VeniceRouterConfig.class),
+        mock(RouteHttpRequestStats.class),
+        mockAggHostHealthStats);
+    StorageNodeConcurrencyLimiter concurrencyLimiter = new StorageNodeConcurrencyLimiter(1, 1, 10, 2.0);
+    hostHealth.initConcurrencyLimiter(concurrencyLimiter);
+
+    String fakePartition = "fake_partition";
+    Assert.assertTrue(hostHealth.isHostHealthy(instance, fakePartition));
+    Assert.assertTrue(concurrencyLimiter.tryAcquire(instance.getNodeId()));
+    Assert.assertFalse(
+        hostHealth.isHostHealthy(instance, fakePartition),
+        "Host should be unhealthy when it is at its concurrency limit.");
+    verify(mockAggHostHealthStats).recordUnhealthyHostConcurrencyLimit(instance.getNodeId());
+    concurrencyLimiter.onResponse(instance.getNodeId(), 1000, false);
+    Assert.assertTrue(hostHealth.isHostHealthy(instance, fakePartition));
+  }
 }
@@ -6,16 +6,19 @@ import static org.mockito.Mockito.doReturn;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.helix.HelixReadOnlyStoreRepository;
 import com.linkedin.venice.meta.OfflinePushStrategy;
+import com.linkedin.venice.meta.PartitionerConfigImpl;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.ReadStrategy;
 import com.linkedin.venice.meta.RoutingDataRepository;
 import com.linkedin.venice.meta.RoutingStrategy;
 import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.meta.VersionImpl;
 import com.linkedin.venice.meta.ZKStore;
 import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.partitioner.VenicePartitioner;
 import com.linkedin.venice.utils.Utils;
+import java.util.HashMap;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -73,4 +76,42 @@ public class TestVenicePartitionFinder {
         VeniceException.class,
         () -> finder.findPartitionNumber(key, NUM_PARTITIONS, storeName, NUM_VERSIONS + 1));
   }
+
+  @Test
+  public void testSubPartitionResolution() {
+    RoutingDataRepository mockDataRepo = Mockito.mock(RoutingDataRepository.class);
+    HelixReadOnlyStoreRepository mockMetadataRepo = Mockito.mock(HelixReadOnlyStoreRepository.class);
+    String storeName = Utils.getUniqueString("store");
+    Store store = new ZKStore(
+        storeName,
+        "owner",
+        System.currentTimeMillis(),
+        PersistenceType.IN_MEMORY,
+        RoutingStrategy.CONSISTENT_HASH,
+        ReadStrategy.ANY_OF_ONLINE,
+        OfflinePushStrategy.WAIT_N_MINUS_ONE_REPLCIA_PER_PARTITION,
+        1);
+    int amplificationFactor = 3;
+    Version version = new VersionImpl(storeName, 1, "1", NUM_PARTITIONS);
+    version.setPartitionerConfig(
+        new PartitionerConfigImpl(DefaultVenicePartitioner.class.getName(), new HashMap<>(), amplificationFactor));
+    store.addVersion(version);
+    doReturn(store).when(mockMetadataRepo).getStore(storeName);
+    VenicePartitionFinder finder = new VenicePartitionFinder(mockDataRepo, mockMetadataRepo, true);
+    Assert.assertTrue(finder.isSubPartitionResolutionEnabled());
+    Assert.assertEquals(finder.getAmplificationFactor(storeName, 1), amplificationFactor);
+
+    VenicePartitioner partitioner = finder.findPartitioner(storeName, 1);
+    RouterKey key = RouterKey.fromString("mykey");
+    int userPartition = finder.findPartitionNumber(key, NUM_PARTITIONS, storeName, 1);
+    int subPartition =
+        VenicePartitionFinder.findSubPartitionNumber(key, userPartition, partitioner, amplificationFactor);
+    // Should be consistent with the sub-partition resolved by storage nodes.
+    Assert.assertEquals(
+        subPartition,
+        userPartition * amplificationFactor + partitioner.getPartitionId(key.getKeyBuffer(), amplificationFactor));
+    Assert.assertEquals(
+        VenicePartitionFinder.findSubPartitionNumber(key, userPartition, partitioner, 1),
+        userPartition);
+  }
 }
@@ -124,4 +124,48 @@ public class TestVenicePathParserHelper {
     Assert.assertEquals(helper.getResourceName(), storeName);
     Assert.assertNull(helper.getKey());
   }
+
+  @Test
+  public void parsesPathOnlyAndEncodedUris() {
+    String storeName = "interned_test_store";
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        "/" + TYPE_STORAGE + "/" + storeName + "/key?f=b64",
+        -1,
+        -1);
+    VenicePathParserHelper helper = parseRequest(request);
+    Assert.assertEquals(helper.getResourceType().toString(), TYPE_STORAGE);
+    Assert.assertEquals(helper.getResourceName(), storeName);
+    Assert.assertEquals(helper.getKey(), "key");
+
+    request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        TYPE_STORAGE + "/" + storeName + "/other_key/ignored",
+        -1,
+        -1);
+    VenicePathParserHelper otherHelper = parseRequest(request);
+    Assert.assertEquals(otherHelper.getResourceType().toString(), TYPE_STORAGE);
+    Assert.assertEquals(otherHelper.getKey(), "other_key");
+    // The resource names are interned
+    Assert.assertSame(otherHelper.getResourceName(), helper.getResourceName());
+
+    // Percent-encoded octets are decoded like before
+    request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        "/" + TYPE_STORAGE + "/" + storeName + "/a%20b",
+        -1,
+        -1);
+    helper = parseRequest(request);
+    Assert.assertEquals(helper.getResourceName(), storeName);
+    Assert.assertEquals(helper.getKey(), "a b");
+
+    // Invalid uris
+    for (String uri: new String[] { "/" + TYPE_STORAGE + "/" + storeName + "/a b", "1http://myhost:1234/" }) {
+      request = new BasicFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri, -1, -1);
+      Assert.assertEquals(parseRequest(request).getResourceType(), RouterResourceType.TYPE_INVALID, uri);
+    }
+  }
 }
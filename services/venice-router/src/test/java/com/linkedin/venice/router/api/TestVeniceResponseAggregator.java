@@ -1,14 +1,18 @@
 package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.HttpConstants.VENICE_COMPRESSION_STRATEGY;
+import static com.linkedin.venice.HttpConstants.VENICE_REQUEST_RCU;
 import static com.linkedin.venice.HttpConstants.VENICE_SCHEMA_ID;
 import static com.linkedin.venice.HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY;
 import static io.netty.handler.codec.http.HttpResponseStatus.MOVED_PERMANENTLY;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.TOO_MANY_REQUESTS;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,11 +29,13 @@ import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.router.throttle.RouterThrottler;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.utils.Utils;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -104,6 +110,41 @@ public class TestVeniceResponseAggregator {
     verify(mockStatsForSingleGet).recordResponseSize(storeName, fakeContent.length);
   }
 
+  @Test
+  public void testBuildResponseChargesExtraRcuOfStorageNode() {
+    String storeName = Utils.getUniqueString("test_store");
+    BasicFullHttpRequest request =
+        new BasicFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/storage/test_store/abc", -1, -1);
+    RouterStats mockRouterStat = mock(RouterStats.class);
+    when(mockRouterStat.getStatsByType(RequestType.SINGLE_GET)).thenReturn(mock(AggRouterHttpRequestStats.class));
+    CompressorFactory compressorFactory = mock(CompressorFactory.class);
+    VenicePath path = getPath(storeName, RequestType.SINGLE_GET, mockRouterStat, request, compressorFactory);
+    doReturn(Collections.singletonList(mock(RouterKey.class))).when(path).getPartitionKeys();
+    Metrics metrics = new Metrics();
+    metrics.setPath(path);
+
+    RouterThrottler throttler = mock(RouterThrottler.class);
+    doReturn(1).when(throttler).getReadCapacity();
+    VeniceResponseAggregator responseAggregator = new VeniceResponseAggregator(mockRouterStat, Optional.empty());
+    responseAggregator.initReadRequestThrottler(throttler);
+
+    // The storage node charged 5 RCU for the value bytes, and the request was admitted with 1 RCU for its key.
+    Map<String, String> headers = Collections.singletonMap(VENICE_REQUEST_RCU, "5");
+    responseAggregator.buildResponse(
+        request,
+        metrics,
+        Collections.singletonList(buildFullHttpResponse(OK, "abc".getBytes(), headers)));
+    verify(throttler).chargeRead(storeName, 4);
+
+    // Retry requests aren't charged.
+    doReturn(true).when(path).isRetryRequest();
+    responseAggregator.buildResponse(
+        request,
+        metrics,
+        Collections.singletonList(buildFullHttpResponse(OK, "abc".getBytes(), headers)));
+    verify(throttler, times(1)).chargeRead(anyString(), anyDouble());
+  }
+
   private byte[] getResponseContentWithSchemaString(String value) {
     RecordSerializer<Object> serializer = SerializerDeserializerFactory.getAvroGenericSerializer(STRING_SCHEMA);
     return serializer.serialize(value);
@@ -356,4 +397,38 @@ public class TestVeniceResponseAggregator {
         routerResponse.headers().get(VENICE_COMPRESSION_STRATEGY),
         String.valueOf(CompressionStrategy.NO_OP.getValue()));
   }
+
+  @Test
+  public void testMultiGetResponsesAreSplicedWithoutCopy() {
+    String storeName = Utils.getUniqueString("test_store");
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    VeniceResponseAggregator responseAggregator = new VeniceResponseAggregator(routerStats, Optional.empty());
+
+    // More sub-responses than the default component limit of CompositeByteBuf
+    int responseCount = 20;
+    List<FullHttpResponse> storageNodeResponses = new ArrayList<>();
+    StringBuilder expectedContent = new StringBuilder();
+    for (int i = 0; i < responseCount; ++i) {
+      String value = "value_" + i;
+      expectedContent.append(value);
+      ByteBuf content = i % 2 == 0
+          ? Unpooled.wrappedBuffer(value.getBytes())
+          : Unpooled.compositeBuffer().addComponent(true, Unpooled.wrappedBuffer(value.getBytes()));
+      FullHttpResponse storageNodeResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, OK, content);
+      storageNodeResponse.headers().add(VENICE_COMPRESSION_STRATEGY, CompressionStrategy.NO_OP.getValue());
+      storageNodeResponse.headers().add(VENICE_SCHEMA_ID, "1");
+      storageNodeResponse.headers().add(HttpHeaderNames.CONTENT_TYPE, HttpConstants.AVRO_BINARY);
+      storageNodeResponses.add(storageNodeResponse);
+    }
+
+    FullHttpResponse routerResponse =
+        responseAggregator.processMultiGetResponses(storageNodeResponses, storeName, 1, Optional.empty());
+    Assert.assertEquals(routerResponse.status(), OK);
+    Assert.assertTrue(routerResponse.content() instanceof CompositeByteBuf);
+    Assert.assertEquals(((CompositeByteBuf) routerResponse.content()).numComponents(), responseCount);
+    Assert.assertEquals(new String(ByteBufUtil.getBytes(routerResponse.content())), expectedContent.toString());
+    Assert.assertEquals(
+        routerResponse.headers().getInt(HttpHeaderNames.CONTENT_LENGTH).intValue(),
+        expectedContent.length());
+  }
 }
@@ -159,4 +159,19 @@ public class TestVenicePath {
     assertFalse(retryPath2.isRetryRequestTooLate());
     assertTrue(retryPath2.canRequestStorageNode(STORAGE_NODE1));
   }
+
+  @Test
+  public void testIsFormatB64() {
+    assertTrue(VeniceSingleGetPath.isFormatB64("/storage/store/key?f=b64"));
+    assertTrue(VeniceSingleGetPath.isFormatB64("/storage/store/key?a=1&&f=b64&f=string"));
+    assertTrue(VeniceSingleGetPath.isFormatB64("/storage/store/key?f=b%3664"));
+    // QueryStringDecoder also separates the parameters with ';', and ignores the fragment.
+    assertTrue(VeniceSingleGetPath.isFormatB64("/storage/store/key?a=1;f=b64"));
+    assertTrue(VeniceSingleGetPath.isFormatB64("/storage/store/key?f=b64#fragment"));
+    assertFalse(VeniceSingleGetPath.isFormatB64("/storage/store/key?a=1#&f=b64"));
+    assertFalse(VeniceSingleGetPath.isFormatB64("/storage/store/key"));
+    assertFalse(VeniceSingleGetPath.isFormatB64("/storage/store/key?f=string&f=b64"));
+    assertFalse(VeniceSingleGetPath.isFormatB64("/storage/store/key?f=b64x"));
+    assertFalse(VeniceSingleGetPath.isFormatB64("/storage/store/key?ff=b64&f"));
+  }
 }
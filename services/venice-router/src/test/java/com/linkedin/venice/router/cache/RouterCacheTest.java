@@ -0,0 +1,139 @@
+package com.linkedin.venice.router.cache;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.utils.TestMockTime;
+import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.Unpooled;
+import io.tehuti.metrics.MetricsRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpStatus;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class RouterCacheTest {
+  private static final String STORE_NAME = "test_store";
+
+  private ReadOnlyStoreRepository storeRepository;
+  private Store store;
+  private TestMockTime time;
+  private RouterCache routerCache;
+
+  @BeforeMethod
+  public void setUp() {
+    storeRepository = mock(ReadOnlyStoreRepository.class);
+    store = mock(Store.class);
+    doReturn(STORE_NAME).when(store).getName();
+    doReturn(1).when(store).getCurrentVersion();
+    doReturn(false).when(store).isHybrid();
+    doReturn(store).when(storeRepository).getStore(STORE_NAME);
+    time = new TestMockTime();
+    routerCache = new RouterCache(
+        storeRepository,
+        Collections.singletonMap(STORE_NAME, 10L * 1024 * 1024),
+        1000,
+        new MetricsRepository(),
+        time);
+  }
+
+  private static PortableHttpResponse mockResponse(int statusCode, String value) throws Exception {
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(statusCode).when(response).getStatusCode();
+    byte[] content = value.getBytes(StandardCharsets.UTF_8);
+    doAnswer(invocation -> Unpooled.wrappedBuffer(content)).when(response).getContentInByteBuf();
+    doReturn(true).when(response).containsHeader(HttpConstants.VENICE_SCHEMA_ID);
+    doReturn("1").when(response).getFirstHeader(HttpConstants.VENICE_SCHEMA_ID);
+    return response;
+  }
+
+  private static String getContent(PortableHttpResponse response) throws Exception {
+    return response.getContentInByteBuf().toString(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testCacheAndVersionSwap() throws Exception {
+    RouterKey key = RouterKey.fromString("key");
+    AtomicInteger loadCount = new AtomicInteger();
+    PortableHttpResponse storageNodeResponse = mockResponse(HttpStatus.SC_OK, "value");
+    RouterCache.ResponseLoader loader = () -> {
+      loadCount.incrementAndGet();
+      return CompletableFuture.completedFuture(storageNodeResponse);
+    };
+    PortableHttpResponse response = routerCache.getOrLoad(STORE_NAME, 1, key, loader).get();
+    Assert.assertEquals(getContent(response), "value");
+    Assert.assertTrue(routerCache.contains(STORE_NAME, 1, key));
+    Assert.assertFalse(routerCache.contains(STORE_NAME, 2, key));
+
+    PortableHttpResponse cachedResponse = routerCache.getOrLoad(STORE_NAME, 1, key, loader).get();
+    Assert.assertEquals(loadCount.get(), 1, "The second lookup should be served by the cache");
+    Assert.assertEquals(getContent(cachedResponse), "value");
+    Assert.assertEquals(cachedResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID), "1");
+
+    // Version swap should flush the cache
+    doReturn(2).when(store).getCurrentVersion();
+    routerCache.handleStoreChanged(store);
+    Assert.assertFalse(routerCache.contains(STORE_NAME, 1, key));
+    Assert.assertNull(routerCache.get(STORE_NAME, 1, key));
+  }
+
+  @Test
+  public void testErrorResponseIsNotCached() throws Exception {
+    RouterKey key = RouterKey.fromString("key");
+    PortableHttpResponse storageNodeResponse = mockResponse(HttpStatus.SC_SERVICE_UNAVAILABLE, "error");
+    RouterCache.ResponseLoader loader = () -> CompletableFuture.completedFuture(storageNodeResponse);
+    routerCache.getOrLoad(STORE_NAME, 1, key, loader).get();
+    Assert.assertFalse(routerCache.contains(STORE_NAME, 1, key));
+  }
+
+  @Test
+  public void testConcurrentMissesAreCollapsed() throws Exception {
+    RouterKey key = RouterKey.fromString("key");
+    AtomicInteger loadCount = new AtomicInteger();
+    CompletableFuture<PortableHttpResponse> storageNodeResponse = new CompletableFuture<>();
+    RouterCache.ResponseLoader loader = () -> {
+      loadCount.incrementAndGet();
+      return storageNodeResponse;
+    };
+    CompletableFuture<PortableHttpResponse> firstFuture = routerCache.getOrLoad(STORE_NAME, 1, key, loader);
+    CompletableFuture<PortableHttpResponse> secondFuture = routerCache.getOrLoad(STORE_NAME, 1, key, loader);
+    Assert.assertEquals(loadCount.get(), 1);
+    Assert.assertFalse(firstFuture.isDone());
+
+    storageNodeResponse.complete(mockResponse(HttpStatus.SC_OK, "value"));
+    Assert.assertEquals(getContent(firstFuture.get()), "value");
+    Assert.assertEquals(getContent(secondFuture.get()), "value");
+  }
+
+  @Test
+  public void testHybridStoreEntryExpires() throws Exception {
+    doReturn(true).when(store).isHybrid();
+    RouterKey key = RouterKey.fromString("key");
+    PortableHttpResponse storageNodeResponse = mockResponse(HttpStatus.SC_OK, "value");
+    RouterCache.ResponseLoader loader = () -> CompletableFuture.completedFuture(storageNodeResponse);
+    routerCache.getOrLoad(STORE_NAME, 1, key, loader).get();
+    Assert.assertNotNull(routerCache.get(STORE_NAME, 1, key));
+    Assert.assertTrue(routerCache.contains(STORE_NAME, 1, key));
+    time.addMilliseconds(1000);
+    Assert.assertNull(routerCache.get(STORE_NAME, 1, key));
+    // Expired entries aren't exempted from the read quota
+    Assert.assertFalse(routerCache.contains(STORE_NAME, 1, key));
+  }
+
+  @Test
+  public void testStoreWithoutCacheConfig() {
+    Assert.assertTrue(routerCache.isCacheEnabled(STORE_NAME));
+    Assert.assertFalse(routerCache.isCacheEnabled(Utils.getUniqueString("another_store")));
+  }
+}
@@ -106,6 +106,16 @@ public class ReadRequestThrottlerTest {
     }
   }
 
+  @Test
+  public void testChargeRead() {
+    // The usage charged after the reads are served is never rejected, but it throttles the next reads.
+    throttler.chargeRead(store.getName(), totalQuota / routerCount * appliedQuotaBuffer);
+    throttler.chargeRead(store.getName(), totalQuota / routerCount * appliedQuotaBuffer);
+    Assert.assertThrows(
+        QuotaExceededException.class,
+        () -> throttler.mayThrottleRead(store.getName(), 10 * appliedQuotaBuffer));
+  }
+
   @Test
   public void testOnRouterCountChanged() {
     try {
@@ -0,0 +1,81 @@
+package com.linkedin.venice.router.throttle;
+
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StorageNodeConcurrencyLimiterTest {
+  private static final String NODE_ID = "host_123";
+  private static final long FAST_LATENCY = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long SLOW_LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+
+  @Test
+  public void testLimitAdaptsToLatency() {
+    StorageNodeConcurrencyLimiter limiter = new StorageNodeConcurrencyLimiter(10, 2, 100, 2.0);
+    Assert.assertEquals(limiter.getLimit(NODE_ID), 10);
+    Assert.assertFalse(limiter.isAtLimit(NODE_ID));
+
+    // The limit grows while the storage node is saturated and its latency is stable.
+    saturate(limiter, 200, FAST_LATENCY);
+    Assert.assertEquals(limiter.getLimit(NODE_ID), 100);
+    Assert.assertTrue(limiter.isAtLimit(NODE_ID));
+    Assert.assertFalse(limiter.tryAcquire(NODE_ID));
+
+    // The limit shrinks quickly once the storage node slows down.
+    saturate(limiter, 50, SLOW_LATENCY);
+    Assert.assertTrue(limiter.getLimit(NODE_ID) < 20, "The limit should shrink, got: " + limiter.getLimit(NODE_ID));
+    Assert.assertEquals(limiter.getShortTermLatencyNanos(NODE_ID), SLOW_LATENCY, SLOW_LATENCY * 0.1);
+  }
+
+  @Test
+  public void testLimitDoesNotGrowWhenUnused() {
+    StorageNodeConcurrencyLimiter limiter = new StorageNodeConcurrencyLimiter(10, 2, 100, 2.0);
+    for (int i = 0; i < 200; i++) {
+      Assert.assertTrue(limiter.tryAcquire(NODE_ID));
+      limiter.onResponse(NODE_ID, FAST_LATENCY, false);
+    }
+    Assert.assertEquals(limiter.getLimit(NODE_ID), 10);
+    Assert.assertEquals(limiter.getInFlightRequestCount(NODE_ID), 0);
+  }
+
+  @Test
+  public void testFailuresAndCancellations() {
+    StorageNodeConcurrencyLimiter limiter = new StorageNodeConcurrencyLimiter(10, 5, 100, 2.0);
+    Assert.assertTrue(limiter.tryAcquire(NODE_ID));
+    limiter.release(NODE_ID);
+    Assert.assertEquals(limiter.getLimit(NODE_ID), 10);
+    Assert.assertEquals(limiter.getInFlightRequestCount(NODE_ID), 0);
+
+    // Every failure shrinks the limit multiplicatively, down to the min limit.
+    Assert.assertTrue(limiter.tryAcquire(NODE_ID));
+    limiter.onResponse(NODE_ID, FAST_LATENCY, true);
+    Assert.assertEquals(limiter.getLimit(NODE_ID), 9);
+    for (int i = 0; i < 20; i++) {
+      Assert.assertTrue(limiter.tryAcquire(NODE_ID));
+      limiter.onResponse(NODE_ID, FAST_LATENCY, true);
+    }
+    Assert.assertEquals(limiter.getLimit(NODE_ID), 5);
+    Assert.assertEquals(limiter.getInFlightRequestCount(NODE_ID), 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidBounds() {
+    new StorageNodeConcurrencyLimiter(10, 20, 10, 2.0);
+  }
+
+  /**
+   * Keeps the storage node at its limit, and completes one request at a time with the given latency.
+   */
+  private static void saturate(StorageNodeConcurrencyLimiter limiter, int responseCount, long latencyNanos) {
+    for (int i = 0; i < responseCount; i++) {
+      while (limiter.tryAcquire(NODE_ID)) {
+        // Fill up the limit
+      }
+      limiter.onResponse(NODE_ID, latencyNanos, false);
+    }
+    while (limiter.tryAcquire(NODE_ID)) {
+      // Fill up the limit
+    }
+  }
+}
@@ -0,0 +1,308 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.alpini.base.queuing.QOSBasedMultiQueue;
+import com.linkedin.alpini.base.queuing.QOSBasedRequestRunnable;
+import com.linkedin.alpini.base.queuing.QOSPolicy;
+import com.linkedin.alpini.base.queuing.SimpleQueue;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.stats.AggServerReadQueueStats;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * The work queue of a read executor, which queues the requests of each store separately and polls the stores in turn,
+ * with the {@link QOSBasedMultiQueue} of alpini, instead of a single FIFO queue. Within a store, the single gets are
+ * preferred over the batch gets and compute requests, according to the QOS ratio. So the heavy batch gets of a store
+ * can't queue up the single gets of the other stores behind them.
+ *
+ * It also sheds load early, by rejecting the requests of a store which has the max queue length per store of requests
+ * queued already, and the requests which waited longer than the queue time SLO when they're polled, rather than
+ * serving them after their clients most likely gave up. The requests are rejected by the shed action of their
+ * {@link ReadTask}, which is run by the thread which enqueued or polled the request.
+ *
+ * The tasks which aren't a {@link ReadTask}, e.g. the chunks of a parallel batch get, are queued together with a
+ * {@link QOS#NORMAL} QOS, and are never rejected by the queue time SLO.
+ *
+ * The underlying queue can only be added to and polled, so the queued tasks are also tracked in a set, which backs
+ * {@link #peek()}, {@link #iterator()} and the removal of a task, e.g. by {@link ThreadPoolExecutor#remove(Runnable)}.
+ * A removed task stays in the underlying queue, and is skipped when it's polled.
+ */
+public class FairReadRequestQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+  private static final String DEFAULT_QUEUE_NAME = "";
+
+  private final SimpleQueue<ReadTask> queue;
+  /**
+   * The tasks which are queued and haven't been removed. A task is claimed by the thread which removes it from the set,
+   * i.e. either the poller or the thread removing it from the queue.
+   */
+  private final Set<ReadTask> queuedTaskSet = ConcurrentHashMap.newKeySet();
+  /**
+   * The number of tasks in {@link #queue}, which lets the pollers wait for a task. A poller which acquired a permit is
+   * guaranteed to find a task in the queue, since the permit is only released once the task is added.
+   */
+  private final Semaphore queuedTasks = new Semaphore(0);
+  /**
+   * The free slots of the queue, which are reserved before adding a task, so the capacity is never exceeded by
+   * concurrent offers.
+   */
+  private final Semaphore freeSlots;
+  private final long queueTimeSloNs;
+  private final AggServerReadQueueStats stats;
+  private final Time time;
+
+  /**
+   * @param capacity the maximum number of tasks in the queue, across all the stores.
+   * @param maxQueueLengthPerStore the maximum number of tasks of a store in the queue, or 0 for no limit.
+   * @param qosRatio the share of the polls which prefer each QOS, in the form LOW:NORMAL:HIGH.
+   * @param queueTimeSloMs the maximum time that a {@link ReadTask} waits in the queue, or 0 for no limit.
+   */
+  public FairReadRequestQueue(
+      int capacity,
+      int maxQueueLengthPerStore,
+      String qosRatio,
+      long queueTimeSloMs,
+      AggServerReadQueueStats stats) {
+    this(capacity, maxQueueLengthPerStore, qosRatio, queueTimeSloMs, stats, new SystemTime());
+  }
+
+  public FairReadRequestQueue(
+      int capacity,
+      int maxQueueLengthPerStore,
+      String qosRatio,
+      long queueTimeSloMs,
+      AggServerReadQueueStats stats,
+      Time time) {
+    this.queue = QOSPolicy.getQOSPolicy(
+        new QOSPolicy.StaticConfig(
+            QOSPolicy.HIGHEST_PRIORITY_W_FAIR_ALLOCATION_MULTI_QUEUE.name(),
+            qosRatio,
+            maxQueueLengthPerStore));
+    this.freeSlots = new Semaphore(capacity);
+    this.queueTimeSloNs = TimeUnit.MILLISECONDS.toNanos(queueTimeSloMs);
+    this.stats = stats;
+    this.time = time;
+  }
+
+  public static QOS getQOS(RequestType requestType) {
+    return requestType == RequestType.SINGLE_GET ? QOS.HIGH : QOS.NORMAL;
+  }
+
+  /**
+   * Rejects the {@link ReadTask}s which couldn't be queued with their shed action, and runs the other tasks in the
+   * caller thread like {@link ThreadPoolExecutor.CallerRunsPolicy}, which the read executors use otherwise.
+   */
+  public RejectedExecutionHandler getRejectedExecutionHandler() {
+    ThreadPoolExecutor.CallerRunsPolicy callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+    return (task, executor) -> {
+      if (task instanceof ReadTask && ((ReadTask) task).onShed != null) {
+        ReadTask readTask = (ReadTask) task;
+        stats.recordRejectedRequest(readTask.storeName);
+        readTask.onShed.run();
+      } else {
+        callerRunsPolicy.rejectedExecution(task, executor);
+      }
+    };
+  }
+
+  @Override
+  public boolean offer(Runnable task) {
+    ReadTask readTask = task instanceof ReadTask ? (ReadTask) task : new ReadTask(null, QOS.NORMAL, task, null);
+    if (!freeSlots.tryAcquire()) {
+      return false;
+    }
+    readTask.enqueueTimeNs = time.getNanoseconds();
+    // The task is tracked before it can be polled, so that the poller can claim it.
+    queuedTaskSet.add(readTask);
+    if (!queue.add(readTask)) {
+      queuedTaskSet.remove(readTask);
+      freeSlots.release();
+      return false;
+    }
+    queuedTasks.release();
+    return true;
+  }
+
+  @Override
+  public boolean offer(Runnable task, long timeout, TimeUnit unit) {
+    return offer(task);
+  }
+
+  /**
+   * Doesn't block if the queue is full, but throws an {@link IllegalStateException} like {@link #add}, since the read
+   * executors never call it.
+   */
+  @Override
+  public void put(Runnable task) {
+    add(task);
+  }
+
+  @Override
+  public Runnable poll() {
+    while (queuedTasks.tryAcquire()) {
+      ReadTask task = dequeue();
+      if (task != null && !shedIfExpired(task)) {
+        return task;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadlineNs = System.nanoTime() + unit.toNanos(timeout);
+    while (queuedTasks.tryAcquire(deadlineNs - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+      ReadTask task = dequeue();
+      if (task != null && !shedIfExpired(task)) {
+        return task;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public Runnable take() throws InterruptedException {
+    while (true) {
+      queuedTasks.acquire();
+      ReadTask task = dequeue();
+      if (task != null && !shedIfExpired(task)) {
+        return task;
+      }
+    }
+  }
+
+  /**
+   * Polls a task from the underlying queue, once a permit of {@link #queuedTasks} has been acquired.
+   *
+   * @return the task, or null if it has been removed from the queue.
+   */
+  private ReadTask dequeue() {
+    ReadTask task = queue.poll();
+    freeSlots.release();
+    return queuedTaskSet.remove(task) ? task : null;
+  }
+
+  private boolean shedIfExpired(ReadTask task) {
+    if (queueTimeSloNs <= 0 || task.onShed == null || time.getNanoseconds() - task.enqueueTimeNs <= queueTimeSloNs) {
+      return false;
+    }
+    stats.recordExpiredRequest(task.storeName);
+    task.onShed.run();
+    return true;
+  }
+
+  /**
+   * N.B.: the next task to be polled depends on the turn of the stores and the QOS, so this returns any queued task,
+   * which isn't necessarily the next one.
+   */
+  @Override
+  public Runnable peek() {
+    Iterator<Runnable> iterator = iterator();
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+
+  /**
+   * A weakly consistent iterator over the queued tasks, in no particular order, which supports
+   * {@link Iterator#remove()}. The tasks which weren't a {@link ReadTask} when they were queued are returned wrapped
+   * in one.
+   */
+  @Override
+  public Iterator<Runnable> iterator() {
+    Iterator<ReadTask> iterator = queuedTaskSet.iterator();
+    return new Iterator<Runnable>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public Runnable next() {
+        return iterator.next();
+      }
+
+      @Override
+      public void remove() {
+        iterator.remove();
+      }
+    };
+  }
+
+  /**
+   * Removes a queued task, or the wrapper of a task which wasn't a {@link ReadTask} when it was queued. The task stays
+   * in the underlying queue until it's skipped by a poller, and it's counted by {@link #size()} until then.
+   */
+  @Override
+  public boolean remove(Object task) {
+    if (task instanceof ReadTask) {
+      return queuedTaskSet.remove(task);
+    }
+    for (ReadTask readTask: queuedTaskSet) {
+      if (readTask.getCommand() == task && queuedTaskSet.remove(readTask)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public int size() {
+    return queuedTasks.availablePermits();
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return freeSlots.availablePermits();
+  }
+
+  @Override
+  public int drainTo(Collection<? super Runnable> collection) {
+    return drainTo(collection, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super Runnable> collection, int maxElements) {
+    int drained = 0;
+    while (drained < maxElements && queuedTasks.tryAcquire()) {
+      ReadTask task = dequeue();
+      if (task != null) {
+        collection.add(task);
+        drained++;
+      }
+    }
+    return drained;
+  }
+
+  /**
+   * A read request, which is queued with the requests of the same store, and with the QOS of its request type.
+   */
+  public static class ReadTask extends QOSBasedRequestRunnable implements Runnable {
+    private final String storeName;
+    private final Runnable onShed;
+    private long enqueueTimeNs;
+
+    /**
+     * @param onShed rejects the request if it's shed by the queue, or null if the request must not be shed.
+     */
+    public ReadTask(String storeName, QOS qos, Runnable command, Runnable onShed) {
+      super(storeName == null ? DEFAULT_QUEUE_NAME : storeName, qos, command);
+      this.storeName = storeName;
+      this.onShed = onShed;
+    }
+
+    @Override
+    public void run() {
+      getCommand().run();
+    }
+  }
+}
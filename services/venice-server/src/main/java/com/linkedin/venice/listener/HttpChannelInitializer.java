@@ -123,7 +123,9 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
           storeMetadataRepository,
           customizedViewRepository,
           nodeId,
-          quotaUsageStats);
+          quotaUsageStats,
+          serverConfig.getQuotaEnforcementValueBytesPerRcu());
+      requestHandler.setReadQuotaEnforcer(quotaEnforcer);
 
       // Token Bucket Stats for a store must be initialized when that store is created
       this.quotaTokenBucketStats = new AggServerQuotaTokenBucketStats(metricsRepository, quotaEnforcer);
@@ -229,6 +231,14 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
   }
 
   public VeniceServerGrpcRequestProcessor initGrpcRequestProcessor() {
+    return initGrpcRequestProcessor(null);
+  }
+
+  /**
+   * @param grpcReadExecutor runs the gRPC reads if not null, instead of the read and compute executors of
+   *                         {@link StorageReadRequestHandler}.
+   */
+  public VeniceServerGrpcRequestProcessor initGrpcRequestProcessor(Executor grpcReadExecutor) {
     VeniceServerGrpcRequestProcessor grpcServerRequestProcessor = new VeniceServerGrpcRequestProcessor();
 
     StatsHandler statsHandler = new StatsHandler(singleGetStats, multiGetStats, computeStats);
@@ -244,7 +254,8 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
       grpcServerRequestProcessor.addHandler(grpcReadQuotaEnforcementHandler);
     }
 
-    GrpcStorageReadRequestHandler storageReadRequestHandler = new GrpcStorageReadRequestHandler(requestHandler);
+    GrpcStorageReadRequestHandler storageReadRequestHandler =
+        new GrpcStorageReadRequestHandler(requestHandler, grpcReadExecutor);
     grpcServerRequestProcessor.addHandler(storageReadRequestHandler);
 
     GrpcOutboundResponseHandler grpcOutboundResponseHandler = new GrpcOutboundResponseHandler();
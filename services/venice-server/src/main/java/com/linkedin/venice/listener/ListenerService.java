@@ -12,12 +12,17 @@ import com.linkedin.venice.grpc.VeniceGrpcServer;
 import com.linkedin.venice.grpc.VeniceGrpcServerConfig;
 import com.linkedin.venice.helix.HelixCustomizedViewOfflinePushRepository;
 import com.linkedin.venice.listener.grpc.VeniceReadServiceImpl;
+import com.linkedin.venice.listener.grpc.handlers.GrpcStorageReadRequestHandler;
 import com.linkedin.venice.listener.grpc.handlers.VeniceServerGrpcRequestProcessor;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.stats.AggServerReadQueueStats;
+import com.linkedin.venice.stats.RateLimitedLogStats;
+import com.linkedin.venice.stats.ServerValueCacheStats;
 import com.linkedin.venice.stats.ThreadPoolStats;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
 import io.grpc.ServerInterceptor;
 import io.netty.bootstrap.ServerBootstrap;
@@ -33,6 +38,7 @@ import io.tehuti.metrics.MetricsRepository;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
@@ -57,6 +63,11 @@ public class ListenerService extends AbstractVeniceService {
   private final ThreadPoolExecutor executor;
   private final ThreadPoolExecutor computeExecutor;
   private final ThreadPoolExecutor grpcExecutor;
+  /**
+   * Runs the gRPC reads on virtual threads if enabled, otherwise they run on {@link #executor} and
+   * {@link #computeExecutor} like the HTTP reads.
+   */
+  private final ExecutorService grpcReadExecutor;
   private ThreadPoolExecutor sslHandshakeExecutor;
 
   // TODO: move netty config to a config file
@@ -84,16 +95,20 @@ public class ListenerService extends AbstractVeniceService {
     this.isGrpcEnabled = serverConfig.isGrpcEnabled();
     this.grpcPort = serverConfig.getGrpcPort();
 
-    executor = createThreadPool(
+    AggServerReadQueueStats readQueueStats =
+        serverConfig.isReadFairQueuingEnabled() ? new AggServerReadQueueStats(metricsRepository) : null;
+    executor = createReadThreadPool(
         serverConfig.getRestServiceStorageThreadNum(),
         "StorageExecutionThread",
-        serverConfig.getDatabaseLookupQueueCapacity());
+        serverConfig.getDatabaseLookupQueueCapacity(),
+        readQueueStats);
     new ThreadPoolStats(metricsRepository, executor, "storage_execution_thread_pool");
 
-    computeExecutor = createThreadPool(
+    computeExecutor = createReadThreadPool(
         serverConfig.getServerComputeThreadNum(),
         "StorageComputeThread",
-        serverConfig.getComputeQueueCapacity());
+        serverConfig.getComputeQueueCapacity(),
+        readQueueStats);
     new ThreadPoolStats(metricsRepository, computeExecutor, "storage_compute_thread_pool");
 
     if (sslFactory.isPresent() && serverConfig.getSslHandshakeThreadPoolSize() > 0) {
@@ -118,6 +133,19 @@ public class ListenerService extends AbstractVeniceService {
         compressorFactory,
         resourceReadUsageTracker);
 
+    if (serverConfig.getValueCacheSizeInBytes() > 0) {
+      StorageValueCache valueCache = new StorageValueCache(
+          serverConfig.getValueCacheSizeInBytes(),
+          serverConfig.getValueCacheMaxValueSizeInBytes());
+      new ServerValueCacheStats(metricsRepository, valueCache, "storage_value_cache");
+      requestHandler.setValueCache(valueCache);
+    }
+
+    RateLimitedLogStats rateLimitedLogStats = new RateLimitedLogStats(metricsRepository, "storage_rate_limited_log");
+    rateLimitedLogStats.registerLog("read_error", StorageReadRequestHandler.READ_ERROR_LOG);
+    rateLimitedLogStats.registerLog("parallel_batch_get_error", StorageReadRequestHandler.PARALLEL_BATCH_GET_ERROR_LOG);
+    rateLimitedLogStats.registerLog("grpc_read_error", GrpcStorageReadRequestHandler.READ_ERROR_LOG);
+
     storageReadRequestHandler = requestHandler;
 
     HttpChannelInitializer channelInitializer = new HttpChannelInitializer(
@@ -161,11 +189,17 @@ public class ListenerService extends AbstractVeniceService {
 
     if (isGrpcEnabled && grpcServer == null) {
       List<ServerInterceptor> interceptors = channelInitializer.initGrpcInterceptors();
-      VeniceServerGrpcRequestProcessor requestProcessor = channelInitializer.initGrpcRequestProcessor();
+      grpcReadExecutor = createGrpcReadExecutor();
+      VeniceServerGrpcRequestProcessor requestProcessor =
+          channelInitializer.initGrpcRequestProcessor(grpcReadExecutor);
       grpcExecutor = createThreadPool(serverConfig.getGrpcWorkerThreadCount(), "GrpcWorkerThread", nettyBacklogSize);
 
       VeniceGrpcServerConfig.Builder grpcServerBuilder = new VeniceGrpcServerConfig.Builder().setPort(grpcPort)
-          .setService(new VeniceReadServiceImpl(requestProcessor))
+          .setService(
+              new VeniceReadServiceImpl(
+                  requestProcessor,
+                  serverConfig.getGrpcStreamingMaxBufferedBytes(),
+                  serverConfig.getGrpcStreamingWriteTimeoutMs()))
           .setExecutor(grpcExecutor)
           .setInterceptors(interceptors);
 
@@ -174,6 +208,7 @@ public class ListenerService extends AbstractVeniceService {
       grpcServer = new VeniceGrpcServer(grpcServerBuilder.build());
     } else {
       grpcExecutor = null;
+      grpcReadExecutor = null;
     }
   }
 
@@ -211,6 +246,22 @@ public class ListenerService extends AbstractVeniceService {
       LOGGER.info("Stopping gRPC service on port {}", grpcPort);
       grpcServer.stop();
     }
+    if (grpcReadExecutor != null) {
+      grpcReadExecutor.shutdown();
+    }
+  }
+
+  private ExecutorService createGrpcReadExecutor() {
+    if (!serverConfig.isGrpcVirtualThreadsEnabled()) {
+      return null;
+    }
+    Optional<ExecutorService> virtualThreadExecutor = ThreadPoolFactory.createVirtualThreadPerTaskExecutor();
+    if (virtualThreadExecutor.isPresent()) {
+      LOGGER.info("gRPC reads will run on virtual threads");
+      return virtualThreadExecutor.get();
+    }
+    LOGGER.warn("Virtual threads aren't supported by this JVM, gRPC reads will run on the storage thread pools");
+    return null;
   }
 
   protected ThreadPoolExecutor createThreadPool(int threadCount, String threadNamePrefix, int capacity) {
@@ -218,6 +269,34 @@ public class ListenerService extends AbstractVeniceService {
         .createThreadPool(threadCount, threadNamePrefix, capacity, serverConfig.getBlockingQueueType());
   }
 
+  /**
+   * Creates a thread pool for the reads, whose queue is a {@link FairReadRequestQueue} if fair queuing is enabled.
+   */
+  private ThreadPoolExecutor createReadThreadPool(
+      int threadCount,
+      String threadNamePrefix,
+      int capacity,
+      AggServerReadQueueStats readQueueStats) {
+    if (!serverConfig.isReadFairQueuingEnabled()) {
+      return createThreadPool(threadCount, threadNamePrefix, capacity);
+    }
+    FairReadRequestQueue queue = new FairReadRequestQueue(
+        capacity,
+        serverConfig.getReadFairQueuingMaxQueueLengthPerStore(),
+        serverConfig.getReadFairQueuingQosRatio(),
+        serverConfig.getReadFairQueuingQueueTimeSloMs(),
+        readQueueStats);
+    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+        threadCount,
+        threadCount,
+        0,
+        TimeUnit.MILLISECONDS,
+        queue,
+        new DaemonThreadFactory(threadNamePrefix));
+    threadPool.setRejectedExecutionHandler(queue.getRejectedExecutionHandler());
+    return threadPool;
+  }
+
   protected StorageReadRequestHandler createRequestHandler(
       ThreadPoolExecutor executor,
       ThreadPoolExecutor computeExecutor,
@@ -2,6 +2,7 @@ package com.linkedin.venice.listener;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoHelixResourceException;
 import com.linkedin.venice.grpc.GrpcErrorCodes;
@@ -57,6 +58,10 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
   // TODO make these configurable
   private final int enforcementIntervalSeconds = 10; // TokenBucket refill interval
   private final int enforcementCapacityMultiple = 5; // Token bucket capacity is refill amount times this multiplier
+  /**
+   * The bytes of the returned values which count as one RCU in the weighted-cost mode, which is disabled if 0.
+   */
+  private final long valueBytesPerRcu;
   private HelixCustomizedViewOfflinePushRepository customizedViewRepository;
   private boolean enforcing = true;
   private volatile boolean initializedVolatile = false;
@@ -68,7 +73,34 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
       CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewRepository,
       String nodeId,
       AggServerQuotaUsageStats stats) {
-    this(storageNodeRcuCapacity, storeRepository, customizedViewRepository, nodeId, stats, Clock.systemUTC());
+    this(storageNodeRcuCapacity, storeRepository, customizedViewRepository, nodeId, stats, 0);
+  }
+
+  public ReadQuotaEnforcementHandler(
+      long storageNodeRcuCapacity,
+      ReadOnlyStoreRepository storeRepository,
+      CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewRepository,
+      String nodeId,
+      AggServerQuotaUsageStats stats,
+      long valueBytesPerRcu) {
+    this(
+        storageNodeRcuCapacity,
+        storeRepository,
+        customizedViewRepository,
+        nodeId,
+        stats,
+        valueBytesPerRcu,
+        Clock.systemUTC());
+  }
+
+  public ReadQuotaEnforcementHandler(
+      long storageNodeRcuCapacity,
+      ReadOnlyStoreRepository storeRepository,
+      CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewRepository,
+      String nodeId,
+      AggServerQuotaUsageStats stats,
+      Clock clock) {
+    this(storageNodeRcuCapacity, storeRepository, customizedViewRepository, nodeId, stats, 0, clock);
   }
 
   public ReadQuotaEnforcementHandler(
@@ -77,8 +109,10 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
       CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewRepository,
       String nodeId,
       AggServerQuotaUsageStats stats,
+      long valueBytesPerRcu,
       Clock clock) {
     this.clock = clock;
+    this.valueBytesPerRcu = valueBytesPerRcu;
     this.storageNodeBucket = tokenBucketfromRcuPerSecond(storageNodeRcuCapacity, 1);
     this.storeRepository = storeRepository;
     this.thisNodeId = nodeId;
@@ -113,6 +147,37 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
     }
   }
 
+  /**
+   * In the weighted-cost mode, a request also costs one RCU per {@link #valueBytesPerRcu} bytes of the values it read,
+   * which are only known once it's served. The request was admitted with the RCU of {@link #getRcu(RouterRequest)}, so
+   * the extra RCU are charged here, even if the buckets don't have enough tokens left, which throttles the next
+   * requests until the debt is paid back. Like the admission, retried requests aren't charged to the store bucket.
+   *
+   * @return the RCU of the request, which is returned to the router.
+   */
+  public int chargeResponseRcu(RouterRequest request, ReadResponse response) {
+    int rcu = getRcu(request);
+    if (valueBytesPerRcu <= 0) {
+      return rcu;
+    }
+    long valueRcu = (response.getValueSize() + valueBytesPerRcu - 1) / valueBytesPerRcu;
+    if (valueRcu <= rcu) {
+      return rcu;
+    }
+    int extraRcu = (int) Math.min(valueRcu - rcu, Integer.MAX_VALUE - rcu);
+    String storeName = request.getStoreName();
+    Store store = storeRepository.getStore(storeName);
+    if (isInitialized() && store != null && store.isStorageNodeReadQuotaEnabled()) {
+      TokenBucket tokenBucket = storeVersionBuckets.get(request.getResourceName());
+      if (tokenBucket != null && !request.isRetryRequest()) {
+        tokenBucket.forceConsume(extraRcu);
+      }
+      storageNodeBucket.forceConsume(extraRcu);
+      stats.recordAllowed(storeName, extraRcu);
+    }
+    return rcu + extraRcu;
+  }
+
   /**
    * Recalculates the amount of quota that this node should serve given the partition assignment.  Assumes each
    * partition gets an even portion of quota, and for each partition divides the quota by the readyToServe instances.
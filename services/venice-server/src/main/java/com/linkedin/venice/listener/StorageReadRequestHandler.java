@@ -1,5 +1,6 @@
 package com.linkedin.venice.listener;
 
+import com.linkedin.alpini.log.RateLimitedLog;
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
@@ -36,6 +37,7 @@ import com.linkedin.venice.listener.response.BinaryResponse;
 import com.linkedin.venice.listener.response.ComputeResponseWrapper;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
+import com.linkedin.venice.listener.response.MultiKeyResponseWrapper;
 import com.linkedin.venice.listener.response.StorageResponseObject;
 import com.linkedin.venice.meta.PartitionerConfig;
 import com.linkedin.venice.meta.PartitionerConfigImpl;
@@ -79,15 +81,19 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.util.Utf8;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -100,6 +106,14 @@ import org.apache.logging.log4j.Logger;
 @ChannelHandler.Sharable
 public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private static final Logger LOGGER = LogManager.getLogger(StorageReadRequestHandler.class);
+  /**
+   * The unexpected read errors are logged at most 10 times per second per call site, so that a storm of errors doesn't
+   * flood the logs.
+   */
+  static final RateLimitedLog READ_ERROR_LOG =
+      new RateLimitedLog(LOGGER, Level.ERROR, "Exception thrown for {}", 10, 1, TimeUnit.SECONDS);
+  static final RateLimitedLog PARALLEL_BATCH_GET_ERROR_LOG =
+      new RateLimitedLog(LOGGER, Level.ERROR, "Exception thrown in parallel batch get for {}", 10, 1, TimeUnit.SECONDS);
 
   private final DiskHealthCheckService diskHealthCheckService;
   private final ThreadPoolExecutor executor;
@@ -120,22 +134,33 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       new VeniceConcurrentHashMap<>();
   private final StorageEngineBackedCompressorFactory compressorFactory;
   private final Optional<ResourceReadUsageTracker> resourceReadUsageTracker;
+  /**
+   * Charges the read quota for the value bytes of the responses, if quota enforcement is enabled.
+   */
+  private ReadQuotaEnforcementHandler readQuotaEnforcer;
+  /**
+   * Caches the values read by single gets, if the value cache is enabled.
+   */
+  private StorageValueCache valueCache;
 
   private static class PerStoreVersionState {
     final PartitionerConfig partitionerConfig;
     final VenicePartitioner partitioner;
     final AbstractStorageEngine storageEngine;
     final StoreDeserializerCache<GenericRecord> storeDeserializerCache;
+    final StorageValueCache.StoreVersionCache valueCache;
 
     public PerStoreVersionState(
         PartitionerConfig partitionerConfig,
         VenicePartitioner partitioner,
         AbstractStorageEngine storageEngine,
-        StoreDeserializerCache<GenericRecord> storeDeserializerCache) {
+        StoreDeserializerCache<GenericRecord> storeDeserializerCache,
+        StorageValueCache.StoreVersionCache valueCache) {
       this.partitionerConfig = partitionerConfig;
       this.partitioner = partitioner;
       this.storageEngine = storageEngine;
       this.storeDeserializerCache = storeDeserializerCache;
+      this.valueCache = valueCache;
     }
   }
 
@@ -210,6 +235,29 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     this.resourceReadUsageTracker = resourceReadUsageTracker;
   }
 
+  public void setReadQuotaEnforcer(ReadQuotaEnforcementHandler readQuotaEnforcer) {
+    this.readQuotaEnforcer = readQuotaEnforcer;
+  }
+
+  /**
+   * Must be set before serving any request, since the value cache of a store version is only registered with its
+   * storage engine when the first request of the store version is served.
+   */
+  public void setValueCache(StorageValueCache valueCache) {
+    this.valueCache = valueCache;
+  }
+
+  /**
+   * Sets the RCU of a served request, which is charged to the read quota for the value bytes it read in the
+   * weighted-cost mode of {@link ReadQuotaEnforcementHandler#chargeResponseRcu}.
+   */
+  public void setResponseRcu(RouterRequest request, ReadResponse response) {
+    response.setRCU(
+        readQuotaEnforcer == null
+            ? ReadQuotaEnforcementHandler.getRcu(request)
+            : readQuotaEnforcer.chargeResponseRcu(request, response));
+  }
+
   @Override
   public void channelRead(ChannelHandlerContext context, Object message) throws Exception {
     final long preSubmissionTimeNs = System.nanoTime();
@@ -269,13 +317,14 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
                           "No storage exists for: " + ((VeniceNoStoreException) e).getStoreName(),
                           HttpResponseStatus.BAD_REQUEST));
                 } else {
-                  LOGGER.error("Exception thrown in parallel batch get for {}", request.getResourceName(), e);
+                  PARALLEL_BATCH_GET_ERROR_LOG.log(request.getResourceName(), e);
                   HttpShortcutResponse shortcutResponse =
                       new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR);
                   shortcutResponse.setMisroutedStoreVersion(checkMisroutedStoreVersionRequest(request));
                   context.writeAndFlush(shortcutResponse);
                 }
               } else {
+                setResponseRcu(request, v);
                 context.writeAndFlush(v);
               }
             });
@@ -283,7 +332,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       }
 
       final ThreadPoolExecutor executor = getExecutor(request.getRequestType());
-      executor.submit(() -> {
+      executor.execute(newReadTask(request, () -> {
         try {
           if (request.shouldRequestBeTerminatedEarly()) {
             throw new VeniceRequestEarlyTerminationException(request.getStoreName());
@@ -306,7 +355,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           }
           response.setStorageExecutionSubmissionWaitTime(submissionWaitTime);
           response.setStorageExecutionQueueLen(queueLen);
-          response.setRCU(ReadQuotaEnforcementHandler.getRcu(request));
+          setResponseRcu(request, response);
           if (request.isStreamingRequest()) {
             response.setStreamingResponse();
           }
@@ -317,13 +366,17 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         } catch (VeniceRequestEarlyTerminationException e) {
           context.writeAndFlush(new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.REQUEST_TIMEOUT));
         } catch (Exception e) {
-          LOGGER.error("Exception thrown for {}", request.getResourceName(), e);
+          READ_ERROR_LOG.log(request.getResourceName(), e);
           HttpShortcutResponse shortcutResponse =
               new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR);
           shortcutResponse.setMisroutedStoreVersion(checkMisroutedStoreVersionRequest(request));
           context.writeAndFlush(shortcutResponse);
         }
-      });
+      }, () -> {
+        VeniceRequestLoadSheddingException e = new VeniceRequestLoadSheddingException(request.getStoreName());
+        context.writeAndFlush(
+            new HttpShortcutResponse(e.getMessage(), VeniceRequestLoadSheddingException.getHttpResponseStatus()));
+      }));
 
     } else if (message instanceof HealthCheckRequest) {
       if (diskHealthCheckService.isDiskHealthy()) {
@@ -448,7 +501,12 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     StoreDeserializerCache<GenericRecord> storeDeserializerCache = storeDeserializerCacheMap.computeIfAbsent(
         storeName,
         s -> new AvroStoreDeserializerCache<>(this.schemaRepository, s, this.fastAvroEnabled));
-    return new PerStoreVersionState(partitionerConfig, partitioner, storageEngine, storeDeserializerCache);
+    return new PerStoreVersionState(
+        partitionerConfig,
+        partitioner,
+        storageEngine,
+        storeDeserializerCache,
+        valueCache == null ? null : valueCache.register(storageEngine));
   }
 
   public ReadResponse handleSingleGetRequest(GetRouterRequest request) {
@@ -463,7 +521,14 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     response.setCompressionStrategy(storageEngine.getCompressionStrategy());
     response.setDatabaseLookupLatency(0);
 
-    ValueRecord valueRecord = SingleGetChunkingAdapter.get(storageEngine, subPartition, key, isChunked, response);
+    StorageValueCache.StoreVersionCache valueCache = perStoreVersionState.valueCache;
+    ValueRecord valueRecord = valueCache == null
+        ? SingleGetChunkingAdapter.get(storageEngine, subPartition, key, isChunked, response)
+        : valueCache.get(
+            subPartition,
+            key,
+            response,
+            () -> SingleGetChunkingAdapter.get(storageEngine, subPartition, key, isChunked, response));
     response.setValueRecord(valueRecord);
 
     if (keyValueProfilingEnabled) {
@@ -481,6 +546,19 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private CompletableFuture<ReadResponse> handleMultiGetRequestInParallel(
       MultiGetRouterRequestWrapper request,
       int parallelChunkSize) {
+    return handleMultiGetRequestInParallel(request, parallelChunkSize, null);
+  }
+
+  /**
+   * @param chunkConsumer if not null, the records of every chunk of keys are passed to it in a separate response as
+   *                      soon as the chunk is read, instead of being added to the returned response. It's called from
+   *                      multiple threads, and it's expected to drain the records with
+   *                      {@link MultiKeyResponseWrapper#drainResponseBody()}.
+   */
+  private CompletableFuture<ReadResponse> handleMultiGetRequestInParallel(
+      MultiGetRouterRequestWrapper request,
+      int parallelChunkSize,
+      Consumer<MultiKeyResponseWrapper<?>> chunkConsumer) {
     String topic = request.getResourceName();
     Iterable<MultiGetRouterRequestKeyV1> keys = request.getKeys();
     PerStoreVersionState perStoreVersionState = getPerStoreVersionState(topic);
@@ -498,6 +576,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     final ArrayList<MultiGetRouterRequestKeyV1> keyList = (ArrayList<MultiGetRouterRequestKeyV1>) keys;
     int totalKeyNum = keyList.size();
     int splitSize = (int) Math.ceil((double) totalKeyNum / parallelChunkSize);
+    boolean isSubPartitionResolved = request.isSubPartitionResolved();
 
     ReentrantLock requestLock = new ReentrantLock();
     CompletableFuture[] chunkFutures = new CompletableFuture[splitSize];
@@ -513,12 +592,19 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         }
         int startPos = finalCur * parallelChunkSize;
         int endPos = Math.min((finalCur + 1) * parallelChunkSize, totalKeyNum);
+        MultiGetResponseWrapper chunkResponse = null;
+        if (chunkConsumer != null) {
+          chunkResponse = new MultiGetResponseWrapper(endPos - startPos);
+          chunkResponse.setCompressionStrategy(storageEngine.getCompressionStrategy());
+        }
         for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
           final MultiGetRouterRequestKeyV1 key = keyList.get(subChunkCur);
           if (responseKeySizeList != null) {
             responseKeySizeList.set(subChunkCur, key.keyBytes.remaining());
           }
-          int subPartitionId = getSubPartitionId(key.partitionId, key.keyBytes, perStoreVersionState);
+          int subPartitionId = isSubPartitionResolved
+              ? key.partitionId
+              : getSubPartitionId(key.partitionId, key.keyBytes, perStoreVersionState);
           MultiGetResponseRecordV1 record =
               BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
           if (record == null) {
@@ -539,12 +625,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
             if (responseValueSizeList != null) {
               responseValueSizeList.set(subChunkCur, record.value.remaining());
             }
-            // TODO: streaming support in storage node
-            requestLock.lock();
-            try {
-              responseWrapper.addRecord(record);
-            } finally {
-              requestLock.unlock();
+            if (chunkResponse != null) {
+              chunkResponse.addRecord(record);
+            } else {
+              requestLock.lock();
+              try {
+                responseWrapper.addRecord(record);
+              } finally {
+                requestLock.unlock();
+              }
             }
           } else {
             if (responseValueSizeList != null) {
@@ -552,6 +641,10 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
             }
           }
         }
+        if (chunkResponse != null && chunkResponse.getRecordCount() > 0) {
+          chunkConsumer.accept(chunkResponse);
+          responseWrapper.addDrainedRecordCount(chunkResponse.getRecordCount());
+        }
       }, executorService);
     }
 
@@ -574,8 +667,11 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
     responseWrapper.setDatabaseLookupLatency(0);
     boolean isChunked = storageEngine.isChunked();
+    boolean isSubPartitionResolved = request.isSubPartitionResolved();
     for (MultiGetRouterRequestKeyV1 key: keys) {
-      int subPartitionId = getSubPartitionId(key.partitionId, key.keyBytes, perStoreVersionState);
+      int subPartitionId = isSubPartitionResolved
+          ? key.partitionId
+          : getSubPartitionId(key.partitionId, key.keyBytes, perStoreVersionState);
       MultiGetResponseRecordV1 record =
           BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
       if (record == null) {
@@ -604,7 +700,102 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     return handleMultiGetRequest(request);
   }
 
+  /**
+   * Reads a request from gRPC on the same executors as the requests from HTTP, i.e. the single gets and the batch gets
+   * on {@link #executor} and the compute requests on {@link #computeExecutor}, so that the reads which have to wait
+   * for the disk don't block the gRPC transport threads.
+   *
+   * @param chunkConsumer if not null, the records of batch gets and compute requests are passed to it in chunks as soon
+   *                      as they're read, instead of being kept in the returned response, in order to stream them.
+   */
+  public CompletableFuture<ReadResponse> handleGrpcRequest(
+      RouterRequest request,
+      Consumer<MultiKeyResponseWrapper<?>> chunkConsumer) {
+    return handleGrpcRequest(request, chunkConsumer, getExecutor(request.getRequestType()));
+  }
+
+  /**
+   * @param requestExecutor runs the request. The submission wait time is recorded for any executor, and the queue
+   *                        length only for a {@link ThreadPoolExecutor}. The chunks of a parallel batch get are still
+   *                        read on {@link #executor}.
+   */
+  public CompletableFuture<ReadResponse> handleGrpcRequest(
+      RouterRequest request,
+      Consumer<MultiKeyResponseWrapper<?>> chunkConsumer,
+      Executor requestExecutor) {
+    if (parallelBatchGetEnabled && request.getRequestType().equals(RequestType.MULTI_GET)) {
+      return handleMultiGetRequestInParallel(
+          (MultiGetRouterRequestWrapper) request,
+          parallelBatchGetChunkSize,
+          chunkConsumer);
+    }
+
+    final long preSubmissionTimeNs = System.nanoTime();
+    CompletableFuture<ReadResponse> responseFuture = new CompletableFuture<>();
+    requestExecutor.execute(newReadTask(request, () -> {
+      try {
+        responseFuture.complete(readGrpcRequest(request, chunkConsumer, requestExecutor, preSubmissionTimeNs));
+      } catch (Throwable e) {
+        responseFuture.completeExceptionally(e);
+      }
+    }, () -> responseFuture.completeExceptionally(new VeniceRequestLoadSheddingException(request.getStoreName()))));
+    return responseFuture;
+  }
+
+  private ReadResponse readGrpcRequest(
+      RouterRequest request,
+      Consumer<MultiKeyResponseWrapper<?>> chunkConsumer,
+      Executor requestExecutor,
+      long preSubmissionTimeNs) {
+    if (request.shouldRequestBeTerminatedEarly()) {
+      throw new VeniceRequestEarlyTerminationException(request.getStoreName());
+    }
+    double submissionWaitTime = LatencyUtils.getLatencyInMS(preSubmissionTimeNs);
+    int queueLen =
+        requestExecutor instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) requestExecutor).getQueue().size() : -1;
+    ReadResponse response;
+    switch (request.getRequestType()) {
+      case SINGLE_GET:
+        response = handleSingleGetRequest((GetRouterRequest) request);
+        break;
+      case MULTI_GET:
+        response = handleMultiGetRequest((MultiGetRouterRequestWrapper) request);
+        if (chunkConsumer != null) {
+          chunkConsumer.accept((MultiKeyResponseWrapper<?>) response);
+        }
+        break;
+      case COMPUTE:
+        response = handleComputeRequest((ComputeRouterRequestWrapper) request, chunkConsumer);
+        break;
+      default:
+        throw new VeniceException("Unknown request type: " + request.getRequestType());
+    }
+    response.setStorageExecutionSubmissionWaitTime(submissionWaitTime);
+    response.setStorageExecutionQueueLen(queueLen);
+    return response;
+  }
+
+  /**
+   * Tags a read with its store and the QOS of its request type, for the {@link FairReadRequestQueue} of the read
+   * executors if it's enabled, otherwise the task simply runs the read.
+   *
+   * @param onShed rejects the request if the fair queue sheds it.
+   */
+  private FairReadRequestQueue.ReadTask newReadTask(RouterRequest request, Runnable read, Runnable onShed) {
+    return new FairReadRequestQueue.ReadTask(
+        request.getStoreName(),
+        FairReadRequestQueue.getQOS(request.getRequestType()),
+        read,
+        onShed);
+  }
+
   private ReadResponse handleComputeRequest(ComputeRouterRequestWrapper request) {
+    return handleComputeRequest(request, null);
+  }
+
+  private ReadResponse handleComputeRequest(
+      ComputeRouterRequestWrapper request,
+      Consumer<MultiKeyResponseWrapper<?>> chunkConsumer) {
     SchemaEntry superSetOrLatestValueSchema = schemaRepository.getSupersetOrLatestValueSchema(request.getStoreName());
     Schema valueSchema = getComputeValueSchema(request, superSetOrLatestValueSchema);
     Schema resultSchema = getComputeResultSchema(request.getComputeRequest(), valueSchema);
@@ -632,6 +823,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           operationResultFields,
           storeVersion,
           key,
+          request.isSubPartitionResolved(),
           reusableValueRecord,
           superSetOrLatestValueSchema.getId(),
           compressor,
@@ -641,6 +833,12 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       if (addComputationResult(response, key, result, resultSerializer, request.isStreamingRequest())) {
         hits++;
       }
+      if (chunkConsumer != null && response.getUndrainedRecordCount() >= parallelBatchGetChunkSize) {
+        chunkConsumer.accept(response);
+      }
+    }
+    if (chunkConsumer != null && response.getUndrainedRecordCount() > 0) {
+      chunkConsumer.accept(response);
     }
     incrementOperatorCounters(response, operations, hits);
     return response;
@@ -707,14 +905,22 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       List<Schema.Field> operationResultFields,
       PerStoreVersionState storeVersion,
       ComputeRouterRequestKeyV1 key,
+      boolean isSubPartitionResolved,
       GenericRecord reusableValueRecord,
       int readerSchemaId,
       VeniceCompressor compressor,
       ComputeResponseWrapper response,
       ReusableObjects reusableObjects,
       GenericRecord reusableResultRecord) {
-    reusableValueRecord =
-        readValueRecord(key, storeVersion, readerSchemaId, compressor, response, reusableObjects, reusableValueRecord);
+    reusableValueRecord = readValueRecord(
+        key,
+        isSubPartitionResolved,
+        storeVersion,
+        readerSchemaId,
+        compressor,
+        response,
+        reusableObjects,
+        reusableValueRecord);
     if (reusableValueRecord == null) {
       return null;
     }
@@ -732,6 +938,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
 
   private GenericRecord readValueRecord(
       ComputeRouterRequestKeyV1 key,
+      boolean isSubPartitionResolved,
       PerStoreVersionState storeVersion,
       int readerSchemaId,
       VeniceCompressor compressor,
@@ -742,7 +949,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         storeVersion.storageEngine,
         key.getPartitionId(),
         storeVersion.partitioner,
-        storeVersion.partitionerConfig,
+        // Without the partitioner config, the chunking adapter will use the given partition id as the sub-partition id.
+        isSubPartitionResolved ? null : storeVersion.partitionerConfig,
         ByteUtils.extractByteArray(key.getKeyBytes()),
         reusableObjects.byteBuffer,
         reusableValueRecord,
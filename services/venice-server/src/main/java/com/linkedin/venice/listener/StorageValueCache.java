@@ -0,0 +1,244 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.alpini.base.cache.ByteBufHashMap;
+import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StorageEngineWriteListener;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.utils.SparseConcurrentList;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.util.IllegalReferenceCountException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * An off-heap cache of the values read by single gets, shared by all the store versions of a storage node, so that
+ * the hot values don't pay the block decoding and the binary search of RocksDB on every read.
+ *
+ * The values are kept serialized in direct buffers by the {@link ByteBufHashMap} of alpini, which appends them to
+ * fixed size blocks, and evicts the oldest blocks once the memory budget is used up. So the eviction is FIFO, not LRU:
+ * a hot value is put back in the cache by the next read after its block was evicted.
+ *
+ * The blocks are allocated by the unpooled allocator, so the buffer of an evicted block is never recycled for another
+ * block: a read which looks up a value concurrently with the eviction of its block fails to retain the released buffer,
+ * instead of retaining a pooled buffer which may already hold another block, and the read falls back to the storage
+ * engine.
+ *
+ * The cache of each store version is invalidated by the writes to its storage engine, see {@link StoreVersionCache}.
+ * Chunked values aren't cached, since the keys of their chunks don't match the keys which are read. Whether a store
+ * version is chunked is only known once its store version state is written by the start of push, which could happen
+ * after the registration, so it's checked on every read.
+ */
+public class StorageValueCache {
+  private static final Logger LOGGER = LogManager.getLogger(StorageValueCache.class);
+  /**
+   * The number of write generations of each partition. The keys of a partition are spread over them by their hash,
+   * so that a write only prevents the concurrent reads of the keys with the same generation from being cached.
+   */
+  private static final int WRITE_GENERATION_COUNT = 64;
+
+  private final ByteBufHashMap<CacheKey, byte[]> values;
+  private final int maxValueSize;
+  /**
+   * Gives a unique id to every partition of every store version, so that the keys of a dropped partition are never
+   * read again, and simply age out of the cache.
+   */
+  private final AtomicLong nextPartitionId = new AtomicLong();
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * @param maxMemory the memory budget of the cache, across all the store versions.
+   * @param maxValueSize the size of the biggest value which is cached.
+   */
+  public StorageValueCache(long maxMemory, int maxValueSize) {
+    this.values = new ByteBufHashMap<>(ByteArraySerDes.INSTANCE, UnpooledByteBufAllocator.DEFAULT::directBuffer);
+    // The blocks are only sealed once they're full, so that a slow trickle of values doesn't waste memory.
+    this.values.setIncubationAge(0, TimeUnit.MILLISECONDS).setMaxAllocatedMemory(maxMemory);
+    this.maxValueSize = maxValueSize;
+  }
+
+  /**
+   * @return the cache of the given store version, which is registered as the write listener of its storage engine.
+   */
+  public StoreVersionCache register(AbstractStorageEngine storageEngine) {
+    StoreVersionCache storeVersionCache = new StoreVersionCache(storageEngine);
+    storageEngine.setWriteListener(storeVersionCache);
+    LOGGER.info("Registered the value cache for store version: {}", storageEngine.getStoreName());
+    return storeVersionCache;
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public double getHitRatio() {
+    long hits = getHitCount();
+    long requests = hits + getMissCount();
+    return requests == 0 ? 0 : (double) hits / requests;
+  }
+
+  public long getAllocatedBytes() {
+    return values.getAllocatedBytes();
+  }
+
+  public long getMaxAllocatedBytes() {
+    return values.getMaxAllocatedMemory();
+  }
+
+  /**
+   * @return the number of cached values, including the ones of the evicted blocks which weren't cleaned up yet.
+   */
+  public int getEntryCount() {
+    return values.keySet().size();
+  }
+
+  /**
+   * The cache of the values of a store version.
+   *
+   * A write bumps the write generation of its key before invalidating it. A read which missed the cache only keeps its
+   * value in the cache if the write generation of its key didn't change during the read, otherwise the value which was
+   * read could be older than the write which invalidated the key concurrently.
+   */
+  public class StoreVersionCache implements StorageEngineWriteListener {
+    private final AbstractStorageEngine storageEngine;
+    private final SparseConcurrentList<PartitionCache> partitions = new SparseConcurrentList<>();
+
+    private StoreVersionCache(AbstractStorageEngine storageEngine) {
+      this.storageEngine = storageEngine;
+    }
+
+    /**
+     * @param response the response of the read, to which the size of a cached value is added, like the storage engine
+     *                 reader does for the values it reads. It can be null.
+     * @param reader reads the value of the key from the storage engine, if it isn't cached.
+     */
+    public ValueRecord get(int partitionId, byte[] key, ReadResponse response, Supplier<ValueRecord> reader) {
+      if (storageEngine.isChunked()) {
+        return reader.get();
+      }
+      PartitionCache partition = partitions.computeIfAbsent(partitionId, p -> new PartitionCache());
+      CacheKey cacheKey = new CacheKey(partition.id, key);
+      byte[] cachedValue = getCachedValue(cacheKey);
+      if (cachedValue != null) {
+        hitCount.increment();
+        if (response != null) {
+          response.addValueSize(cachedValue.length);
+        }
+        return ValueRecord.parseAndCreate(cachedValue);
+      }
+      missCount.increment();
+
+      int generationIndex = cacheKey.hashCode() & (WRITE_GENERATION_COUNT - 1);
+      long generation = partition.writeGenerations.get(generationIndex);
+      ValueRecord valueRecord = reader.get();
+      if (valueRecord != null && valueRecord.getDataSize() + ValueRecord.SCHEMA_HEADER_LENGTH <= maxValueSize) {
+        values.put(cacheKey, valueRecord.serialize());
+        if (partition.writeGenerations.get(generationIndex) != generation || partitions.get(partitionId) != partition) {
+          values.removeEntry(cacheKey);
+        }
+      }
+      return valueRecord;
+    }
+
+    private byte[] getCachedValue(CacheKey cacheKey) {
+      try {
+        return values.get(cacheKey);
+      } catch (IllegalReferenceCountException e) {
+        // The block of the value was evicted and released concurrently.
+        return null;
+      }
+    }
+
+    @Override
+    public void onKeyWritten(int partitionId, byte[] key) {
+      PartitionCache partition = partitions.get(partitionId);
+      if (partition == null) {
+        return;
+      }
+      CacheKey cacheKey = new CacheKey(partition.id, key);
+      partition.writeGenerations.incrementAndGet(cacheKey.hashCode() & (WRITE_GENERATION_COUNT - 1));
+      values.removeEntry(cacheKey);
+    }
+
+    @Override
+    public void onPartitionDropped(int partitionId) {
+      partitions.remove(partitionId);
+    }
+  }
+
+  private class PartitionCache {
+    private final long id = nextPartitionId.getAndIncrement();
+    private final AtomicLongArray writeGenerations = new AtomicLongArray(WRITE_GENERATION_COUNT);
+  }
+
+  private static final class CacheKey {
+    private final long partitionId;
+    private final byte[] key;
+    private final int hashCode;
+
+    private CacheKey(long partitionId, byte[] key) {
+      this.partitionId = partitionId;
+      this.key = key;
+      this.hashCode = 31 * Long.hashCode(partitionId) + Arrays.hashCode(key);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return partitionId == other.partitionId && Arrays.equals(key, other.key);
+    }
+  }
+
+  private static final class ByteArraySerDes implements ByteBufHashMap.SerDes<byte[]> {
+    private static final ByteArraySerDes INSTANCE = new ByteArraySerDes();
+
+    @Override
+    public byte[] deserialize(ByteBufInputStream inputStream) {
+      try {
+        byte[] value = new byte[inputStream.available()];
+        inputStream.readFully(value);
+        return value;
+      } catch (IOException e) {
+        LOGGER.warn("Failed to read a cached value", e);
+        return null;
+      }
+    }
+
+    @Override
+    public boolean serialize(ByteBufOutputStream outputStream, byte[] value) {
+      try {
+        outputStream.write(value);
+        return true;
+      } catch (IOException e) {
+        LOGGER.warn("Failed to write a cached value", e);
+        return false;
+      }
+    }
+  }
+}
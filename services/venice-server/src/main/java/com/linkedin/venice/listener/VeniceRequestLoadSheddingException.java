@@ -0,0 +1,26 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import io.netty.handler.codec.http.HttpResponseStatus;
+
+
+/**
+ * Thrown for a read request which is rejected by the fair queue of a read executor, because its store has too many
+ * requests queued already, or because it waited longer than the queue time SLO.
+ *
+ * @see FairReadRequestQueue
+ */
+public class VeniceRequestLoadSheddingException extends VeniceException {
+  public VeniceRequestLoadSheddingException(String storeName) {
+    super("The request to store: " + storeName + " is rejected because the storage node is overloaded");
+  }
+
+  @Override
+  public int getHttpStatusCode() {
+    return HttpResponseStatus.SERVICE_UNAVAILABLE.code();
+  }
+
+  public static HttpResponseStatus getHttpResponseStatus() {
+    return HttpResponseStatus.SERVICE_UNAVAILABLE;
+  }
+}
@@ -23,6 +23,7 @@ public class GrpcRequestContext {
   private RouterRequest routerRequest;
   private ReadResponse readResponse;
   private ServerStatsContext serverStatsContext;
+  private GrpcStreamingResponseWriter streamingResponseWriter;
 
   public GrpcRequestContext(
       VeniceClientRequest veniceClientRequest,
@@ -81,6 +82,17 @@ public class GrpcRequestContext {
     this.readResponse = readResponse;
   }
 
+  /**
+   * @return the writer sending the records of a streaming call as they're read, or null for a unary call.
+   */
+  public GrpcStreamingResponseWriter getStreamingResponseWriter() {
+    return streamingResponseWriter;
+  }
+
+  public void setStreamingResponseWriter(GrpcStreamingResponseWriter streamingResponseWriter) {
+    this.streamingResponseWriter = streamingResponseWriter;
+  }
+
   public void setCompleted() {
     isCompleted = true;
   }
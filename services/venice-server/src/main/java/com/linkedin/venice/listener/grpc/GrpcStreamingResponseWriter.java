@@ -0,0 +1,253 @@
+package com.linkedin.venice.listener.grpc;
+
+import com.google.protobuf.UnsafeByteOperations;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.grpc.GrpcErrorCodes;
+import com.linkedin.venice.listener.response.MultiKeyResponseWrapper;
+import com.linkedin.venice.protocols.VeniceServerResponse;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.netty.buffer.ByteBuf;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Sends the records of a streaming gRPC response in chunks as soon as they're read, following the flow control of the
+ * call. The chunks can be written from multiple threads: they're queued, and sent while the transport of the call is
+ * ready, either by the thread which queued them or by the on-ready handler of the call. Once the queued chunks exceed
+ * the max buffered bytes, the threads which produce more chunks wait for the client to read the queued ones, so that
+ * the server never buffers the whole response of a slow client, and large responses to a healthy client still succeed.
+ *
+ * A producer only gives up when the call is cancelled by the client, or when the client doesn't read anything for the
+ * write timeout, in which case the call is failed with {@link Status#DEADLINE_EXCEEDED}.
+ *
+ * The last response of the call, which carries the status of the request, is sent by {@link #complete} after all the
+ * queued chunks.
+ *
+ * The observer of the call isn't thread-safe, so only the thread which is draining the queue calls it, and never while
+ * holding the lock of the queue, so that the producers aren't blocked by a slow send.
+ */
+public class GrpcStreamingResponseWriter {
+  private static final Logger LOGGER = LogManager.getLogger(GrpcStreamingResponseWriter.class);
+  public static final long DEFAULT_MAX_BUFFERED_BYTES = 32 * 1024 * 1024;
+  public static final long DEFAULT_WRITE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private final StreamObserver<VeniceServerResponse> responseObserver;
+  private final ServerCallStreamObserver<VeniceServerResponse> serverCallStreamObserver;
+  private final long maxBufferedBytes;
+  private final long writeTimeoutNanos;
+  private final Queue<VeniceServerResponse> pendingResponses = new ArrayDeque<>();
+  // The fields below are guarded by the lock of pendingResponses.
+  private long bufferedBytes = 0;
+  private boolean completed = false;
+  // Nothing is queued once the call is closed, i.e. completed, failed or cancelled.
+  private boolean closed = false;
+  // The error which fails the call, sent by the thread which drains the queue.
+  private Throwable pendingError = null;
+  // Whether a thread is sending the queued responses, which is the only one calling the observer.
+  private boolean draining = false;
+
+  public GrpcStreamingResponseWriter(StreamObserver<VeniceServerResponse> responseObserver) {
+    this(responseObserver, DEFAULT_MAX_BUFFERED_BYTES, DEFAULT_WRITE_TIMEOUT_MS);
+  }
+
+  public GrpcStreamingResponseWriter(
+      StreamObserver<VeniceServerResponse> responseObserver,
+      long maxBufferedBytes,
+      long writeTimeoutMs) {
+    this.responseObserver = responseObserver;
+    this.maxBufferedBytes = maxBufferedBytes;
+    this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+    if (responseObserver instanceof ServerCallStreamObserver) {
+      this.serverCallStreamObserver = (ServerCallStreamObserver<VeniceServerResponse>) responseObserver;
+      this.serverCallStreamObserver.setOnReadyHandler(this::sendPendingResponses);
+      this.serverCallStreamObserver.setOnCancelHandler(this::onCancel);
+    } else {
+      this.serverCallStreamObserver = null;
+    }
+  }
+
+  /**
+   * Sends the records added to the given response since the last call, and removes them from the response. It waits
+   * while the queued chunks exceed the max buffered bytes.
+   *
+   * @throws VeniceException if the call has been cancelled by the client, or the client doesn't read anything for the
+   *         write timeout.
+   */
+  public void writeRecords(MultiKeyResponseWrapper<?> response) {
+    ByteBuf body = response.drainResponseBody();
+    VeniceServerResponse chunk = VeniceServerResponse.newBuilder()
+        .setErrorCode(GrpcErrorCodes.OK)
+        .setSchemaId(response.getResponseSchemaIdHeader())
+        .setCompressionStrategy(response.getCompressionStrategy().getValue())
+        .setIsStreamingResponse(true)
+        // The body wraps the array the records were just serialized into, which isn't used anywhere else.
+        .setData(UnsafeByteOperations.unsafeWrap(body.nioBuffer()))
+        .build();
+    VeniceException failure;
+    synchronized (pendingResponses) {
+      failure = awaitBufferSpace();
+      if (failure == null) {
+        pendingResponses.add(chunk);
+        bufferedBytes += chunk.getData().size();
+      }
+    }
+    // Also sends the error of the call if it just failed.
+    sendPendingResponses();
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Waits until the queued chunks are below the max buffered bytes. The timeout is restarted whenever the client reads
+   * a chunk, so that it only expires when the client stops reading. Guarded by the lock of pendingResponses.
+   *
+   * @return the reason why the chunk can't be queued, or null if it can.
+   */
+  private VeniceException awaitBufferSpace() {
+    long lastBufferedBytes = bufferedBytes;
+    long deadline = System.nanoTime() + writeTimeoutNanos;
+    while (true) {
+      if (isCancelled()) {
+        close();
+        return new VeniceException("The streaming call has been cancelled by the client");
+      }
+      if (closed || completed) {
+        return new VeniceException("The streaming call has been closed");
+      }
+      if (bufferedBytes < maxBufferedBytes) {
+        return null;
+      }
+      long now = System.nanoTime();
+      if (bufferedBytes < lastBufferedBytes) {
+        lastBufferedBytes = bufferedBytes;
+        deadline = now + writeTimeoutNanos;
+      } else if (now - deadline >= 0) {
+        String message = "The client of the streaming call didn't read anything for "
+            + TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos) + "ms";
+        fail(Status.DEADLINE_EXCEEDED.withDescription(message).asRuntimeException());
+        return new VeniceException(message);
+      }
+      try {
+        TimeUnit.NANOSECONDS.timedWait(pendingResponses, deadline - now);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        fail(Status.CANCELLED.withDescription("The streaming call has been interrupted").asRuntimeException());
+        return new VeniceException("Interrupted while waiting for the client of the streaming call", e);
+      }
+    }
+  }
+
+  /**
+   * Sends the last response of the call once all the queued chunks are sent, and completes the call. It's ignored if
+   * the call has been failed or cancelled.
+   */
+  public void complete(VeniceServerResponse response) {
+    synchronized (pendingResponses) {
+      if (closed || completed) {
+        return;
+      }
+      pendingResponses.add(response);
+      bufferedBytes += response.getData().size();
+      completed = true;
+    }
+    sendPendingResponses();
+  }
+
+  private void onCancel() {
+    synchronized (pendingResponses) {
+      close();
+    }
+  }
+
+  private boolean isCancelled() {
+    return serverCallStreamObserver != null && serverCallStreamObserver.isCancelled();
+  }
+
+  private boolean isReady() {
+    return serverCallStreamObserver == null || serverCallStreamObserver.isReady();
+  }
+
+  /**
+   * Fails the call once the thread which drains the queue, if any, is done with the observer. Guarded by the lock of
+   * pendingResponses.
+   */
+  private void fail(Throwable error) {
+    close();
+    pendingError = error;
+  }
+
+  /**
+   * Drains the queue unless another thread is already draining it. The draining thread only stops once it sees, under
+   * the lock, that there's nothing it can send, so a chunk queued or a call made ready while it's sending isn't missed.
+   */
+  private void sendPendingResponses() {
+    synchronized (pendingResponses) {
+      if (draining) {
+        return;
+      }
+      draining = true;
+    }
+    while (true) {
+      VeniceServerResponse response = null;
+      Throwable error = null;
+      boolean completeCall = false;
+      synchronized (pendingResponses) {
+        if (!closed && isCancelled()) {
+          close();
+        }
+        if (pendingError != null) {
+          error = pendingError;
+          pendingError = null;
+        } else if (!closed && !pendingResponses.isEmpty() && isReady()) {
+          response = pendingResponses.poll();
+          bufferedBytes -= response.getData().size();
+          // Wakes up the producers which wait for the client to read.
+          pendingResponses.notifyAll();
+          if (completed && pendingResponses.isEmpty()) {
+            close();
+            completeCall = true;
+          }
+        } else {
+          draining = false;
+          return;
+        }
+      }
+      try {
+        if (error != null) {
+          responseObserver.onError(error);
+          continue;
+        }
+        responseObserver.onNext(response);
+        if (completeCall) {
+          responseObserver.onCompleted();
+        }
+      } catch (RuntimeException e) {
+        // E.g. the call was cancelled while sending, so nothing more can be sent.
+        LOGGER.warn("Failed to send the response of a streaming call", e);
+        synchronized (pendingResponses) {
+          close();
+          pendingError = null;
+          draining = false;
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * Guarded by the lock of pendingResponses.
+   */
+  private void close() {
+    closed = true;
+    pendingResponses.clear();
+    bufferedBytes = 0;
+    pendingResponses.notifyAll();
+  }
+}
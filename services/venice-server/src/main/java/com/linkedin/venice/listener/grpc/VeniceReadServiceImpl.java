@@ -14,9 +14,23 @@ public class VeniceReadServiceImpl extends VeniceReadServiceGrpc.VeniceReadServi
   private static final Logger LOGGER = LogManager.getLogger(VeniceReadServiceImpl.class);
 
   private final VeniceServerGrpcRequestProcessor requestProcessor;
+  private final long streamingMaxBufferedBytes;
+  private final long streamingWriteTimeoutMs;
 
   public VeniceReadServiceImpl(VeniceServerGrpcRequestProcessor requestProcessor) {
+    this(
+        requestProcessor,
+        GrpcStreamingResponseWriter.DEFAULT_MAX_BUFFERED_BYTES,
+        GrpcStreamingResponseWriter.DEFAULT_WRITE_TIMEOUT_MS);
+  }
+
+  public VeniceReadServiceImpl(
+      VeniceServerGrpcRequestProcessor requestProcessor,
+      long streamingMaxBufferedBytes,
+      long streamingWriteTimeoutMs) {
     this.requestProcessor = requestProcessor;
+    this.streamingMaxBufferedBytes = streamingMaxBufferedBytes;
+    this.streamingWriteTimeoutMs = streamingWriteTimeoutMs;
   }
 
   @Override
@@ -29,12 +43,36 @@ public class VeniceReadServiceImpl extends VeniceReadServiceGrpc.VeniceReadServi
     handleRequest(request, responseObserver);
   }
 
+  @Override
+  public void streamingBatchGet(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
+    handleStreamingRequest(request, responseObserver);
+  }
+
+  @Override
+  public void streamingCompute(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
+    handleStreamingRequest(request, responseObserver);
+  }
+
   private void handleRequest(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
     VeniceServerResponse.Builder responseBuilder = VeniceServerResponse.newBuilder().setErrorCode(GrpcErrorCodes.OK);
     GrpcRequestContext ctx = new GrpcRequestContext(request, responseBuilder, responseObserver);
     requestProcessor.process(ctx);
   }
 
+  /**
+   * The records are sent by {@link GrpcStreamingResponseWriter} as they're read, and the last response sent by the
+   * request processor only carries the status and the metadata of the whole request.
+   */
+  private void handleStreamingRequest(
+      VeniceClientRequest request,
+      StreamObserver<VeniceServerResponse> responseObserver) {
+    VeniceServerResponse.Builder responseBuilder = VeniceServerResponse.newBuilder().setErrorCode(GrpcErrorCodes.OK);
+    GrpcRequestContext ctx = new GrpcRequestContext(request, responseBuilder, responseObserver);
+    ctx.setStreamingResponseWriter(
+        new GrpcStreamingResponseWriter(responseObserver, streamingMaxBufferedBytes, streamingWriteTimeoutMs));
+    requestProcessor.process(ctx);
+  }
+
   @Override
   public String toString() {
     return this.getClass().getSimpleName();
@@ -31,6 +31,10 @@ public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
     }
 
     compressionStrategy = obj.getCompressionStrategy();
+    statsContext.setStorageExecutionHandlerSubmissionWaitTime(obj.getStorageExecutionHandlerSubmissionWaitTime());
+    statsContext.setStorageExecutionQueueLen(obj.getStorageExecutionQueueLen());
+    // Includes the records which have been streamed already.
+    statsContext.setSuccessRequestKeyCount(obj.getRecordCount());
 
     veniceServerResponseBuilder.setCompressionStrategy(compressionStrategy.getValue());
     veniceServerResponseBuilder.setResponseRCU(obj.getRCU());
@@ -2,6 +2,7 @@ package com.linkedin.venice.listener.grpc.handlers;
 
 import com.linkedin.venice.listener.ServerStatsContext;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
 import com.linkedin.venice.listener.request.GetRouterRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
 import com.linkedin.venice.listener.request.RouterRequest;
@@ -22,9 +23,14 @@ public class GrpcRouterRequestHandler extends VeniceServerGrpcHandler {
     VeniceClientRequest clientRequest = ctx.getVeniceClientRequest();
     ServerStatsContext statsContext = ctx.getGrpcStatsContext();
 
-    RouterRequest routerRequest = clientRequest.getIsBatchRequest()
-        ? MultiGetRouterRequestWrapper.parseMultiGetGrpcRequest(clientRequest)
-        : GetRouterRequest.grpcGetRouterRequest(clientRequest);
+    RouterRequest routerRequest;
+    if (clientRequest.getIsComputeRequest()) {
+      routerRequest = ComputeRouterRequestWrapper.parseComputeGrpcRequest(clientRequest);
+    } else if (clientRequest.getIsBatchRequest()) {
+      routerRequest = MultiGetRouterRequestWrapper.parseMultiGetGrpcRequest(clientRequest);
+    } else {
+      routerRequest = GetRouterRequest.grpcGetRouterRequest(clientRequest);
+    }
 
     statsContext.setRequestInfo(routerRequest);
 
@@ -1,73 +1,123 @@
 package com.linkedin.venice.listener.grpc.handlers;
 
+import com.linkedin.alpini.log.RateLimitedLog;
 import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.grpc.GrpcErrorCodes;
-import com.linkedin.venice.listener.ReadQuotaEnforcementHandler;
 import com.linkedin.venice.listener.StorageReadRequestHandler;
 import com.linkedin.venice.listener.VeniceRequestEarlyTerminationException;
+import com.linkedin.venice.listener.VeniceRequestLoadSheddingException;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
-import com.linkedin.venice.listener.request.GetRouterRequest;
-import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
+import com.linkedin.venice.listener.grpc.GrpcStreamingResponseWriter;
 import com.linkedin.venice.listener.request.RouterRequest;
-import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.listener.response.MultiKeyResponseWrapper;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 
+/**
+ * Submits the reads to the executors of {@link StorageReadRequestHandler}, and invokes the next handlers on the thread
+ * which completes the read, so that the gRPC transport threads are never blocked by the storage engine.
+ */
 public class GrpcStorageReadRequestHandler extends VeniceServerGrpcHandler {
+  private static final Logger LOGGER = LogManager.getLogger(GrpcStorageReadRequestHandler.class);
+  public static final RateLimitedLog READ_ERROR_LOG =
+      new RateLimitedLog(LOGGER, Level.ERROR, "Exception thrown for {}", 10, 1, TimeUnit.SECONDS);
+
   private final StorageReadRequestHandler storage;
+  /**
+   * Runs the reads instead of the read and compute executors of {@link #storage} if not null, e.g. on virtual threads.
+   */
+  private final Executor readExecutor;
 
   public GrpcStorageReadRequestHandler(StorageReadRequestHandler storage) {
+    this(storage, null);
+  }
+
+  public GrpcStorageReadRequestHandler(StorageReadRequestHandler storage, Executor readExecutor) {
     this.storage = storage;
+    this.readExecutor = readExecutor;
   }
 
   @Override
   public void processRequest(GrpcRequestContext ctx) {
     RouterRequest request = ctx.getRouterRequest();
-    final long preSubmissionTimeNs = System.nanoTime();
-    ReadResponse response = null;
-    double submissionWaitTime = -1;
-
+    CompletableFuture<ReadResponse> responseFuture;
     try {
       if (request.shouldRequestBeTerminatedEarly()) {
         throw new VeniceRequestEarlyTerminationException(request.getStoreName());
       }
-
-      submissionWaitTime = LatencyUtils.getLatencyInMS(preSubmissionTimeNs);
       switch (request.getRequestType()) {
         case SINGLE_GET:
-          response = storage.handleSingleGetRequest((GetRouterRequest) request);
-          break;
         case MULTI_GET:
-          response = storage.handleMultiGetRequest((MultiGetRouterRequestWrapper) request);
+        case COMPUTE:
           break;
         default:
           ctx.setError();
           ctx.getVeniceServerResponseBuilder()
               .setErrorCode(GrpcErrorCodes.BAD_REQUEST)
               .setErrorMessage("Unknown request type: " + request.getRequestType());
+          invokeNextHandler(ctx);
+          return;
       }
-    } catch (VeniceNoStoreException e) {
-      ctx.setError();
-      ctx.getVeniceServerResponseBuilder()
-          .setErrorCode(GrpcErrorCodes.BAD_REQUEST)
-          .setErrorMessage("No storage exists for: " + e.getStoreName());
+
+      GrpcStreamingResponseWriter streamingResponseWriter = ctx.getStreamingResponseWriter();
+      Consumer<MultiKeyResponseWrapper<?>> chunkConsumer =
+          streamingResponseWriter == null ? null : streamingResponseWriter::writeRecords;
+      responseFuture = readExecutor == null
+          ? storage.handleGrpcRequest(request, chunkConsumer)
+          : storage.handleGrpcRequest(request, chunkConsumer, readExecutor);
     } catch (Exception e) {
-      ctx.setError();
-      ctx.getVeniceServerResponseBuilder()
-          .setErrorCode(GrpcErrorCodes.INTERNAL_ERROR)
-          .setErrorMessage(String.format("Internal Error: %s", e.getMessage()));
+      responseFuture = new CompletableFuture<>();
+      responseFuture.completeExceptionally(e);
     }
 
-    if (!ctx.hasError() && response != null) {
-      response.setStorageExecutionSubmissionWaitTime(submissionWaitTime);
-      response.setRCU(ReadQuotaEnforcementHandler.getRcu(request));
-      if (request.isStreamingRequest()) {
-        response.setStreamingResponse();
+    responseFuture.whenComplete((response, throwable) -> {
+      if (throwable != null) {
+        setError(ctx, throwable);
+      } else {
+        storage.setResponseRcu(request, response);
+        if (request.isStreamingRequest()) {
+          response.setStreamingResponse();
+        }
+        ctx.setReadResponse(response);
       }
+      invokeNextHandler(ctx);
+    });
+  }
 
-      ctx.setReadResponse(response);
+  private void setError(GrpcRequestContext ctx, Throwable throwable) {
+    ctx.setError();
+    Throwable cause = throwable;
+    // The exceptions of the reads are wrapped by the futures.
+    while ((cause instanceof CompletionException || cause.getClass() == VeniceException.class)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof VeniceNoStoreException) {
+      ctx.getVeniceServerResponseBuilder()
+          .setErrorCode(GrpcErrorCodes.BAD_REQUEST)
+          .setErrorMessage("No storage exists for: " + ((VeniceNoStoreException) cause).getStoreName());
+    } else if (cause instanceof VeniceRequestEarlyTerminationException) {
+      ctx.getVeniceServerResponseBuilder()
+          .setErrorCode(GrpcErrorCodes.DEADLINE_EXCEEDED)
+          .setErrorMessage(cause.getMessage());
+    } else if (cause instanceof VeniceRequestLoadSheddingException) {
+      ctx.getVeniceServerResponseBuilder()
+          .setErrorCode(GrpcErrorCodes.SERVICE_UNAVAILABLE)
+          .setErrorMessage(cause.getMessage());
+    } else {
+      READ_ERROR_LOG.log(ctx.getVeniceClientRequest().getResourceName(), cause);
+      ctx.getVeniceServerResponseBuilder()
+          .setErrorCode(GrpcErrorCodes.INTERNAL_ERROR)
+          .setErrorMessage(String.format("Internal Error: %s", cause.getMessage()));
     }
-
-    invokeNextHandler(ctx);
   }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.venice.listener.grpc.handlers;
 
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
+import com.linkedin.venice.listener.grpc.GrpcStreamingResponseWriter;
 import com.linkedin.venice.protocols.VeniceServerResponse;
 import io.grpc.stub.StreamObserver;
 
@@ -34,6 +35,12 @@ public abstract class VeniceServerGrpcHandler {
     StreamObserver<VeniceServerResponse> responseObserver = ctx.getResponseObserver();
     VeniceServerResponse response = ctx.getVeniceServerResponseBuilder().build();
 
+    GrpcStreamingResponseWriter streamingResponseWriter = ctx.getStreamingResponseWriter();
+    if (streamingResponseWriter != null) {
+      // Sent after the records which are still waiting for the call to be ready.
+      streamingResponseWriter.complete(response);
+      return;
+    }
     responseObserver.onNext(response);
     responseObserver.onCompleted();
   }
@@ -7,6 +7,7 @@ import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.protocols.VeniceClientRequest;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
@@ -40,6 +41,20 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
     }
   }
 
+  private ComputeRouterRequestWrapper(
+      String resourceName,
+      ComputeRequest computeRequest,
+      Iterable<ComputeRouterRequestKeyV1> keys,
+      boolean isStreamingRequest,
+      int valueSchemaId) {
+    // isRetryRequest set to false for now, retry functionality is a later milestone
+    super(resourceName, keys, false, isStreamingRequest);
+    this.computeRequest = computeRequest;
+    if (valueSchemaId > 0) {
+      this.valueSchemaId = valueSchemaId;
+    }
+  }
+
   public static ComputeRouterRequestWrapper parseComputeRequest(FullHttpRequest httpRequest) {
     URI fullUri = URI.create(httpRequest.uri());
     String path = fullUri.getRawPath();
@@ -55,12 +70,7 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
     if (apiVersionStr == null) {
       throw new VeniceException("Header: " + HttpConstants.VENICE_API_VERSION + " is missing");
     }
-    int apiVersion = Integer.parseInt(apiVersionStr);
-    if (apiVersion <= 0 || apiVersion > LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST) {
-      throw new VeniceException(
-          "Compute API version " + apiVersion + " is invalid. " + "Latest version is "
-              + LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
-    }
+    validateApiVersion(Integer.parseInt(apiVersionStr));
 
     // TODO: xplore the possibility of streaming in the request bytes, and processing it in pipelined fashion
     byte[] requestContent = new byte[httpRequest.content().readableBytes()];
@@ -75,6 +85,30 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
     return new ComputeRouterRequestWrapper(resourceName, computeRequest, keys, httpRequest, schemaId);
   }
 
+  public static ComputeRouterRequestWrapper parseComputeGrpcRequest(VeniceClientRequest grpcRequest) {
+    validateApiVersion(grpcRequest.getComputeRequestVersion());
+    byte[] requestContent = grpcRequest.getKeyBytes().toByteArray();
+    BinaryDecoder decoder = OptimizedBinaryDecoderFactory.defaultFactory()
+        .createOptimizedBinaryDecoder(requestContent, 0, requestContent.length);
+    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(decoder, null);
+
+    Iterable<ComputeRouterRequestKeyV1> keys = DESERIALIZER.deserializeObjects(decoder);
+    return new ComputeRouterRequestWrapper(
+        grpcRequest.getResourceName(),
+        computeRequest,
+        keys,
+        grpcRequest.getIsStreamingRequest(),
+        grpcRequest.getComputeValueSchemaId());
+  }
+
+  private static void validateApiVersion(int apiVersion) {
+    if (apiVersion <= 0 || apiVersion > LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST) {
+      throw new VeniceException(
+          "Compute API version " + apiVersion + " is invalid. " + "Latest version is "
+              + LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    }
+  }
+
   public ComputeRequest getComputeRequest() {
     return computeRequest;
   }
@@ -21,10 +21,12 @@ public abstract class RouterRequest {
   private final String resourceName;
   private final String storeName;
   private final boolean isStreamingRequest;
+  private final boolean isSubPartitionResolved;
 
   public RouterRequest(String resourceName, HttpRequest request) {
     this.isRetryRequest = containRetryHeader(request);
     this.isStreamingRequest = StreamingUtils.isStreamingEnabled(request);
+    this.isSubPartitionResolved = request.headers().contains(HttpConstants.VENICE_SUB_PARTITION_RESOLVED);
     this.resourceName = resourceName;
     this.storeName = Version.parseStoreFromKafkaTopicName(resourceName);
   }
@@ -34,6 +36,7 @@ public abstract class RouterRequest {
     this.storeName = Version.parseStoreFromKafkaTopicName(resourceName);
     this.isRetryRequest = isRetryRequest;
     this.isStreamingRequest = isStreamingRequest;
+    this.isSubPartitionResolved = false;
   }
 
   public void setRequestTimeoutInNS(long requestTimeoutInNS) {
@@ -60,6 +63,13 @@ public abstract class RouterRequest {
     return isStreamingRequest;
   }
 
+  /**
+   * @return true if the partition ids in the request are sub-partition ids resolved by Router.
+   */
+  public boolean isSubPartitionResolved() {
+    return isSubPartitionResolved;
+  }
+
   private static boolean containRetryHeader(HttpRequest request) {
     return request.headers().contains(HttpConstants.VENICE_RETRY);
   }
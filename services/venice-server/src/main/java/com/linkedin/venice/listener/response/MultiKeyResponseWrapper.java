@@ -6,10 +6,16 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public abstract class MultiKeyResponseWrapper<K> extends ReadResponse {
   protected final List<K> records;
+  /**
+   * The number of records of this request which have been removed by {@link #drainResponseBody()}, either from this
+   * response or from the other responses the records of the same request were streamed with.
+   */
+  private final AtomicInteger drainedRecordCount = new AtomicInteger();
 
   public MultiKeyResponseWrapper(int maxKeyCount) {
     this.records = new ArrayList<>(maxKeyCount);
@@ -23,15 +29,43 @@ public abstract class MultiKeyResponseWrapper<K> extends ReadResponse {
 
   public abstract int getResponseSchemaIdHeader();
 
+  /**
+   * @return the number of records of this response, including the ones which have been streamed already.
+   */
   public int getRecordCount() {
+    return records.size() + drainedRecordCount.get();
+  }
+
+  /**
+   * @return the number of records added since the last {@link #drainResponseBody()}.
+   */
+  public int getUndrainedRecordCount() {
     return records.size();
   }
 
+  /**
+   * Counts the records of the same request which have been streamed with another response.
+   */
+  public void addDrainedRecordCount(int count) {
+    drainedRecordCount.addAndGet(count);
+  }
+
   @Override
   public ByteBuf getResponseBody() {
     return Unpooled.wrappedBuffer(getResponseSerializer().serializeObjects(records));
   }
 
+  /**
+   * Serializes the records added since the last call and removes them from this response, so that the records of a
+   * streaming response can be sent in chunks as soon as they're read.
+   */
+  public ByteBuf drainResponseBody() {
+    ByteBuf body = getResponseBody();
+    drainedRecordCount.addAndGet(records.size());
+    records.clear();
+    return body;
+  }
+
   /**
    * This function needs to be synchronized because during batch gets, there could be several
    * threads incrementing this all at once.
@@ -0,0 +1,24 @@
+package com.linkedin.venice.stats;
+
+import io.tehuti.metrics.MetricsRepository;
+
+
+/**
+ * {@code AggServerReadQueueStats} is the aggregate statistics for {@code ServerReadQueueStats} which
+ * measures the read requests shed by the fair queues of the read executors for each store.
+ */
+public class AggServerReadQueueStats extends AbstractVeniceAggStats<ServerReadQueueStats> {
+  public AggServerReadQueueStats(MetricsRepository metricsRepository) {
+    super(metricsRepository, (metrics, storeName) -> new ServerReadQueueStats(metrics, storeName));
+  }
+
+  public void recordRejectedRequest(String storeName) {
+    totalStats.recordRejectedRequest();
+    getStoreStats(storeName).recordRejectedRequest();
+  }
+
+  public void recordExpiredRequest(String storeName) {
+    totalStats.recordExpiredRequest();
+    getStoreStats(storeName).recordExpiredRequest();
+  }
+}
@@ -0,0 +1,29 @@
+package com.linkedin.venice.stats;
+
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Count;
+import io.tehuti.metrics.stats.OccurrenceRate;
+
+
+/**
+ * for measuring the read requests which the fair queues of the read executors shed for each store
+ */
+public class ServerReadQueueStats extends AbstractVeniceStats {
+  private final Sensor rejectedRequestSensor; // rejected because the queue of the store was full
+  private final Sensor expiredRequestSensor; // rejected because they waited longer than the queue time SLO
+
+  public ServerReadQueueStats(MetricsRepository metricsRepository, String name) {
+    super(metricsRepository, name);
+    rejectedRequestSensor = registerSensor("read_queue_rejected_request", new Count(), new OccurrenceRate());
+    expiredRequestSensor = registerSensor("read_queue_expired_request", new Count(), new OccurrenceRate());
+  }
+
+  public void recordRejectedRequest() {
+    rejectedRequestSensor.record();
+  }
+
+  public void recordExpiredRequest() {
+    expiredRequestSensor.record();
+  }
+}
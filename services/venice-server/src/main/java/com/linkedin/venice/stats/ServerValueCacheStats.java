@@ -0,0 +1,20 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.venice.listener.StorageValueCache;
+import io.tehuti.metrics.MetricsRepository;
+
+
+/**
+ * {@code ServerValueCacheStats} measures the hit ratio and the memory usage of the {@link StorageValueCache}.
+ */
+public class ServerValueCacheStats extends AbstractVeniceStats {
+  public ServerValueCacheStats(MetricsRepository metricsRepository, StorageValueCache valueCache, String name) {
+    super(metricsRepository, name);
+    registerSensor("cache_hit", new Gauge(valueCache::getHitCount));
+    registerSensor("cache_miss", new Gauge(valueCache::getMissCount));
+    registerSensor("cache_hit_ratio", new Gauge(valueCache::getHitRatio));
+    registerSensor("cache_entry_count", new Gauge(valueCache::getEntryCount));
+    registerSensor("cache_allocated_bytes", new Gauge(valueCache::getAllocatedBytes));
+    registerSensor("cache_max_allocated_bytes", new Gauge(valueCache::getMaxAllocatedBytes));
+  }
+}
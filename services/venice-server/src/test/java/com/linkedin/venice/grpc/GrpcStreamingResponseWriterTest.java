@@ -0,0 +1,152 @@
+package com.linkedin.venice.grpc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.listener.grpc.GrpcStreamingResponseWriter;
+import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
+import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.testng.annotations.Test;
+
+
+public class GrpcStreamingResponseWriterTest {
+  @Test
+  public void testWriteRecordsDrainsResponse() {
+    ServerCallStreamObserver<VeniceServerResponse> responseObserver = mock(ServerCallStreamObserver.class);
+    doReturn(true).when(responseObserver).isReady();
+    GrpcStreamingResponseWriter writer = new GrpcStreamingResponseWriter(responseObserver);
+
+    MultiGetResponseWrapper response = new MultiGetResponseWrapper(2);
+    response.setCompressionStrategy(CompressionStrategy.GZIP);
+    response.addRecord(createRecord(0));
+    response.addRecord(createRecord(1));
+    writer.writeRecords(response);
+    assertEquals(response.getUndrainedRecordCount(), 0);
+    // The streamed records are still counted by the response.
+    assertEquals(response.getRecordCount(), 2);
+
+    ArgumentCaptor<VeniceServerResponse> captor = ArgumentCaptor.forClass(VeniceServerResponse.class);
+    verify(responseObserver).onNext(captor.capture());
+    VeniceServerResponse chunk = captor.getValue();
+    assertEquals(chunk.getErrorCode(), GrpcErrorCodes.OK);
+    assertEquals(chunk.getCompressionStrategy(), CompressionStrategy.GZIP.getValue());
+    assertEquals(chunk.getSchemaId(), response.getResponseSchemaIdHeader());
+    assertTrue(chunk.getIsStreamingResponse());
+    assertFalse(chunk.getData().isEmpty());
+  }
+
+  @Test
+  public void testWriteQueuesUntilReady() {
+    ServerCallStreamObserver<VeniceServerResponse> responseObserver = mock(ServerCallStreamObserver.class);
+    doReturn(false).when(responseObserver).isReady();
+    GrpcStreamingResponseWriter writer = new GrpcStreamingResponseWriter(responseObserver);
+    ArgumentCaptor<Runnable> onReadyHandlerCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(responseObserver).setOnReadyHandler(onReadyHandlerCaptor.capture());
+
+    MultiGetResponseWrapper response = new MultiGetResponseWrapper(1);
+    response.addRecord(createRecord(0));
+    // Neither call blocks while the call isn't ready.
+    writer.writeRecords(response);
+    VeniceServerResponse lastResponse = VeniceServerResponse.newBuilder().setErrorCode(GrpcErrorCodes.OK).build();
+    writer.complete(lastResponse);
+    verify(responseObserver, never()).onNext(any());
+    verify(responseObserver, never()).onCompleted();
+
+    doReturn(true).when(responseObserver).isReady();
+    onReadyHandlerCaptor.getValue().run();
+    ArgumentCaptor<VeniceServerResponse> captor = ArgumentCaptor.forClass(VeniceServerResponse.class);
+    InOrder inOrder = inOrder(responseObserver);
+    inOrder.verify(responseObserver, times(2)).onNext(captor.capture());
+    inOrder.verify(responseObserver).onCompleted();
+    assertTrue(captor.getAllValues().get(0).getIsStreamingResponse());
+    assertEquals(captor.getAllValues().get(1), lastResponse);
+  }
+
+  @Test(timeOut = 10000)
+  public void testWriteWaitsForClientToRead() throws Exception {
+    ServerCallStreamObserver<VeniceServerResponse> responseObserver = mock(ServerCallStreamObserver.class);
+    doReturn(false).when(responseObserver).isReady();
+    GrpcStreamingResponseWriter writer = new GrpcStreamingResponseWriter(responseObserver, 1, 60000);
+    ArgumentCaptor<Runnable> onReadyHandlerCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(responseObserver).setOnReadyHandler(onReadyHandlerCaptor.capture());
+
+    MultiGetResponseWrapper response = new MultiGetResponseWrapper(2);
+    response.addRecord(createRecord(0));
+    writer.writeRecords(response);
+    response.addRecord(createRecord(1));
+    // The second chunk waits for the client to read the first one, instead of failing the call.
+    CompletableFuture<Void> secondWrite = CompletableFuture.runAsync(() -> writer.writeRecords(response));
+    Thread.sleep(100);
+    assertFalse(secondWrite.isDone());
+
+    doReturn(true).when(responseObserver).isReady();
+    onReadyHandlerCaptor.getValue().run();
+    secondWrite.get(5, TimeUnit.SECONDS);
+    writer.complete(VeniceServerResponse.newBuilder().setErrorCode(GrpcErrorCodes.OK).build());
+    verify(responseObserver, times(3)).onNext(any());
+    verify(responseObserver).onCompleted();
+    verify(responseObserver, never()).onError(any());
+  }
+
+  @Test
+  public void testWriteFailsWhenClientStopsReading() {
+    ServerCallStreamObserver<VeniceServerResponse> responseObserver = mock(ServerCallStreamObserver.class);
+    doReturn(false).when(responseObserver).isReady();
+    GrpcStreamingResponseWriter writer = new GrpcStreamingResponseWriter(responseObserver, 1, 10);
+
+    MultiGetResponseWrapper response = new MultiGetResponseWrapper(2);
+    response.addRecord(createRecord(0));
+    writer.writeRecords(response);
+    response.addRecord(createRecord(1));
+    assertThrows(VeniceException.class, () -> writer.writeRecords(response));
+
+    ArgumentCaptor<Throwable> errorCaptor = ArgumentCaptor.forClass(Throwable.class);
+    verify(responseObserver).onError(errorCaptor.capture());
+    assertEquals(Status.fromThrowable(errorCaptor.getValue()).getCode(), Status.Code.DEADLINE_EXCEEDED);
+
+    // Nothing is sent after the call is failed.
+    writer.complete(VeniceServerResponse.newBuilder().setErrorCode(GrpcErrorCodes.INTERNAL_ERROR).build());
+    verify(responseObserver, never()).onNext(any());
+    verify(responseObserver, never()).onCompleted();
+  }
+
+  @Test
+  public void testWriteFailsWhenCancelled() {
+    ServerCallStreamObserver<VeniceServerResponse> responseObserver = mock(ServerCallStreamObserver.class);
+    doReturn(false).when(responseObserver).isReady();
+    doReturn(true).when(responseObserver).isCancelled();
+    GrpcStreamingResponseWriter writer = new GrpcStreamingResponseWriter(responseObserver);
+
+    MultiGetResponseWrapper response = new MultiGetResponseWrapper(1);
+    response.addRecord(createRecord(0));
+    assertThrows(VeniceException.class, () -> writer.writeRecords(response));
+    verify(responseObserver, never()).onNext(any());
+  }
+
+  private static MultiGetResponseRecordV1 createRecord(int keyIndex) {
+    MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+    record.keyIndex = keyIndex;
+    record.value = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+    record.schemaId = 1;
+    return record;
+  }
+}
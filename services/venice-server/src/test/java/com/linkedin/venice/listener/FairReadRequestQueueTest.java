@@ -0,0 +1,213 @@
+package com.linkedin.venice.listener;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.stats.AggServerReadQueueStats;
+import com.linkedin.venice.utils.TestMockTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+
+public class FairReadRequestQueueTest {
+  private static final String ALWAYS_HIGH_FIRST = "0:0:100";
+
+  @Test
+  public void testStoresArePolledInTurn() {
+    FairReadRequestQueue queue = new FairReadRequestQueue(100, 0, ALWAYS_HIGH_FIRST, 0, null);
+    List<Runnable> heavyStoreTasks = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      Runnable task = newTask("heavy_store", RequestType.MULTI_GET, null);
+      heavyStoreTasks.add(task);
+      assertTrue(queue.offer(task));
+    }
+    Runnable lightStoreTask = newTask("light_store", RequestType.MULTI_GET, null);
+    assertTrue(queue.offer(lightStoreTask));
+    assertEquals(queue.size(), 11);
+
+    // The task of the light store doesn't wait for all the tasks of the heavy store.
+    List<Runnable> polledTasks = new ArrayList<>();
+    polledTasks.add(queue.poll());
+    polledTasks.add(queue.poll());
+    assertTrue(polledTasks.contains(lightStoreTask));
+    polledTasks.remove(lightStoreTask);
+    assertTrue(heavyStoreTasks.contains(polledTasks.get(0)));
+    assertEquals(queue.size(), 9);
+  }
+
+  @Test
+  public void testSingleGetsArePreferred() throws InterruptedException {
+    FairReadRequestQueue queue = new FairReadRequestQueue(100, 0, ALWAYS_HIGH_FIRST, 0, null);
+    Runnable batchGet = newTask("store", RequestType.MULTI_GET, null);
+    Runnable singleGet = newTask("store", RequestType.SINGLE_GET, null);
+    queue.offer(batchGet);
+    queue.offer(singleGet);
+    assertSame(queue.take(), singleGet);
+    assertSame(queue.poll(1, TimeUnit.MILLISECONDS), batchGet);
+    assertNull(queue.poll());
+    assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testUntaggedTasks() {
+    FairReadRequestQueue queue = new FairReadRequestQueue(100, 0, ALWAYS_HIGH_FIRST, 0, null);
+    AtomicInteger runCount = new AtomicInteger();
+    assertTrue(queue.offer(runCount::incrementAndGet));
+    queue.poll().run();
+    assertEquals(runCount.get(), 1);
+  }
+
+  @Test
+  public void testRejectWhenFull() {
+    AggServerReadQueueStats stats = mock(AggServerReadQueueStats.class);
+    FairReadRequestQueue queue = new FairReadRequestQueue(3, 2, ALWAYS_HIGH_FIRST, 0, stats);
+    assertTrue(queue.offer(newTask("store1", RequestType.MULTI_GET, null)));
+    assertTrue(queue.offer(newTask("store1", RequestType.MULTI_GET, null)));
+    // The queue of the store is full
+    assertFalse(queue.offer(newTask("store1", RequestType.MULTI_GET, null)));
+    assertTrue(queue.offer(newTask("store2", RequestType.MULTI_GET, null)));
+    // The whole queue is full
+    assertFalse(queue.offer(newTask("store3", RequestType.MULTI_GET, null)));
+    assertEquals(queue.remainingCapacity(), 0);
+
+    // The rejected read tasks are shed, and the other tasks run in the caller thread.
+    AtomicInteger shedCount = new AtomicInteger();
+    queue.getRejectedExecutionHandler()
+        .rejectedExecution(newTask("store1", RequestType.MULTI_GET, shedCount::incrementAndGet), null);
+    assertEquals(shedCount.get(), 1);
+    verify(stats).recordRejectedRequest("store1");
+
+    ThreadPoolExecutor executor = mock(ThreadPoolExecutor.class);
+    AtomicInteger runCount = new AtomicInteger();
+    queue.getRejectedExecutionHandler().rejectedExecution(runCount::incrementAndGet, executor);
+    assertEquals(runCount.get(), 1);
+  }
+
+  @Test
+  public void testPeekIterateAndRemove() {
+    FairReadRequestQueue queue = new FairReadRequestQueue(100, 0, ALWAYS_HIGH_FIRST, 0, null);
+    assertNull(queue.peek());
+    Runnable task1 = newTask("store1", RequestType.MULTI_GET, null);
+    Runnable task2 = newTask("store2", RequestType.MULTI_GET, null);
+    Runnable untaggedTask = () -> {};
+    queue.offer(task1);
+    queue.offer(task2);
+    queue.offer(untaggedTask);
+    assertNotNull(queue.peek());
+    List<Runnable> queuedTasks = new ArrayList<>();
+    queue.iterator().forEachRemaining(queuedTasks::add);
+    assertEquals(queuedTasks.size(), 3);
+    assertTrue(queuedTasks.containsAll(Arrays.asList(task1, task2)));
+
+    // The removed tasks are never polled.
+    assertTrue(queue.remove(task1));
+    assertFalse(queue.remove(task1));
+    assertTrue(queue.remove(untaggedTask));
+    assertSame(queue.poll(), task2);
+    assertNull(queue.poll());
+    assertNull(queue.peek());
+    assertEquals(queue.size(), 0);
+    assertEquals(queue.remainingCapacity(), 100);
+  }
+
+  @Test
+  public void testConcurrentOffersDoNotExceedCapacity() throws InterruptedException {
+    int capacity = 10;
+    FairReadRequestQueue queue = new FairReadRequestQueue(capacity, 0, ALWAYS_HIGH_FIRST, 0, null);
+    int threadCount = 8;
+    AtomicInteger offeredCount = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      for (int i = 0; i < threadCount; i++) {
+        String storeName = "store" + i;
+        executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < capacity; j++) {
+            if (queue.offer(newTask(storeName, RequestType.MULTI_GET, null))) {
+              offeredCount.incrementAndGet();
+            }
+          }
+          return null;
+        });
+      }
+      start.countDown();
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(offeredCount.get(), capacity);
+    assertEquals(queue.size(), capacity);
+    assertEquals(queue.remainingCapacity(), 0);
+  }
+
+  @Test
+  public void testShedExpiredTasks() throws InterruptedException {
+    AggServerReadQueueStats stats = mock(AggServerReadQueueStats.class);
+    TestMockTime time = new TestMockTime();
+    FairReadRequestQueue queue = new FairReadRequestQueue(100, 0, ALWAYS_HIGH_FIRST, 10, stats, time);
+    AtomicInteger shedCount = new AtomicInteger();
+    queue.offer(newTask("store", RequestType.SINGLE_GET, shedCount::incrementAndGet));
+    time.addMilliseconds(11);
+    Runnable freshTask = newTask("store", RequestType.SINGLE_GET, shedCount::incrementAndGet);
+    queue.offer(freshTask);
+
+    // The expired task is shed when it's polled, and the next task is returned instead.
+    assertSame(queue.take(), freshTask);
+    assertEquals(shedCount.get(), 1);
+    verify(stats).recordExpiredRequest("store");
+    assertNull(queue.poll());
+
+    // The tasks without a shed action are never shed.
+    AtomicInteger runCount = new AtomicInteger();
+    queue.offer(runCount::incrementAndGet);
+    time.addMilliseconds(11);
+    queue.poll().run();
+    assertEquals(runCount.get(), 1);
+  }
+
+  @Test
+  public void testReadExecutor() throws InterruptedException {
+    FairReadRequestQueue queue = new FairReadRequestQueue(100, 0, "5:15:80", 0, null);
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, queue);
+    executor.setRejectedExecutionHandler(queue.getRejectedExecutionHandler());
+    try {
+      int taskCount = 100;
+      CountDownLatch latch = new CountDownLatch(taskCount);
+      for (int i = 0; i < taskCount; i++) {
+        RequestType requestType = i % 2 == 0 ? RequestType.SINGLE_GET : RequestType.COMPUTE;
+        executor.execute(
+            new FairReadRequestQueue.ReadTask(
+                "store" + i % 3,
+                FairReadRequestQueue.getQOS(requestType),
+                latch::countDown,
+                () -> {}));
+      }
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Runnable newTask(String storeName, RequestType requestType, Runnable onShed) {
+    QOS qos = FairReadRequestQueue.getQOS(requestType);
+    return new FairReadRequestQueue.ReadTask(storeName, qos, () -> {}, onShed);
+  }
+}
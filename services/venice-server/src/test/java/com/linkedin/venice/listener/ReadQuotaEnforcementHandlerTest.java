@@ -14,6 +14,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
+import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.venice.grpc.GrpcErrorCodes;
 import com.linkedin.venice.helix.HelixCustomizedViewOfflinePushRepository;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
@@ -30,7 +31,9 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.protocols.VeniceServerResponse;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.routerapi.ReplicaState;
+import com.linkedin.venice.stats.AbstractVeniceAggStats;
 import com.linkedin.venice.stats.AggServerQuotaUsageStats;
+import com.linkedin.venice.throttle.TokenBucket;
 import com.linkedin.venice.utils.Utils;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -184,6 +187,57 @@ public class ReadQuotaEnforcementHandlerTest {
     runTest(topic, storeReadQuota / 2 * 5 * 10, storeReadQuota / 2 * 10, 10000);
   }
 
+  /**
+   * Test that the weighted-cost mode charges the value bytes of the responses on top of the key count, which throttles
+   * the next requests once the node bucket is in debt
+   */
+  @Test
+  public void testChargeResponseRcuForValueBytes() {
+    Store store = mock(Store.class);
+    doReturn(true).when(store).isStorageNodeReadQuotaEnabled();
+    doReturn(store).when(storeRepository).getStore(any());
+    long valueBytesPerRcu = 100;
+    ReadQuotaEnforcementHandler weightedQuotaEnforcer = new ReadQuotaEnforcementHandler(
+        nodeCapacity,
+        storeRepository,
+        CompletableFuture.completedFuture(customizedViewRepository),
+        thisNodeId,
+        stats,
+        valueBytesPerRcu,
+        clock);
+    long capacity = nodeCapacity * 5 * 10;
+    TokenBucket nodeBucket = weightedQuotaEnforcer.getBucketForStore(AbstractVeniceAggStats.STORE_NAME_FOR_TOTAL_STAT);
+
+    AtomicInteger allowed = new AtomicInteger(0);
+    AtomicInteger blocked = new AtomicInteger(0);
+    RouterRequest request = mock(RouterRequest.class);
+    ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+    setUpRequestMocks(ctx, request, allowed, blocked, "dummyStore_v1");
+    ReadResponse response = mock(ReadResponse.class);
+
+    // Small values only cost their key count, which was consumed when the request was admitted.
+    weightedQuotaEnforcer.channelRead0(ctx, request);
+    doReturn(50).when(response).getValueSize();
+    assertEquals(weightedQuotaEnforcer.chargeResponseRcu(request, response), 1);
+    assertEquals(nodeBucket.getStaleTokenCount(), capacity - 1);
+
+    doReturn(1050).when(response).getValueSize();
+    assertEquals(weightedQuotaEnforcer.chargeResponseRcu(request, response), 11);
+    assertEquals(nodeBucket.getStaleTokenCount(), capacity - 11);
+    verify(stats).recordAllowed("dummyStore", 10);
+
+    // The bucket goes into debt for big values, and throttles the next requests.
+    doReturn(1_000_000).when(response).getValueSize();
+    assertEquals(weightedQuotaEnforcer.chargeResponseRcu(request, response), 10_000);
+    assertEquals(nodeBucket.getStaleTokenCount(), -capacity);
+    weightedQuotaEnforcer.channelRead0(ctx, request);
+    assertEquals(allowed.get(), 1);
+    assertEquals(blocked.get(), 1);
+
+    // The default mode only charges the key count.
+    assertEquals(quotaEnforcer.chargeResponseRcu(request, response), 1);
+  }
+
   /**
    * Test requests with invalid resource names are rejected with BAD_REQUEST
    */
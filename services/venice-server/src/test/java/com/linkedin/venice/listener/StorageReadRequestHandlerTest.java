@@ -21,6 +21,7 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.kafka.consumer.PartitionConsumptionState;
 import com.linkedin.davinci.listener.response.AdminResponse;
 import com.linkedin.davinci.listener.response.MetadataResponse;
+import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
@@ -100,6 +101,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -230,6 +232,39 @@ public class StorageReadRequestHandlerTest {
     assertEquals(responseObject.getValueRecord().getSchemaId(), schemaId);
   }
 
+  @Test
+  public void testHandleGrpcRequestOnExecutor() {
+    String keyString = "test-key";
+    String valueString = "test-value";
+    int schemaId = 1;
+    int partition = 2;
+    byte[] valueBytes = ValueRecord.create(schemaId, valueString.getBytes()).serialize();
+    int subPartition = getSubPartitionId(partition, keyString.getBytes());
+    doReturn(valueBytes).when(storageEngine).get(subPartition, ByteBuffer.wrap(keyString.getBytes()));
+
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1/" + partition + "/" + keyString;
+    HttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    GetRouterRequest request = GetRouterRequest.parseGetHttpRequest(httpRequest);
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+
+    // The read executor of the request type records the queue length as well.
+    ReadResponse response = requestHandler.handleGrpcRequest(request, null).join();
+    assertEquals(((StorageResponseObject) response).getValueRecord().getDataInBytes(), valueString.getBytes());
+    assertTrue(response.getStorageExecutionHandlerSubmissionWaitTime() >= 0);
+    assertEquals(response.getStorageExecutionQueueLen(), 0);
+
+    AtomicInteger submittedTaskCount = new AtomicInteger();
+    Executor readExecutor = task -> {
+      submittedTaskCount.incrementAndGet();
+      task.run();
+    };
+    response = requestHandler.handleGrpcRequest(request, null, readExecutor).join();
+    assertEquals(submittedTaskCount.get(), 1);
+    assertEquals(((StorageResponseObject) response).getValueRecord().getDataInBytes(), valueString.getBytes());
+    assertTrue(response.getStorageExecutionHandlerSubmissionWaitTime() >= 0);
+    assertEquals(response.getStorageExecutionQueueLen(), -1);
+  }
+
   @Test
   public void testDiskHealthCheckService() throws Exception {
     doReturn(true).when(healthCheckService).isDiskHealthy();
@@ -308,6 +343,60 @@ public class StorageReadRequestHandlerTest {
     }
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testMultiGetWithSubPartitionResolvedByRouter(Boolean isParallel) throws Exception {
+    int schemaId = 1;
+    int userPartition = 1;
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1";
+
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    VeniceKafkaSerializer keySerializer = new VeniceAvroKafkaSerializer("\"string\"");
+    int recordCount = 10;
+    for (int i = 0; i < recordCount; ++i) {
+      byte[] keyBytes = keySerializer.serialize(null, "key_" + i);
+      int subPartition = getSubPartitionId(userPartition, keyBytes);
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      requestKey.keyBytes = ByteBuffer.wrap(keyBytes);
+      requestKey.keyIndex = i;
+      // The partition id has been resolved to the sub-partition id by Router, so it shouldn't be hashed again.
+      requestKey.partitionId = subPartition;
+      byte[] valueBytes = ValueRecord.create(schemaId, ("value_" + i).getBytes()).serialize();
+      doReturn(valueBytes).when(storageEngine).get(subPartition, ByteBuffer.wrap(keyBytes));
+      keys.add(requestKey);
+    }
+
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        uri,
+        Unpooled.wrappedBuffer(serializer.serializeObjects(keys)));
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    httpRequest.headers().set(HttpConstants.VENICE_SUB_PARTITION_RESOLVED, "1");
+    MultiGetRouterRequestWrapper request = MultiGetRouterRequestWrapper.parseMultiGetHttpRequest(httpRequest);
+    Assert.assertTrue(request.isSubPartitionResolved());
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler(isParallel, 10);
+    requestHandler.channelRead(context, request);
+
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    MultiGetResponseWrapper multiGetResponseWrapper = (MultiGetResponseWrapper) argumentCaptor.getValue();
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+    Iterable<MultiGetResponseRecordV1> values =
+        deserializer.deserializeObjects(multiGetResponseWrapper.getResponseBody().array());
+    Map<Integer, String> results = new HashMap<>();
+    values.forEach(record -> results.put(record.keyIndex, new String(record.value.array(), StandardCharsets.UTF_8)));
+    assertEquals(results.size(), recordCount);
+    for (int i = 0; i < recordCount; i++) {
+      assertEquals(results.get(i), "value_" + i);
+    }
+  }
+
   @Test
   public void storageExecutionHandlerLogsExceptions() throws Exception {
     String topic = "temp-test-topic_v1";
@@ -0,0 +1,128 @@
+package com.linkedin.venice.listener;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.listener.response.StorageResponseObject;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.testng.annotations.Test;
+
+
+public class StorageValueCacheTest {
+  private static final int PARTITION = 1;
+  private static final byte[] KEY = "key".getBytes();
+
+  @Test
+  public void testCacheHitsAndInvalidation() {
+    StorageValueCache cache = new StorageValueCache(1024 * 1024, 1024);
+    AbstractStorageEngine storageEngine = mockStorageEngine(false);
+    StorageValueCache.StoreVersionCache storeVersionCache = cache.register(storageEngine);
+    assertNotNull(storeVersionCache);
+    verify(storageEngine).setWriteListener(storeVersionCache);
+
+    CountingReader reader = new CountingReader(ValueRecord.create(1, "value1".getBytes()));
+    assertValue(storeVersionCache.get(PARTITION, KEY, null, reader), 1, "value1");
+    StorageResponseObject response = new StorageResponseObject();
+    assertValue(storeVersionCache.get(PARTITION, "key".getBytes(), response, reader), 1, "value1");
+    assertEquals(reader.readCount.get(), 1);
+    // The size of a cached value is counted like the size of a value read from the storage engine.
+    assertEquals(response.getValueSize(), ValueRecord.SCHEMA_HEADER_LENGTH + "value1".length());
+    assertEquals(cache.getHitCount(), 1);
+    assertEquals(cache.getMissCount(), 1);
+    assertEquals(cache.getHitRatio(), 0.5);
+    assertEquals(cache.getEntryCount(), 1);
+
+    // A write invalidates the key, but not the same key of the other partitions.
+    storeVersionCache.get(PARTITION + 1, KEY, null, reader);
+    reader.value = ValueRecord.create(2, "value2".getBytes());
+    storeVersionCache.onKeyWritten(PARTITION, KEY);
+    assertValue(storeVersionCache.get(PARTITION, KEY, null, reader), 2, "value2");
+    assertValue(storeVersionCache.get(PARTITION + 1, KEY, null, reader), 1, "value1");
+    assertEquals(reader.readCount.get(), 3);
+
+    // The keys of a dropped partition are never read again.
+    storeVersionCache.onPartitionDropped(PARTITION);
+    reader.value = null;
+    assertNull(storeVersionCache.get(PARTITION, KEY, null, reader));
+    assertNull(storeVersionCache.get(PARTITION, KEY, null, reader));
+    assertEquals(reader.readCount.get(), 5);
+  }
+
+  @Test
+  public void testConcurrentWriteIsNotOverwrittenByRead() {
+    StorageValueCache cache = new StorageValueCache(1024 * 1024, 1024);
+    StorageValueCache.StoreVersionCache storeVersionCache = cache.register(mockStorageEngine(false));
+    CountingReader reader = new CountingReader(ValueRecord.create(1, "old_value".getBytes()));
+    // The key is written right after the old value was read, before the old value is put in the cache.
+    Supplier<ValueRecord> racingReader = () -> {
+      ValueRecord value = reader.get();
+      storeVersionCache.onKeyWritten(PARTITION, KEY);
+      return value;
+    };
+    assertValue(storeVersionCache.get(PARTITION, KEY, null, racingReader), 1, "old_value");
+
+    reader.value = ValueRecord.create(1, "new_value".getBytes());
+    assertValue(storeVersionCache.get(PARTITION, KEY, null, reader), 1, "new_value");
+    assertEquals(reader.readCount.get(), 2);
+  }
+
+  @Test
+  public void testUncacheableValues() {
+    StorageValueCache cache = new StorageValueCache(1024 * 1024, 16);
+    StorageValueCache.StoreVersionCache storeVersionCache = cache.register(mockStorageEngine(false));
+    CountingReader reader = new CountingReader(ValueRecord.create(1, new byte[16]));
+    storeVersionCache.get(PARTITION, KEY, null, reader);
+    storeVersionCache.get(PARTITION, KEY, null, reader);
+    assertEquals(reader.readCount.get(), 2);
+    assertEquals(cache.getEntryCount(), 0);
+  }
+
+  @Test
+  public void testChunkedValuesAreNotCached() {
+    StorageValueCache cache = new StorageValueCache(1024 * 1024, 1024);
+    AbstractStorageEngine storageEngine = mockStorageEngine(false);
+    StorageValueCache.StoreVersionCache storeVersionCache = cache.register(storageEngine);
+    // The store version turns out to be chunked once its store version state is written after the registration.
+    doReturn(true).when(storageEngine).isChunked();
+    CountingReader reader = new CountingReader(ValueRecord.create(1, "value".getBytes()));
+    assertValue(storeVersionCache.get(PARTITION, KEY, null, reader), 1, "value");
+    assertValue(storeVersionCache.get(PARTITION, KEY, null, reader), 1, "value");
+    assertEquals(reader.readCount.get(), 2);
+    assertEquals(cache.getEntryCount(), 0);
+    assertEquals(cache.getMissCount(), 0);
+  }
+
+  private static AbstractStorageEngine mockStorageEngine(boolean isChunked) {
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doReturn(isChunked).when(storageEngine).isChunked();
+    doReturn("test_store_v1").when(storageEngine).getStoreName();
+    return storageEngine;
+  }
+
+  private static void assertValue(ValueRecord valueRecord, int schemaId, String value) {
+    assertEquals(valueRecord.getSchemaId(), schemaId);
+    assertEquals(new String(valueRecord.getDataInBytes()), value);
+  }
+
+  private static class CountingReader implements Supplier<ValueRecord> {
+    private final AtomicInteger readCount = new AtomicInteger();
+    private ValueRecord value;
+
+    private CountingReader(ValueRecord value) {
+      this.value = value;
+    }
+
+    @Override
+    public ValueRecord get() {
+      readCount.incrementAndGet();
+      return value;
+    }
+  }
+}